@@ -0,0 +1,178 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.actuate;
+
+import org.rulii.registry.RuleRegistry;
+import org.rulii.ruleset.RuleSet;
+import org.rulii.spring.cache.RuleResultCache;
+import org.rulii.spring.intercept.RuleCatalog;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.rulii.spring.latency.LatencySnapshot;
+import org.rulii.spring.latency.RuleLatencyRecorder;
+import org.rulii.spring.stats.RuleStatistics;
+import org.rulii.spring.stats.RuleStats;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Actuator endpoint ("rules") listing the Rule beans of the {@link RuleCatalog} and the RuleSets of the {@link
+ * RuleRegistry} along with their runtime statistics (when {@link RuleStatistics} are enabled), their latency
+ * percentiles over the last completed interval of the {@link RuleLatencyRecorder} (when latencies are recorded) and
+ * the state of the {@link RuleResultCache}, overall and per Rule. Statistics are looked up by Rule id. Reading the
+ * endpoint only sums striped counters and reads published snapshots; it never blocks running Rules.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+@Endpoint(id = "rules")
+public class RulesEndpoint {
+
+    private final RuleRegistry ruleRegistry;
+    private final RuleCatalog ruleCatalog;
+    private final RuleStatistics statistics;
+    private final RuleLatencyRecorder latency;
+    private final RuleResultCache cache;
+
+    /**
+     * Creates a new RulesEndpoint.
+     *
+     * @param ruleRegistry registry holding the RuleSets
+     * @param ruleCatalog catalog of the Rule beans
+     * @param statistics runtime statistics; may be null if statistics are disabled
+     * @param latency latency recorder; may be null if latencies are not recorded
+     * @param cache Rule result cache; may be null
+     */
+    public RulesEndpoint(RuleRegistry ruleRegistry, RuleCatalog ruleCatalog, RuleStatistics statistics,
+                         RuleLatencyRecorder latency, RuleResultCache cache) {
+        super();
+        Assert.notNull(ruleRegistry, "ruleRegistry cannot be null.");
+        Assert.notNull(ruleCatalog, "ruleCatalog cannot be null.");
+        this.ruleRegistry = ruleRegistry;
+        this.ruleCatalog = ruleCatalog;
+        this.statistics = statistics;
+        this.latency = latency;
+        this.cache = cache;
+    }
+
+    /**
+     * Lists all the Rules and RuleSets.
+     *
+     * @return rules report
+     */
+    @ReadOperation
+    public RulesReport rules() {
+        int count = ruleCatalog.getIdCount();
+        List<RuleEntry> rules = new ArrayList<>(count);
+
+        // Ids are dense, so this lists every Rule bean once, in registration order
+        for (int id = 0; id < count; id++) {
+            RuleDescriptor descriptor = ruleCatalog.get(id);
+            if (descriptor != null) rules.add(describe(descriptor));
+        }
+
+        List<RuleSetEntry> ruleSets = new ArrayList<>();
+        for (RuleSet<?> ruleSet : ruleRegistry.getRuleSets()) {
+            List<String> names = new ArrayList<>(ruleSet.size());
+            for (int i = 0; i < ruleSet.size(); i++) names.add(ruleSet.getRule(i).getName());
+            ruleSets.add(new RuleSetEntry(ruleSet.getName(), names));
+        }
+
+        return new RulesReport(rules, ruleSets, cache != null ? CacheEntry.of(cache) : null);
+    }
+
+    /**
+     * Describes a single Rule.
+     *
+     * @param name name of the Rule
+     * @return the Rule or null (not found) if there is no such Rule
+     */
+    @ReadOperation
+    public RuleEntry rule(@Selector String name) {
+        RuleDescriptor descriptor = ruleCatalog.get(name);
+        return descriptor != null ? describe(descriptor) : null;
+    }
+
+    /**
+     * Resets the runtime statistics.
+     */
+    @DeleteOperation
+    public void reset() {
+        if (statistics != null) statistics.reset();
+    }
+
+    private RuleEntry describe(RuleDescriptor descriptor) {
+        RuleStats stats = statistics != null && descriptor.hasId() ? statistics.get(descriptor.id()) : null;
+        LatencySnapshot snapshot = latency != null ? latency.getLastSnapshot(descriptor.name()) : null;
+        RuleCacheEntry ruleCache = cache != null && descriptor.hasId() ? RuleCacheEntry.of(cache, descriptor.id()) : null;
+        return new RuleEntry(descriptor.name(), descriptor.id(), stats != null ? StatsEntry.of(stats) : null,
+                snapshot != null ? LatencyEntry.of(snapshot) : null, ruleCache);
+    }
+
+    private static double toMillis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0d;
+    }
+
+    public record RulesReport(List<RuleEntry> rules, List<RuleSetEntry> ruleSets, CacheEntry cache) {}
+
+    public record RuleEntry(String name, int id, StatsEntry stats, LatencyEntry latency, RuleCacheEntry cache) {}
+
+    public record RuleSetEntry(String name, List<String> rules) {}
+
+    public record StatsEntry(long invocations, long passed, long failed, long skipped, long errors, double errorRate) {
+
+        static StatsEntry of(RuleStats stats) {
+            return new StatsEntry(stats.getInvocationCount(), stats.getPassCount(), stats.getFailCount(),
+                    stats.getSkipCount(), stats.getErrorCount(), stats.getErrorRate());
+        }
+    }
+
+    public record LatencyEntry(long count, double p50Millis, double p90Millis, double p99Millis, double p999Millis,
+                               double maxMillis) {
+
+        static LatencyEntry of(LatencySnapshot snapshot) {
+            return new LatencyEntry(snapshot.count(), toMillis(snapshot.p50()), toMillis(snapshot.p90()),
+                    toMillis(snapshot.p99()), toMillis(snapshot.p999()), toMillis(snapshot.max()));
+        }
+    }
+
+    public record RuleCacheEntry(long hits, long misses, double hitRatio) {
+
+        static RuleCacheEntry of(RuleResultCache cache, int ruleId) {
+            long hits = cache.getHitCount(ruleId);
+            long misses = cache.getMissCount(ruleId);
+            // Rules that are not memoized never look the cache up
+            return hits + misses == 0 ? null : new RuleCacheEntry(hits, misses, cache.getHitRatio(ruleId));
+        }
+    }
+
+    public record CacheEntry(int size, long hits, long misses, long evictions, double hitRatio) {
+
+        static CacheEntry of(RuleResultCache cache) {
+            return new CacheEntry(cache.size(), cache.getHitCount(), cache.getMissCount(), cache.getEvictionCount(),
+                    cache.getHitRatio());
+        }
+    }
+}
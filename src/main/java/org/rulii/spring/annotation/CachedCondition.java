@@ -0,0 +1,43 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a @Given method (or all the @Given methods of a rule class) as a pure function of its parameters so that its
+ * result is computed once per evaluation of a RuleContext, see {@link org.rulii.spring.cache.ConditionMemo}. Only calls
+ * whose arguments are immutable values are cached. Conditions in different rule classes that compute the same thing
+ * can share results by using the same key.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Documented
+public @interface CachedCondition {
+
+    /**
+     * Retrieve the key the condition results are shared under. Defaults to the method signature.
+     *
+     * @return shared key
+     */
+    String value() default "";
+}
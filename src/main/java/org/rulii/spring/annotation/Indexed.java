@@ -0,0 +1,83 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Declares that a @Given condition can only hold if a binding equals one of the given constants, or lies within the
+ * given range. The {@link org.rulii.spring.index.IndexedRuleDispatcher} uses this to skip Rules that cannot match
+ * without evaluating them. The constants are converted to the type of the method parameter with the same name as the
+ * binding. The condition itself is still evaluated for the Rules that are not skipped.
+ *
+ * <pre>
+ * &#64;Given
+ * &#64;Indexed(binding = "productCode", equalTo = {"A100", "A200"})
+ * &#64;Indexed(binding = "quantity", from = "10", to = "100")
+ * public boolean isBulkOrder(String productCode, Integer quantity) { ... }
+ * </pre>
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Repeatable(Indexed.List.class)
+@Documented
+public @interface Indexed {
+
+    /**
+     * Retrieve the name of the indexed binding.
+     *
+     * @return binding name
+     */
+    String binding();
+
+    /**
+     * Retrieve the values the binding must equal (one of).
+     *
+     * @return equality constants; empty for a range
+     */
+    String[] equalTo() default {};
+
+    /**
+     * Retrieve the inclusive lower bound of the range.
+     *
+     * @return lower bound; empty for no lower bound
+     */
+    String from() default "";
+
+    /**
+     * Retrieve the exclusive upper bound of the range.
+     *
+     * @return upper bound; empty for no upper bound
+     */
+    String to() default "";
+
+    /**
+     * Container for repeated {@link Indexed} declarations.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    @Documented
+    @interface List {
+
+        Indexed[] value();
+    }
+}
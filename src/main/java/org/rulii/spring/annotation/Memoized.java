@@ -0,0 +1,51 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.annotation;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Marks a Rule as a pure function of its bound inputs so that its results can be cached. The cache key is the values
+ * of the bindings read by the rule methods; Rules that take the whole RuleContext or Bindings, or inputs that are not immutable values (such as RuleViolations),
+ * cannot be memoized.
+ * Actions are not re-run on a cache hit, so only use this on Rules whose actions have no side effects.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+public @interface Memoized {
+
+    /**
+     * Retrieve how long a cached result stays valid. A negative value uses the global default (rulii.cache.ttl).
+     *
+     * @return time to live in the given unit
+     */
+    long ttl() default -1;
+
+    /**
+     * Retrieve the unit of the time to live.
+     *
+     * @return unit of the time to live
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+}
@@ -0,0 +1,43 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Declares the bindings a Rule writes (binds or mutates). Together with the bindings its methods read, this lets
+ * independent Rules of a RuleSet run concurrently, see {@link org.rulii.spring.concurrent.DependencyRuleScheduler}.
+ * Rules without this annotation may write any binding: they are never run concurrently with other Rules. Declare an
+ * empty list for Rules that do not write any bindings.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+public @interface Outputs {
+
+    /**
+     * Retrieve the names of the bindings written by the Rule.
+     *
+     * @return binding names
+     */
+    String[] value();
+}
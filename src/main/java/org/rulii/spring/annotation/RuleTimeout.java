@@ -0,0 +1,49 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.annotation;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds how long each run of a Rule may take. The deadline of the evaluation the Rule runs in (e.g. the global
+ * default, rulii.execution.timeout) still applies when it is tighter.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+public @interface RuleTimeout {
+
+    /**
+     * Retrieve the timeout value.
+     *
+     * @return timeout in the given unit
+     */
+    long value();
+
+    /**
+     * Retrieve the unit of the timeout.
+     *
+     * @return unit of the timeout
+     */
+    TimeUnit unit() default TimeUnit.MILLISECONDS;
+}
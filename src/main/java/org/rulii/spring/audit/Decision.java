@@ -0,0 +1,36 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.audit;
+
+import java.time.Instant;
+
+/**
+ * A Rule decision read back from the {@link DecisionLog}.
+ *
+ * @param ruleId interned id of the Rule
+ * @param ruleName name of the Rule (null if the id is not in the dictionary)
+ * @param timestamp when the decision was made (microsecond precision)
+ * @param outcome outcome of the decision
+ * @param fingerprint hash of the values of the Rule inputs (0 if the inputs are unknown)
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public record Decision(int ruleId, String ruleName, Instant timestamp, DecisionOutcome outcome, long fingerprint) {
+}
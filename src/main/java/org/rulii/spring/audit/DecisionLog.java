@@ -0,0 +1,229 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.audit;
+
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Append-only log of Rule decisions, stored as fixed size binary records in memory-mapped segment files. Rule names
+ * are interned as ints; the id to name dictionary is kept next to the segments (rules.dict) and reloaded on restart so
+ * that ids stay stable. When a segment is full the log rotates to a new one; segments are never modified once rotated
+ * and never deleted by the log.
+ * <p>
+ * Appending is lock free apart from the (rare) rotation and the first decision of a Rule. Written records reach the
+ * disk when the OS writes back the mapped pages, when {@link #flush()} is called and when a segment is rotated or
+ * closed. Use {@link DecisionLogReader} to read the log.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class DecisionLog implements AutoCloseable {
+
+    static final String DICTIONARY = "rules.dict";
+    static final String SEGMENT_PREFIX = "decisions-";
+    static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int segmentRecords;
+    private final Map<String, Integer> ruleIds = new ConcurrentHashMap<>();
+    private volatile DecisionSegment segment;
+    private long sequence;
+    private boolean closed = false;
+
+    /**
+     * Creates a new DecisionLog. A new segment is started even if the directory already holds segments.
+     *
+     * @param directory directory holding the segments (created if needed)
+     * @param segmentSize approximate size of a segment in bytes
+     */
+    public DecisionLog(Path directory, long segmentSize) {
+        super();
+        Assert.notNull(directory, "directory cannot be null.");
+        Assert.isTrue(segmentSize >= DecisionSegment.HEADER_SIZE + DecisionSegment.RECORD_SIZE, "segmentSize is too small.");
+        Assert.isTrue(segmentSize <= Integer.MAX_VALUE, "segmentSize must be < 2GB.");
+        this.directory = directory;
+        this.segmentRecords = (int) ((segmentSize - DecisionSegment.HEADER_SIZE) / DecisionSegment.RECORD_SIZE);
+
+        try {
+            Files.createDirectories(directory);
+            ruleIds.putAll(DecisionLogReader.readDictionary(directory));
+            this.sequence = lastSequence(directory);
+            this.segment = newSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open decision log [" + directory + "]", e);
+        }
+    }
+
+    /**
+     * Appends a decision.
+     *
+     * @param ruleName name of the Rule
+     * @param timestamp when the decision was made
+     * @param outcome outcome of the decision
+     * @param fingerprint hash of the Rule input values
+     */
+    public void append(String ruleName, Instant timestamp, DecisionOutcome outcome, long fingerprint) {
+        Assert.notNull(timestamp, "timestamp cannot be null.");
+        append(intern(ruleName), timestamp.getEpochSecond() * 1_000_000L + timestamp.getNano() / 1_000, outcome, fingerprint);
+    }
+
+    /**
+     * Appends a decision.
+     *
+     * @param ruleId interned id of the Rule (see {@link #intern(String)})
+     * @param timestamp when the decision was made (epoch microseconds)
+     * @param outcome outcome of the decision
+     * @param fingerprint hash of the Rule input values
+     */
+    public void append(int ruleId, long timestamp, DecisionOutcome outcome, long fingerprint) {
+        Assert.notNull(outcome, "outcome cannot be null.");
+        DecisionSegment current = segment;
+
+        while (!current.append(ruleId, outcome, timestamp, fingerprint)) {
+            current = rotate(current);
+        }
+    }
+
+    /**
+     * Retrieves the id of a Rule, adding it to the dictionary if needed.
+     *
+     * @param ruleName name of the Rule
+     * @return id of the Rule
+     */
+    public int intern(String ruleName) {
+        Assert.notNull(ruleName, "ruleName cannot be null.");
+        Integer result = ruleIds.get(ruleName);
+        return result != null ? result : addRule(ruleName);
+    }
+
+    private synchronized int addRule(String ruleName) {
+        Integer existing = ruleIds.get(ruleName);
+        if (existing != null) return existing;
+        int result = ruleIds.size();
+
+        try {
+            Files.writeString(directory.resolve(DICTIONARY), result + "\t" + ruleName + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to add Rule [" + ruleName + "] to the decision log dictionary.", e);
+        }
+
+        ruleIds.put(ruleName, result);
+        return result;
+    }
+
+    /**
+     * Closes the current segment and starts a new one.
+     */
+    public void rotate() {
+        rotate(segment);
+    }
+
+    private synchronized DecisionSegment rotate(DecisionSegment full) {
+        Assert.state(!closed, "DecisionLog is closed.");
+        // Another thread may have rotated already
+        if (segment != full) return segment;
+
+        try {
+            DecisionSegment result = newSegment();
+            this.segment = result;
+            full.close();
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to rotate decision log [" + directory + "]", e);
+        }
+    }
+
+    /**
+     * Forces the records of the current segment to disk.
+     */
+    public void flush() {
+        segment.force();
+    }
+
+    /**
+     * Closes the current segment. Decisions can no longer be appended.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        this.closed = true;
+        segment.close();
+    }
+
+    private DecisionSegment newSegment() throws IOException {
+        return DecisionSegment.create(directory.resolve(segmentName(++sequence)), segmentRecords);
+    }
+
+    static String segmentName(long sequence) {
+        return SEGMENT_PREFIX + String.format("%012d", sequence) + SEGMENT_SUFFIX;
+    }
+
+    /**
+     * Lists the segment files of a log directory in the order they were written.
+     */
+    static List<Path> listSegments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+            }).sorted().toList();
+        }
+    }
+
+    private static long lastSequence(Path directory) throws IOException {
+        List<Path> segments = listSegments(directory);
+        if (segments.isEmpty()) return 0;
+        String name = segments.get(segments.size() - 1).getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Retrieves the file of the segment currently written to.
+     *
+     * @return segment file
+     */
+    public Path getCurrentSegment() {
+        return segment.getFile();
+    }
+
+    @Override
+    public String toString() {
+        return "DecisionLog{" +
+                "directory=" + directory +
+                ", segment=" + segment +
+                '}';
+    }
+}
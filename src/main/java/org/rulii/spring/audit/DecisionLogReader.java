@@ -0,0 +1,149 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.audit;
+
+import org.rulii.model.UnrulyException;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Reads the decisions of a {@link DecisionLog} directory, including the segment currently being written (up to the
+ * last complete record).
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public final class DecisionLogReader {
+
+    private DecisionLogReader() {
+        super();
+    }
+
+    /**
+     * Reads all the decisions of a log directory, oldest segment first.
+     *
+     * @param directory log directory
+     * @param consumer receives the decisions
+     * @return number of decisions read
+     */
+    public static long read(Path directory, Consumer<? super Decision> consumer) {
+        return read(directory, Instant.MIN, Instant.MAX, consumer);
+    }
+
+    /**
+     * Reads the decisions of a log directory made within the given time range, oldest segment first.
+     *
+     * @param directory log directory
+     * @param from start of the range (inclusive)
+     * @param to end of the range (exclusive)
+     * @param consumer receives the decisions
+     * @return number of decisions read
+     */
+    public static long read(Path directory, Instant from, Instant to, Consumer<? super Decision> consumer) {
+        Assert.notNull(directory, "directory cannot be null.");
+        Assert.notNull(from, "from cannot be null.");
+        Assert.notNull(to, "to cannot be null.");
+        Assert.notNull(consumer, "consumer cannot be null.");
+
+        try {
+            Map<Integer, String> names = invert(readDictionary(directory));
+            List<Path> segments = DecisionLog.listSegments(directory);
+            long result = 0;
+            for (Path segment : segments) result += readSegment(segment, names, from, to, consumer);
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read decision log [" + directory + "]", e);
+        }
+    }
+
+    private static long readSegment(Path file, Map<Integer, String> names, Instant from, Instant to,
+                                    Consumer<? super Decision> consumer) throws IOException {
+        MappedByteBuffer buffer;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.capacity() < DecisionSegment.HEADER_SIZE || buffer.getInt(0) != DecisionSegment.MAGIC) {
+            throw new UnrulyException("[" + file + "] is not a decision log segment.");
+        }
+
+        int recordSize = buffer.getInt(4);
+        long count = buffer.getLong(8);
+        long seen = 0;
+        long result = 0;
+
+        for (int offset = DecisionSegment.HEADER_SIZE; offset + recordSize <= buffer.capacity(); offset += recordSize) {
+            int id = buffer.getInt(offset);
+            // A closed segment knows its count; an open one ends at the first unwritten record
+            if (count > 0 ? seen >= count : id == 0) break;
+            seen++;
+            if (id == 0) continue;
+
+            long micros = buffer.getLong(offset + 8);
+            Instant timestamp = Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+            if (timestamp.isBefore(from) || !timestamp.isBefore(to)) continue;
+
+            consumer.accept(new Decision(id - 1, names.get(id - 1), timestamp,
+                    DecisionOutcome.fromCode(buffer.get(offset + 4)), buffer.getLong(offset + 16)));
+            result++;
+        }
+
+        return result;
+    }
+
+    /**
+     * Reads the Rule name to id dictionary of a log directory.
+     *
+     * @param directory log directory
+     * @return Rule ids by name (empty if there is no dictionary yet)
+     * @throws IOException if the dictionary cannot be read
+     */
+    static Map<String, Integer> readDictionary(Path directory) throws IOException {
+        Map<String, Integer> result = new HashMap<>();
+        Path file = directory.resolve(DecisionLog.DICTIONARY);
+        if (!Files.exists(file)) return result;
+
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            int tab = line.indexOf('\t');
+            if (tab > 0) result.put(line.substring(tab + 1), Integer.parseInt(line.substring(0, tab)));
+        }
+
+        return result;
+    }
+
+    private static Map<Integer, String> invert(Map<String, Integer> ids) {
+        Map<Integer, String> result = new HashMap<>();
+        ids.forEach((name, id) -> result.put(id, name));
+        return result;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.audit;
+
+import org.rulii.bind.Bindings;
+import org.rulii.context.RuleContext;
+import org.rulii.rule.RuleResult;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.rulii.spring.intercept.RuleIdTable;
+import org.rulii.spring.intercept.RuleInterceptor;
+import org.rulii.spring.intercept.RuleInvocation;
+import org.springframework.core.Ordered;
+import org.springframework.util.Assert;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Appends every decision of the Rule beans to the {@link DecisionLog}: the Rule, the time from the RuleContext Clock,
+ * the outcome and a 64 bit fingerprint of the values of the Rule inputs. The fingerprint combines the hashCodes of
+ * the input values, so it identifies inputs of value types (Strings, numbers, dates, records); it is 0 for Rules
+ * whose inputs are not known.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class DecisionLogRuleInterceptor implements RuleInterceptor {
+
+    private final DecisionLog decisionLog;
+    // Log ids by catalog id, so that the name dictionary is only consulted once per Rule
+    private final RuleIdTable<Integer> logIds = new RuleIdTable<>();
+
+    /**
+     * Creates a new DecisionLogRuleInterceptor.
+     *
+     * @param decisionLog where the decisions are appended
+     */
+    public DecisionLogRuleInterceptor(DecisionLog decisionLog) {
+        super();
+        Assert.notNull(decisionLog, "decisionLog cannot be null.");
+        this.decisionLog = decisionLog;
+    }
+
+    @Override
+    public boolean supports(RuleDescriptor descriptor) {
+        return true;
+    }
+
+    @Override
+    public RuleResult intercept(RuleDescriptor descriptor, RuleContext context, RuleInvocation invocation) {
+        int ruleId = getLogId(descriptor);
+        // Fingerprint the inputs as the Rule sees them
+        long fingerprint = fingerprint(descriptor, context.getBindings());
+        RuleResult result;
+
+        try {
+            result = invocation.proceed(context);
+        } catch (RuntimeException | Error e) {
+            decisionLog.append(ruleId, now(context), DecisionOutcome.ERROR, fingerprint);
+            throw e;
+        }
+
+        decisionLog.append(ruleId, now(context),
+                DecisionOutcome.of(result != null ? result.getStatus() : null), fingerprint);
+        return result;
+    }
+
+    private int getLogId(RuleDescriptor descriptor) {
+        if (!descriptor.hasId()) return decisionLog.intern(descriptor.name());
+        Integer result = logIds.get(descriptor.id());
+        return result != null ? result : logIds.computeIfAbsent(descriptor.id(), id -> decisionLog.intern(descriptor.name()));
+    }
+
+    /**
+     * Hashes the values of the Rule inputs (in declaration order).
+     */
+    static long fingerprint(RuleDescriptor descriptor, Bindings bindings) {
+        if (!descriptor.isInputsKnown()) return 0L;
+        List<String> inputs = descriptor.inputs();
+        long result = 0x9E3779B97F4A7C15L;
+
+        for (String name : inputs) {
+            Object value = bindings.contains(name) ? bindings.getValue(name) : null;
+            result = Long.rotateLeft((result ^ Objects.hashCode(value)) * 0xC2B2AE3D27D4EB4FL, 31);
+        }
+
+        // Final avalanche (MurmurHash3 fmix64)
+        result ^= result >>> 33;
+        result *= 0xFF51AFD7ED558CCDL;
+        result ^= result >>> 33;
+        result *= 0xC4CEB9FE1A85EC53L;
+        return result ^ (result >>> 33);
+    }
+
+    private static long now(RuleContext context) {
+        Instant now = context.getClock().instant();
+        return now.getEpochSecond() * 1_000_000L + now.getNano() / 1_000;
+    }
+
+    @Override
+    public int getOrder() {
+        // Inside the statistics and latency interceptors; decisions served from the cache are logged as well
+        return Ordered.HIGHEST_PRECEDENCE + 3;
+    }
+
+    public DecisionLog getDecisionLog() {
+        return decisionLog;
+    }
+
+    @Override
+    public String toString() {
+        return "DecisionLogRuleInterceptor{" +
+                "decisionLog=" + decisionLog +
+                '}';
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.audit;
+
+import org.rulii.rule.RuleExecutionStatus;
+
+/**
+ * Outcome of a Rule decision as stored in the {@link DecisionLog}.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public enum DecisionOutcome {
+
+    PASS(1), FAIL(2), SKIPPED(3), ERROR(4);
+
+    private final byte code;
+
+    DecisionOutcome(int code) {
+        this.code = (byte) code;
+    }
+
+    /**
+     * Maps a Rule status to its outcome.
+     *
+     * @param status status of the run; null is treated as skipped
+     * @return outcome
+     */
+    public static DecisionOutcome of(RuleExecutionStatus status) {
+        if (status == RuleExecutionStatus.PASS) return PASS;
+        if (status == RuleExecutionStatus.FAIL) return FAIL;
+        return SKIPPED;
+    }
+
+    /**
+     * Finds the outcome with the given code.
+     *
+     * @param code stored code
+     * @return outcome
+     * @throws IllegalArgumentException if the code is unknown
+     */
+    public static DecisionOutcome fromCode(byte code) {
+        for (DecisionOutcome outcome : values()) if (outcome.code == code) return outcome;
+        throw new IllegalArgumentException("Unknown decision outcome code [" + code + "]");
+    }
+
+    public byte getCode() {
+        return code;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.audit;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A memory-mapped segment file of the {@link DecisionLog}. The segment starts with a 16 byte header (magic, record
+ * size and, once the segment is closed, the record count) followed by fixed size records:
+ * <pre>
+ * int  ruleId + 1 (0 marks the end of the written records)
+ * byte outcome
+ * byte[3] reserved
+ * long timestamp (epoch microseconds)
+ * long fingerprint
+ * </pre>
+ * Writers reserve a slot with a single atomic add and fill it in with absolute puts, so appends from many threads
+ * never lock; the rule id is written last (with release semantics) so that a reader never sees a partial record.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+final class DecisionSegment implements AutoCloseable {
+
+    static final int MAGIC = 0x52444C31; // RDL1
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_SIZE = 24;
+
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final AtomicInteger next = new AtomicInteger(HEADER_SIZE);
+
+    private DecisionSegment(Path file, MappedByteBuffer buffer) {
+        super();
+        this.file = file;
+        this.buffer = buffer;
+        this.capacity = buffer.capacity();
+    }
+
+    /**
+     * Creates a new segment file.
+     *
+     * @param file segment file (must not exist)
+     * @param recordCapacity number of records the segment holds
+     * @return new segment
+     * @throws IOException if the file cannot be created
+     */
+    static DecisionSegment create(Path file, int recordCapacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_SIZE + (long) recordCapacity * RECORD_SIZE);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, RECORD_SIZE);
+            buffer.putLong(8, 0);
+            return new DecisionSegment(file, buffer);
+        }
+    }
+
+    /**
+     * Appends a record.
+     *
+     * @return false if the segment is full
+     */
+    boolean append(int ruleId, DecisionOutcome outcome, long timestamp, long fingerprint) {
+        int offset = next.getAndAdd(RECORD_SIZE);
+        if (offset < 0 || offset + RECORD_SIZE > capacity) return false;
+        buffer.put(offset + 4, outcome.getCode());
+        buffer.putLong(offset + 8, timestamp);
+        buffer.putLong(offset + 16, fingerprint);
+        INT.setRelease(buffer, offset, ruleId + 1);
+        return true;
+    }
+
+    /**
+     * Forces the written records to disk.
+     */
+    void force() {
+        buffer.force();
+    }
+
+    /**
+     * Number of records appended so far.
+     */
+    int getRecordCount() {
+        int offset = Math.min(Math.max(next.get(), HEADER_SIZE), capacity);
+        return (offset - HEADER_SIZE) / RECORD_SIZE;
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    /**
+     * Stores the record count in the header and forces the segment to disk. Records still being written by other
+     * threads remain valid; readers check the rule id of every record.
+     */
+    @Override
+    public void close() {
+        // Stop further appends
+        int offset = Math.min(next.getAndSet(capacity), capacity);
+        buffer.putLong(8, (offset - HEADER_SIZE) / RECORD_SIZE);
+        buffer.force();
+    }
+
+    @Override
+    public String toString() {
+        return "DecisionSegment{" +
+                "file=" + file +
+                ", records=" + getRecordCount() +
+                '}';
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.batch;
+
+import org.springframework.util.Assert;
+
+/**
+ * Receives the results of a batch evaluation. Results are always delivered on the thread that started the batch.
+ *
+ * @param <I> input type
+ * @param <T> result type
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+@FunctionalInterface
+public interface BatchResultConsumer<I, T> {
+
+    /**
+     * Accepts the result of one input.
+     *
+     * @param index position of the input in the batch (zero based)
+     * @param input the input
+     * @param result the result of the evaluation
+     */
+    void accept(long index, I input, T result);
+
+    /**
+     * Composes this consumer with another one (for example a RuleResultSink) that receives the same results after it.
+     *
+     * @param after consumer receiving the results after this one
+     * @return composed consumer
+     */
+    default BatchResultConsumer<I, T> andThen(BatchResultConsumer<? super I, ? super T> after) {
+        Assert.notNull(after, "after cannot be null.");
+        return (index, input, result) -> {
+            accept(index, input, result);
+            after.accept(index, input, result);
+        };
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.batch;
+
+import org.rulii.context.RuleContextOptions;
+import org.rulii.model.Runnable;
+import org.rulii.model.UnrulyException;
+import org.rulii.spring.bind.BindingLayout;
+import org.rulii.spring.context.PooledRuleContext;
+import org.rulii.spring.context.PooledRuleContextFactory;
+import org.rulii.spring.context.RuleContextPool;
+import org.springframework.util.Assert;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+
+/**
+ * Evaluates a Rule or RuleSet over a batch of inputs. Inputs are split into chunks that run in parallel on the Rulii
+ * ExecutorService. Each chunk borrows one {@link PooledRuleContext} (BindingSlots and RuleContext) that is reused for
+ * every input in the chunk, so per-input work is limited to copying the input values into the slots.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class BatchRuleEvaluator {
+
+    private final PooledRuleContextFactory contextFactory;
+    private final int parallelism;
+    private final int chunkSize;
+
+    /**
+     * Creates a new BatchRuleEvaluator.
+     *
+     * @param ruleContextOptions options used to create the worker RuleContexts (including the ExecutorService)
+     * @param parallelism maximum number of chunks evaluated concurrently
+     * @param chunkSize number of inputs per chunk
+     */
+    public BatchRuleEvaluator(RuleContextOptions ruleContextOptions, int parallelism, int chunkSize) {
+        this(new PooledRuleContextFactory(ruleContextOptions, Math.max(1, parallelism) * 2), parallelism, chunkSize);
+    }
+
+    /**
+     * Creates a new BatchRuleEvaluator that borrows its worker contexts from the given factory.
+     *
+     * @param contextFactory factory of the pooled worker contexts (its options provide the ExecutorService)
+     * @param parallelism maximum number of chunks evaluated concurrently
+     * @param chunkSize number of inputs per chunk
+     */
+    public BatchRuleEvaluator(PooledRuleContextFactory contextFactory, int parallelism, int chunkSize) {
+        super();
+        Assert.notNull(contextFactory, "contextFactory cannot be null.");
+        Assert.isTrue(parallelism > 0, "parallelism must be > 0.");
+        Assert.isTrue(chunkSize > 0, "chunkSize must be > 0.");
+        this.contextFactory = contextFactory;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Evaluates the inputs and returns the results in input order.
+     *
+     * @param runnable Rule or RuleSet to evaluate
+     * @param layout binding layout shared by all the inputs
+     * @param inputs inputs to evaluate
+     * @param mapper copies an input into the binding slots
+     * @param <I> input type
+     * @param <T> result type
+     * @return results in input order
+     */
+    public <I, T> List<T> evaluate(Runnable<T> runnable, BindingLayout layout, List<? extends I> inputs, BindingMapper<? super I> mapper) {
+        return evaluate(runnable, layout, inputs, mapper, true);
+    }
+
+    /**
+     * Evaluates the inputs and returns the results.
+     *
+     * @param runnable Rule or RuleSet to evaluate
+     * @param layout binding layout shared by all the inputs
+     * @param inputs inputs to evaluate
+     * @param mapper copies an input into the binding slots
+     * @param ordered true to return the results in input order; false to return them in completion order
+     * @param <I> input type
+     * @param <T> result type
+     * @return results
+     */
+    public <I, T> List<T> evaluate(Runnable<T> runnable, BindingLayout layout, List<? extends I> inputs,
+                                   BindingMapper<? super I> mapper, boolean ordered) {
+        Assert.notNull(inputs, "inputs cannot be null.");
+        List<T> result = new ArrayList<>(inputs.size());
+        evaluate(runnable, layout, inputs.stream(), mapper, ordered, (index, input, value) -> result.add(value));
+        return result;
+    }
+
+    /**
+     * Evaluates a Stream of inputs. Inputs are pulled from the Stream one chunk at a time and at most
+     * {@code parallelism} chunks are in flight, so arbitrarily large Streams can be evaluated in bounded memory.
+     *
+     * @param runnable Rule or RuleSet to evaluate
+     * @param layout binding layout shared by all the inputs
+     * @param inputs inputs to evaluate
+     * @param mapper copies an input into the binding slots
+     * @param ordered true to deliver the results in input order; false to deliver them as chunks complete
+     * @param consumer receives the results on the calling thread
+     * @param <I> input type
+     * @param <T> result type
+     * @return number of inputs evaluated
+     */
+    public <I, T> long evaluate(Runnable<T> runnable, BindingLayout layout, Stream<? extends I> inputs,
+                                BindingMapper<? super I> mapper, boolean ordered, BatchResultConsumer<? super I, ? super T> consumer) {
+        Assert.notNull(runnable, "runnable cannot be null.");
+        Assert.notNull(layout, "layout cannot be null.");
+        Assert.notNull(inputs, "inputs cannot be null.");
+        Assert.notNull(mapper, "mapper cannot be null.");
+        Assert.notNull(consumer, "consumer cannot be null.");
+
+        RuleContextPool pool = contextFactory.getPool(layout);
+        ExecutorService executor = contextFactory.getOptions().getExecutorService();
+        ExecutorCompletionService<Chunk<I, T>> completionService = new ExecutorCompletionService<>(executor);
+        Deque<Future<Chunk<I, T>>> pending = new ArrayDeque<>();
+        Iterator<? extends I> iterator = inputs.iterator();
+        long next = 0;
+        long result = 0;
+
+        try {
+            while (iterator.hasNext() || !pending.isEmpty()) {
+                // Keep the pipeline full
+                while (iterator.hasNext() && pending.size() < parallelism) {
+                    List<I> items = new ArrayList<>(chunkSize);
+                    while (iterator.hasNext() && items.size() < chunkSize) items.add(iterator.next());
+                    final long start = next;
+                    next += items.size();
+                    Callable<Chunk<I, T>> task = () -> run(runnable, mapper, pool, new Chunk<>(start, items));
+                    pending.addLast(ordered ? executor.submit(task) : completionService.submit(task));
+                }
+
+                // Ordered: wait for the oldest chunk. Unordered: take whichever chunk finishes first.
+                Future<Chunk<I, T>> completed = ordered ? pending.peekFirst() : completionService.take();
+                Chunk<I, T> chunk = completed.get();
+                pending.remove(completed);
+
+                for (int i = 0; i < chunk.items.size(); i++) {
+                    consumer.accept(chunk.start + i, chunk.items.get(i), chunk.results.get(i));
+                }
+
+                result += chunk.items.size();
+            }
+
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UnrulyException("Batch evaluation interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new UnrulyException("Batch evaluation failed.", e.getCause());
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Evaluates one chunk with a pooled context.
+     */
+    private <I, T> Chunk<I, T> run(Runnable<T> runnable, BindingMapper<? super I> mapper, RuleContextPool pool, Chunk<I, T> chunk) {
+        try (PooledRuleContext context = pool.acquire()) {
+            for (I item : chunk.items) {
+                mapper.map(item, context.getSlots());
+                chunk.results.add(context.run(runnable));
+            }
+        }
+
+        return chunk;
+    }
+
+    public PooledRuleContextFactory getContextFactory() {
+        return contextFactory;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchRuleEvaluator{" +
+                "parallelism=" + parallelism +
+                ", chunkSize=" + chunkSize +
+                '}';
+    }
+
+    /**
+     * Contiguous range of inputs and their results.
+     */
+    private static final class Chunk<I, T> {
+        private final long start;
+        private final List<I> items;
+        private final List<T> results;
+
+        private Chunk(long start, List<I> items) {
+            super();
+            this.start = start;
+            this.items = items;
+            this.results = new ArrayList<>(items.size());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.batch;
+
+import org.rulii.spring.bind.BindingSlots;
+
+/**
+ * Copies the values of one batch input into reusable binding slots.
+ *
+ * @param <I> input type
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+@FunctionalInterface
+public interface BindingMapper<I> {
+
+    /**
+     * Sets the slot values for the given input. Slots that are not set keep the value of the previous input of the
+     * same worker.
+     *
+     * @param input batch input
+     * @param slots slots to populate
+     */
+    void map(I input, BindingSlots slots);
+}
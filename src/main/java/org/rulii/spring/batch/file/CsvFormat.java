@@ -0,0 +1,163 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.batch.file;
+
+import org.rulii.spring.bind.BindingLayout;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Delimited (CSV) {@link RecordFormat}.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+final class CsvFormat extends RecordFormat {
+
+    private final byte delimiter;
+    private final boolean header;
+
+    CsvFormat(byte delimiter, boolean header) {
+        super();
+        this.delimiter = delimiter;
+        this.header = header;
+    }
+
+    @Override
+    RecordParser bind(ByteBuffer head, BindingLayout layout) {
+        int start = RecordParser.byteOrderMark(head);
+
+        if (!header) {
+            int[] columns = new int[layout.size()];
+            for (int i = 0; i < columns.length; i++) columns[i] = i;
+            return new Parser(start, delimiter, columns);
+        }
+
+        int end = RecordParser.lineEnd(head, start, head.limit());
+        List<String> names = parseHeader(head, start, end);
+        int[] columns = new int[names.size()];
+        for (int i = 0; i < columns.length; i++) columns[i] = layout.indexOf(names.get(i));
+        return new Parser(end < head.limit() ? end + 1 : end, delimiter, columns);
+    }
+
+    private List<String> parseHeader(ByteBuffer head, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        head.get(start, bytes);
+        String line = new String(bytes, StandardCharsets.UTF_8);
+        List<String> result = new ArrayList<>();
+        StringBuilder name = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (c == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') name.append(line.charAt(++i));
+                else quoted = !quoted;
+            } else if (c == delimiter && !quoted) {
+                result.add(name.toString().trim());
+                name.setLength(0);
+            } else {
+                name.append(c);
+            }
+        }
+
+        result.add(name.toString().trim());
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "CsvFormat{" +
+                "delimiter=" + (char) delimiter +
+                ", header=" + header +
+                '}';
+    }
+
+    private static final class Parser extends RecordParser {
+
+        private final byte delimiter;
+        // binding index of each column (-1 if the column is not bound)
+        private final int[] columns;
+
+        private Parser(long dataStart, byte delimiter, int[] columns) {
+            super(dataStart);
+            this.delimiter = delimiter;
+            this.columns = columns;
+        }
+
+        @Override
+        int parse(ByteBuffer buffer, int position, int limit, RecordCursor cursor) {
+            int column = 0;
+
+            while (true) {
+                int start = position;
+                int end;
+                int flags = 0;
+
+                if (position < limit && buffer.get(position) == '"') {
+                    flags = RecordCursor.QUOTED;
+                    start = ++position;
+
+                    while (true) {
+                        if (position >= limit || buffer.get(position) == '\n') throw malformed("Unterminated quoted CSV field.");
+
+                        if (buffer.get(position) == '"') {
+                            if (position + 1 < limit && buffer.get(position + 1) == '"') {
+                                flags |= RecordCursor.CSV_ESCAPED;
+                                position += 2;
+                                continue;
+                            }
+
+                            break;
+                        }
+
+                        position++;
+                    }
+
+                    end = position++;
+                    while (position < limit && buffer.get(position) != delimiter && buffer.get(position) != '\n') position++;
+                } else {
+                    while (position < limit && buffer.get(position) != delimiter && buffer.get(position) != '\n') position++;
+                    end = position;
+                    while (end > start && (buffer.get(end - 1) == ' ' || buffer.get(end - 1) == '\r')) end--;
+                    while (start < end && buffer.get(start) == ' ') start++;
+                }
+
+                if (column < columns.length && columns[column] >= 0) cursor.set(columns[column], start, end, flags);
+                column++;
+
+                if (position >= limit) return limit;
+                if (buffer.get(position) == '\n') return position + 1;
+                position++;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "CsvFormat.Parser{" +
+                    "columns=" + Arrays.toString(columns) +
+                    '}';
+        }
+    }
+}
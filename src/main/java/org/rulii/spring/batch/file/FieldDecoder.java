@@ -0,0 +1,210 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.batch.file;
+
+import org.springframework.core.convert.ConversionService;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Decodes a field straight from the bytes of a mapped input file. Numbers, booleans and ISO dates are parsed from the
+ * bytes without creating an intermediate String; other types go through a String and the ConversionService.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+@FunctionalInterface
+interface FieldDecoder {
+
+    /**
+     * Decodes a field.
+     *
+     * @param buffer mapped input
+     * @param start first byte of the field (inclusive)
+     * @param end last byte of the field (exclusive)
+     * @param flags {@link RecordCursor} field flags
+     * @return decoded value
+     */
+    Object decode(ByteBuffer buffer, int start, int end, int flags);
+
+    /**
+     * Creates the decoder for the given type.
+     *
+     * @param type binding type
+     * @param conversionService used for types that have no direct decoder
+     * @return decoder
+     */
+    static FieldDecoder forType(Class<?> type, ConversionService conversionService) {
+        if (type == String.class || type == CharSequence.class || type == Object.class) return FieldDecoder::decodeString;
+        if (type == int.class || type == Integer.class) return (buffer, start, end, flags) -> Math.toIntExact(decodeLong(buffer, start, end));
+        if (type == long.class || type == Long.class) return FieldDecoder::decodeLong;
+        if (type == double.class || type == Double.class) return FieldDecoder::decodeDouble;
+        if (type == boolean.class || type == Boolean.class) return (buffer, start, end, flags) -> {
+            Boolean result = decodeBoolean(buffer, start, end);
+            return result != null ? result : conversionService.convert(decodeString(buffer, start, end, flags), Boolean.class);
+        };
+        if (type == LocalDate.class) return FieldDecoder::decodeDate;
+        if (type == BigDecimal.class) return (buffer, start, end, flags) -> new BigDecimal(decodeString(buffer, start, end, flags));
+        return (buffer, start, end, flags) -> conversionService.convert(decodeString(buffer, start, end, flags), type);
+    }
+
+    static String decodeString(ByteBuffer buffer, int start, int end, int flags) {
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        String result = new String(bytes, StandardCharsets.UTF_8);
+        if ((flags & RecordCursor.CSV_ESCAPED) != 0) return result.replace("\"\"", "\"");
+        if ((flags & RecordCursor.JSON_ESCAPED) != 0) return unescapeJson(result);
+        return result;
+    }
+
+    static long decodeLong(ByteBuffer buffer, int start, int end, int flags) {
+        return decodeLong(buffer, start, end);
+    }
+
+    private static long decodeLong(ByteBuffer buffer, int start, int end) {
+        int i = start;
+        boolean negative = i < end && buffer.get(i) == '-';
+        if (i < end && (negative || buffer.get(i) == '+')) i++;
+        // Up to 18 digits cannot overflow
+        if (i == end || end - i > 18) return Long.parseLong(decodeString(buffer, start, end, 0));
+        long result = 0;
+
+        for (; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) return Long.parseLong(decodeString(buffer, start, end, 0));
+            result = result * 10 + digit;
+        }
+
+        return negative ? -result : result;
+    }
+
+    /**
+     * Decodes plain decimals with up to 15 significant digits exactly (the mantissa and the power of ten are both
+     * exact doubles, so the division is correctly rounded). Anything else is left to Double.parseDouble.
+     */
+    static double decodeDouble(ByteBuffer buffer, int start, int end, int flags) {
+        int i = start;
+        boolean negative = i < end && buffer.get(i) == '-';
+        if (i < end && (negative || buffer.get(i) == '+')) i++;
+        long mantissa = 0;
+        int digits = 0;
+        int scale = -1;
+        boolean empty = true;
+
+        for (; i < end; i++) {
+            byte c = buffer.get(i);
+
+            if (c == '.' && scale < 0) {
+                scale = 0;
+                continue;
+            }
+
+            int digit = c - '0';
+            if (digit < 0 || digit > 9 || digits == 15) return Double.parseDouble(decodeString(buffer, start, end, 0));
+            mantissa = mantissa * 10 + digit;
+            if (mantissa != 0) digits++;
+            empty = false;
+            if (scale >= 0) scale++;
+        }
+
+        if (empty || scale > 22) return Double.parseDouble(decodeString(buffer, start, end, 0));
+        double result = scale > 0 ? mantissa / POWERS_OF_TEN[scale] : mantissa;
+        return negative ? -result : result;
+    }
+
+    /**
+     * Decodes true/false (in any case); returns null for anything else (e.g. yes/no), which is left to the
+     * ConversionService.
+     */
+    static Boolean decodeBoolean(ByteBuffer buffer, int start, int end) {
+        if (matches(buffer, start, end, "true")) return Boolean.TRUE;
+        if (matches(buffer, start, end, "false")) return Boolean.FALSE;
+        return null;
+    }
+
+    private static boolean matches(ByteBuffer buffer, int start, int end, String word) {
+        if (end - start != word.length()) return false;
+
+        for (int i = 0; i < word.length(); i++) {
+            // ASCII letters only differ in the 0x20 bit
+            if ((buffer.get(start + i) | 0x20) != word.charAt(i)) return false;
+        }
+
+        return true;
+    }
+
+    static LocalDate decodeDate(ByteBuffer buffer, int start, int end, int flags) {
+        // yyyy-MM-dd
+        if (end - start == 10 && buffer.get(start + 4) == '-' && buffer.get(start + 7) == '-') {
+            int year = digits(buffer, start, 4);
+            int month = digits(buffer, start + 5, 2);
+            int day = digits(buffer, start + 8, 2);
+            if (year >= 0 && month >= 0 && day >= 0) return LocalDate.of(year, month, day);
+        }
+
+        return LocalDate.parse(decodeString(buffer, start, end, flags));
+    }
+
+    private static int digits(ByteBuffer buffer, int start, int count) {
+        int result = 0;
+
+        for (int i = start; i < start + count; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) return -1;
+            result = result * 10 + digit;
+        }
+
+        return result;
+    }
+
+    private static String unescapeJson(String value) {
+        StringBuilder result = new StringBuilder(value.length());
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (c != '\\' || i + 1 == value.length()) {
+                result.append(c);
+                continue;
+            }
+
+            char next = value.charAt(++i);
+            switch (next) {
+                case 'b' -> result.append('\b');
+                case 'f' -> result.append('\f');
+                case 'n' -> result.append('\n');
+                case 'r' -> result.append('\r');
+                case 't' -> result.append('\t');
+                case 'u' -> {
+                    result.append((char) Integer.parseInt(value.substring(i + 1, i + 5), 16));
+                    i += 4;
+                }
+                default -> result.append(next);
+            }
+        }
+
+        return result.toString();
+    }
+
+    double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15,
+            1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+}
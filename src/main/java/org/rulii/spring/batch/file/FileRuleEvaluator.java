@@ -0,0 +1,366 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.batch.file;
+
+import org.rulii.context.RuleContextOptions;
+import org.rulii.model.Runnable;
+import org.rulii.model.UnrulyException;
+import org.rulii.registry.RuleRegistry;
+import org.rulii.spring.batch.BatchResultConsumer;
+import org.rulii.spring.bind.BindingLayout;
+import org.rulii.spring.concurrent.LazyExecutor;
+import org.rulii.spring.concurrent.RuleExecutors;
+import org.rulii.spring.concurrent.TrackedTask;
+import org.rulii.spring.context.PooledRuleContext;
+import org.rulii.spring.context.PooledRuleContextFactory;
+import org.rulii.spring.context.RuleContextPool;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Evaluates a Rule or RuleSet over every record of a CSV, fixed width or JSON lines file. The file is split at line
+ * breaks into chunks that are memory-mapped and evaluated in parallel. Records are parsed in place: each chunk borrows
+ * a {@link PooledRuleContext} whose slots read from a {@link RecordCursor} that decodes a field from the mapped bytes
+ * only when a Rule reads it, so no line Strings or per-field objects are created for fields the Rules never look at.
+ * <p>
+ * The chunks run on a dedicated ExecutorService rather than the Rulii one: the caller waits for the chunks, so running
+ * them on the pool of the callers could starve it.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class FileRuleEvaluator {
+
+    // Bytes read at a time while looking for the line break that ends a chunk
+    private static final int BOUNDARY_SCAN_SIZE = 4096;
+
+    private final RuleRegistry ruleRegistry;
+    private final PooledRuleContextFactory contextFactory;
+    private final LazyExecutor executor;
+    private final ConversionService conversionService;
+    private final int parallelism;
+    private final int chunkSize;
+
+    /**
+     * Creates a new FileRuleEvaluator that runs the chunks on virtual threads (a cached thread pool before Java 21),
+     * created on the first evaluation.
+     *
+     * @param ruleRegistry registry used to look up Rules and RuleSets by name
+     * @param ruleContextOptions options used to create the worker RuleContexts
+     * @param parallelism maximum number of chunks evaluated concurrently
+     * @param chunkSize approximate number of bytes per chunk (chunks end at the first line break past this size)
+     */
+    public FileRuleEvaluator(RuleRegistry ruleRegistry, RuleContextOptions ruleContextOptions, int parallelism, int chunkSize) {
+        this(ruleRegistry, new PooledRuleContextFactory(ruleContextOptions, Math.max(1, parallelism) * 2),
+                RuleExecutors::newVirtualThreadPerTaskExecutor, DefaultConversionService.getSharedInstance(),
+                parallelism, chunkSize);
+    }
+
+    /**
+     * Creates a new FileRuleEvaluator.
+     *
+     * @param ruleRegistry registry used to look up Rules and RuleSets by name
+     * @param contextFactory factory of the pooled worker contexts
+     * @param executor ExecutorService the chunks run on; must not be the pool of the callers (to avoid starvation)
+     * @param conversionService converts fields to binding types that are not decoded directly
+     * @param parallelism maximum number of chunks evaluated concurrently
+     * @param chunkSize approximate number of bytes per chunk (chunks end at the first line break past this size)
+     */
+    public FileRuleEvaluator(RuleRegistry ruleRegistry, PooledRuleContextFactory contextFactory, ExecutorService executor,
+                             ConversionService conversionService, int parallelism, int chunkSize) {
+        this(ruleRegistry, contextFactory, LazyExecutor.of(executor), conversionService, parallelism, chunkSize);
+    }
+
+    /**
+     * Creates a new FileRuleEvaluator whose ExecutorService is only created on the first evaluation.
+     *
+     * @param ruleRegistry registry used to look up Rules and RuleSets by name
+     * @param contextFactory factory of the pooled worker contexts
+     * @param executorFactory creates the ExecutorService the chunks run on; must not be the pool of the callers
+     * @param conversionService converts fields to binding types that are not decoded directly
+     * @param parallelism maximum number of chunks evaluated concurrently
+     * @param chunkSize approximate number of bytes per chunk (chunks end at the first line break past this size)
+     */
+    public FileRuleEvaluator(RuleRegistry ruleRegistry, PooledRuleContextFactory contextFactory,
+                             Supplier<ExecutorService> executorFactory, ConversionService conversionService,
+                             int parallelism, int chunkSize) {
+        this(ruleRegistry, contextFactory, new LazyExecutor(executorFactory), conversionService, parallelism, chunkSize);
+    }
+
+    private FileRuleEvaluator(RuleRegistry ruleRegistry, PooledRuleContextFactory contextFactory, LazyExecutor executor,
+                              ConversionService conversionService, int parallelism, int chunkSize) {
+        super();
+        Assert.notNull(ruleRegistry, "ruleRegistry cannot be null.");
+        Assert.notNull(contextFactory, "contextFactory cannot be null.");
+        Assert.notNull(conversionService, "conversionService cannot be null.");
+        Assert.isTrue(parallelism > 0, "parallelism must be > 0.");
+        Assert.isTrue(chunkSize > 0, "chunkSize must be > 0.");
+        this.ruleRegistry = ruleRegistry;
+        this.contextFactory = contextFactory;
+        this.executor = executor;
+        this.conversionService = conversionService;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Evaluates the named Rule or RuleSet over every record of the file.
+     *
+     * @param name name of the Rule or RuleSet in the RuleRegistry
+     * @param file input file (UTF-8)
+     * @param format record format
+     * @param layout bindings populated from each record
+     * @param consumer receives, on the calling thread and in file order, the record number, the byte offset of the
+     *                 record and the result
+     * @param <T> result type
+     * @return number of records evaluated
+     */
+    public <T> long evaluate(String name, Path file, RecordFormat format, BindingLayout layout,
+                             BatchResultConsumer<Long, ? super T> consumer) {
+        Assert.notNull(name, "name cannot be null.");
+        Runnable<T> runnable = ruleRegistry.get(name);
+        if (runnable == null) throw new UnrulyException("No Rule/RuleSet found with name [" + name + "]");
+        return evaluate(runnable, file, format, layout, consumer);
+    }
+
+    /**
+     * Evaluates the Rule or RuleSet over every record of the file. At most {@code parallelism} chunks are mapped and
+     * in flight at any time, so files of any size are evaluated in bounded memory.
+     *
+     * @param runnable Rule or RuleSet to evaluate
+     * @param file input file (UTF-8)
+     * @param format record format
+     * @param layout bindings populated from each record
+     * @param consumer receives, on the calling thread and in file order, the record number, the byte offset of the
+     *                 record and the result
+     * @param <T> result type
+     * @return number of records evaluated
+     */
+    public <T> long evaluate(Runnable<T> runnable, Path file, RecordFormat format, BindingLayout layout,
+                             BatchResultConsumer<Long, ? super T> consumer) {
+        Assert.notNull(runnable, "runnable cannot be null.");
+        Assert.notNull(file, "file cannot be null.");
+        Assert.notNull(format, "format cannot be null.");
+        Assert.notNull(layout, "layout cannot be null.");
+        Assert.notNull(consumer, "consumer cannot be null.");
+
+        RuleContextPool pool = contextFactory.getPool(layout);
+        FieldDecoder[] decoders = RecordCursor.decoders(layout, conversionService);
+        ExecutorService executor = this.executor.get();
+        Deque<InFlight<T>> pending = new ArrayDeque<>();
+        long result = 0;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer head = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, chunkSize));
+            RecordParser parser = format.bind(head, layout);
+            long next = parser.getDataStart();
+
+            if (next >= head.limit() && head.limit() < size) {
+                throw new UnrulyException("Header of [" + file + "] is longer than the chunk size (" + chunkSize + " bytes).");
+            }
+
+            // Chunks still in flight are waited for before the channel is closed
+            try {
+                while (next < size || !pending.isEmpty()) {
+                    // Keep the pipeline full
+                    while (next < size && pending.size() < parallelism) {
+                        final long start = next;
+                        final long end = findChunkEnd(channel, start, size);
+                        next = end;
+                        TrackedTask<Chunk<T>> task = new TrackedTask<>(() -> run(runnable, file, channel, parser, pool, decoders, start, end));
+                        pending.addLast(new InFlight<>(executor.submit(task), task));
+                    }
+
+                    Chunk<T> chunk = pending.peekFirst().future().get();
+                    pending.removeFirst();
+
+                    for (int i = 0; i < chunk.size; i++) {
+                        consumer.accept(result + i, chunk.offsets[i], chunk.results.get(i));
+                    }
+
+                    result += chunk.size;
+                }
+
+                return result;
+            } finally {
+                cancel(pending);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read [" + file + "]", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UnrulyException("File evaluation interrupted.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UnrulyException unrulyException) throw unrulyException;
+            throw new UnrulyException("File evaluation failed.", e.getCause());
+        }
+    }
+
+    /**
+     * Cancels the chunks still in flight and waits for them to finish, so that none of them is still reading the
+     * (about to be closed) file or holding a pooled context when the evaluation returns.
+     */
+    private static void cancel(Deque<? extends InFlight<?>> pending) {
+        pending.forEach(chunk -> chunk.future().cancel(true));
+        pending.forEach(chunk -> chunk.task().awaitTermination());
+    }
+
+    /**
+     * Evaluates one chunk of the file with a pooled context.
+     */
+    private <T> Chunk<T> run(Runnable<T> runnable, Path file, FileChannel channel, RecordParser parser, RuleContextPool pool,
+                             FieldDecoder[] decoders, long start, long end) throws IOException {
+        ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        RecordCursor cursor = new RecordCursor(pool.getLayout(), decoders, buffer);
+        Chunk<T> result = new Chunk<>();
+        int position = 0;
+        int limit = buffer.limit();
+
+        // Closing the context clears the source, so the mapping is not kept reachable from the idle context
+        try (PooledRuleContext context = pool.acquire()) {
+            context.getSlots().setSource(cursor::get);
+
+            while (position < limit) {
+                int next = RecordParser.skipBlankLine(buffer, position, limit);
+
+                if (next != position) {
+                    position = next;
+                    continue;
+                }
+
+                cursor.next();
+
+                try {
+                    next = parser.parse(buffer, position, limit, cursor);
+                } catch (UnrulyException e) {
+                    throw new UnrulyException("Malformed record at offset " + (start + position) + " of [" + file + "]: "
+                            + e.getMessage(), e);
+                }
+
+                result.add(start + position, context.run(runnable));
+                position = next;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Finds the start of the first line at or after {@code start + chunkSize}.
+     */
+    private long findChunkEnd(FileChannel channel, long start, long size) throws IOException {
+        long position = start + chunkSize;
+        if (position >= size) return size;
+        ByteBuffer buffer = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+
+        // The chunk may run past chunkSize up to the end of the current line
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) break;
+
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') return checkChunk(start, position + i + 1);
+            }
+
+            position += read;
+        }
+
+        return checkChunk(start, size);
+    }
+
+    private static long checkChunk(long start, long end) {
+        if (end - start > Integer.MAX_VALUE) throw new UnrulyException("Record at offset " + start + " is too long.");
+        return end;
+    }
+
+    /**
+     * Shuts down the ExecutorService the chunks run on. Evaluations that are still running are interrupted.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public RuleRegistry getRuleRegistry() {
+        return ruleRegistry;
+    }
+
+    public PooledRuleContextFactory getContextFactory() {
+        return contextFactory;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public String toString() {
+        return "FileRuleEvaluator{" +
+                "parallelism=" + parallelism +
+                ", chunkSize=" + chunkSize +
+                '}';
+    }
+
+    /**
+     * Chunk submitted to the executor.
+     */
+    private record InFlight<T>(Future<Chunk<T>> future, TrackedTask<Chunk<T>> task) {
+    }
+
+    /**
+     * Results of a chunk along with the byte offsets of their records.
+     */
+    private static final class Chunk<T> {
+        private final List<T> results = new ArrayList<>();
+        private long[] offsets = new long[64];
+        private int size = 0;
+
+        private Chunk() {
+            super();
+        }
+
+        private void add(long offset, T result) {
+            if (size == offsets.length) offsets = Arrays.copyOf(offsets, size * 2);
+            offsets[size++] = offset;
+            results.add(result);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.batch.file;
+
+import org.rulii.spring.bind.BindingLayout;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Fixed width {@link RecordFormat}.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+final class FixedWidthFormat extends RecordFormat {
+
+    private final int[] widths;
+
+    FixedWidthFormat(int[] widths) {
+        super();
+        this.widths = widths;
+    }
+
+    @Override
+    RecordParser bind(ByteBuffer head, BindingLayout layout) {
+        return new Parser(RecordParser.byteOrderMark(head), widths, Math.min(widths.length, layout.size()));
+    }
+
+    @Override
+    public String toString() {
+        return "FixedWidthFormat{" +
+                "widths=" + Arrays.toString(widths) +
+                '}';
+    }
+
+    private static final class Parser extends RecordParser {
+
+        private final int[] offsets;
+        private final int[] widths;
+        private final int columns;
+
+        private Parser(long dataStart, int[] widths, int columns) {
+            super(dataStart);
+            this.widths = widths;
+            this.columns = columns;
+            this.offsets = new int[widths.length];
+            for (int i = 1; i < widths.length; i++) offsets[i] = offsets[i - 1] + widths[i - 1];
+        }
+
+        @Override
+        int parse(ByteBuffer buffer, int position, int limit, RecordCursor cursor) {
+            int lineEnd = lineEnd(buffer, position, limit);
+            int contentEnd = lineEnd > position && buffer.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+
+            for (int i = 0; i < columns; i++) {
+                int start = position + offsets[i];
+                if (start >= contentEnd) break;
+                int end = Math.min(start + widths[i], contentEnd);
+                while (start < end && buffer.get(start) == ' ') start++;
+                while (end > start && buffer.get(end - 1) == ' ') end--;
+                cursor.set(i, start, end, 0);
+            }
+
+            return lineEnd < limit ? lineEnd + 1 : limit;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.batch.file;
+
+import org.rulii.spring.bind.BindingLayout;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JSON lines {@link RecordFormat}: one flat JSON object per line.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+final class JsonLinesFormat extends RecordFormat {
+
+    JsonLinesFormat() {
+        super();
+    }
+
+    @Override
+    RecordParser bind(ByteBuffer head, BindingLayout layout) {
+        byte[][] names = new byte[layout.size()][];
+        for (int i = 0; i < names.length; i++) names[i] = layout.getName(i).getBytes(StandardCharsets.UTF_8);
+        return new Parser(RecordParser.byteOrderMark(head), names);
+    }
+
+    @Override
+    public String toString() {
+        return "JsonLinesFormat{}";
+    }
+
+    private static final class Parser extends RecordParser {
+
+        // UTF-8 binding names, compared with the raw member names
+        private final byte[][] names;
+
+        private Parser(long dataStart, byte[][] names) {
+            super(dataStart);
+            this.names = names;
+        }
+
+        @Override
+        int parse(ByteBuffer buffer, int position, int limit, RecordCursor cursor) {
+            int end = lineEnd(buffer, position, limit);
+            int i = skipWhitespace(buffer, position, end);
+            if (i >= end || buffer.get(i) != '{') throw malformed("Expected a JSON object.");
+            i = skipWhitespace(buffer, i + 1, end);
+
+            if (i < end && buffer.get(i) == '}') return end < limit ? end + 1 : limit;
+
+            while (true) {
+                if (i >= end || buffer.get(i) != '"') throw malformed("Expected a JSON member name.");
+                int nameStart = i + 1;
+                int nameEnd = closingQuote(buffer, nameStart, end);
+                i = skipWhitespace(buffer, nameEnd + 1, end);
+                if (i >= end || buffer.get(i) != ':') throw malformed("Expected ':' after a JSON member name.");
+                i = skipWhitespace(buffer, i + 1, end);
+                if (i >= end) throw malformed("Expected a JSON value.");
+
+                int field = indexOf(buffer, nameStart, nameEnd);
+                int valueStart;
+                int valueEnd;
+                int flags = 0;
+                byte c = buffer.get(i);
+
+                if (c == '"') {
+                    valueStart = i + 1;
+                    valueEnd = closingQuote(buffer, valueStart, end);
+                    flags = RecordCursor.QUOTED;
+                    for (int j = valueStart; j < valueEnd; j++) {
+                        if (buffer.get(j) == '\\') {
+                            flags |= RecordCursor.JSON_ESCAPED;
+                            break;
+                        }
+                    }
+                    i = valueEnd + 1;
+                } else if (c == '{' || c == '[') {
+                    valueStart = i;
+                    i = skipNested(buffer, i, end);
+                    valueEnd = i;
+                } else {
+                    valueStart = i;
+                    while (i < end && !isValueEnd(buffer.get(i))) i++;
+                    valueEnd = i;
+                    // null is a missing value
+                    if (valueEnd - valueStart == 4 && buffer.get(valueStart) == 'n') field = -1;
+                }
+
+                if (field >= 0) cursor.set(field, valueStart, valueEnd, flags);
+                i = skipWhitespace(buffer, i, end);
+                if (i < end && buffer.get(i) == '}') break;
+                if (i >= end || buffer.get(i) != ',') throw malformed("Expected ',' or '}' in a JSON object.");
+                i = skipWhitespace(buffer, i + 1, end);
+            }
+
+            return end < limit ? end + 1 : limit;
+        }
+
+        private int indexOf(ByteBuffer buffer, int start, int end) {
+            int length = end - start;
+
+            for (int i = 0; i < names.length; i++) {
+                byte[] name = names[i];
+                if (name.length != length) continue;
+                int j = 0;
+                while (j < length && buffer.get(start + j) == name[j]) j++;
+                if (j == length) return i;
+            }
+
+            return -1;
+        }
+
+        private static int closingQuote(ByteBuffer buffer, int position, int end) {
+            while (position < end) {
+                byte c = buffer.get(position);
+                if (c == '"') return position;
+                position += c == '\\' ? 2 : 1;
+            }
+
+            throw malformed("Unterminated JSON string.");
+        }
+
+        private static int skipNested(ByteBuffer buffer, int position, int end) {
+            int depth = 0;
+
+            while (position < end) {
+                byte c = buffer.get(position);
+
+                if (c == '"') {
+                    position = closingQuote(buffer, position + 1, end) + 1;
+                    continue;
+                }
+
+                if (c == '{' || c == '[') depth++;
+                else if ((c == '}' || c == ']') && --depth == 0) return position + 1;
+                position++;
+            }
+
+            throw malformed("Unterminated JSON object or array.");
+        }
+
+        private static int skipWhitespace(ByteBuffer buffer, int position, int end) {
+            while (position < end) {
+                byte c = buffer.get(position);
+                if (c != ' ' && c != '\t' && c != '\r') break;
+                position++;
+            }
+
+            return position;
+        }
+
+        private static boolean isValueEnd(byte c) {
+            return c == ',' || c == '}' || c == ' ' || c == '\t' || c == '\r';
+        }
+    }
+}
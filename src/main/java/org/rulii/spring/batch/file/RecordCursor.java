@@ -0,0 +1,139 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.batch.file;
+
+import org.rulii.spring.bind.BindingLayout;
+import org.rulii.spring.bind.BindingSlots;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.ConversionService;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Binding values of the current record of a mapped chunk of an input file. Parsing a record only stores the byte
+ * range of each field; a value is decoded when a Rule first reads its binding and is then kept until the next record.
+ * The cursor is the source of pooled {@link BindingSlots} (see {@link BindingSlots#setSource}). Instances are not
+ * thread safe; use one per chunk.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+final class RecordCursor {
+
+    /** The field was quoted (an empty quoted field is an empty String rather than null). */
+    static final int QUOTED = 1;
+    /** The field contains CSV escaped quotes (""). */
+    static final int CSV_ESCAPED = 2;
+    /** The field contains JSON escape sequences. */
+    static final int JSON_ESCAPED = 4;
+
+    private final BindingLayout layout;
+    private final FieldDecoder[] decoders;
+    private final ByteBuffer buffer;
+    private final int[] starts;
+    private final int[] ends;
+    private final byte[] flags;
+    private final Object[] values;
+    private final long[] decodedAt;
+    private long record = 0;
+
+    RecordCursor(BindingLayout layout, FieldDecoder[] decoders, ByteBuffer buffer) {
+        super();
+        this.layout = layout;
+        this.decoders = decoders;
+        this.buffer = buffer;
+        this.starts = new int[layout.size()];
+        this.ends = new int[layout.size()];
+        this.flags = new byte[layout.size()];
+        this.values = new Object[layout.size()];
+        this.decodedAt = new long[layout.size()];
+        Arrays.fill(decodedAt, -1);
+    }
+
+    /**
+     * Creates the field decoders of the given layout; they are stateless and shared by the cursors of an evaluation.
+     *
+     * @param layout binding layout
+     * @param conversionService used for types that have no direct decoder
+     * @return decoder of each binding
+     */
+    static FieldDecoder[] decoders(BindingLayout layout, ConversionService conversionService) {
+        FieldDecoder[] result = new FieldDecoder[layout.size()];
+
+        for (int i = 0; i < result.length; i++) {
+            Class<?> type = ResolvableType.forType(layout.getType(i)).resolve(Object.class);
+            result[i] = FieldDecoder.forType(type, conversionService);
+        }
+
+        return result;
+    }
+
+    /**
+     * Moves on to the next record; all the fields are missing until they are set.
+     */
+    void next() {
+        record++;
+        Arrays.fill(starts, -1);
+    }
+
+    /**
+     * Sets the byte range of a field of the current record.
+     *
+     * @param index binding index
+     * @param start first byte (inclusive)
+     * @param end last byte (exclusive)
+     * @param flags field flags
+     */
+    void set(int index, int start, int end, int flags) {
+        this.starts[index] = start;
+        this.ends[index] = end;
+        this.flags[index] = (byte) flags;
+    }
+
+    /**
+     * Decodes the value of a field of the current record.
+     *
+     * @param index binding index
+     * @return value; null if the field is missing or empty
+     */
+    Object get(int index) {
+        if (decodedAt[index] == record) return values[index];
+        int start = starts[index];
+        int end = ends[index];
+        Object result = start < 0 || (start == end && (flags[index] & QUOTED) == 0)
+                ? null
+                : decoders[index].decode(buffer, start, end, flags[index]);
+        values[index] = result;
+        decodedAt[index] = record;
+        return result;
+    }
+
+    BindingLayout getLayout() {
+        return layout;
+    }
+
+    @Override
+    public String toString() {
+        return "RecordCursor{" +
+                "layout=" + layout +
+                ", record=" + record +
+                '}';
+    }
+}
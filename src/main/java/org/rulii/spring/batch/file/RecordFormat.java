@@ -0,0 +1,94 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.batch.file;
+
+import org.rulii.spring.bind.BindingLayout;
+import org.springframework.util.Assert;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Format of the records of an input file read by the {@link FileRuleEvaluator}. Records are separated by '\n' (a
+ * trailing '\r' is ignored) and may not contain raw line breaks, so that the file can be split into chunks at any line
+ * break. The file is expected to be UTF-8 encoded.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public abstract class RecordFormat {
+
+    RecordFormat() {
+        super();
+    }
+
+    /**
+     * Comma separated values with a header line naming the columns.
+     *
+     * @return CSV format
+     */
+    public static RecordFormat csv() {
+        return csv(',', true);
+    }
+
+    /**
+     * Delimited values. Fields may be quoted ("a, b") with quotes escaped by doubling them (""). With a header, the
+     * columns are matched to the bindings by name and unknown columns are ignored; without one, the columns are
+     * taken in binding layout order.
+     *
+     * @param delimiter field delimiter
+     * @param header true if the first line names the columns
+     * @return delimited format
+     */
+    public static RecordFormat csv(char delimiter, boolean header) {
+        Assert.isTrue(delimiter < 0x80 && delimiter != '"' && delimiter != '\n', "delimiter must be an ASCII character other than a quote or a line break.");
+        return new CsvFormat((byte) delimiter, header);
+    }
+
+    /**
+     * Fixed width columns, taken in binding layout order. Leading and trailing spaces are trimmed; widths are in
+     * bytes.
+     *
+     * @param widths width of each column
+     * @return fixed width format
+     */
+    public static RecordFormat fixedWidth(int... widths) {
+        Assert.notNull(widths, "widths cannot be null.");
+        for (int width : widths) Assert.isTrue(width > 0, "widths must be > 0.");
+        return new FixedWidthFormat(widths.clone());
+    }
+
+    /**
+     * One flat JSON object per line. Members are matched to the bindings by name; unknown members are ignored, null
+     * members are treated as missing and nested objects/arrays are bound as their JSON text.
+     *
+     * @return JSON lines format
+     */
+    public static RecordFormat jsonLines() {
+        return new JsonLinesFormat();
+    }
+
+    /**
+     * Creates the parser of this format for the given layout.
+     *
+     * @param head start of the file (large enough to hold the header, if any)
+     * @param layout binding layout
+     * @return parser
+     */
+    abstract RecordParser bind(ByteBuffer head, BindingLayout layout);
+}
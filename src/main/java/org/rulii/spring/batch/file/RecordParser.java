@@ -0,0 +1,100 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.batch.file;
+
+import org.rulii.model.UnrulyException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Parses the records of a file in a given {@link RecordFormat}, bound to a BindingLayout. Parsers are immutable and
+ * shared by all the workers.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+abstract class RecordParser {
+
+    private final long dataStart;
+
+    RecordParser(long dataStart) {
+        super();
+        this.dataStart = dataStart;
+    }
+
+    /**
+     * Parses the record starting at the given position into the cursor.
+     *
+     * @param buffer mapped chunk
+     * @param position start of the record
+     * @param limit end of the chunk
+     * @param cursor receives the byte ranges of the fields
+     * @return start of the next record
+     */
+    abstract int parse(ByteBuffer buffer, int position, int limit, RecordCursor cursor);
+
+    /**
+     * Offset of the first record in the file (past the byte order mark and the header).
+     *
+     * @return offset of the first record
+     */
+    long getDataStart() {
+        return dataStart;
+    }
+
+    /**
+     * Finds the end of the line starting at the given position.
+     *
+     * @return index of the next '\n' or the limit
+     */
+    static int lineEnd(ByteBuffer buffer, int position, int limit) {
+        while (position < limit && buffer.get(position) != '\n') position++;
+        return position;
+    }
+
+    /**
+     * Skips a line that holds nothing but whitespace.
+     *
+     * @return start of the next line or the given position if the line is not blank
+     */
+    static int skipBlankLine(ByteBuffer buffer, int position, int limit) {
+        int i = position;
+
+        while (i < limit) {
+            byte c = buffer.get(i);
+            if (c == '\n') return i + 1;
+            if (c != ' ' && c != '\t' && c != '\r') return position;
+            i++;
+        }
+
+        return limit;
+    }
+
+    /**
+     * Length of the UTF-8 byte order mark at the start of the file, if any.
+     */
+    static int byteOrderMark(ByteBuffer head) {
+        return head.limit() >= 3 && (head.get(0) & 0xFF) == 0xEF && (head.get(1) & 0xFF) == 0xBB
+                && (head.get(2) & 0xFF) == 0xBF ? 3 : 0;
+    }
+
+    static UnrulyException malformed(String message) {
+        return new UnrulyException(message);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.batch.sink;
+
+import org.rulii.rule.RuleExecutionStatus;
+import org.rulii.rule.RuleResult;
+
+import java.util.Collection;
+
+/**
+ * {@link ResultFormat#BINARY} encoder. The stream starts with a 4 byte header ("RRS" and the format version); each
+ * record is the zigzag varint difference between its index and the previous one, followed by the tagged key and
+ * result values. Statuses are written by name so that files stay readable when statuses are added; RuleResults are
+ * written as the name of their Rule followed by their status.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+final class BinaryResultEncoder extends ResultEncoder {
+
+    static final byte[] HEADER = {'R', 'R', 'S', 1};
+
+    static final int NULL = 0;
+    static final int FALSE = 1;
+    static final int TRUE = 2;
+    static final int STATUS = 3;
+    static final int LONG = 4;
+    static final int DOUBLE = 5;
+    static final int STRING = 6;
+    static final int LIST = 7;
+    static final int ENUM = 8;
+    static final int RULE_RESULT = 9;
+
+    private long previousIndex = -1;
+
+    BinaryResultEncoder() {
+        super();
+    }
+
+    @Override
+    void encodeHeader(ByteSink out) {
+        for (byte b : HEADER) out.put(b);
+    }
+
+    @Override
+    void encode(long index, Object key, boolean hasKey, Object result, ByteSink out) {
+        out.putZigZag(index - previousIndex);
+        previousIndex = index;
+        encodeValue(hasKey ? key : null, out);
+        encodeValue(result, out);
+    }
+
+    private void encodeValue(Object value, ByteSink out) {
+        if (value == null) {
+            out.put(NULL);
+        } else if (value instanceof Boolean bool) {
+            out.put(bool ? TRUE : FALSE);
+        } else if (value instanceof RuleExecutionStatus status) {
+            out.put(STATUS);
+            out.putString(status.name());
+        } else if (value instanceof RuleResult ruleResult) {
+            out.put(RULE_RESULT);
+            encodeValue(ruleResult.getRule() != null ? ruleResult.getRule().getName() : null, out);
+            encodeValue(ruleResult.getStatus(), out);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            out.put(LONG);
+            out.putZigZag(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            out.put(DOUBLE);
+            out.putDouble(((Number) value).doubleValue());
+        } else if (value instanceof Enum<?> constant) {
+            out.put(ENUM);
+            out.putString(constant.name());
+        } else if (value instanceof Collection<?> collection) {
+            out.put(LIST);
+            out.putVarLong(collection.size());
+            for (Object element : collection) encodeValue(element, out);
+        } else if (value instanceof Object[] array) {
+            out.put(LIST);
+            out.putVarLong(array.length);
+            for (Object element : array) encodeValue(element, out);
+        } else {
+            out.put(STRING);
+            out.putString(value instanceof CharSequence text ? text : value.toString());
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.batch.sink;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Growable byte array that a single record is encoded into before it is copied into the output buffer. The array is
+ * reused for every record, so encoding does not allocate once it has grown to the largest record.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+final class ByteSink {
+
+    private byte[] bytes;
+    private int size = 0;
+
+    ByteSink(int capacity) {
+        super();
+        this.bytes = new byte[capacity];
+    }
+
+    void reset() {
+        this.size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void put(int b) {
+        ensureCapacity(1);
+        bytes[size++] = (byte) b;
+    }
+
+    /**
+     * Writes an ASCII String (one byte per char).
+     */
+    void putAscii(String value) {
+        ensureCapacity(value.length());
+        for (int i = 0; i < value.length(); i++) bytes[size++] = (byte) value.charAt(i);
+    }
+
+    /**
+     * Writes an unsigned LEB128 varint.
+     */
+    void putVarLong(long value) {
+        ensureCapacity(10);
+
+        while ((value & ~0x7FL) != 0) {
+            bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        bytes[size++] = (byte) value;
+    }
+
+    /**
+     * Writes a signed varint (zigzag encoded, so small negative values stay short).
+     */
+    void putZigZag(long value) {
+        putVarLong((value << 1) ^ (value >> 63));
+    }
+
+    void putDouble(double value) {
+        ensureCapacity(8);
+        long bits = Double.doubleToRawLongBits(value);
+        for (int i = 0; i < 8; i++) bytes[size++] = (byte) (bits >>> (i * 8));
+    }
+
+    /**
+     * Writes the UTF-8 encoding of a char and, for a surrogate pair, the char that follows it.
+     *
+     * @return index of the last char consumed
+     */
+    int putUtf8(CharSequence value, int index) {
+        char c = value.charAt(index);
+        ensureCapacity(4);
+
+        if (c < 0x80) {
+            bytes[size++] = (byte) c;
+        } else if (c < 0x800) {
+            bytes[size++] = (byte) (0xC0 | (c >> 6));
+            bytes[size++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c) && index + 1 < value.length() && Character.isLowSurrogate(value.charAt(index + 1))) {
+            int codePoint = Character.toCodePoint(c, value.charAt(++index));
+            bytes[size++] = (byte) (0xF0 | (codePoint >> 18));
+            bytes[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            bytes[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            bytes[size++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else {
+            // Unpaired surrogates are written as '?' (as String.getBytes does)
+            if (Character.isSurrogate(c)) c = '?';
+            bytes[size++] = (byte) (0xE0 | (c >> 12));
+            bytes[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            bytes[size++] = (byte) (0x80 | (c & 0x3F));
+        }
+
+        return index;
+    }
+
+    /**
+     * Writes a varint length followed by the UTF-8 encoding of the value.
+     */
+    void putString(CharSequence value) {
+        int length = 0;
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) length++;
+            else if (c < 0x800) length += 2;
+            else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else length += 3;
+        }
+
+        putVarLong(length);
+        for (int i = 0; i < value.length(); i++) i = putUtf8(value, i);
+    }
+
+    /**
+     * Copies as much of the bytes (from the given offset) as fits into the buffer.
+     *
+     * @return offset of the first byte not copied
+     */
+    int copyTo(ByteBuffer buffer, int offset) {
+        int count = Math.min(size - offset, buffer.remaining());
+        buffer.put(bytes, offset, count);
+        return offset + count;
+    }
+
+    private void ensureCapacity(int count) {
+        if (size + count > bytes.length) bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + count));
+    }
+}
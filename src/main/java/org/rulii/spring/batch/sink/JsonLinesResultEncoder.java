@@ -0,0 +1,136 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.batch.sink;
+
+import org.rulii.rule.RuleResult;
+
+import java.util.Map;
+
+/**
+ * {@link ResultFormat#JSON_LINES} encoder. RuleResults are written as objects holding the name of their Rule and their
+ * status, enums by name, Iterables and arrays as JSON arrays and any other object as its String value.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+final class JsonLinesResultEncoder extends ResultEncoder {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    JsonLinesResultEncoder() {
+        super();
+    }
+
+    @Override
+    void encode(long index, Object key, boolean hasKey, Object result, ByteSink out) {
+        out.putAscii("{\"index\":");
+        out.putAscii(Long.toString(index));
+
+        if (hasKey) {
+            out.putAscii(",\"key\":");
+            encodeValue(key, out);
+        }
+
+        out.putAscii(",\"result\":");
+        encodeValue(result, out);
+        out.putAscii("}\n");
+    }
+
+    private void encodeValue(Object value, ByteSink out) {
+        if (value == null) {
+            out.putAscii("null");
+        } else if (value instanceof Boolean || value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte) {
+            out.putAscii(value.toString());
+        } else if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            out.putAscii(Double.isFinite(number) ? Double.toString(number) : "null");
+        } else if (value instanceof RuleResult ruleResult) {
+            out.putAscii("{\"rule\":");
+            encodeValue(ruleResult.getRule() != null ? ruleResult.getRule().getName() : null, out);
+            out.putAscii(",\"status\":");
+            encodeValue(ruleResult.getStatus(), out);
+            out.put('}');
+        } else if (value instanceof Enum<?> constant) {
+            encodeString(constant.name(), out);
+        } else if (value instanceof Iterable<?> iterable) {
+            out.put('[');
+            boolean first = true;
+
+            for (Object element : iterable) {
+                if (!first) out.put(',');
+                encodeValue(element, out);
+                first = false;
+            }
+
+            out.put(']');
+        } else if (value instanceof Object[] array) {
+            out.put('[');
+
+            for (int i = 0; i < array.length; i++) {
+                if (i > 0) out.put(',');
+                encodeValue(array[i], out);
+            }
+
+            out.put(']');
+        } else if (value instanceof Map<?, ?> map) {
+            out.put('{');
+            boolean first = true;
+
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!first) out.put(',');
+                encodeString(String.valueOf(entry.getKey()), out);
+                out.put(':');
+                encodeValue(entry.getValue(), out);
+                first = false;
+            }
+
+            out.put('}');
+        } else {
+            encodeString(value instanceof CharSequence text ? text : value.toString(), out);
+        }
+    }
+
+    private void encodeString(CharSequence value, ByteSink out) {
+        out.put('"');
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            switch (c) {
+                case '"' -> out.putAscii("\\\"");
+                case '\\' -> out.putAscii("\\\\");
+                case '\n' -> out.putAscii("\\n");
+                case '\r' -> out.putAscii("\\r");
+                case '\t' -> out.putAscii("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.putAscii("\\u00");
+                        out.put(HEX[c >> 4]);
+                        out.put(HEX[c & 0xF]);
+                    } else {
+                        i = out.putUtf8(value, i);
+                    }
+                }
+            }
+        }
+
+        out.put('"');
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.batch.sink;
+
+/**
+ * Encodes result records in a {@link ResultFormat}. Encoders are stateful and used by a single sink.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+abstract class ResultEncoder {
+
+    ResultEncoder() {
+        super();
+    }
+
+    /**
+     * Encodes what precedes the records, if anything.
+     *
+     * @param out destination
+     */
+    void encodeHeader(ByteSink out) {}
+
+    /**
+     * Encodes a record.
+     *
+     * @param index position of the input in the batch
+     * @param key key of the input; ignored if the sink has no key function
+     * @param hasKey true if the sink has a key function
+     * @param result result of the evaluation
+     * @param out destination
+     */
+    abstract void encode(long index, Object key, boolean hasKey, Object result, ByteSink out);
+}
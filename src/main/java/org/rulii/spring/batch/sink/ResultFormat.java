@@ -0,0 +1,51 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.batch.sink;
+
+/**
+ * Output formats of a {@link RuleResultSink}.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public enum ResultFormat {
+
+    /**
+     * One JSON object per line: {@code {"index":0,"key":"...","result":"PASS"}}. The key is only written if the sink
+     * has a key function.
+     */
+    JSON_LINES {
+        @Override
+        ResultEncoder newEncoder() {
+            return new JsonLinesResultEncoder();
+        }
+    },
+
+    /**
+     * Compact tagged binary records (varint encoded), read back with {@link RuleResultReader}.
+     */
+    BINARY {
+        @Override
+        ResultEncoder newEncoder() {
+            return new BinaryResultEncoder();
+        }
+    };
+
+    abstract ResultEncoder newEncoder();
+}
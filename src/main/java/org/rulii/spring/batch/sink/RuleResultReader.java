@@ -0,0 +1,181 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.batch.sink;
+
+import org.rulii.model.UnrulyException;
+import org.rulii.rule.RuleExecutionStatus;
+import org.rulii.spring.batch.BatchResultConsumer;
+import org.springframework.util.Assert;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads the records written by a {@link RuleResultSink} in the {@link ResultFormat#BINARY} format (gzip compressed or
+ * not). Statuses are read back as {@link RuleExecutionStatus}, RuleResults as {@link RecordedRuleResult}, integral
+ * numbers as Long, enums as their name and collections as Lists.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public final class RuleResultReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * RuleResult read back from a binary result stream.
+     *
+     * @param ruleName name of the Rule (may be null)
+     * @param status execution status
+     */
+    public record RecordedRuleResult(String ruleName, RuleExecutionStatus status) {}
+
+    private RuleResultReader() {
+        super();
+    }
+
+    /**
+     * Reads all the records of a binary result file.
+     *
+     * @param file result file
+     * @param consumer receives the index, key (null if none was written) and result of each record
+     * @return number of records read
+     */
+    public static long read(Path file, BatchResultConsumer<Object, Object> consumer) {
+        Assert.notNull(file, "file cannot be null.");
+
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in, consumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read [" + file + "]", e);
+        }
+    }
+
+    /**
+     * Reads all the records of a binary result stream. The stream is not closed.
+     *
+     * @param in result stream
+     * @param consumer receives the index, key (null if none was written) and result of each record
+     * @return number of records read
+     * @throws IOException if the stream cannot be read
+     */
+    public static long read(InputStream in, BatchResultConsumer<Object, Object> consumer) throws IOException {
+        Assert.notNull(in, "in cannot be null.");
+        Assert.notNull(consumer, "consumer cannot be null.");
+        InputStream input = new BufferedInputStream(in, BUFFER_SIZE);
+
+        // Gzip magic number
+        input.mark(2);
+        boolean compressed = input.read() == 0x1F && input.read() == 0x8B;
+        input.reset();
+        if (compressed) input = new BufferedInputStream(new GZIPInputStream(input, BUFFER_SIZE), BUFFER_SIZE);
+
+        for (byte b : BinaryResultEncoder.HEADER) {
+            if (input.read() != b) throw new UnrulyException("Not a binary rule result stream.");
+        }
+
+        long index = -1;
+        long result = 0;
+
+        while (true) {
+            int first = input.read();
+            if (first < 0) return result;
+            long delta = readVarLong(input, first);
+            index += (delta >>> 1) ^ -(delta & 1);
+            Object key = readValue(input);
+            consumer.accept(index, key, readValue(input));
+            result++;
+        }
+    }
+
+    private static Object readValue(InputStream input) throws IOException {
+        int tag = readByte(input);
+
+        return switch (tag) {
+            case BinaryResultEncoder.NULL -> null;
+            case BinaryResultEncoder.FALSE -> Boolean.FALSE;
+            case BinaryResultEncoder.TRUE -> Boolean.TRUE;
+            case BinaryResultEncoder.STATUS -> readStatus(input);
+            case BinaryResultEncoder.RULE_RESULT -> new RecordedRuleResult((String) readValue(input), (RuleExecutionStatus) readValue(input));
+            case BinaryResultEncoder.LONG -> {
+                long value = readVarLong(input, readByte(input));
+                yield (value >>> 1) ^ -(value & 1);
+            }
+            case BinaryResultEncoder.DOUBLE -> {
+                long bits = 0;
+                for (int i = 0; i < 8; i++) bits |= (long) readByte(input) << (i * 8);
+                yield Double.longBitsToDouble(bits);
+            }
+            case BinaryResultEncoder.STRING, BinaryResultEncoder.ENUM -> readString(input);
+            case BinaryResultEncoder.LIST -> {
+                int size = Math.toIntExact(readVarLong(input, readByte(input)));
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) list.add(readValue(input));
+                yield list;
+            }
+            default -> throw new UnrulyException("Unknown value tag [" + tag + "] in binary rule result stream.");
+        };
+    }
+
+    private static RuleExecutionStatus readStatus(InputStream input) throws IOException {
+        String name = readString(input);
+
+        try {
+            return RuleExecutionStatus.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            throw new UnrulyException("Unknown status [" + name + "] in binary rule result stream.");
+        }
+    }
+
+    private static String readString(InputStream input) throws IOException {
+        int length = Math.toIntExact(readVarLong(input, readByte(input)));
+        byte[] bytes = input.readNBytes(length);
+        if (bytes.length != length) throw new EOFException("Truncated binary rule result stream.");
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long readVarLong(InputStream input, int first) throws IOException {
+        long result = first & 0x7F;
+        int shift = 7;
+        int b = first;
+
+        while ((b & 0x80) != 0) {
+            b = readByte(input);
+            result |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        }
+
+        return result;
+    }
+
+    private static int readByte(InputStream input) throws IOException {
+        int result = input.read();
+        if (result < 0) throw new EOFException("Truncated binary rule result stream.");
+        return result;
+    }
+}
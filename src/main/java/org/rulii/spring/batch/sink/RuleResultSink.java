@@ -0,0 +1,293 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.batch.sink;
+
+import org.rulii.spring.batch.BatchResultConsumer;
+import org.springframework.util.Assert;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams the results of a batch evaluation to a file (or any channel) as JSON lines or compact binary records. Each
+ * result is encoded into a reused byte array and appended to a large direct buffer that is written with a single
+ * channel write when it fills up, so the cost of a write is shared by thousands of results. The output can optionally
+ * be gzip compressed.
+ * <p>
+ * A sink is a {@link BatchResultConsumer} and can be handed straight to the BatchRuleEvaluator or the
+ * FileRuleEvaluator:
+ * <pre>
+ * try (RuleResultSink&lt;Object&gt; sink = RuleResultSink.builder(path).format(ResultFormat.BINARY).build()) {
+ *     evaluator.evaluate(ruleSet, layout, inputs, mapper, true, sink);
+ * }
+ * </pre>
+ * Results are only guaranteed to be written once the sink is flushed or closed.
+ *
+ * @param <I> input type
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RuleResultSink<I> implements BatchResultConsumer<I, Object>, Flushable, Closeable {
+
+    public static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+
+    private final WritableByteChannel channel;
+    private final GZIPOutputStream compressor;
+    private final ResultFormat format;
+    private final ResultEncoder encoder;
+    private final Function<? super I, ?> key;
+    private final ByteBuffer buffer;
+    private final ByteSink record = new ByteSink(256);
+    private long count = 0;
+    private boolean closed = false;
+
+    private RuleResultSink(WritableByteChannel channel, GZIPOutputStream compressor, ResultFormat format,
+                           Function<? super I, ?> key, int bufferSize) {
+        super();
+        this.channel = channel;
+        this.compressor = compressor;
+        this.format = format;
+        this.encoder = format.newEncoder();
+        this.key = key;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        encoder.encodeHeader(record);
+        append();
+    }
+
+    /**
+     * Creates a builder of a sink that writes to the given file (created or truncated).
+     *
+     * @param file output file
+     * @param <I> input type
+     * @return a new builder
+     */
+    public static <I> Builder<I> builder(Path file) {
+        Assert.notNull(file, "file cannot be null.");
+        return new Builder<>(file, null);
+    }
+
+    /**
+     * Creates a builder of a sink that writes to the given channel. The channel is closed along with the sink.
+     *
+     * @param channel output channel
+     * @param <I> input type
+     * @return a new builder
+     */
+    public static <I> Builder<I> builder(WritableByteChannel channel) {
+        Assert.notNull(channel, "channel cannot be null.");
+        return new Builder<>(null, channel);
+    }
+
+    @Override
+    public synchronized void accept(long index, I input, Object result) {
+        Assert.state(!closed, "RuleResultSink is closed.");
+        encoder.encode(index, key != null ? key.apply(input) : null, key != null, result, record);
+        append();
+        count++;
+    }
+
+    /**
+     * Writes the buffered results (and flushes the compressor, if any).
+     */
+    @Override
+    public synchronized void flush() {
+        if (closed) return;
+
+        try {
+            drain();
+            if (compressor != null) compressor.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write rule results.", e);
+        }
+    }
+
+    /**
+     * Writes the buffered results and closes the output.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        this.closed = true;
+
+        try (channel) {
+            drain();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write rule results.", e);
+        }
+    }
+
+    /**
+     * Moves the encoded record into the buffer, writing the buffer out whenever it fills up.
+     */
+    private void append() {
+        try {
+            int offset = 0;
+
+            while (offset < record.size()) {
+                if (!buffer.hasRemaining()) drain();
+                offset = record.copyTo(buffer, offset);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write rule results.", e);
+        } finally {
+            record.reset();
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) channel.write(buffer);
+        buffer.clear();
+    }
+
+    /**
+     * Number of results accepted so far.
+     *
+     * @return result count
+     */
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public ResultFormat getFormat() {
+        return format;
+    }
+
+    public boolean isCompressed() {
+        return compressor != null;
+    }
+
+    @Override
+    public String toString() {
+        return "RuleResultSink{" +
+                "format=" + format +
+                ", compressed=" + isCompressed() +
+                ", count=" + count +
+                '}';
+    }
+
+    /**
+     * Builder for RuleResultSink.
+     *
+     * @param <I> input type
+     */
+    public static final class Builder<I> {
+
+        private final Path file;
+        private final WritableByteChannel channel;
+        private ResultFormat format = ResultFormat.JSON_LINES;
+        private boolean compressed = false;
+        private int bufferSize = DEFAULT_BUFFER_SIZE;
+        private Function<? super I, ?> key;
+
+        private Builder(Path file, WritableByteChannel channel) {
+            super();
+            this.file = file;
+            this.channel = channel;
+        }
+
+        /**
+         * Sets the output format (JSON lines by default).
+         *
+         * @param format output format
+         * @return this for fluency
+         */
+        public Builder<I> format(ResultFormat format) {
+            Assert.notNull(format, "format cannot be null.");
+            this.format = format;
+            return this;
+        }
+
+        /**
+         * Gzip compresses the output.
+         *
+         * @param compressed true to compress
+         * @return this for fluency
+         */
+        public Builder<I> compressed(boolean compressed) {
+            this.compressed = compressed;
+            return this;
+        }
+
+        /**
+         * Sets the size of the output buffer, ie. how many bytes are written at a time.
+         *
+         * @param bufferSize buffer size in bytes
+         * @return this for fluency
+         */
+        public Builder<I> bufferSize(int bufferSize) {
+            Assert.isTrue(bufferSize > 0, "bufferSize must be > 0.");
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * Writes a key derived from each input (for example an id) along with its result.
+         *
+         * @param key derives the key of an input
+         * @return this for fluency
+         */
+        public Builder<I> key(Function<? super I, ?> key) {
+            this.key = key;
+            return this;
+        }
+
+        /**
+         * Opens the output and builds the sink.
+         *
+         * @return a new RuleResultSink
+         */
+        public RuleResultSink<I> build() {
+            WritableByteChannel output = channel;
+
+            try {
+                if (output == null) output = FileChannel.open(file, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                if (!compressed) return new RuleResultSink<>(output, null, format, key, bufferSize);
+
+                GZIPOutputStream compressor = new GZIPOutputStream(Channels.newOutputStream(output), bufferSize, true);
+                return new RuleResultSink<>(Channels.newChannel(compressor), compressor, format, key, bufferSize);
+            } catch (IOException e) {
+                closeQuietly(output);
+                throw new UncheckedIOException("Unable to open [" + (file != null ? file : output) + "]", e);
+            }
+        }
+
+        private static void closeQuietly(WritableByteChannel output) {
+            if (output == null) return;
+
+            try {
+                output.close();
+            } catch (IOException e) {
+                // Already failing
+            }
+        }
+    }
+}
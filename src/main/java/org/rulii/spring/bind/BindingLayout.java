@@ -0,0 +1,175 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.bind;
+
+import org.rulii.model.UnrulyException;
+import org.springframework.util.Assert;
+
+import java.lang.reflect.Type;
+import java.util.*;
+
+/**
+ * Fixed, ordered set of binding names and types. A layout is computed once (for example per batch job) and then used
+ * to create any number of {@link BindingSlots}; every slot set exposes the same Bindings structure, so only the values
+ * change from one evaluation to the next.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public final class BindingLayout {
+
+    private final String[] names;
+    private final Type[] types;
+    private final Map<String, Integer> indexes;
+
+    private BindingLayout(List<String> names, List<Type> types) {
+        super();
+        this.names = names.toArray(new String[0]);
+        this.types = types.toArray(new Type[0]);
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < this.names.length; i++) indexes.put(this.names[i], i);
+        this.indexes = Collections.unmodifiableMap(indexes);
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return a new BindingLayout builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a new set of slots for this layout.
+     *
+     * @return new slots; all values are initially null
+     */
+    public BindingSlots newSlots() {
+        return new BindingSlots(this);
+    }
+
+    /**
+     * Creates a new set of typed (primitive-specialized) values for this layout.
+     *
+     * @return new values; primitives are initially zero/false and references null
+     */
+    public PrimitiveBindings newPrimitiveBindings() {
+        return new PrimitiveBindings(this);
+    }
+
+    /**
+     * Number of bindings in this layout.
+     *
+     * @return binding count
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Retrieves the index of the given binding.
+     *
+     * @param name binding name
+     * @return index of the binding or -1 if it is not part of this layout
+     */
+    public int indexOf(String name) {
+        Integer result = indexes.get(name);
+        return result != null ? result : -1;
+    }
+
+    /**
+     * Retrieves the name of the binding at the given index.
+     *
+     * @param index binding index
+     * @return binding name
+     */
+    public String getName(int index) {
+        return names[index];
+    }
+
+    /**
+     * Retrieves the type of the binding at the given index.
+     *
+     * @param index binding index
+     * @return binding type
+     */
+    public Type getType(int index) {
+        return types[index];
+    }
+
+    /**
+     * Retrieves the binding names in layout order.
+     *
+     * @return binding names
+     */
+    public List<String> getNames() {
+        return List.of(names);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("BindingLayout{");
+
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) result.append(", ");
+            result.append(names[i]).append(':').append(types[i].getTypeName());
+        }
+
+        return result.append('}').toString();
+    }
+
+    /**
+     * Builder for BindingLayout.
+     */
+    public static final class Builder {
+
+        private final List<String> names = new ArrayList<>();
+        private final List<Type> types = new ArrayList<>();
+
+        private Builder() {
+            super();
+        }
+
+        /**
+         * Adds a binding to the layout.
+         *
+         * @param name binding name
+         * @param type binding type
+         * @return this for fluency
+         */
+        public Builder add(String name, Type type) {
+            Assert.hasText(name, "name cannot be empty.");
+            Assert.notNull(type, "type cannot be null.");
+            if (names.contains(name)) throw new UnrulyException("Binding [" + name + "] is already part of the layout.");
+            names.add(name);
+            types.add(type);
+            return this;
+        }
+
+        /**
+         * Builds the layout.
+         *
+         * @return a new BindingLayout
+         */
+        public BindingLayout build() {
+            return new BindingLayout(names, types);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.bind;
+
+import org.rulii.bind.Binding;
+import org.rulii.bind.Bindings;
+import org.rulii.model.UnrulyException;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Reusable set of binding values for a {@link BindingLayout}. The Bindings are built once and delegate to an array of
+ * slots, so that moving on to the next input only overwrites the slot values; no Bindings, Binding or map entries are
+ * allocated per evaluation. The values can also be read on demand from a source (see {@link #setSource(IntFunction)}).
+ * The Bindings are registered with {@link StableBindings}. Instances are not thread safe; use one per worker.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public final class BindingSlots {
+
+    private final BindingLayout layout;
+    private final Object[] values;
+    private final Bindings bindings;
+    private IntFunction<Object> source;
+
+    BindingSlots(BindingLayout layout) {
+        super();
+        this.layout = layout;
+        this.values = new Object[layout.size()];
+        Bindings bindings = Bindings.builder().standard();
+
+        for (int i = 0; i < values.length; i++) {
+            final int index = i;
+            Supplier<Object> getter = () -> get(index);
+            bindings.bind(Binding.builder().with(layout.getName(i))
+                    .type(layout.getType(i))
+                    .delegate(getter, null)
+                    .editable(false)
+                    .build());
+        }
+
+        this.bindings = StableBindings.register(bindings);
+    }
+
+    /**
+     * Sets the value of the binding at the given index.
+     *
+     * @param index binding index
+     * @param value new value
+     */
+    public void set(int index, Object value) {
+        values[index] = value;
+    }
+
+    /**
+     * Sets the value of the given binding.
+     *
+     * @param name binding name
+     * @param value new value
+     */
+    public void set(String name, Object value) {
+        int index = layout.indexOf(name);
+        if (index < 0) throw new UnrulyException("Binding [" + name + "] is not part of " + layout);
+        values[index] = value;
+    }
+
+    /**
+     * Retrieves the value of the binding at the given index.
+     *
+     * @param index binding index
+     * @return current value
+     */
+    public Object get(int index) {
+        return source != null ? source.apply(index) : values[index];
+    }
+
+    /**
+     * Reads the binding values from the given source instead of the slots until {@link #clear()} is called. Lets an
+     * input that decodes its values lazily (e.g. a record of a mapped file) be bound without copying every value.
+     *
+     * @param source returns the value of the binding at the given index
+     */
+    public void setSource(IntFunction<Object> source) {
+        this.source = source;
+    }
+
+    /**
+     * Clears all the values (and the source) so that no references to the previous input are retained.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        this.source = null;
+    }
+
+    /**
+     * Retrieves the Bindings backed by these slots.
+     *
+     * @return Bindings view
+     */
+    public Bindings getBindings() {
+        return bindings;
+    }
+
+    /**
+     * Retrieves the layout of these slots.
+     *
+     * @return layout
+     */
+    public BindingLayout getLayout() {
+        return layout;
+    }
+
+    @Override
+    public String toString() {
+        return "BindingSlots{" +
+                "layout=" + layout +
+                '}';
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.bind;
+
+import org.rulii.bind.Binding;
+import org.rulii.bind.Bindings;
+import org.rulii.model.UnrulyException;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Binding values for a {@link BindingLayout} held in flat, typed arrays. Bindings declared with a primitive type
+ * (int, long, double or boolean, e.g. {@code add("score", int.class)}) are stored unboxed; all other bindings are
+ * stored as references. Setting and reading primitive values through the typed accessors never allocates.
+ * <p>
+ * {@link #getBindings()} exposes the values as regular Bindings (registered with {@link StableBindings}) so that any
+ * Rule can run against them with the configured RuleContextOptions and ParameterResolver; that view boxes primitive
+ * values when they are read. Rules compiled with {@link org.rulii.spring.invoke.CompiledRule} read them unboxed
+ * instead. Instances are not thread safe; use one per worker.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public final class PrimitiveBindings {
+
+    private static final byte REFERENCE = 0;
+    private static final byte INT = 1;
+    private static final byte LONG = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte BOOLEAN = 4;
+
+    private static final MethodHandle INTS;
+    private static final MethodHandle LONGS;
+    private static final MethodHandle DOUBLES;
+    private static final MethodHandle BOOLEANS;
+    private static final MethodHandle REFERENCES;
+    private static final MethodHandle BINDINGS;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            INTS = lookup.findGetter(PrimitiveBindings.class, "ints", int[].class);
+            LONGS = lookup.findGetter(PrimitiveBindings.class, "longs", long[].class);
+            DOUBLES = lookup.findGetter(PrimitiveBindings.class, "doubles", double[].class);
+            BOOLEANS = lookup.findGetter(PrimitiveBindings.class, "booleans", boolean[].class);
+            REFERENCES = lookup.findGetter(PrimitiveBindings.class, "references", Object[].class);
+            BINDINGS = lookup.findVirtual(PrimitiveBindings.class, "getBindings", MethodType.methodType(Bindings.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final BindingLayout layout;
+    private final byte[] kinds;
+    private final int[] offsets;
+    private final int[] ints;
+    private final long[] longs;
+    private final double[] doubles;
+    private final boolean[] booleans;
+    private final Object[] references;
+    private final Bindings bindings;
+
+    PrimitiveBindings(BindingLayout layout) {
+        super();
+        this.layout = layout;
+        this.kinds = kinds(layout);
+        this.offsets = offsets(kinds);
+        this.ints = new int[count(kinds, INT)];
+        this.longs = new long[count(kinds, LONG)];
+        this.doubles = new double[count(kinds, DOUBLE)];
+        this.booleans = new boolean[count(kinds, BOOLEAN)];
+        this.references = new Object[count(kinds, REFERENCE)];
+        Bindings bindings = Bindings.builder().standard();
+
+        for (int i = 0; i < kinds.length; i++) {
+            final int index = i;
+            Supplier<Object> getter = () -> get(index);
+            // The view exposes primitive slots with their wrapper type
+            Class<?> type = ResolvableType.forType(layout.getType(i)).resolve(Object.class);
+            bindings.bind(Binding.builder().with(layout.getName(i))
+                    .type(kinds[i] == REFERENCE ? layout.getType(i) : ClassUtils.resolvePrimitiveIfNecessary(type))
+                    .delegate(getter, null)
+                    .editable(false)
+                    .build());
+        }
+
+        this.bindings = StableBindings.register(bindings);
+    }
+
+    public int getInt(int index) {
+        return ints[offset(index, INT)];
+    }
+
+    public void setInt(int index, int value) {
+        ints[offset(index, INT)] = value;
+    }
+
+    public long getLong(int index) {
+        return longs[offset(index, LONG)];
+    }
+
+    public void setLong(int index, long value) {
+        longs[offset(index, LONG)] = value;
+    }
+
+    public double getDouble(int index) {
+        return doubles[offset(index, DOUBLE)];
+    }
+
+    public void setDouble(int index, double value) {
+        doubles[offset(index, DOUBLE)] = value;
+    }
+
+    public boolean getBoolean(int index) {
+        return booleans[offset(index, BOOLEAN)];
+    }
+
+    public void setBoolean(int index, boolean value) {
+        booleans[offset(index, BOOLEAN)] = value;
+    }
+
+    /**
+     * Retrieves the value of the binding at the given index, boxing primitive values.
+     *
+     * @param index binding index
+     * @return current value
+     */
+    public Object get(int index) {
+        int offset = offsets[index];
+
+        return switch (kinds[index]) {
+            case INT -> ints[offset];
+            case LONG -> longs[offset];
+            case DOUBLE -> doubles[offset];
+            case BOOLEAN -> booleans[offset];
+            default -> references[offset];
+        };
+    }
+
+    /**
+     * Sets the value of the binding at the given index, unboxing it for primitive bindings.
+     *
+     * @param index binding index
+     * @param value new value; primitive bindings do not accept null
+     */
+    public void set(int index, Object value) {
+        int offset = offsets[index];
+        if (kinds[index] != REFERENCE && value == null) throw new UnrulyException("Binding [" + layout.getName(index)
+                + "] is primitive and cannot be set to null.");
+
+        switch (kinds[index]) {
+            case INT -> ints[offset] = ((Number) value).intValue();
+            case LONG -> longs[offset] = ((Number) value).longValue();
+            case DOUBLE -> doubles[offset] = ((Number) value).doubleValue();
+            case BOOLEAN -> booleans[offset] = (Boolean) value;
+            default -> references[offset] = value;
+        }
+    }
+
+    /**
+     * Sets the value of the given binding.
+     *
+     * @param name binding name
+     * @param value new value
+     */
+    public void set(String name, Object value) {
+        int index = layout.indexOf(name);
+        if (index < 0) throw new UnrulyException("Binding [" + name + "] is not part of " + layout);
+        set(index, value);
+    }
+
+    /**
+     * Resets all the values (primitives to zero/false, references to null).
+     */
+    public void clear() {
+        Arrays.fill(ints, 0);
+        Arrays.fill(longs, 0L);
+        Arrays.fill(doubles, 0.0d);
+        Arrays.fill(booleans, false);
+        Arrays.fill(references, null);
+    }
+
+    /**
+     * Determines whether the binding at the given index is stored unboxed.
+     *
+     * @param index binding index
+     * @return true for int, long, double and boolean bindings
+     */
+    public boolean isPrimitive(int index) {
+        return kinds[index] != REFERENCE;
+    }
+
+    /**
+     * Retrieves the boxed Bindings view of these values.
+     *
+     * @return Bindings view
+     */
+    public Bindings getBindings() {
+        return bindings;
+    }
+
+    public BindingLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Creates a MethodHandle that reads a binding of the layout straight from the arrays of a PrimitiveBindings
+     * instance: {@code (PrimitiveBindings)int} for an int binding, {@code (PrimitiveBindings)Object} for a reference
+     * binding and so on.
+     *
+     * @param layout binding layout
+     * @param index binding index
+     * @return getter
+     */
+    public static MethodHandle getter(BindingLayout layout, int index) {
+        byte[] kinds = kinds(layout);
+        int offset = offsets(kinds)[index];
+
+        MethodHandle array = switch (kinds[index]) {
+            case INT -> INTS;
+            case LONG -> LONGS;
+            case DOUBLE -> DOUBLES;
+            case BOOLEAN -> BOOLEANS;
+            default -> REFERENCES;
+        };
+
+        MethodHandle element = MethodHandles.insertArguments(
+                MethodHandles.arrayElementGetter(array.type().returnType()), 1, offset);
+        return MethodHandles.filterArguments(element, 0, array);
+    }
+
+    /**
+     * Creates a MethodHandle returning the Bindings view: {@code (PrimitiveBindings)Bindings}.
+     *
+     * @return getter
+     */
+    public static MethodHandle bindingsGetter() {
+        return BINDINGS;
+    }
+
+    private int offset(int index, byte kind) {
+        if (kinds[index] != kind) throw new UnrulyException("Binding [" + layout.getName(index) + "] is of type ["
+                + layout.getType(index).getTypeName() + "]");
+        return offsets[index];
+    }
+
+    private static byte[] kinds(BindingLayout layout) {
+        byte[] result = new byte[layout.size()];
+
+        for (int i = 0; i < result.length; i++) {
+            Type type = layout.getType(i);
+            if (type == int.class) result[i] = INT;
+            else if (type == long.class) result[i] = LONG;
+            else if (type == double.class) result[i] = DOUBLE;
+            else if (type == boolean.class) result[i] = BOOLEAN;
+            else result[i] = REFERENCE;
+        }
+
+        return result;
+    }
+
+    /**
+     * Position of every binding within the array of its kind.
+     */
+    private static int[] offsets(byte[] kinds) {
+        int[] counts = new int[BOOLEAN + 1];
+        int[] result = new int[kinds.length];
+        for (int i = 0; i < kinds.length; i++) result[i] = counts[kinds[i]]++;
+        return result;
+    }
+
+    private static int count(byte[] kinds, byte kind) {
+        int result = 0;
+        for (byte k : kinds) if (k == kind) result++;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "PrimitiveBindings{" +
+                "layout=" + layout +
+                '}';
+    }
+}
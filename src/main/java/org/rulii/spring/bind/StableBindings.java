@@ -0,0 +1,210 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.bind;
+
+import org.rulii.bind.Bindings;
+import org.springframework.util.Assert;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of Bindings whose set of Binding objects is not expected to change after they are built (such as the
+ * Bindings behind {@link BindingSlots}). Only the values of such Bindings change, so anything derived from their
+ * structure (for example which Binding a parameter matches) can be computed once and attached to them. Bindings are
+ * held weakly and compared by identity; attachments go away with the Bindings.
+ * <p>
+ * Registering Bindings returns a view of them that tracks structural changes: every call that may add, remove or
+ * replace a Binding (bind, remove, clear...) moves the view to a new structure version and drops its attachments.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public final class StableBindings {
+
+    private static final String[] STRUCTURAL_PREFIXES = {"bind", "remove", "clear", "add", "put", "replace"};
+    private static final Map<IdentityReference, Registration> REGISTRATIONS = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<Bindings> QUEUE = new ReferenceQueue<>();
+
+    private StableBindings() {
+        super();
+    }
+
+    /**
+     * Registers Bindings whose structure is not expected to change. Binding values may still change. The returned
+     * view must be used in place of the given Bindings; changes made to the given Bindings directly are not tracked.
+     *
+     * @param bindings layout-stable Bindings
+     * @return view of the Bindings that tracks structural changes
+     */
+    public static Bindings register(Bindings bindings) {
+        Assert.notNull(bindings, "bindings cannot be null.");
+        expunge();
+        Registration registration = new Registration();
+        Bindings result = (Bindings) Proxy.newProxyInstance(Bindings.class.getClassLoader(),
+                new Class<?>[] {Bindings.class}, new StructureTracker(bindings, registration));
+        REGISTRATIONS.put(new IdentityReference(result, QUEUE), registration);
+        return result;
+    }
+
+    /**
+     * Determines whether the given Bindings have been registered as layout-stable.
+     *
+     * @param bindings Bindings to check
+     * @return true if the Bindings are layout-stable
+     */
+    public static boolean isStable(Bindings bindings) {
+        return getRegistration(bindings) != null;
+    }
+
+    /**
+     * Retrieves the attachments of the given Bindings. Attachments are dropped whenever the structure changes.
+     *
+     * @param bindings Bindings
+     * @return attachments; null if the Bindings are not layout-stable
+     */
+    public static ConcurrentMap<Object, Object> getAttachments(Bindings bindings) {
+        Registration registration = getRegistration(bindings);
+        return registration != null ? registration.attachments : null;
+    }
+
+    /**
+     * Retrieves the structure version of the given Bindings. The version changes with every call that may have
+     * changed the set of Binding objects, so anything derived from the structure should be keyed by it.
+     *
+     * @param bindings Bindings
+     * @return structure version; -1 if the Bindings are not layout-stable
+     */
+    public static long getVersion(Bindings bindings) {
+        Registration registration = getRegistration(bindings);
+        return registration != null ? registration.version : -1;
+    }
+
+    /**
+     * Retrieves the number of registered Bindings that are still reachable.
+     *
+     * @return registered count
+     */
+    static int size() {
+        expunge();
+        return REGISTRATIONS.size();
+    }
+
+    private static Registration getRegistration(Bindings bindings) {
+        if (bindings == null) return null;
+        return REGISTRATIONS.get(new IdentityReference(bindings, null));
+    }
+
+    private static void expunge() {
+        Reference<? extends Bindings> reference;
+        while ((reference = QUEUE.poll()) != null) REGISTRATIONS.remove(reference);
+    }
+
+    private static boolean isStructural(Method method) {
+        for (String prefix : STRUCTURAL_PREFIXES) {
+            if (method.getName().startsWith(prefix)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Structure version and attachments of registered Bindings.
+     */
+    private static final class Registration {
+
+        private final ConcurrentMap<Object, Object> attachments = new ConcurrentHashMap<>();
+        private volatile long version;
+
+        synchronized void changed() {
+            // Bump first so that anything computed against the old structure can no longer be found
+            version++;
+            attachments.clear();
+        }
+    }
+
+    /**
+     * Forwards every call to the registered Bindings and bumps the structure version after calls that may have added,
+     * removed or replaced a Binding. Does not hold on to the view, so the view stays weakly reachable.
+     */
+    private static final class StructureTracker implements InvocationHandler {
+
+        private final Bindings target;
+        private final Registration registration;
+
+        StructureTracker(Bindings target, Registration registration) {
+            super();
+            this.target = target;
+            this.registration = registration;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> target.toString();
+                };
+            }
+
+            boolean structural = isStructural(method);
+
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            } finally {
+                if (structural) registration.changed();
+            }
+        }
+    }
+    /**
+     * Weak reference that keeps the identity hash of its referent so that it can still be removed once cleared.
+     */
+    private static final class IdentityReference extends WeakReference<Bindings> {
+
+        private final int hash;
+
+        IdentityReference(Bindings referent, ReferenceQueue<Bindings> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof IdentityReference other)) return false;
+            Bindings referent = get();
+            return referent != null && referent == other.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
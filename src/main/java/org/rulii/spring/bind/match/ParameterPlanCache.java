@@ -0,0 +1,217 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.bind.match;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.rulii.bind.Bindings;
+import org.rulii.bind.match.ParameterResolver;
+import org.rulii.spring.bind.StableBindings;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.util.Assert;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches the parameter resolution plans of a {@link ParameterResolver}. Matching parameters to bindings (by name,
+ * type, converter and default value) only depends on the method being called, the structure of the Bindings and the
+ * matching strategy, so for layout-stable Bindings (see {@link StableBindings}) the result of a match is computed
+ * once and reused on every following run. Binding values are still read on every call, because the plan holds the
+ * Binding objects and not their values. Calls against any other Bindings go straight to the resolver.
+ * <p>
+ * Plans are keyed by the identity of the other match arguments (method definition, strategy...) and by the structure
+ * version of the Bindings, so a binding added to or removed from the Bindings (e.g. by an action) invalidates their
+ * plans. At most
+ * {@link #MAX_PLANS} plans are kept per Bindings; the plans of Bindings that outgrow this are dropped and rebuilt.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public final class ParameterPlanCache implements MethodInterceptor {
+
+    /**
+     * Maximum number of plans kept per Bindings.
+     */
+    public static final int MAX_PLANS = 256;
+
+    private static final String MATCH_PREFIX = "match";
+    // Attachment key of the plans
+    private static final Object PLANS = ParameterPlanCache.class;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private ParameterPlanCache() {
+        super();
+    }
+
+    /**
+     * Wraps the given ParameterResolver with a plan cache.
+     *
+     * @param resolver resolver doing the actual matching
+     * @return caching ParameterResolver
+     */
+    public static ParameterResolver wrap(ParameterResolver resolver) {
+        Assert.notNull(resolver, "resolver cannot be null.");
+        ProxyFactory proxyFactory = new ProxyFactory(resolver);
+        proxyFactory.setInterfaces(ParameterResolver.class);
+        proxyFactory.addAdvice(new ParameterPlanCache());
+        return (ParameterResolver) proxyFactory.getProxy(resolver.getClass().getClassLoader());
+    }
+
+    /**
+     * Retrieves the plan cache behind a ParameterResolver created by {@link #wrap(ParameterResolver)}.
+     *
+     * @param resolver resolver to inspect
+     * @return the plan cache or null if the resolver does not cache plans
+     */
+    public static ParameterPlanCache getPlanCache(ParameterResolver resolver) {
+        if (!(resolver instanceof Advised advised)) return null;
+
+        for (Advisor advisor : advised.getAdvisors()) {
+            if (advisor.getAdvice() instanceof ParameterPlanCache result) return result;
+        }
+
+        return null;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (!method.getName().startsWith(MATCH_PREFIX) || method.getReturnType() == void.class) return invocation.proceed();
+
+        Object[] args = invocation.getArguments();
+        Bindings bindings = findBindings(args);
+        Map<Object, Object> attachments = bindings != null ? StableBindings.getAttachments(bindings) : null;
+        if (attachments == null) return invocation.proceed();
+
+        @SuppressWarnings("unchecked")
+        Map<PlanKey, Object> plans = (Map<PlanKey, Object>) attachments.computeIfAbsent(PLANS, k -> new ConcurrentHashMap<>());
+        PlanKey key = new PlanKey(method, args, StableBindings.getVersion(bindings));
+        Object result = plans.get(key);
+
+        if (result != null) {
+            hits.increment();
+            return result;
+        }
+
+        misses.increment();
+        result = invocation.proceed();
+
+        if (result != null) {
+            // Keys made of per-call objects would otherwise grow the plans of long-lived Bindings without bound
+            if (plans.size() >= MAX_PLANS) plans.clear();
+            plans.put(key, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Finds the Bindings passed to the match call.
+     *
+     * @param args match arguments
+     * @return the Bindings or null if there are none
+     */
+    private static Bindings findBindings(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof Bindings bindings) return bindings;
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves the number of match calls that were answered from the cache.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Retrieves the number of match calls against layout-stable Bindings that had to compute a plan.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "ParameterPlanCache{" +
+                "hits=" + hits.sum() +
+                ", misses=" + misses.sum() +
+                '}';
+    }
+
+    /**
+     * Identifies a plan by the match method, the identity of its arguments (method definition, strategy etc.) and the
+     * structure version of the Bindings. Plans are already stored per Bindings, so the Bindings are left out; keeping them in the key
+     * would also keep the weakly held Bindings reachable.
+     */
+    private static final class PlanKey {
+
+        private final Method method;
+        private final Object[] args;
+        private final long version;
+        private final int hash;
+
+        PlanKey(Method method, Object[] args, long version) {
+            super();
+            this.method = method;
+            this.args = new Object[args.length];
+            this.version = version;
+            for (int i = 0; i < args.length; i++) this.args[i] = args[i] instanceof Bindings ? null : args[i];
+            int result = 31 * method.hashCode() + Long.hashCode(version);
+            for (Object arg : this.args) result = 31 * result + System.identityHashCode(arg);
+            this.hash = result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof PlanKey other)) return false;
+            if (version != other.version || !method.equals(other.method) || args.length != other.args.length) return false;
+
+            for (int i = 0; i < args.length; i++) {
+                if (args[i] != other.args[i]) return false;
+            }
+
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return method.getName() + Arrays.toString(args) + "/" + version;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.cache;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.rulii.annotation.Given;
+import org.rulii.spring.annotation.CachedCondition;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.Assert;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Records the results of the {@link CachedCondition} methods of a rule object in the current {@link ConditionMemo}.
+ * Calls made outside an evaluation (no current ConditionMemo), or with arguments that are not immutable values, are
+ * passed straight through.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class CachedConditionInterceptor implements MethodInterceptor {
+
+    private final Map<Method, String> keys;
+
+    /**
+     * Creates a new CachedConditionInterceptor.
+     *
+     * @param keys cached condition methods and the keys their results are shared under
+     */
+    public CachedConditionInterceptor(Map<Method, String> keys) {
+        super();
+        Assert.notEmpty(keys, "keys cannot be empty.");
+        this.keys = Map.copyOf(keys);
+    }
+
+    /**
+     * Finds the cached condition methods of the given rule class.
+     *
+     * @param ruleClass rule class
+     * @return cached condition methods keyed to their shared keys; empty if there are none
+     */
+    public static Map<Method, String> findCachedConditions(Class<?> ruleClass) {
+        CachedCondition typeLevel = AnnotatedElementUtils.findMergedAnnotation(ruleClass, CachedCondition.class);
+        Map<Method, String> result = new HashMap<>();
+
+        for (Method method : ruleClass.getMethods()) {
+            if (!method.isAnnotationPresent(Given.class) || Modifier.isFinal(method.getModifiers())) continue;
+            CachedCondition annotation = method.getAnnotation(CachedCondition.class);
+            if (annotation == null) annotation = typeLevel;
+            if (annotation == null) continue;
+            result.put(method, annotation.value().isEmpty() ? method.toGenericString() : annotation.value());
+        }
+
+        return result;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String name = keys.get(invocation.getMethod());
+        ConditionMemo memo = name != null ? ConditionMemo.current() : null;
+        if (memo == null) return invocation.proceed();
+
+        Object[] args = invocation.getArguments();
+        for (Object arg : args) if (!ValueTypes.isValue(arg)) return invocation.proceed();
+
+        MemoKey key = new MemoKey(name, args.clone());
+        if (memo.contains(key)) return memo.get(key);
+
+        Object result = invocation.proceed();
+        memo.put(key, result);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "CachedConditionInterceptor{" +
+                "conditions=" + keys.values() +
+                '}';
+    }
+}
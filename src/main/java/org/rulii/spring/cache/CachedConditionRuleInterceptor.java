@@ -0,0 +1,64 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.cache;
+
+import org.rulii.context.RuleContext;
+import org.rulii.rule.RuleResult;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.rulii.spring.intercept.RuleInterceptor;
+import org.rulii.spring.intercept.RuleInvocation;
+import org.springframework.core.Ordered;
+
+/**
+ * Binds the {@link ConditionMemo} of the current evaluation around the runs of Rules that have
+ * {@link org.rulii.spring.annotation.CachedCondition} conditions. A Rule run outside of any evaluation gets a memo for
+ * that run only, so no memo outlives the evaluation it was created for.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class CachedConditionRuleInterceptor implements RuleInterceptor {
+
+    public CachedConditionRuleInterceptor() {
+        super();
+    }
+
+    @Override
+    public boolean supports(RuleDescriptor descriptor) {
+        return descriptor.ruleClass() != null && !CachedConditionInterceptor.findCachedConditions(descriptor.ruleClass()).isEmpty();
+    }
+
+    @Override
+    public RuleResult intercept(RuleDescriptor descriptor, RuleContext context, RuleInvocation invocation) {
+        // Already bound by the evaluation in progress (the executors propagate it to the threads they fork onto)
+        if (ConditionMemo.current() != null) return invocation.proceed(context);
+        return ConditionMemo.evaluate(context, () -> invocation.proceed(context));
+    }
+
+    @Override
+    public int getOrder() {
+        // Innermost, so that the memo is bound on the thread that runs the Rule (the timeout may switch threads)
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public String toString() {
+        return "CachedConditionRuleInterceptor{}";
+    }
+}
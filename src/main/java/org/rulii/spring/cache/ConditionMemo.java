@@ -0,0 +1,232 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.cache;
+
+import org.rulii.context.RuleContext;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Results of the {@link org.rulii.spring.annotation.CachedCondition} conditions computed during one evaluation. The
+ * Rulii executors (batch, parallel, dependency, deadline, reactive and RuleSetHolder) open a fresh memo per evaluation
+ * with {@link #evaluate(RuleContext, Supplier)} and drop it when the evaluation ends, so a memo never outlives its
+ * evaluation and contexts that are reused (e.g. pooled ones) start empty each time. While an evaluation is in progress
+ * its memo is bound to the current thread and registered for its RuleContext, so forked Rules find it from any
+ * thread; evaluations of other contexts (nested or concurrent) get their own.
+ * <p>
+ * A Rule bean with cached conditions run outside of any evaluation (a plain {@code rule.run(context)}) is an
+ * evaluation of its own (see {@link CachedConditionRuleInterceptor}); wrap several runs in
+ * {@link #evaluate(RuleContext, Supplier)} to share their results.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public final class ConditionMemo {
+
+    private static final ThreadLocal<ConditionMemo> CURRENT = new ThreadLocal<>();
+    // Weak keys: a context's memo goes away with the context
+    private static final Map<RuleContext, ConditionMemo> BY_CONTEXT = new ConcurrentReferenceHashMap<>(16,
+            ConcurrentReferenceHashMap.ReferenceType.WEAK);
+    private static final Object NULL = new Object();
+
+    // Created on first use; most evaluations never record a condition
+    private volatile Map<Object, Object> values;
+
+    /**
+     * Creates a new, empty ConditionMemo.
+     */
+    public ConditionMemo() {
+        super();
+    }
+
+    /**
+     * Retrieves the ConditionMemo of the evaluation of the given RuleContext that is in progress.
+     *
+     * @param context RuleContext
+     * @return the ConditionMemo of the evaluation or null if the context is not being evaluated
+     */
+    public static ConditionMemo active(RuleContext context) {
+        Assert.notNull(context, "context cannot be null.");
+        return BY_CONTEXT.get(context);
+    }
+
+    /**
+     * Retrieves the ConditionMemo bound to the current thread.
+     *
+     * @return current ConditionMemo or null if there is none
+     */
+    public static ConditionMemo current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs the given evaluation with a fresh ConditionMemo for the given RuleContext, bound to the context and to the
+     * current thread for the duration of the evaluation. An evaluation of the same context that is already in progress
+     * (e.g. a RuleSetHolder run inside a PooledRuleContext run) keeps its memo.
+     *
+     * @param context RuleContext being evaluated
+     * @param evaluation evaluation to run
+     * @param <T> result type
+     * @return result of the evaluation
+     */
+    public static <T> T evaluate(RuleContext context, Supplier<T> evaluation) {
+        Assert.notNull(context, "context cannot be null.");
+        ConditionMemo active = BY_CONTEXT.get(context);
+        if (active != null) return supplyWithin(active, evaluation);
+
+        ConditionMemo memo = new ConditionMemo();
+        BY_CONTEXT.put(context, memo);
+
+        try {
+            return supplyWithin(memo, evaluation);
+        } finally {
+            BY_CONTEXT.remove(context, memo);
+        }
+    }
+
+    /**
+     * Runs the given evaluation with a ConditionMemo bound to the current thread only, for code that does not have
+     * the RuleContext at hand. If the current thread already has one it is reused, otherwise a new one is bound for
+     * the duration of the evaluation. Rule beans with cached conditions still use the memo of their context.
+     *
+     * @param evaluation evaluation to run
+     * @param <T> result type
+     * @return result of the evaluation
+     */
+    public static <T> T evaluate(Supplier<T> evaluation) {
+        if (CURRENT.get() != null) return evaluation.get();
+        CURRENT.set(new ConditionMemo());
+
+        try {
+            return evaluation.get();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Runs the given task with the given ConditionMemo bound to the current thread. The previous ConditionMemo is
+     * restored afterward.
+     *
+     * @param memo ConditionMemo to bind (may be null)
+     * @param task task to run
+     * @param <T> result type
+     * @return result of the task
+     * @throws Exception if the task fails
+     */
+    public static <T> T callWithin(ConditionMemo memo, Callable<T> task) throws Exception {
+        ConditionMemo previous = CURRENT.get();
+        CURRENT.set(memo);
+
+        try {
+            return task.call();
+        } finally {
+            if (previous == null) CURRENT.remove(); else CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Runs the given supplier with the given ConditionMemo bound to the current thread, restoring the previous one
+     * afterward.
+     *
+     * @param memo ConditionMemo to bind
+     * @param supplier supplier to run
+     * @param <T> result type
+     * @return result of the supplier
+     */
+    static <T> T supplyWithin(ConditionMemo memo, Supplier<T> supplier) {
+        ConditionMemo previous = CURRENT.get();
+        if (previous == memo) return supplier.get();
+        CURRENT.set(memo);
+
+        try {
+            return supplier.get();
+        } finally {
+            if (previous == null) CURRENT.remove(); else CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Determines whether a result has been recorded for the given key.
+     *
+     * @param key condition key
+     * @return true if there is a result
+     */
+    boolean contains(Object key) {
+        Map<Object, Object> current = values;
+        return current != null && current.containsKey(key);
+    }
+
+    /**
+     * Retrieves the recorded result for the given key.
+     *
+     * @param key condition key
+     * @return the recorded result (may be null)
+     */
+    Object get(Object key) {
+        Map<Object, Object> current = values;
+        Object result = current != null ? current.get(key) : null;
+        return result == NULL ? null : result;
+    }
+
+    /**
+     * Records a condition result.
+     *
+     * @param key condition key
+     * @param value condition result
+     */
+    void put(Object key, Object value) {
+        getValues().put(key, value == null ? NULL : value);
+    }
+
+    private Map<Object, Object> getValues() {
+        Map<Object, Object> result = values;
+
+        if (result == null) {
+            synchronized (this) {
+                result = values;
+                if (result == null) values = result = new ConcurrentHashMap<>();
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Retrieves the number of recorded results.
+     *
+     * @return number of results
+     */
+    public int size() {
+        Map<Object, Object> current = values;
+        return current != null ? current.size() : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "ConditionMemo{" +
+                "size=" + size() +
+                '}';
+    }
+}
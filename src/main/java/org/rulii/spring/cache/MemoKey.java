@@ -0,0 +1,95 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.cache;
+
+import org.rulii.spring.intercept.RuleDescriptor;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Cache key for a memoized Rule run or condition call: its name and the values it was called with. Keys of Rules with
+ * a catalog id are hashed and compared by the id rather than the name.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public final class MemoKey {
+
+    private final int ruleId;
+    private final String ruleName;
+    private final Object[] values;
+    private final int hash;
+
+    /**
+     * Creates a new MemoKey.
+     *
+     * @param ruleName name of the Rule or condition
+     * @param values values of the inputs, in a fixed order
+     */
+    public MemoKey(String ruleName, Object[] values) {
+        this(RuleDescriptor.NO_ID, ruleName, values);
+    }
+
+    /**
+     * Creates a new MemoKey.
+     *
+     * @param ruleId catalog id of the Rule ({@link RuleDescriptor#NO_ID} if it has none)
+     * @param ruleName name of the Rule or condition
+     * @param values values of the inputs, in a fixed order
+     */
+    public MemoKey(int ruleId, String ruleName, Object[] values) {
+        super();
+        this.ruleId = ruleId;
+        this.ruleName = ruleName;
+        this.values = values;
+        this.hash = 31 * (ruleId != RuleDescriptor.NO_ID ? ruleId : ruleName.hashCode()) + Arrays.deepHashCode(values);
+    }
+
+    public int getRuleId() {
+        return ruleId;
+    }
+
+    public String getRuleName() {
+        return ruleName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MemoKey other)) return false;
+        return hash == other.hash && ruleId == other.ruleId
+                && (ruleId != RuleDescriptor.NO_ID || Objects.equals(ruleName, other.ruleName))
+                && Arrays.deepEquals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "MemoKey{" +
+                "ruleId=" + ruleId +
+                ", ruleName='" + ruleName + '\'' +
+                ", values=" + Arrays.toString(values) +
+                '}';
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.cache;
+
+import org.rulii.bind.Bindings;
+import org.rulii.context.RuleContext;
+import org.rulii.rule.RuleResult;
+import org.rulii.spring.annotation.Memoized;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.rulii.spring.intercept.RuleInterceptor;
+import org.rulii.spring.intercept.RuleInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves the results of {@link Memoized} Rules from a {@link RuleResultCache}, keyed by the values of the bindings
+ * the Rule reads. Only immutable values (Strings, primitives and their wrappers, enums, java.time types, records of
+ * values...) can be part of a key: Rules declaring a parameter of another type (e.g. RuleViolations) are not
+ * memoized, and if a binding is missing or holds a mutable value at runtime the Rule is run without caching.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class MemoizingRuleInterceptor implements RuleInterceptor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MemoizingRuleInterceptor.class);
+
+    private final RuleResultCache cache;
+
+    /**
+     * Creates a new MemoizingRuleInterceptor.
+     *
+     * @param cache cache holding the results
+     */
+    public MemoizingRuleInterceptor(RuleResultCache cache) {
+        super();
+        Assert.notNull(cache, "cache cannot be null.");
+        this.cache = cache;
+    }
+
+    @Override
+    public boolean supports(RuleDescriptor descriptor) {
+        if (descriptor.getAnnotation(Memoized.class) == null) return false;
+
+        if (!descriptor.isInputsKnown()) {
+            LOGGER.warn("Rule [" + descriptor.name() + "] is @Memoized but its inputs cannot be determined "
+                    + "(compile with -parameters and avoid RuleContext/Bindings parameters). Results will not be cached.");
+            return false;
+        }
+
+        for (Map.Entry<String, Class<?>> input : descriptor.getInputTypes().entrySet()) {
+            Class<?> type = input.getValue();
+            if (ValueTypes.isValueType(type)) continue;
+            // Interfaces and abstract types (Object, Number...) are checked against the actual value at runtime
+            if (!type.isArray() && (type.isInterface() || Modifier.isAbstract(type.getModifiers()) || type == Object.class)) continue;
+            LOGGER.warn("Rule [" + descriptor.name() + "] is @Memoized but its input [" + input.getKey()
+                    + "] is of type [" + type.getName() + "] which is not an immutable value. Results will not be cached.");
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public RuleResult intercept(RuleDescriptor descriptor, RuleContext context, RuleInvocation invocation) {
+        MemoKey key = createKey(descriptor, context.getBindings());
+        if (key == null) return invocation.proceed(context);
+
+        RuleResult result = cache.get(key);
+        if (result != null) return result;
+
+        result = invocation.proceed(context);
+        cache.put(key, result, getTtl(descriptor));
+        return result;
+    }
+
+    /**
+     * Creates the cache key from the current binding values.
+     *
+     * @return the key or null if one of the inputs is not bound or not an immutable value
+     */
+    private MemoKey createKey(RuleDescriptor descriptor, Bindings bindings) {
+        List<String> inputs = descriptor.inputs();
+        Object[] values = new Object[inputs.size()];
+
+        for (int i = 0; i < values.length; i++) {
+            String name = inputs.get(i);
+            if (!bindings.contains(name)) return null;
+            Object value = bindings.getValue(name);
+            if (!ValueTypes.isValue(value)) return null;
+            values[i] = value;
+        }
+
+        return new MemoKey(descriptor.id(), descriptor.name(), values);
+    }
+
+    private Duration getTtl(RuleDescriptor descriptor) {
+        Memoized memoized = descriptor.getAnnotation(Memoized.class);
+        return memoized.ttl() < 0 ? null : Duration.of(memoized.ttl(), memoized.unit().toChronoUnit());
+    }
+
+    public RuleResultCache getCache() {
+        return cache;
+    }
+
+    @Override
+    public String toString() {
+        return "MemoizingRuleInterceptor{" +
+                "cache=" + cache +
+                '}';
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.cache;
+
+import org.rulii.rule.RuleResult;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.rulii.spring.intercept.RuleIdTable;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, concurrent cache of Rule results with per-entry time to live. Lookups are a single ConcurrentHashMap read;
+ * expired entries are dropped when they are read and the oldest entries are evicted once the cache grows past its
+ * maximum size. The insertion order tracks entries, not keys, so a replaced or expired entry is never mistaken for the
+ * live one. Hits and misses are also counted per Rule, by catalog id.
+ * <p>
+ * Only cache results of Rules whose inputs are immutable values; a hit skips the Rule and any side effects it has on
+ * its inputs.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RuleResultCache {
+
+    private final int maxSize;
+    private final Duration defaultTtl;
+    private final Map<MemoKey, Entry> entries = new ConcurrentHashMap<>();
+    // Guarded by itself; only touched on writes
+    private final Deque<Entry> insertionOrder = new ArrayDeque<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final RuleIdTable<Counts> countsById = new RuleIdTable<>();
+    // Lookups of keys without a Rule id only count towards the totals
+    private final Counts unidentified = new Counts();
+
+    /**
+     * Creates a new RuleResultCache.
+     *
+     * @param maxSize maximum number of cached results
+     * @param defaultTtl time to live of entries that do not specify one
+     */
+    public RuleResultCache(int maxSize, Duration defaultTtl) {
+        super();
+        Assert.isTrue(maxSize > 0, "maxSize must be > 0.");
+        Assert.notNull(defaultTtl, "defaultTtl cannot be null.");
+        this.maxSize = maxSize;
+        this.defaultTtl = defaultTtl;
+    }
+
+    /**
+     * Retrieves a cached result.
+     *
+     * @param key cache key
+     * @return the cached result or null if there is no live entry
+     */
+    public RuleResult get(MemoKey key) {
+        Entry entry = entries.get(key);
+        Counts counts = getOrCreateCounts(key);
+
+        if (entry == null) {
+            misses.increment();
+            counts.misses.increment();
+            return null;
+        }
+
+        if (System.nanoTime() - entry.expiresAt >= 0) {
+            entries.remove(key, entry);
+            misses.increment();
+            counts.misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        counts.hits.increment();
+        return entry.result;
+    }
+
+    /**
+     * Caches a result.
+     *
+     * @param key cache key
+     * @param result result to cache
+     * @param ttl time to live; null for the default
+     */
+    public void put(MemoKey key, RuleResult result, Duration ttl) {
+        if (result == null) return;
+        Duration timeToLive = ttl != null ? ttl : defaultTtl;
+        Entry entry = new Entry(key, result, System.nanoTime() + timeToLive.toNanos());
+
+        synchronized (insertionOrder) {
+            entries.put(key, entry);
+            insertionOrder.offerLast(entry);
+            evict();
+        }
+    }
+
+    /**
+     * Removes all the cached results.
+     */
+    public void clear() {
+        synchronized (insertionOrder) {
+            entries.clear();
+            insertionOrder.clear();
+        }
+    }
+
+    /**
+     * Evicts the oldest entries until the cache is back within its maximum size. Queued entries that were replaced or
+     * expired in the meantime are skipped (removal is by identity), and they are purged once they outnumber the live
+     * ones so the queue stays bounded. Callers hold the insertionOrder lock.
+     */
+    private void evict() {
+        while (entries.size() > maxSize) {
+            Entry oldest = insertionOrder.pollFirst();
+            if (oldest == null) return;
+            if (entries.remove(oldest.key, oldest)) evictions.increment();
+        }
+
+        if (insertionOrder.size() > 2 * maxSize) {
+            insertionOrder.removeIf(e -> entries.get(e.key) != e);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Retrieves the ratio of lookups that were served from the cache.
+     *
+     * @return hit ratio between 0 and 1
+     */
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * Retrieves the number of lookups of the given Rule that were served from the cache.
+     *
+     * @param ruleId catalog id of the Rule
+     * @return hit count
+     */
+    public long getHitCount(int ruleId) {
+        Counts counts = countsById.get(ruleId);
+        return counts != null ? counts.hits.sum() : 0L;
+    }
+
+    /**
+     * Retrieves the number of lookups of the given Rule that were not served from the cache.
+     *
+     * @param ruleId catalog id of the Rule
+     * @return miss count
+     */
+    public long getMissCount(int ruleId) {
+        Counts counts = countsById.get(ruleId);
+        return counts != null ? counts.misses.sum() : 0L;
+    }
+
+    /**
+     * Retrieves the ratio of the lookups of the given Rule that were served from the cache.
+     *
+     * @param ruleId catalog id of the Rule
+     * @return hit ratio between 0 and 1
+     */
+    public double getHitRatio(int ruleId) {
+        long hitCount = getHitCount(ruleId);
+        long total = hitCount + getMissCount(ruleId);
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    private Counts getOrCreateCounts(MemoKey key) {
+        if (key.getRuleId() == RuleDescriptor.NO_ID) return unidentified;
+        Counts result = countsById.get(key.getRuleId());
+        return result != null ? result : countsById.computeIfAbsent(key.getRuleId(), id -> new Counts());
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public Duration getDefaultTtl() {
+        return defaultTtl;
+    }
+
+    @Override
+    public String toString() {
+        return "RuleResultCache{" +
+                "maxSize=" + maxSize +
+                ", defaultTtl=" + defaultTtl +
+                ", size=" + entries.size() +
+                ", hitRatio=" + getHitRatio() +
+                '}';
+    }
+
+    /**
+     * Hits and misses of one Rule.
+     */
+    private static final class Counts {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+    }
+
+    /**
+     * Cached result. Compared by identity so that stale queue entries never match the live one.
+     */
+    private static final class Entry {
+        private final MemoKey key;
+        private final RuleResult result;
+        private final long expiresAt;
+
+        private Entry(MemoKey key, RuleResult result, long expiresAt) {
+            super();
+            this.key = key;
+            this.result = result;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.cache;
+
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Decides which binding values may be part of a cache key. Only immutable values qualify: a hit skips the Rule, so a
+ * mutable input (a RuleViolations collector, a List...) would miss the side effects the Rule has on it.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+final class ValueTypes {
+
+    private static final Set<Class<?>> VALUE_TYPES = Set.of(String.class, Boolean.class, Character.class, Byte.class,
+            Short.class, Integer.class, Long.class, Float.class, Double.class, BigDecimal.class, BigInteger.class,
+            UUID.class, Currency.class, Locale.class, Class.class);
+
+    private static final ClassValue<Boolean> IS_VALUE_TYPE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return computeIsValueType(type, new HashSet<>());
+        }
+    };
+
+    private ValueTypes() {
+        super();
+    }
+
+    /**
+     * Determines whether the given value is immutable and can be part of a cache key.
+     *
+     * @param value binding value
+     * @return true for null and for values of an immutable type
+     */
+    static boolean isValue(Object value) {
+        return value == null || IS_VALUE_TYPE.get(value.getClass());
+    }
+
+    /**
+     * Determines whether the values of the given type are immutable.
+     *
+     * @param type value type
+     * @return true if the type is known to be immutable
+     */
+    static boolean isValueType(Class<?> type) {
+        return IS_VALUE_TYPE.get(type);
+    }
+
+    private static boolean computeIsValueType(Class<?> type, Set<Class<?>> visiting) {
+        if (type.isPrimitive() || type.isEnum() || VALUE_TYPES.contains(type)) return true;
+        // java.time types are immutable value classes
+        if (type.getName().startsWith("java.time.") && Modifier.isFinal(type.getModifiers())) return true;
+        // Records are values if all their components are (self references are not)
+        if (!type.isRecord() || !visiting.add(type)) return false;
+
+        for (RecordComponent component : type.getRecordComponents()) {
+            if (!computeIsValueType(component.getType(), visiting)) return false;
+        }
+
+        visiting.remove(type);
+        return true;
+    }
+}
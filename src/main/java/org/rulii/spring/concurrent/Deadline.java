@@ -0,0 +1,155 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.concurrent;
+
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Point in time by which a rule evaluation must complete. The current Deadline is bound to the evaluating thread so
+ * that long running rules can cooperate with cancellation by calling {@link #checkpoint()} between expensive steps.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long nanos;
+    private final Duration timeout;
+
+    private Deadline(long nanos, Duration timeout) {
+        super();
+        this.nanos = nanos;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Creates a Deadline that expires after the given timeout.
+     *
+     * @param timeout time from now
+     * @return a new Deadline
+     */
+    public static Deadline after(Duration timeout) {
+        Assert.notNull(timeout, "timeout cannot be null.");
+        return new Deadline(System.nanoTime() + timeout.toNanos(), timeout);
+    }
+
+    /**
+     * Retrieves the Deadline bound to the current thread.
+     *
+     * @return current Deadline or null if there is none
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Cooperative cancellation point for rule code. Fails if the current evaluation has run past its deadline or the
+     * evaluating thread was interrupted (which is how timed out evaluations are cancelled).
+     *
+     * @throws RuleTimeoutException if the evaluation must stop
+     */
+    public static void checkpoint() {
+        Deadline deadline = CURRENT.get();
+        if (Thread.currentThread().isInterrupted()) throw new RuleTimeoutException("Rule evaluation was cancelled.", deadline != null ? deadline.timeout : null);
+        if (deadline != null && deadline.isExpired()) throw new RuleTimeoutException("Rule evaluation exceeded its deadline.", deadline.timeout);
+    }
+
+    /**
+     * Runs the given task with the given Deadline bound to the current thread. The previous Deadline is restored
+     * afterward.
+     *
+     * @param deadline Deadline to bind (may be null)
+     * @param task task to run
+     * @param <T> result type
+     * @return result of the task
+     * @throws Exception if the task fails
+     */
+    public static <T> T callWithin(Deadline deadline, Callable<T> task) throws Exception {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(deadline);
+
+        try {
+            return task.call();
+        } finally {
+            if (previous == null) CURRENT.remove(); else CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Returns whichever of the two Deadlines expires first.
+     *
+     * @param a first Deadline (may be null)
+     * @param b second Deadline (may be null)
+     * @return the earlier Deadline, or null if both are null
+     */
+    public static Deadline earliest(Deadline a, Deadline b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.nanos - b.nanos <= 0 ? a : b;
+    }
+
+    /**
+     * Determines whether this Deadline has passed.
+     *
+     * @return true if expired
+     */
+    public boolean isExpired() {
+        return System.nanoTime() - nanos >= 0;
+    }
+
+    /**
+     * Retrieves the time remaining until this Deadline.
+     *
+     * @return remaining nanos; zero or negative if expired
+     */
+    public long remainingNanos() {
+        return nanos - System.nanoTime();
+    }
+
+    /**
+     * Retrieves this Deadline as a {@link System#nanoTime()} value.
+     *
+     * @return deadline nanos
+     */
+    public long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * Retrieves the timeout this Deadline was created with.
+     *
+     * @return timeout
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline{" +
+                "timeout=" + timeout +
+                ", remainingNanos=" + remainingNanos() +
+                '}';
+    }
+}
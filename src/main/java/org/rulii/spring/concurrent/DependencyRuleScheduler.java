@@ -0,0 +1,211 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.concurrent;
+
+import org.rulii.context.RuleContext;
+import org.rulii.rule.Rule;
+import org.rulii.rule.RuleResult;
+import org.rulii.ruleset.RuleSet;
+import org.rulii.spring.cache.ConditionMemo;
+import org.rulii.spring.intercept.RuleCatalog;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Runs the Rules of a RuleSet concurrently while respecting their data dependencies. The dependency graph is derived
+ * from the bindings each Rule reads (its method parameters) and writes (declared with
+ * {@link org.rulii.spring.annotation.Outputs}), see {@link RuleGraph}. A Rule is started as soon as all the Rules it
+ * depends on have completed. Graphs are built once per RuleSet and cached. The executor must not be the pool the
+ * callers run on, as the caller waits for the Rules (a scheduled RuleSet run from a Rule could otherwise starve it).
+ *
+ * <pre>
+ * List&lt;RuleResult&gt; results = scheduler.run(ruleSet, RuleContext.builder().bindings(bindings).build());
+ * </pre>
+ *
+ * RuleSet level behaviour (pre-conditions, stop conditions, result extractors) is not applied; the results are
+ * returned in declaration order.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class DependencyRuleScheduler {
+
+    private final LazyExecutor executor;
+    private final RuleCatalog ruleCatalog;
+    private final Duration defaultTimeout;
+    private final Map<RuleSet<?>, RuleGraph> graphs = new ConcurrentReferenceHashMap<>(16, ConcurrentReferenceHashMap.ReferenceType.WEAK);
+
+    /**
+     * Creates a new DependencyRuleScheduler.
+     *
+     * @param executor ExecutorService to run the Rules on; must not be the pool of the callers (the caller blocks
+     *                 until the Rules complete, so a bounded shared pool can starve)
+     * @param ruleCatalog catalog describing the Rule beans
+     */
+    public DependencyRuleScheduler(ExecutorService executor, RuleCatalog ruleCatalog) {
+        this(LazyExecutor.of(executor), ruleCatalog, null);
+    }
+
+    /**
+     * Creates a new DependencyRuleScheduler whose ExecutorService is only created once Rules are run.
+     *
+     * @param executorFactory creates the ExecutorService to run the Rules on; must not be the pool of the callers
+     * @param ruleCatalog catalog describing the Rule beans
+     */
+    public DependencyRuleScheduler(Supplier<ExecutorService> executorFactory, RuleCatalog ruleCatalog) {
+        this(new LazyExecutor(executorFactory), ruleCatalog, null);
+    }
+
+    /**
+     * Creates a new DependencyRuleScheduler whose ExecutorService is only created once Rules are run.
+     *
+     * @param executorFactory creates the ExecutorService to run the Rules on; must not be the pool of the callers
+     * @param ruleCatalog catalog describing the Rule beans
+     * @param defaultTimeout evaluation timeout used when none is given per call; null for none
+     */
+    public DependencyRuleScheduler(Supplier<ExecutorService> executorFactory, RuleCatalog ruleCatalog, Duration defaultTimeout) {
+        this(new LazyExecutor(executorFactory), ruleCatalog, defaultTimeout);
+    }
+
+    private DependencyRuleScheduler(LazyExecutor executor, RuleCatalog ruleCatalog, Duration defaultTimeout) {
+        super();
+        Assert.notNull(ruleCatalog, "ruleCatalog cannot be null.");
+        this.executor = executor;
+        this.ruleCatalog = ruleCatalog;
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    /**
+     * Runs the Rules of the given RuleSet with the default timeout.
+     *
+     * @param ruleSet RuleSet to run
+     * @param context RuleContext shared by the Rules
+     * @return the results in declaration order
+     */
+    public List<RuleResult> run(RuleSet<?> ruleSet, RuleContext context) {
+        return run(ruleSet, context, null);
+    }
+
+    /**
+     * Runs the Rules of the given RuleSet with a timeout.
+     *
+     * @param ruleSet RuleSet to run
+     * @param context RuleContext shared by the Rules
+     * @param timeout evaluation timeout; null for the default timeout (without one, only the {@link Deadline} of the
+     *                calling thread is honored)
+     * @return the results in declaration order
+     * @throws RuleTimeoutException if the Rules do not complete before the timeout
+     */
+    public List<RuleResult> run(RuleSet<?> ruleSet, RuleContext context, Duration timeout) {
+        return run(getGraph(ruleSet), context, timeout);
+    }
+
+    /**
+     * Runs the Rules of the given graph.
+     *
+     * @param graph dependency graph
+     * @param context RuleContext shared by the Rules
+     * @param timeout evaluation timeout; null for the default timeout (without one, only the {@link Deadline} of the
+     *                calling thread is honored)
+     * @return the results in declaration order
+     * @throws RuleTimeoutException if the Rules do not complete before the timeout
+     */
+    public List<RuleResult> run(RuleGraph graph, RuleContext context, Duration timeout) {
+        Assert.notNull(graph, "graph cannot be null.");
+        Assert.notNull(context, "context cannot be null.");
+        Duration effective = timeout != null ? timeout : defaultTimeout;
+        Deadline deadline = Deadline.earliest(Deadline.current(), effective != null ? Deadline.after(effective) : null);
+        return ConditionMemo.evaluate(context, () -> run(graph, context, deadline, ConditionMemo.current()));
+    }
+
+    private List<RuleResult> run(RuleGraph graph, RuleContext context, Deadline deadline, ConditionMemo memo) {
+        List<Rule> rules = graph.getRules();
+        RuleResult[] results = new RuleResult[rules.size()];
+        int[] waiting = graph.newPredecessorCounts();
+
+        try (RuleTaskScope<Integer> scope = new RuleTaskScope<>(executor.get())) {
+            for (int i = 0; i < waiting.length; i++) {
+                if (waiting[i] == 0) fork(scope, i, rules.get(i), context, results, deadline, memo);
+            }
+
+            Integer completed;
+
+            while ((completed = scope.joinNext(deadline)) != null) {
+                for (int next : graph.getSuccessors(completed)) {
+                    if (--waiting[next] == 0) fork(scope, next, rules.get(next), context, results, deadline, memo);
+                }
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    private void fork(RuleTaskScope<Integer> scope, int index, Rule rule, RuleContext context, RuleResult[] results,
+                      Deadline deadline, ConditionMemo memo) {
+        // Results are published to the owner through the Future of the task
+        scope.fork(() -> {
+            results[index] = ConditionMemo.callWithin(memo, () -> Deadline.callWithin(deadline, () -> rule.run(context)));
+            return index;
+        });
+    }
+
+    /**
+     * Retrieves the (cached) dependency graph of the given RuleSet.
+     *
+     * @param ruleSet RuleSet
+     * @return its dependency graph
+     */
+    public RuleGraph getGraph(RuleSet<?> ruleSet) {
+        Assert.notNull(ruleSet, "ruleSet cannot be null.");
+        return graphs.computeIfAbsent(ruleSet, this::buildGraph);
+    }
+
+    private RuleGraph buildGraph(RuleSet<?> ruleSet) {
+        List<Rule> rules = new ArrayList<>(ruleSet.size());
+        for (int i = 0; i < ruleSet.size(); i++) rules.add(ruleSet.getRule(i));
+        return RuleGraph.build(rules, ruleCatalog.describe(rules));
+    }
+
+    /**
+     * Shuts down the ExecutorService the Rules run on (if it was created).
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public RuleCatalog getRuleCatalog() {
+        return ruleCatalog;
+    }
+
+    @Override
+    public String toString() {
+        return "DependencyRuleScheduler{" +
+                "executor=" + executor +
+                ", defaultTimeout=" + defaultTimeout +
+                '}';
+    }
+}
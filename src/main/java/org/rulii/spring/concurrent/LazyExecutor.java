@@ -0,0 +1,100 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.concurrent;
+
+import org.springframework.util.Assert;
+
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * ExecutorService that is only created when it is first needed, so that components which may never fork anything
+ * (and the beans holding them) do not create threads or log executor warnings on startup.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public final class LazyExecutor {
+
+    private final Supplier<ExecutorService> executorFactory;
+    private volatile ExecutorService executor;
+
+    /**
+     * Creates a new LazyExecutor.
+     *
+     * @param executorFactory creates the ExecutorService on first use
+     */
+    public LazyExecutor(Supplier<ExecutorService> executorFactory) {
+        super();
+        Assert.notNull(executorFactory, "executorFactory cannot be null.");
+        this.executorFactory = executorFactory;
+    }
+
+    /**
+     * Wraps an existing ExecutorService.
+     *
+     * @param executor ExecutorService
+     * @return LazyExecutor returning the given ExecutorService
+     */
+    public static LazyExecutor of(ExecutorService executor) {
+        Assert.notNull(executor, "executor cannot be null.");
+        LazyExecutor result = new LazyExecutor(() -> executor);
+        result.executor = executor;
+        return result;
+    }
+
+    /**
+     * Retrieves the ExecutorService, creating it on first use.
+     *
+     * @return the ExecutorService
+     */
+    public ExecutorService get() {
+        ExecutorService result = executor;
+        if (result != null) return result;
+
+        synchronized (this) {
+            if (executor == null) executor = executorFactory.get();
+            return executor;
+        }
+    }
+
+    /**
+     * Determines whether the ExecutorService has been created.
+     *
+     * @return true if it exists
+     */
+    public boolean isCreated() {
+        return executor != null;
+    }
+
+    /**
+     * Shuts down the ExecutorService (if it was created). Running tasks are interrupted.
+     */
+    public void shutdown() {
+        ExecutorService result = executor;
+        if (result != null) result.shutdownNow();
+    }
+
+    @Override
+    public String toString() {
+        return "LazyExecutor{" +
+                "created=" + isCreated() +
+                '}';
+    }
+}
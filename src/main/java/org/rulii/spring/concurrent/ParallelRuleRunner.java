@@ -0,0 +1,174 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.concurrent;
+
+import org.rulii.context.RuleContext;
+import org.rulii.rule.Rule;
+import org.rulii.rule.RuleResult;
+import org.rulii.ruleset.RuleSet;
+import org.rulii.spring.cache.ConditionMemo;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent rules concurrently within one {@link RuleTaskScope}: every rule is forked, the first failure (or
+ * the first result matching the fail-fast condition) cancels the remaining rules, and the evaluation deadline is
+ * enforced for the whole group. Works best with a virtual thread executor
+ * (see {@link RuleExecutors#newVirtualThreadPerTaskExecutor()}) so that rules blocked on slow lookups overlap without
+ * sizing a thread pool. The executor must not be the pool the callers run on: the caller waits for the forked rules,
+ * so a RuleSet run in parallel from a rule that itself runs on a bounded shared pool could starve it.
+ * <p>
+ * The rules share the given RuleContext and must therefore not depend on each other's results.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class ParallelRuleRunner {
+
+    private final LazyExecutor executor;
+    private final Duration defaultTimeout;
+
+    /**
+     * Creates a new ParallelRuleRunner.
+     *
+     * @param executor ExecutorService the rules are forked on; must not be the pool of the callers (the caller blocks
+     *                 until the forked rules complete, so a bounded shared pool can starve)
+     */
+    public ParallelRuleRunner(ExecutorService executor) {
+        super();
+        this.executor = LazyExecutor.of(executor);
+        this.defaultTimeout = null;
+    }
+
+    /**
+     * Creates a new ParallelRuleRunner whose ExecutorService is only created once rules are forked.
+     *
+     * @param executorFactory creates the ExecutorService the rules are forked on; must not be the pool of the callers
+     */
+    public ParallelRuleRunner(Supplier<ExecutorService> executorFactory) {
+        this(executorFactory, null);
+    }
+
+    /**
+     * Creates a new ParallelRuleRunner whose ExecutorService is only created once rules are forked.
+     *
+     * @param executorFactory creates the ExecutorService the rules are forked on; must not be the pool of the callers
+     * @param defaultTimeout evaluation timeout used when none is given per call; null for none
+     */
+    public ParallelRuleRunner(Supplier<ExecutorService> executorFactory, Duration defaultTimeout) {
+        super();
+        this.executor = new LazyExecutor(executorFactory);
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    /**
+     * Runs all the rules of the given RuleSet concurrently.
+     *
+     * @param ruleSet RuleSet whose rules are independent
+     * @param context RuleContext shared by the rules
+     * @param timeout evaluation timeout; null for the default timeout
+     * @param failFast optional condition on a RuleResult that cancels the remaining rules
+     * @return the results in RuleSet order; rules that were cancelled have a null result
+     */
+    public List<RuleResult> run(RuleSet<?> ruleSet, RuleContext context, Duration timeout, Predicate<RuleResult> failFast) {
+        Assert.notNull(ruleSet, "ruleSet cannot be null.");
+        List<Rule> rules = new ArrayList<>(ruleSet.size());
+        for (int i = 0; i < ruleSet.size(); i++) rules.add(ruleSet.getRule(i));
+        return run(rules, context, timeout, failFast);
+    }
+
+    /**
+     * Runs the given rules concurrently.
+     *
+     * @param rules independent rules
+     * @param context RuleContext shared by the rules
+     * @param timeout evaluation timeout; null for the default timeout (without one, only the {@link Deadline} of the
+     *                calling thread is honored)
+     * @param failFast optional condition on a RuleResult that cancels the remaining rules
+     * @return the results in rule order; rules that were cancelled have a null result
+     * @throws RuleTimeoutException if the rules do not complete before the timeout
+     */
+    public List<RuleResult> run(List<Rule> rules, RuleContext context, Duration timeout, Predicate<RuleResult> failFast) {
+        Assert.notNull(rules, "rules cannot be null.");
+        Assert.notNull(context, "context cannot be null.");
+        Duration effective = timeout != null ? timeout : defaultTimeout;
+        Deadline deadline = Deadline.earliest(Deadline.current(), effective != null ? Deadline.after(effective) : null);
+        return ConditionMemo.evaluate(context, () -> run(rules, context, deadline, failFast, ConditionMemo.current()));
+    }
+
+    private List<RuleResult> run(List<Rule> rules, RuleContext context, Deadline deadline, Predicate<RuleResult> failFast,
+                                 ConditionMemo memo) {
+        List<Future<RuleResult>> futures = new ArrayList<>(rules.size());
+
+        try (RuleTaskScope<RuleResult> scope = new RuleTaskScope<>(executor.get())) {
+            // Forked rules see the same deadline and condition memo as the caller
+            for (Rule rule : rules) futures.add(scope.fork(() -> ConditionMemo.callWithin(memo, () -> Deadline.callWithin(deadline, () -> rule.run(context)))));
+            scope.join(deadline, failFast);
+        }
+
+        RuleResult[] result = new RuleResult[futures.size()];
+
+        for (int i = 0; i < result.length; i++) result[i] = getResult(futures.get(i));
+        return Arrays.asList(result);
+    }
+
+    /**
+     * Retrieves the result of a completed rule; null if the rule was cancelled or did not complete.
+     */
+    private static RuleResult getResult(Future<RuleResult> future) {
+        if (!future.isDone() || future.isCancelled()) return null;
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Shuts down the ExecutorService the rules are forked on (if it was created).
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public ExecutorService getExecutor() {
+        return executor.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelRuleRunner{" +
+                "executor=" + executor +
+                ", defaultTimeout=" + defaultTimeout +
+                '}';
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.concurrent;
+
+import org.rulii.context.RuleContext;
+import org.rulii.model.Runnable;
+import org.rulii.model.UnrulyException;
+import org.rulii.spring.cache.ConditionMemo;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Runs rule evaluations under a deadline. The evaluation is handed to a dedicated ExecutorService and the caller waits
+ * at most until the deadline; a late evaluation is cancelled (its thread is interrupted and
+ * {@link Deadline#checkpoint()} fails) and the caller gets a timeout instead of being tied up.
+ * <p>
+ * The effective deadline is the earliest of the per-call timeout and any {@link Deadline} already bound to the
+ * calling thread. Evaluations without a deadline run on the calling thread; the ExecutorService can therefore be
+ * created lazily, on the first evaluation that has a deadline.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RuleDeadlineExecutor {
+
+    private final Supplier<ExecutorService> executorFactory;
+    private final Duration defaultTimeout;
+    private volatile ExecutorService executor;
+
+    /**
+     * Creates a new RuleDeadlineExecutor.
+     *
+     * @param executor ExecutorService the evaluations run on; must not be the pool of the callers (to avoid starvation)
+     * @param defaultTimeout timeout used when none is given per call; null for none
+     */
+    public RuleDeadlineExecutor(ExecutorService executor, Duration defaultTimeout) {
+        super();
+        Assert.notNull(executor, "executor cannot be null.");
+        this.executorFactory = () -> executor;
+        this.executor = executor;
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    /**
+     * Creates a new RuleDeadlineExecutor whose ExecutorService is only created once an evaluation with a deadline
+     * runs.
+     *
+     * @param executorFactory creates the ExecutorService the evaluations run on; must not be the pool of the callers
+     * @param defaultTimeout timeout used when none is given per call; null for none
+     */
+    public RuleDeadlineExecutor(Supplier<ExecutorService> executorFactory, Duration defaultTimeout) {
+        super();
+        Assert.notNull(executorFactory, "executorFactory cannot be null.");
+        this.executorFactory = executorFactory;
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    /**
+     * Runs the given Rule/RuleSet with the default timeout.
+     *
+     * @param runnable Rule or RuleSet to run
+     * @param context RuleContext to run with
+     * @param <T> result type
+     * @return outcome of the evaluation
+     */
+    public <T> RuleOutcome<T> run(Runnable<T> runnable, RuleContext context) {
+        return run(runnable, context, defaultTimeout);
+    }
+
+    /**
+     * Runs the given Rule/RuleSet with the given timeout.
+     *
+     * @param runnable Rule or RuleSet to run
+     * @param context RuleContext to run with
+     * @param timeout per-call timeout; null to only honor the Deadline of the calling thread
+     * @param <T> result type
+     * @return outcome of the evaluation
+     */
+    public <T> RuleOutcome<T> run(Runnable<T> runnable, RuleContext context, Duration timeout) {
+        Assert.notNull(runnable, "runnable cannot be null.");
+        Assert.notNull(context, "context cannot be null.");
+        Deadline deadline = Deadline.earliest(Deadline.current(), timeout != null ? Deadline.after(timeout) : null);
+        long start = System.nanoTime();
+
+        try {
+            T result = call(() -> ConditionMemo.evaluate(context, () -> runnable.run(context)), deadline);
+            return new RuleOutcome<>(RuleOutcome.Status.COMPLETED, result, null, Duration.ofNanos(System.nanoTime() - start));
+        } catch (RuleTimeoutException e) {
+            return new RuleOutcome<>(RuleOutcome.Status.TIMED_OUT, null, e, Duration.ofNanos(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            return new RuleOutcome<>(RuleOutcome.Status.FAILED, null, e, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Runs the given task under the given Deadline. Without a Deadline the task runs on the calling thread.
+     *
+     * @param task task to run
+     * @param deadline Deadline to enforce (may be null)
+     * @param <T> result type
+     * @return result of the task
+     * @throws RuleTimeoutException if the task does not complete before the Deadline
+     */
+    public <T> T call(Callable<T> task, Deadline deadline) {
+        Assert.notNull(task, "task cannot be null.");
+
+        if (deadline == null) return callInline(task);
+        if (deadline.isExpired()) throw new RuleTimeoutException("Rule evaluation exceeded its deadline before it started.", deadline.getTimeout());
+
+        ConditionMemo memo = ConditionMemo.current();
+        Future<T> future = getExecutor().submit(() -> ConditionMemo.callWithin(memo, () -> Deadline.callWithin(deadline, task)));
+
+        try {
+            return future.get(deadline.remainingNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new RuleTimeoutException("Rule evaluation exceeded its timeout of " + deadline.getTimeout() + ".", deadline.getTimeout());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new UnrulyException("Rule evaluation interrupted.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException ex) throw ex;
+            throw new UnrulyException("Rule evaluation failed.", e.getCause());
+        }
+    }
+
+    private static <T> T callInline(Callable<T> task) {
+        try {
+            return task.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new UnrulyException("Rule evaluation failed.", e);
+        }
+    }
+
+    private ExecutorService getExecutor() {
+        ExecutorService result = executor;
+        if (result != null) return result;
+
+        synchronized (this) {
+            if (executor == null) executor = executorFactory.get();
+            return executor;
+        }
+    }
+
+    /**
+     * Shuts down the underlying ExecutorService (if it was created). Evaluations that are still running are
+     * interrupted.
+     */
+    public void shutdown() {
+        ExecutorService result;
+        synchronized (this) {
+            result = executor;
+        }
+        if (result != null) result.shutdownNow();
+    }
+
+    public Duration getDefaultTimeout() {
+        return defaultTimeout;
+    }
+
+    @Override
+    public String toString() {
+        return "RuleDeadlineExecutor{" +
+                "defaultTimeout=" + defaultTimeout +
+                '}';
+    }
+}
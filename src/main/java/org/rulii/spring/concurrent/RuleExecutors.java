@@ -0,0 +1,89 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.concurrent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Factory methods for the ExecutorServices used to run rules. Virtual threads are used when the runtime supports them
+ * (Java 21+); the lookup is reflective so that the library keeps running on Java 17.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public final class RuleExecutors {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RuleExecutors.class);
+    private static final Method VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutor();
+
+    private RuleExecutors() {
+        super();
+    }
+
+    /**
+     * Determines whether the runtime supports virtual threads.
+     *
+     * @return true if virtual threads are available
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    /**
+     * Creates an ExecutorService that starts a new virtual thread per task, or a cached thread pool if virtual
+     * threads are not supported by the runtime.
+     *
+     * @return a new ExecutorService
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (VIRTUAL_THREAD_EXECUTOR == null) {
+            LOGGER.warn("Virtual threads require Java 21+. Falling back to a cached thread pool.");
+            return Executors.newCachedThreadPool();
+        }
+
+        try {
+            return (ExecutorService) VIRTUAL_THREAD_EXECUTOR.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            LOGGER.warn("Unable to create virtual thread executor. Falling back to a cached thread pool.", e);
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * Creates a fixed thread pool sized to the number of processors (minimum 2).
+     *
+     * @return a new ExecutorService
+     */
+    public static ExecutorService newFixedThreadPool() {
+        return Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+    }
+
+    private static Method findVirtualThreadExecutor() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.concurrent;
+
+import org.rulii.rule.Rule;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Dependency graph of the Rules of a RuleSet. A Rule depends on an earlier Rule if it reads a binding the earlier
+ * Rule writes, writes a binding the earlier Rule reads or writes, or if either Rule is unknown (no descriptor, unknown
+ * inputs or undeclared outputs). Unknown Rules therefore act as barriers and keep their place in the declaration order;
+ * only Rules that declare their {@link org.rulii.spring.annotation.Outputs} can run concurrently.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public final class RuleGraph {
+
+    private final List<Rule> rules;
+    private final int[][] successors;
+    private final int[] predecessorCounts;
+    private final int edgeCount;
+
+    private RuleGraph(List<Rule> rules, int[][] successors, int[] predecessorCounts, int edgeCount) {
+        super();
+        this.rules = rules;
+        this.successors = successors;
+        this.predecessorCounts = predecessorCounts;
+        this.edgeCount = edgeCount;
+    }
+
+    /**
+     * Builds the dependency graph of the given Rules.
+     *
+     * @param rules Rules in declaration order
+     * @param descriptors descriptors of the Rules in the same order; null entries for unknown Rules
+     * @return the dependency graph
+     */
+    public static RuleGraph build(List<Rule> rules, List<RuleDescriptor> descriptors) {
+        Assert.notNull(rules, "rules cannot be null.");
+        Assert.notNull(descriptors, "descriptors cannot be null.");
+        Assert.isTrue(rules.size() == descriptors.size(), "rules and descriptors must be the same size.");
+
+        int size = rules.size();
+        List<List<Integer>> edges = new ArrayList<>(size);
+        int[] predecessorCounts = new int[size];
+        int edgeCount = 0;
+
+        for (int i = 0; i < size; i++) edges.add(new ArrayList<>());
+
+        for (int j = 0; j < size; j++) {
+            for (int i = 0; i < j; i++) {
+                if (!isDependent(descriptors.get(i), descriptors.get(j))) continue;
+                edges.get(i).add(j);
+                predecessorCounts[j]++;
+                edgeCount++;
+            }
+        }
+
+        int[][] successors = new int[size][];
+
+        for (int i = 0; i < size; i++) {
+            successors[i] = edges.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        return new RuleGraph(List.copyOf(rules), successors, predecessorCounts, edgeCount);
+    }
+
+    /**
+     * Determines whether the later Rule must run after the earlier one.
+     */
+    private static boolean isDependent(RuleDescriptor earlier, RuleDescriptor later) {
+        if (!isKnown(earlier) || !isKnown(later)) return true;
+        return !Collections.disjoint(earlier.outputs(), later.inputs())
+                || !Collections.disjoint(earlier.outputs(), later.outputs())
+                || !Collections.disjoint(earlier.inputs(), later.outputs());
+    }
+
+    private static boolean isKnown(RuleDescriptor descriptor) {
+        return descriptor != null && descriptor.isInputsKnown() && descriptor.isOutputsDeclared();
+    }
+
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public int size() {
+        return rules.size();
+    }
+
+    /**
+     * Retrieves the Rules that depend directly on the given Rule.
+     *
+     * @param index index of the Rule
+     * @return indexes of the dependent Rules
+     */
+    int[] getSuccessors(int index) {
+        return successors[index];
+    }
+
+    /**
+     * Retrieves the number of Rules each Rule directly depends on.
+     *
+     * @return a fresh copy of the counts, indexed by Rule
+     */
+    int[] newPredecessorCounts() {
+        return predecessorCounts.clone();
+    }
+
+    /**
+     * Determines whether the Rule at index {@code later} depends, directly or transitively, on the Rule at index
+     * {@code earlier}.
+     *
+     * @param earlier index of the earlier Rule
+     * @param later index of the later Rule
+     * @return true if {@code later} must run after {@code earlier}
+     */
+    public boolean isOrdered(int earlier, int later) {
+        if (earlier >= later) return false;
+        boolean[] visited = new boolean[rules.size()];
+        return reaches(earlier, later, visited);
+    }
+
+    private boolean reaches(int from, int to, boolean[] visited) {
+        for (int next : successors[from]) {
+            if (next == to) return true;
+            if (next > to || visited[next]) continue;
+            visited[next] = true;
+            if (reaches(next, to, visited)) return true;
+        }
+        return false;
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    @Override
+    public String toString() {
+        return "RuleGraph{" +
+                "rules=" + rules.size() +
+                ", edges=" + edgeCount +
+                '}';
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.concurrent;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a rule evaluation run under a deadline.
+ *
+ * @param status how the evaluation ended
+ * @param result result of the evaluation; null unless the status is COMPLETED
+ * @param error the failure; null unless the status is FAILED or TIMED_OUT
+ * @param elapsed time spent waiting for the evaluation
+ * @param <T> result type
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public record RuleOutcome<T>(Status status, T result, Throwable error, Duration elapsed) {
+
+    /**
+     * How an evaluation ended.
+     */
+    public enum Status {
+        COMPLETED, TIMED_OUT, FAILED
+    }
+
+    public boolean isCompleted() {
+        return status == Status.COMPLETED;
+    }
+
+    public boolean isTimedOut() {
+        return status == Status.TIMED_OUT;
+    }
+
+    public boolean isFailed() {
+        return status == Status.FAILED;
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.concurrent;
+
+import org.rulii.model.UnrulyException;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Predicate;
+
+/**
+ * Structured "shutdown on failure" scope for tasks forked from one rule evaluation, modelled on Java 21's
+ * StructuredTaskScope (which is still a preview API and therefore not usable on the Java 17 baseline). All forked
+ * tasks are owned by the scope: the first task to fail cancels its siblings, {@link #join(long)} enforces a deadline
+ * and closing the scope cancels anything still running and then waits for it to finish, so no forked task is still
+ * using the shared RuleContext once the scope is closed.
+ *
+ * <pre>
+ * try (RuleTaskScope&lt;RuleResult&gt; scope = new RuleTaskScope&lt;&gt;(executor)) {
+ *     Future&lt;RuleResult&gt; a = scope.fork(() -&gt; rule1.run(ctx));
+ *     Future&lt;RuleResult&gt; b = scope.fork(() -&gt; rule2.run(ctx));
+ *     scope.join(deadline);
+ *     ...
+ * }
+ * </pre>
+ *
+ * @param <T> task result type
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RuleTaskScope<T> implements AutoCloseable {
+
+    private final ExecutorCompletionService<T> completionService;
+    private final List<Future<T>> tasks = new ArrayList<>();
+    private final List<TrackedTask<T>> trackedTasks = new ArrayList<>();
+    private int pending = 0;
+    private volatile Throwable failure;
+    private volatile boolean shutdown = false;
+
+    /**
+     * Creates a new scope that forks its tasks on the given ExecutorService.
+     *
+     * @param executor ExecutorService to run the tasks on
+     */
+    public RuleTaskScope(ExecutorService executor) {
+        super();
+        Assert.notNull(executor, "executor cannot be null.");
+        this.completionService = new ExecutorCompletionService<>(executor);
+    }
+
+    /**
+     * Starts a task in this scope. Must only be called by the owner thread.
+     *
+     * @param task task to run
+     * @return Future of the task
+     */
+    public Future<T> fork(Callable<T> task) {
+        Assert.notNull(task, "task cannot be null.");
+        if (shutdown) throw new IllegalStateException("Scope is shut down.");
+        TrackedTask<T> trackedTask = new TrackedTask<>(task);
+        Future<T> result = completionService.submit(trackedTask);
+        tasks.add(result);
+        trackedTasks.add(trackedTask);
+        pending++;
+        return result;
+    }
+
+    /**
+     * Waits for all the forked tasks to complete, the first failure or the deadline, whichever comes first.
+     *
+     * @param deadlineNanos deadline as a {@link System#nanoTime()} value; {@link Long#MAX_VALUE} for no deadline
+     * @throws RuleTimeoutException if the deadline passes first; all the tasks are cancelled
+     * @throws UnrulyException if a task failed; all the other tasks are cancelled
+     */
+    public void join(long deadlineNanos) {
+        join(deadlineNanos, null);
+    }
+
+    /**
+     * Waits for all the forked tasks to complete, the first failure, the first result matching the stop condition or
+     * the deadline, whichever comes first.
+     *
+     * @param deadlineNanos deadline as a {@link System#nanoTime()} value; {@link Long#MAX_VALUE} for no deadline
+     * @param stopWhen optional condition on a task result that cancels the remaining tasks (fail-fast)
+     * @return true if the scope stopped early because a result matched the stop condition
+     * @throws RuleTimeoutException if the deadline passes first; all the tasks are cancelled
+     * @throws UnrulyException if a task failed; all the other tasks are cancelled
+     */
+    public boolean join(long deadlineNanos, Predicate<? super T> stopWhen) {
+        return join(deadlineNanos, null, stopWhen);
+    }
+
+    /**
+     * Waits for all the forked tasks to complete, the first failure, the first result matching the stop condition or
+     * the Deadline, whichever comes first. A timeout reports the timeout the Deadline was created with.
+     *
+     * @param deadline Deadline of the evaluation; null for no deadline
+     * @param stopWhen optional condition on a task result that cancels the remaining tasks (fail-fast)
+     * @return true if the scope stopped early because a result matched the stop condition
+     * @throws RuleTimeoutException if the deadline passes first; all the tasks are cancelled
+     * @throws UnrulyException if a task failed; all the other tasks are cancelled
+     */
+    public boolean join(Deadline deadline, Predicate<? super T> stopWhen) {
+        return deadline != null
+                ? join(deadline.getNanos(), deadline.getTimeout(), stopWhen)
+                : join(Long.MAX_VALUE, null, stopWhen);
+    }
+
+    private boolean join(long deadlineNanos, Duration timeout, Predicate<? super T> stopWhen) {
+        Future<T> completed;
+
+        while ((completed = next(deadlineNanos, timeout)) != null) {
+            T value = getValue(completed);
+
+            if (stopWhen != null && stopWhen.test(value)) {
+                shutdown();
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Waits for the next forked task to complete. Lets the owner fork follow-up tasks as their inputs become
+     * available. Must only be called by the owner thread.
+     *
+     * @param deadlineNanos deadline as a {@link System#nanoTime()} value; {@link Long#MAX_VALUE} for no deadline
+     * @return the result of the task that completed; null if there are no more pending tasks
+     * @throws RuleTimeoutException if the deadline passes first; all the tasks are cancelled
+     * @throws UnrulyException if the task failed; all the other tasks are cancelled
+     */
+    public T joinNext(long deadlineNanos) {
+        Future<T> completed = next(deadlineNanos, null);
+        return completed != null ? getValue(completed) : null;
+    }
+
+    /**
+     * Waits for the next forked task to complete. A timeout reports the timeout the Deadline was created with.
+     *
+     * @param deadline Deadline of the evaluation; null for no deadline
+     * @return the result of the task that completed; null if there are no more pending tasks
+     * @throws RuleTimeoutException if the deadline passes first; all the tasks are cancelled
+     * @throws UnrulyException if the task failed; all the other tasks are cancelled
+     * @see #joinNext(long)
+     */
+    public T joinNext(Deadline deadline) {
+        Future<T> completed = deadline != null
+                ? next(deadline.getNanos(), deadline.getTimeout())
+                : next(Long.MAX_VALUE, null);
+        return completed != null ? getValue(completed) : null;
+    }
+
+    /**
+     * Takes the next task that completed without being cancelled.
+     *
+     * @param deadlineNanos deadline as a {@link System#nanoTime()} value
+     * @param timeout timeout the deadline was derived from (may be null if only the deadline is known)
+     * @return the completed task; null if there are no more pending tasks
+     */
+    private Future<T> next(long deadlineNanos, Duration timeout) {
+        try {
+            while (pending > 0) {
+                Future<T> completed;
+
+                if (deadlineNanos == Long.MAX_VALUE) {
+                    completed = completionService.take();
+                } else {
+                    long wait = deadlineNanos - System.nanoTime();
+                    completed = wait > 0 ? completionService.poll(wait, TimeUnit.NANOSECONDS) : null;
+                }
+
+                if (completed == null) {
+                    shutdown();
+                    throw new RuleTimeoutException(timeout != null
+                            ? "Rule evaluation exceeded its timeout of " + timeout + "."
+                            : "Rule evaluation did not complete before its deadline.", timeout);
+                }
+
+                pending--;
+                if (!completed.isCancelled()) return completed;
+            }
+
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            shutdown();
+            throw new UnrulyException("Rule evaluation interrupted.", e);
+        }
+    }
+
+    /**
+     * Retrieves the value of a completed task, shutting the scope down if the task failed.
+     */
+    private T getValue(Future<T> completed) {
+        try {
+            return completed.get();
+        } catch (ExecutionException e) {
+            failure = e.getCause();
+            shutdown();
+            if (e.getCause() instanceof UnrulyException ex) throw ex;
+            throw new UnrulyException("Rule evaluation failed.", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            shutdown();
+            throw new UnrulyException("Rule evaluation interrupted.", e);
+        }
+    }
+
+    /**
+     * Waits for the forked tasks with a timeout.
+     *
+     * @param timeout maximum time to wait
+     * @see #join(long)
+     */
+    public void join(Duration timeout) {
+        join(timeout != null ? Deadline.after(timeout) : null, null);
+    }
+
+    /**
+     * Cancels (interrupts) all the tasks that have not completed yet. Used to stop siblings once the outcome of the
+     * evaluation is known.
+     */
+    public void shutdown() {
+        this.shutdown = true;
+        for (Future<T> task : tasks) task.cancel(true);
+    }
+
+    /**
+     * Retrieves the failure that shut the scope down, if any.
+     *
+     * @return failure or null
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * Cancels the tasks that have not completed yet and waits until none of them is running any more; a cancelled
+     * task that ignores the interrupt is waited for as well. If the owner is interrupted while waiting, it keeps
+     * waiting and its interrupt status is restored afterwards.
+     */
+    @Override
+    public void close() {
+        shutdown();
+        for (TrackedTask<T> task : trackedTasks) task.awaitTermination();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.concurrent;
+
+import org.rulii.model.UnrulyException;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a rule evaluation does not complete before its deadline.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RuleTimeoutException extends UnrulyException {
+
+    private final Duration timeout;
+
+    /**
+     * Creates a new RuleTimeoutException.
+     *
+     * @param message error message
+     * @param timeout the timeout that was exceeded (may be null if only a deadline was known)
+     */
+    public RuleTimeoutException(String message, Duration timeout) {
+        super(message);
+        this.timeout = timeout;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.concurrent;
+
+import org.rulii.context.RuleContext;
+import org.rulii.rule.RuleResult;
+import org.rulii.spring.annotation.RuleTimeout;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.rulii.spring.intercept.RuleInterceptor;
+import org.rulii.spring.intercept.RuleInvocation;
+import org.springframework.core.Ordered;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+
+/**
+ * Enforces the {@link RuleTimeout} of Rule beans; a tighter {@link Deadline} bound by the caller always wins. Rules that
+ * exceed their timeout fail with a {@link RuleTimeoutException}. The global default (rulii.execution.timeout) bounds a
+ * whole evaluation and is applied where the evaluation starts ({@link RuleDeadlineExecutor}, {@link ParallelRuleRunner},
+ * {@link DependencyRuleScheduler}), so Rules without the annotation run inline under the evaluation Deadline.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class TimeoutRuleInterceptor implements RuleInterceptor {
+
+    private final RuleDeadlineExecutor deadlineExecutor;
+
+    /**
+     * Creates a new TimeoutRuleInterceptor.
+     *
+     * @param deadlineExecutor executor enforcing the deadlines
+     */
+    public TimeoutRuleInterceptor(RuleDeadlineExecutor deadlineExecutor) {
+        super();
+        Assert.notNull(deadlineExecutor, "deadlineExecutor cannot be null.");
+        this.deadlineExecutor = deadlineExecutor;
+    }
+
+    @Override
+    public boolean supports(RuleDescriptor descriptor) {
+        return getTimeout(descriptor) != null;
+    }
+
+    @Override
+    public RuleResult intercept(RuleDescriptor descriptor, RuleContext context, RuleInvocation invocation) {
+        Deadline deadline = Deadline.earliest(Deadline.current(), Deadline.after(getTimeout(descriptor)));
+        return deadlineExecutor.call(() -> invocation.proceed(context), deadline);
+    }
+
+    private Duration getTimeout(RuleDescriptor descriptor) {
+        RuleTimeout timeout = descriptor.getAnnotation(RuleTimeout.class);
+        return timeout != null ? Duration.of(timeout.value(), timeout.unit().toChronoUnit()) : null;
+    }
+
+    @Override
+    public int getOrder() {
+        // Inside the statistics interceptor (so that timed out runs are counted) and outside all the others
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+
+    @Override
+    public String toString() {
+        return "TimeoutRuleInterceptor{" +
+                "deadlineExecutor=" + deadlineExecutor +
+                '}';
+    }
+}
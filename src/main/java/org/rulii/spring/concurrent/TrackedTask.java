@@ -0,0 +1,108 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.concurrent;
+
+import org.springframework.util.Assert;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Task that tracks whether it is running. Cancelling the Future of a task completes the Future straight away even
+ * though the task's thread may still be running (e.g. if it ignores the interrupt); owners that must not return while
+ * a task still uses their resources (a shared RuleContext, a mapped file) wait on the task itself instead.
+ *
+ * @param <T> result type
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public final class TrackedTask<T> implements Callable<T> {
+
+    private static final int NEW = 0;
+    private static final int RUNNING = 1;
+    private static final int DONE = 2;
+
+    private final Callable<T> task;
+    private final AtomicInteger state = new AtomicInteger(NEW);
+
+    /**
+     * Creates a new TrackedTask.
+     *
+     * @param task task to run
+     */
+    public TrackedTask(Callable<T> task) {
+        super();
+        Assert.notNull(task, "task cannot be null.");
+        this.task = task;
+    }
+
+    @Override
+    public T call() throws Exception {
+        // Awaited before it started
+        if (!state.compareAndSet(NEW, RUNNING)) throw new CancellationException();
+
+        try {
+            return task.call();
+        } finally {
+            synchronized (this) {
+                state.set(DONE);
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Prevents the task from starting if it has not started yet, otherwise waits for it to finish. If the calling
+     * thread is interrupted while waiting, it keeps waiting and its interrupt status is restored afterwards.
+     */
+    public void awaitTermination() {
+        if (state.compareAndSet(NEW, DONE)) return;
+        boolean interrupted = false;
+
+        synchronized (this) {
+            while (state.get() != DONE) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    /**
+     * Determines whether the task has finished or will never start.
+     *
+     * @return true if the task is not running and will not run
+     */
+    public boolean isTerminated() {
+        return state.get() == DONE;
+    }
+
+    @Override
+    public String toString() {
+        return "TrackedTask{" +
+                "state=" + state.get() +
+                '}';
+    }
+}
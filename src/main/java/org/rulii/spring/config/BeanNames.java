@@ -29,6 +29,8 @@ public final class BeanNames {
     public static final String OBJECT_FACTORY_NAME          = "rulii.objectFactory";
     public static final String SPRING_CONVERTER_REGISTRY    = "rulii.converterRegistry";
     public static final String RULE_REGISTRY                = "rulii.ruleRegistry";
+    public static final String RULE_RELOADER                = "rulii.ruleReloader";
+    public static final String RULE_REGISTRATION_REPORT     = "rulii.ruleRegistrationReport";
 
     private BeanNames() {
         super();
@@ -0,0 +1,72 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.config;
+
+import org.rulii.annotation.Rule;
+import org.rulii.spring.cache.CachedConditionInterceptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+
+/**
+ * BeanPostProcessor that wraps rule objects with {@link org.rulii.spring.annotation.CachedCondition} conditions in a
+ * class based proxy so that the condition results are shared within an evaluation. Rule objects are created through
+ * the {@link org.rulii.spring.factory.SpringObjectFactory}, so they pass through this post processor when the Rule
+ * beans are built. Rule classes without cached conditions are returned as-is.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class CachedConditionPostProcessor implements BeanPostProcessor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CachedConditionPostProcessor.class);
+
+    CachedConditionPostProcessor() {
+        super();
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        Class<?> type = ClassUtils.getUserClass(bean);
+        if (!AnnotatedElementUtils.hasAnnotation(type, Rule.class)) return bean;
+
+        Map<Method, String> conditions = CachedConditionInterceptor.findCachedConditions(type);
+        if (conditions.isEmpty()) return bean;
+
+        if (Modifier.isFinal(type.getModifiers())) {
+            LOGGER.warn("Rule class [" + type.getName() + "] is final; its @CachedCondition methods will not be cached.");
+            return bean;
+        }
+
+        if (LOGGER.isDebugEnabled()) LOGGER.debug("Caching conditions " + conditions.values() + " of rule class [" + type.getName() + "]");
+
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new CachedConditionInterceptor(conditions));
+        return proxyFactory.getProxy(type.getClassLoader());
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.config;
+
+import org.rulii.context.RuleContextOptions;
+import org.rulii.model.UnrulyException;
+import org.rulii.spring.reactor.ReactiveRuleExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Configuration class for running rules from Project Reactor. Only active when reactor-core is on the classpath.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+@AutoConfiguration(after = RuleConfig.class)
+@ConditionalOnClass(name = "reactor.core.publisher.Mono")
+public class ReactiveRuleConfig {
+
+    public ReactiveRuleConfig() {
+        super();
+    }
+
+    /**
+     * Creates a ReactiveRuleExecutor instance if no other bean of type ReactiveRuleExecutor is available.
+     *
+     * @param ruleContextOptions the RuleContextOptions to use
+     * @param scheduler name of the Scheduler to run on: rulii (the Rulii ExecutorService), boundedElastic, parallel or immediate
+     * @return a new instance of ReactiveRuleExecutor
+     */
+    @Bean
+    @ConditionalOnMissingBean(ReactiveRuleExecutor.class)
+    public ReactiveRuleExecutor reactiveRuleExecutor(RuleContextOptions ruleContextOptions,
+                                                     @Value("${rulii.reactor.scheduler:rulii}") String scheduler) {
+        return new ReactiveRuleExecutor(ruleContextOptions, createScheduler(scheduler, ruleContextOptions));
+    }
+
+    private static Scheduler createScheduler(String name, RuleContextOptions ruleContextOptions) {
+        return switch (name) {
+            case "rulii" -> Schedulers.fromExecutorService(ruleContextOptions.getExecutorService(), "rulii");
+            case "boundedElastic" -> Schedulers.boundedElastic();
+            case "parallel" -> Schedulers.parallel();
+            case "immediate" -> Schedulers.immediate();
+            default -> throw new UnrulyException("Unknown rulii.reactor.scheduler [" + name + "]");
+        };
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.config;
+
+import org.rulii.spring.refdata.ReferenceTableFactoryBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+import java.util.Map;
+
+/**
+ * Registers a {@link org.rulii.spring.refdata.ReferenceTable} bean for every entry of the rulii.refdata.tables
+ * property (bean name to resource location), e.g. rulii.refdata.tables.countryCodes=file:/data/country-codes.rtab.
+ * Explicitly defined beans with the same name take precedence.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class ReferenceTableRegistrar implements BeanDefinitionRegistryPostProcessor, EnvironmentAware {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReferenceTableRegistrar.class);
+
+    private Environment environment;
+
+    public ReferenceTableRegistrar() {
+        super();
+    }
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) throws BeansException {
+        if (environment == null) return;
+
+        Map<String, String> tables = Binder.get(environment)
+                .bind("rulii.refdata.tables", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of());
+
+        tables.forEach((name, location) -> {
+            if (registry.containsBeanDefinition(name)) {
+                LOGGER.info("Reference table [" + name + "] is already defined; ignoring [" + location + "]");
+                return;
+            }
+
+            RootBeanDefinition definition = new RootBeanDefinition(ReferenceTableFactoryBean.class);
+            definition.getConstructorArgumentValues().addGenericArgumentValue(location);
+            registry.registerBeanDefinition(name, definition);
+            LOGGER.debug("Registered reference table [" + name + "] from [" + location + "]");
+        });
+    }
+}
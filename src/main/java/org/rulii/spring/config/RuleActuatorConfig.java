@@ -0,0 +1,66 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.config;
+
+import org.rulii.registry.RuleRegistry;
+import org.rulii.spring.actuate.RulesEndpoint;
+import org.rulii.spring.cache.RuleResultCache;
+import org.rulii.spring.intercept.RuleCatalog;
+import org.rulii.spring.latency.RuleLatencyRecorder;
+import org.rulii.spring.stats.RuleStatistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Configuration class for the Rulii actuator endpoint. Only active when spring-boot-actuator is on the classpath;
+ * the endpoint still has to be exposed (management.endpoints.web.exposure.include=rules).
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+@AutoConfiguration(after = {RuleConfig.class, RuleLatencyConfig.class})
+@ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+public class RuleActuatorConfig {
+
+    public RuleActuatorConfig() {
+        super();
+    }
+
+    /**
+     * Creates a RulesEndpoint instance if no other bean of type RulesEndpoint is available.
+     *
+     * @param ruleRegistry the RuleRegistry holding the RuleSets
+     * @param ruleCatalog the RuleCatalog describing the Rule beans
+     * @param statistics the RuleStatistics, if statistics are enabled
+     * @param latency the RuleLatencyRecorder, if latencies are recorded
+     * @param cache the RuleResultCache, if there is one
+     * @return a new instance of RulesEndpoint
+     */
+    @Bean
+    @ConditionalOnMissingBean(RulesEndpoint.class)
+    public RulesEndpoint rulesEndpoint(RuleRegistry ruleRegistry, RuleCatalog ruleCatalog,
+                                       ObjectProvider<RuleStatistics> statistics,
+                                       ObjectProvider<RuleLatencyRecorder> latency, ObjectProvider<RuleResultCache> cache) {
+        return new RulesEndpoint(ruleRegistry, ruleCatalog, statistics.getIfAvailable(), latency.getIfAvailable(),
+                cache.getIfAvailable());
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.config;
+
+import org.rulii.spring.audit.DecisionLog;
+import org.rulii.spring.audit.DecisionLogRuleInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration class for the binary audit log of Rule decisions. Only active when rulii.audit.enabled is set.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+@AutoConfiguration(after = RuleConfig.class)
+@ConditionalOnProperty(name = "rulii.audit.enabled", havingValue = "true")
+public class RuleAuditConfig {
+
+    public RuleAuditConfig() {
+        super();
+    }
+
+    /**
+     * Creates a DecisionLog instance if no other bean of type DecisionLog is available.
+     *
+     * @param directory directory holding the log segments
+     * @param segmentSize size of a log segment
+     * @return a new instance of DecisionLog
+     */
+    @Bean
+    @ConditionalOnMissingBean(DecisionLog.class)
+    public DecisionLog decisionLog(@Value("${rulii.audit.directory:rulii-audit}") Path directory,
+                                   @Value("${rulii.audit.segmentSize:64MB}") DataSize segmentSize) {
+        return new DecisionLog(directory, segmentSize.toBytes());
+    }
+
+    /**
+     * Creates a DecisionLogRuleInterceptor instance if no other bean of type DecisionLogRuleInterceptor is available.
+     *
+     * @param decisionLog the DecisionLog to append the decisions to
+     * @return a new instance of DecisionLogRuleInterceptor
+     */
+    @Bean
+    @ConditionalOnMissingBean(DecisionLogRuleInterceptor.class)
+    public DecisionLogRuleInterceptor decisionLogRuleInterceptor(DecisionLog decisionLog) {
+        return new DecisionLogRuleInterceptor(decisionLog);
+    }
+}
@@ -17,8 +17,10 @@
  */
 package org.rulii.spring.config;
 
+import org.rulii.rule.ClassBasedRuleBuilder;
 import org.rulii.rule.Rule;
 import org.rulii.util.reflect.ObjectFactory;
+import org.springframework.core.metrics.StartupStep;
 
 /**
  * RuleBeanBuilder is a final class that provides a static method to build a Rule object based on the input ruleClass and objectFactory.
@@ -43,4 +45,24 @@ final class RuleBeanBuilder {
     static Rule build(Class<?> ruleClass, ObjectFactory objectFactory) {
         return Rule.builder().build(ruleClass, objectFactory);
     }
+
+    /**
+     * Build a Rule object based on the input ruleClass and ObjectFactory and record the time it took in the report.
+     *
+     * @param ruleClass the class representing the rule
+     * @param objectFactory the factory for creating rule objects
+     * @param report the startup report to record the build time in
+     * @return a Rule object built using the specified ruleClass and objectFactory
+     */
+    static Rule build(Class<?> ruleClass, ObjectFactory objectFactory, RuleRegistrationReport report) {
+        StartupStep step = report.getApplicationStartup().start("rulii.rule.build").tag("ruleClass", ruleClass.getName());
+        long start = System.nanoTime();
+
+        try {
+            return build(ruleClass, objectFactory);
+        } finally {
+            report.recordRuleBuild(ClassBasedRuleBuilder.getRuleName(ruleClass), ruleClass, System.nanoTime() - start);
+            step.end();
+        }
+    }
 }
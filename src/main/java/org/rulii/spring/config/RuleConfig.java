@@ -22,11 +22,31 @@ import org.rulii.bind.match.ParameterResolver;
 import org.rulii.context.RuleContextOptions;
 import org.rulii.convert.Converter;
 import org.rulii.convert.ConverterRegistry;
+import org.rulii.model.UnrulyException;
 import org.rulii.registry.RuleRegistry;
+import org.rulii.spring.batch.BatchRuleEvaluator;
+import org.rulii.spring.batch.file.FileRuleEvaluator;
+import org.rulii.spring.bind.match.ParameterPlanCache;
+import org.rulii.spring.cache.CachedConditionRuleInterceptor;
+import org.rulii.spring.cache.MemoizingRuleInterceptor;
+import org.rulii.spring.cache.RuleResultCache;
+import org.rulii.spring.concurrent.DependencyRuleScheduler;
+import org.rulii.spring.concurrent.ParallelRuleRunner;
+import org.rulii.spring.concurrent.RuleDeadlineExecutor;
+import org.rulii.spring.concurrent.RuleExecutors;
+import org.rulii.spring.concurrent.TimeoutRuleInterceptor;
+import org.rulii.spring.context.PooledRuleContextFactory;
 import org.rulii.spring.context.SpringEnabledRuleContextOptions;
 import org.rulii.spring.convert.SpringConverterAdapter;
 import org.rulii.spring.factory.SpringObjectFactory;
+import org.rulii.spring.intercept.RuleCatalog;
+import org.rulii.spring.intercept.RuleInterceptor;
+import org.rulii.spring.invoke.CompiledRuleFactory;
 import org.rulii.spring.registry.SpringRuleRegistry;
+import org.rulii.spring.stats.RuleStatistics;
+import org.rulii.spring.stats.StatisticsRuleInterceptor;
+import org.rulii.spring.reload.ReloadableRuleRegistry;
+import org.rulii.spring.reload.RuleReloader;
 import org.rulii.spring.text.SpringEnvironmentMessageResolver;
 import org.rulii.text.MessageFormatter;
 import org.rulii.text.MessageResolver;
@@ -35,21 +55,28 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.core.env.Environment;
+import org.springframework.util.unit.DataSize;
 
+import java.nio.file.Path;
 import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Configuration class for setting up rules in the system.
@@ -81,12 +108,14 @@ public class RuleConfig {
     /**
      * Retrieves or creates a ParameterResolver instance if no other bean of type ParameterResolver is available.
      *
+     * @param planCache whether to cache the parameter resolution plans for layout-stable Bindings
      * @return a new instance of ParameterResolver
      */
     @Bean
     @ConditionalOnMissingBean(ParameterResolver.class)
-    public ParameterResolver parameterResolver() {
-        return ParameterResolver.builder().build();
+    public ParameterResolver parameterResolver(@Value("${rulii.parameterResolver.planCache:false}") boolean planCache) {
+        ParameterResolver result = ParameterResolver.builder().build();
+        return planCache ? ParameterPlanCache.wrap(result) : result;
     }
 
     /**
@@ -158,13 +187,45 @@ public class RuleConfig {
      * Creates a new RuleRegistry instance if no other bean of type RuleRegistry is available.
      *
      * @param ctx the ApplicationContext to use for rule management
+     * @param reloadEnabled whether the registry must support hot-reloaded rules
      * @return a new instance of RuleRegistry
      */
     @Bean(BeanNames.RULE_REGISTRY)
     @ConditionalOnMissingBean(RuleRegistry.class)
-    public RuleRegistry ruleRegistry(@Autowired(required = false) ListableBeanFactory ctx) {
+    public RuleRegistry ruleRegistry(@Autowired(required = false) ListableBeanFactory ctx,
+                                     @Value("${rulii.reload.enabled:false}") boolean reloadEnabled) {
         if (ctx == null) LOGGER.warn("Unable to create SpringRuleRegistry. Environment does not support ListableBeanFactory.");
-        return ctx != null ? new SpringRuleRegistry(ctx) : RuleRegistry.builder().build();
+        RuleRegistry result = ctx != null ? new SpringRuleRegistry(ctx) : RuleRegistry.builder().build();
+        return reloadEnabled ? new ReloadableRuleRegistry(result) : result;
+    }
+
+    /**
+     * Creates a RuleReloader that watches the configured locations and hot-swaps the rules found there.
+     *
+     * @param ruleRegistry the RuleRegistry to swap reloaded rules into
+     * @param objectFactory the ObjectFactory used to create the reloaded rules
+     * @param ruleCatalog the RuleCatalog the reloaded rules are registered with
+     * @param interceptors the RuleInterceptors applied to the reloaded rules
+     * @param locations comma separated list of directories to watch
+     * @param quietPeriod time to wait for file changes to settle before reloading
+     * @return a new RuleReloader instance
+     * @throws UnrulyException if the RuleRegistry does not support reloading
+     */
+    @Bean(BeanNames.RULE_RELOADER)
+    @ConditionalOnProperty(name = "rulii.reload.enabled", havingValue = "true")
+    @ConditionalOnMissingBean(RuleReloader.class)
+    public RuleReloader ruleReloader(RuleRegistry ruleRegistry, ObjectFactory objectFactory, RuleCatalog ruleCatalog,
+                                     ObjectProvider<RuleInterceptor> interceptors,
+                                     @Value("${rulii.reload.locations}") String[] locations,
+                                     @Value("${rulii.reload.quietPeriod:500ms}") Duration quietPeriod) {
+        if (!(ruleRegistry instanceof ReloadableRuleRegistry reloadableRegistry)) {
+            throw new UnrulyException("rulii.reload.enabled is set but RuleRegistry [" + ruleRegistry.getClass()
+                    + "] does not support reloading. Wrap it in a ReloadableRuleRegistry.");
+        }
+
+        LOGGER.info("Rule hot-reload enabled. Watching " + Arrays.toString(locations));
+        return new RuleReloader(reloadableRegistry, objectFactory, ruleCatalog, interceptors,
+                Arrays.stream(locations).map(Path::of).toList(), quietPeriod);
     }
 
     /**
@@ -176,18 +237,259 @@ public class RuleConfig {
      * @param converterRegistry the ConverterRegistry to use
      * @param objectFactory the ObjectFactory to use
      * @param messageResolver the MessageResolver to use
+     * @param virtualThreads whether rules run on virtual threads (Java 21+) instead of a fixed thread pool
      * @return a new instance of RuleContextOptions
      */
     @Bean
     @ConditionalOnMissingBean(RuleContextOptions.class)
     public RuleContextOptions ruleContextOptions(BindingMatchingStrategy matchingStrategy, ParameterResolver parameterResolver,
                                                  MessageFormatter messageFormatter, ConverterRegistry converterRegistry,
-                                                 ObjectFactory objectFactory, MessageResolver messageResolver) {
+                                                 ObjectFactory objectFactory, MessageResolver messageResolver,
+                                                 @Value("${rulii.executor.virtualThreads:false}") boolean virtualThreads) {
+        ExecutorService executorService = virtualThreads
+                ? RuleExecutors.newVirtualThreadPerTaskExecutor()
+                : RuleExecutors.newFixedThreadPool();
         return new SpringEnabledRuleContextOptions(matchingStrategy, parameterResolver, messageFormatter,
-                converterRegistry, objectFactory, messageResolver, Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors())),
+                converterRegistry, objectFactory, messageResolver, executorService,
                 Clock.systemDefaultZone(), Locale.getDefault());
     }
 
+    /**
+     * Creates a ParallelRuleRunner instance if no other bean of type ParallelRuleRunner is available. Rules are
+     * forked on their own virtual threads (a cached thread pool before Java 21), created on first use, rather than on
+     * the ExecutorService of the RuleContextOptions that the callers may be running on.
+     *
+     * @param timeout default timeout for rule evaluations; none if not set
+     * @return a new instance of ParallelRuleRunner
+     */
+    @Bean
+    @ConditionalOnMissingBean(ParallelRuleRunner.class)
+    public ParallelRuleRunner parallelRuleRunner(@Value("${rulii.execution.timeout:#{null}}") Duration timeout) {
+        return new ParallelRuleRunner(RuleExecutors::newVirtualThreadPerTaskExecutor, timeout);
+    }
+
+    /**
+     * Creates a RuleCatalog instance if no other bean of type RuleCatalog is available.
+     *
+     * @return a new instance of RuleCatalog
+     */
+    @Bean
+    @ConditionalOnMissingBean(RuleCatalog.class)
+    public RuleCatalog ruleCatalog() {
+        return new RuleCatalog();
+    }
+
+    /**
+     * Creates a DependencyRuleScheduler instance if no other bean of type DependencyRuleScheduler is available. Rules
+     * run on their own virtual threads (a cached thread pool before Java 21), created on first use, rather than on the
+     * ExecutorService of the RuleContextOptions that the callers may be running on.
+     *
+     * @param ruleCatalog the RuleCatalog describing the Rule beans
+     * @param timeout default timeout for rule evaluations; none if not set
+     * @return a new instance of DependencyRuleScheduler
+     */
+    @Bean
+    @ConditionalOnMissingBean(DependencyRuleScheduler.class)
+    public DependencyRuleScheduler dependencyRuleScheduler(RuleCatalog ruleCatalog,
+                                                           @Value("${rulii.execution.timeout:#{null}}") Duration timeout) {
+        return new DependencyRuleScheduler(RuleExecutors::newVirtualThreadPerTaskExecutor, ruleCatalog, timeout);
+    }
+
+    /**
+     * Creates a CompiledRuleFactory instance if no other bean of type CompiledRuleFactory is available.
+     *
+     * @param ruleCatalog the RuleCatalog describing the Rule beans
+     * @param objectFactory the ObjectFactory used to create the rule instances
+     * @param interceptors the RuleInterceptors, whose Rules cannot be compiled
+     * @param precompile whether to generate the rule method invokers at startup
+     * @return a new instance of CompiledRuleFactory
+     */
+    @Bean
+    @ConditionalOnMissingBean(CompiledRuleFactory.class)
+    public CompiledRuleFactory compiledRuleFactory(RuleCatalog ruleCatalog, ObjectFactory objectFactory,
+                                                   ObjectProvider<RuleInterceptor> interceptors,
+                                                   @Value("${rulii.invokers.precompile:false}") boolean precompile) {
+        return new CompiledRuleFactory(ruleCatalog, objectFactory, interceptors, precompile);
+    }
+
+    /**
+     * Creates a RuleDeadlineExecutor instance if no other bean of type RuleDeadlineExecutor is available. Timed
+     * evaluations run on their own executor so that waiting callers never starve the Rulii ExecutorService. The
+     * executor is only created when the first evaluation with a deadline runs.
+     *
+     * @param timeout default timeout for rule evaluations; none if not set
+     * @return a new instance of RuleDeadlineExecutor
+     */
+    @Bean
+    @ConditionalOnMissingBean(RuleDeadlineExecutor.class)
+    public RuleDeadlineExecutor ruleDeadlineExecutor(@Value("${rulii.execution.timeout:#{null}}") Duration timeout) {
+        return new RuleDeadlineExecutor(RuleExecutors::newVirtualThreadPerTaskExecutor, timeout);
+    }
+
+    /**
+     * Creates a TimeoutRuleInterceptor instance if no other bean of type TimeoutRuleInterceptor is available.
+     *
+     * @param deadlineExecutor the RuleDeadlineExecutor enforcing the timeouts
+     * @return a new instance of TimeoutRuleInterceptor
+     */
+    @Bean
+    @ConditionalOnMissingBean(TimeoutRuleInterceptor.class)
+    public TimeoutRuleInterceptor timeoutRuleInterceptor(RuleDeadlineExecutor deadlineExecutor) {
+        return new TimeoutRuleInterceptor(deadlineExecutor);
+    }
+
+    /**
+     * Creates a RuleResultCache instance if no other bean of type RuleResultCache is available.
+     *
+     * @param maxSize maximum number of cached Rule results
+     * @param ttl default time to live of a cached result
+     * @return a new instance of RuleResultCache
+     */
+    @Bean
+    @ConditionalOnMissingBean(RuleResultCache.class)
+    public RuleResultCache ruleResultCache(@Value("${rulii.cache.maxSize:10000}") int maxSize,
+                                           @Value("${rulii.cache.ttl:10m}") Duration ttl) {
+        return new RuleResultCache(maxSize, ttl);
+    }
+
+    /**
+     * Creates a MemoizingRuleInterceptor instance if no other bean of type MemoizingRuleInterceptor is available.
+     *
+     * @param ruleResultCache the cache holding the memoized results
+     * @return a new instance of MemoizingRuleInterceptor
+     */
+    @Bean
+    @ConditionalOnMissingBean(MemoizingRuleInterceptor.class)
+    public MemoizingRuleInterceptor memoizingRuleInterceptor(RuleResultCache ruleResultCache) {
+        return new MemoizingRuleInterceptor(ruleResultCache);
+    }
+
+    /**
+     * Creates a RuleStatistics instance if statistics are enabled and no other bean of type RuleStatistics is available.
+     *
+     * @return a new instance of RuleStatistics
+     */
+    @Bean
+    @ConditionalOnProperty(name = "rulii.statistics.enabled", havingValue = "true")
+    @ConditionalOnMissingBean(RuleStatistics.class)
+    public RuleStatistics ruleStatistics() {
+        return new RuleStatistics();
+    }
+
+    /**
+     * Creates a StatisticsRuleInterceptor instance if statistics are enabled and no other bean of type
+     * StatisticsRuleInterceptor is available.
+     *
+     * @param ruleStatistics the RuleStatistics to record the runs in
+     * @return a new instance of StatisticsRuleInterceptor
+     */
+    @Bean
+    @ConditionalOnProperty(name = "rulii.statistics.enabled", havingValue = "true")
+    @ConditionalOnMissingBean(StatisticsRuleInterceptor.class)
+    public StatisticsRuleInterceptor statisticsRuleInterceptor(RuleStatistics ruleStatistics) {
+        return new StatisticsRuleInterceptor(ruleStatistics);
+    }
+
+    /**
+     * Creates the RuleInterceptorPostProcessor that applies the RuleInterceptor beans to the Rule beans.
+     *
+     * @return a new RuleInterceptorPostProcessor instance
+     */
+    @Bean
+    @ConditionalOnMissingBean(RuleInterceptorPostProcessor.class)
+    public static RuleInterceptorPostProcessor ruleInterceptorPostProcessor() {
+        return new RuleInterceptorPostProcessor();
+    }
+
+    /**
+     * Creates a CachedConditionRuleInterceptor instance if no other bean of type CachedConditionRuleInterceptor is
+     * available.
+     *
+     * @return a new instance of CachedConditionRuleInterceptor
+     */
+    @Bean
+    @ConditionalOnMissingBean(CachedConditionRuleInterceptor.class)
+    public CachedConditionRuleInterceptor cachedConditionRuleInterceptor() {
+        return new CachedConditionRuleInterceptor();
+    }
+
+    /**
+     * Creates the CachedConditionPostProcessor that shares @CachedCondition results within an evaluation.
+     *
+     * @return a new CachedConditionPostProcessor instance
+     */
+    @Bean
+    @ConditionalOnMissingBean(CachedConditionPostProcessor.class)
+    public static CachedConditionPostProcessor cachedConditionPostProcessor() {
+        return new CachedConditionPostProcessor();
+    }
+
+    /**
+     * Creates the ReferenceTableRegistrar that registers the reference tables listed under rulii.refdata.tables.
+     *
+     * @return a new ReferenceTableRegistrar instance
+     */
+    @Bean
+    @ConditionalOnMissingBean(ReferenceTableRegistrar.class)
+    public static ReferenceTableRegistrar referenceTableRegistrar() {
+        return new ReferenceTableRegistrar();
+    }
+
+    /**
+     * Creates a BatchRuleEvaluator instance if no other bean of type BatchRuleEvaluator is available.
+     *
+     * @param pooledRuleContextFactory the factory of the pooled worker contexts
+     * @param parallelism maximum number of chunks evaluated concurrently (0 = number of processors)
+     * @param chunkSize number of inputs per chunk
+     * @return a new instance of BatchRuleEvaluator
+     */
+    @Bean
+    @ConditionalOnMissingBean(BatchRuleEvaluator.class)
+    public BatchRuleEvaluator batchRuleEvaluator(PooledRuleContextFactory pooledRuleContextFactory,
+                                                 @Value("${rulii.batch.parallelism:0}") int parallelism,
+                                                 @Value("${rulii.batch.chunkSize:256}") int chunkSize) {
+        return new BatchRuleEvaluator(pooledRuleContextFactory, parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(), chunkSize);
+    }
+
+    /**
+     * Creates a FileRuleEvaluator instance if no other bean of type FileRuleEvaluator is available. The chunks run on
+     * their own virtual threads (a cached thread pool before Java 21), not on the ExecutorService of the
+     * RuleContextOptions; the executor is only created on the first evaluation.
+     *
+     * @param ruleRegistry the RuleRegistry used to look up Rules and RuleSets by name
+     * @param pooledRuleContextFactory the factory of the pooled worker contexts
+     * @param conversionService the ConversionService used for fields that are not decoded directly (optional)
+     * @param parallelism maximum number of chunks evaluated concurrently (0 = number of processors)
+     * @param chunkSize approximate size of each mapped chunk of the input file
+     * @return a new instance of FileRuleEvaluator
+     */
+    @Bean
+    @ConditionalOnMissingBean(FileRuleEvaluator.class)
+    public FileRuleEvaluator fileRuleEvaluator(RuleRegistry ruleRegistry, PooledRuleContextFactory pooledRuleContextFactory,
+                                               @Autowired(required = false) ConversionService conversionService,
+                                               @Value("${rulii.batch.parallelism:0}") int parallelism,
+                                               @Value("${rulii.file.chunkSize:8MB}") DataSize chunkSize) {
+        return new FileRuleEvaluator(ruleRegistry, pooledRuleContextFactory, RuleExecutors::newVirtualThreadPerTaskExecutor,
+                conversionService != null ? conversionService : DefaultConversionService.getSharedInstance(),
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(), Math.toIntExact(chunkSize.toBytes()));
+    }
+
+    /**
+     * Creates a PooledRuleContextFactory instance if no other bean of type PooledRuleContextFactory is available.
+     *
+     * @param ruleContextOptions the RuleContextOptions of the pooled contexts
+     * @param capacity maximum number of idle contexts per binding layout (0 = 4 x number of processors)
+     * @param maxLayouts maximum number of binding layouts with a pool
+     * @return a new instance of PooledRuleContextFactory
+     */
+    @Bean
+    @ConditionalOnMissingBean(PooledRuleContextFactory.class)
+    public PooledRuleContextFactory pooledRuleContextFactory(RuleContextOptions ruleContextOptions,
+                                                             @Value("${rulii.contextPool.capacity:0}") int capacity,
+                                                             @Value("${rulii.contextPool.maxLayouts:64}") int maxLayouts) {
+        return new PooledRuleContextFactory(ruleContextOptions, capacity > 0 ? capacity : 4 * Runtime.getRuntime().availableProcessors(), maxLayouts);
+    }
+
     /**
      * Creates a RuleBeanDefinitionRegistryPostProcessor instance if no other bean of type RuleRegistrarMetaInfo is available.
      *
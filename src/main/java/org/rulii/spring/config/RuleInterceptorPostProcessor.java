@@ -0,0 +1,109 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.config;
+
+import org.rulii.rule.Rule;
+import org.rulii.spring.intercept.RuleCatalog;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.rulii.spring.intercept.RuleInterceptor;
+import org.rulii.spring.intercept.RuleInterceptors;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+
+import java.util.List;
+
+/**
+ * BeanPostProcessor that applies the {@link RuleInterceptor} beans to Rule beans. A Rule bean is wrapped in a proxy
+ * only if at least one interceptor supports it; all other Rule beans are returned as-is. Every Rule bean is also
+ * registered with the {@link RuleCatalog}, if there is one.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RuleInterceptorPostProcessor implements BeanPostProcessor, BeanFactoryAware {
+
+    /**
+     * Bean definition attribute holding the class a registered Rule was built from.
+     */
+    static final String RULE_CLASS_ATTRIBUTE = "rulii.ruleClass";
+
+    private ConfigurableListableBeanFactory beanFactory;
+    private volatile List<RuleInterceptor> interceptors;
+    private volatile RuleCatalog ruleCatalog;
+
+    RuleInterceptorPostProcessor() {
+        super();
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        if (beanFactory instanceof ConfigurableListableBeanFactory factory) this.beanFactory = factory;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (!(bean instanceof Rule) || beanFactory == null) return bean;
+
+        RuleCatalog catalog = getRuleCatalog();
+        RuleDescriptor created = new RuleDescriptor(beanName, getRuleClass(beanName));
+        // The catalog assigns the Rule id
+        RuleDescriptor descriptor = catalog != null ? catalog.register((Rule) bean, created) : created;
+
+        Rule result = RuleInterceptors.apply((Rule) bean, descriptor, getInterceptors());
+        if (result != bean && catalog != null) catalog.register(result, descriptor);
+        return result;
+    }
+
+    /**
+     * Retrieves the class the Rule bean was built from, as recorded by the {@link RuleRegistrar}.
+     *
+     * @param beanName name of the Rule bean
+     * @return the rule class or null if it is unknown
+     */
+    private Class<?> getRuleClass(String beanName) {
+        if (!beanFactory.containsBeanDefinition(beanName)) return null;
+        Object result = beanFactory.getMergedBeanDefinition(beanName).getAttribute(RULE_CLASS_ATTRIBUTE);
+        return result instanceof Class<?> ruleClass ? ruleClass : null;
+    }
+
+    private RuleCatalog getRuleCatalog() {
+        RuleCatalog result = ruleCatalog;
+
+        if (result == null) {
+            result = beanFactory.getBeanProvider(RuleCatalog.class).getIfAvailable();
+            this.ruleCatalog = result;
+        }
+
+        return result;
+    }
+
+    private List<RuleInterceptor> getInterceptors() {
+        List<RuleInterceptor> result = interceptors;
+
+        if (result == null) {
+            result = beanFactory.getBeanProvider(RuleInterceptor.class).orderedStream().toList();
+            this.interceptors = result;
+        }
+
+        return result;
+    }
+}
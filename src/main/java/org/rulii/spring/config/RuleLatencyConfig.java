@@ -0,0 +1,109 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.config;
+
+import org.rulii.spring.latency.LatencyRuleInterceptor;
+import org.rulii.spring.latency.RuleLatencyMeterBinder;
+import org.rulii.spring.latency.RuleLatencyRecorder;
+import org.rulii.spring.latency.RuleLatencyReporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for recording per-Rule latency histograms. Only active when HdrHistogram is on the classpath
+ * and rulii.latency.enabled is set; the Micrometer export is added when micrometer-core is present as well.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+@AutoConfiguration(after = RuleConfig.class)
+@ConditionalOnClass(name = "org.HdrHistogram.Recorder")
+@ConditionalOnProperty(name = "rulii.latency.enabled", havingValue = "true")
+public class RuleLatencyConfig {
+
+    public RuleLatencyConfig() {
+        super();
+    }
+
+    /**
+     * Creates a RuleLatencyRecorder instance if no other bean of type RuleLatencyRecorder is available.
+     *
+     * @return a new instance of RuleLatencyRecorder
+     */
+    @Bean
+    @ConditionalOnMissingBean(RuleLatencyRecorder.class)
+    public RuleLatencyRecorder ruleLatencyRecorder() {
+        return new RuleLatencyRecorder();
+    }
+
+    /**
+     * Creates a LatencyRuleInterceptor instance if no other bean of type LatencyRuleInterceptor is available.
+     *
+     * @param recorder the RuleLatencyRecorder to record the runs in
+     * @return a new instance of LatencyRuleInterceptor
+     */
+    @Bean
+    @ConditionalOnMissingBean(LatencyRuleInterceptor.class)
+    public LatencyRuleInterceptor latencyRuleInterceptor(RuleLatencyRecorder recorder) {
+        return new LatencyRuleInterceptor(recorder);
+    }
+
+    /**
+     * Creates a RuleLatencyReporter instance if no other bean of type RuleLatencyReporter is available.
+     *
+     * @param recorder the RuleLatencyRecorder to report
+     * @param interval length of a reporting interval
+     * @param log whether to log every interval
+     * @return a new instance of RuleLatencyReporter
+     */
+    @Bean
+    @ConditionalOnMissingBean(RuleLatencyReporter.class)
+    public RuleLatencyReporter ruleLatencyReporter(RuleLatencyRecorder recorder,
+                                                   @Value("${rulii.latency.interval:1m}") Duration interval,
+                                                   @Value("${rulii.latency.log:false}") boolean log) {
+        return new RuleLatencyReporter(recorder, interval, log);
+    }
+
+    /**
+     * Micrometer export of the latency snapshots. Only active when micrometer-core is on the classpath.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+    static class MicrometerConfig {
+
+        /**
+         * Creates a RuleLatencyMeterBinder instance if no other bean of type RuleLatencyMeterBinder is available.
+         *
+         * @param recorder the RuleLatencyRecorder whose snapshots are exported
+         * @return a new instance of RuleLatencyMeterBinder
+         */
+        @Bean
+        @ConditionalOnMissingBean(RuleLatencyMeterBinder.class)
+        public RuleLatencyMeterBinder ruleLatencyMeterBinder(RuleLatencyRecorder recorder) {
+            return new RuleLatencyMeterBinder(recorder);
+        }
+    }
+}
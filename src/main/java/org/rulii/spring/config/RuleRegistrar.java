@@ -25,16 +25,24 @@ import org.rulii.spring.annotation.RuleScan;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.BeanNameGenerator;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.MultiValueMap;
 
 import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 /**
  * RuleRegistrar is a class that implements ImportBeanDefinitionRegistrar to register rule classes in the Spring application context.
@@ -44,6 +52,11 @@ import java.util.Arrays;
  */
 public class RuleRegistrar implements ImportBeanDefinitionRegistrar {
     private static final Logger LOGGER = LoggerFactory.getLogger(RuleRegistrar.class);
+    // Constructor arguments of the RuleRegistrationReport
+    private static final int REPORT_PACKAGES = 0;
+    private static final int REPORT_SCAN_NANOS = 1;
+    private static final int REPORT_CLASS_LOADING_NANOS = 2;
+    private static final int REPORT_BEAN_DEFINITION_NANOS = 3;
 
     public RuleRegistrar() {
         super();
@@ -66,17 +79,26 @@ public class RuleRegistrar implements ImportBeanDefinitionRegistrar {
      * @return the total number of rules successfully registered
      */
     public int registerRules(String[] rulePackages, BeanDefinitionRegistry registry) {
+        ConstructorArgumentValues report = getReportDefinition(registry).getConstructorArgumentValues();
+        ApplicationStartup applicationStartup = getApplicationStartup(registry);
         RuleBeanDefinitionScanner scanner = new RuleBeanDefinitionScanner();
         LOGGER.info("Scanning for Rules under  " + Arrays.toString(rulePackages));
+
+        StartupStep scanStep = applicationStartup.start("rulii.rules.scan").tag("packages", Arrays.toString(rulePackages));
+        long start = System.nanoTime();
         scanner.scanForRules(rulePackages);
+        recordScan(report, rulePackages, System.nanoTime() - start);
+        scanStep.end();
 
+        StartupStep registerStep = applicationStartup.start("rulii.rules.register");
         int result = 0;
         for (BeanDefinitionHolder holder : scanner.getRuleBeans()) {
-            boolean registered = registerRule(holder.getBeanName(), holder.getBeanDefinition(), registry);
+            boolean registered = registerRule(holder.getBeanName(), holder.getBeanDefinition(), registry, report);
 
             if (registered && LOGGER.isDebugEnabled()) LOGGER.debug("Registering Rule [" + holder.getBeanDefinition().getBeanClassName() + "]");
             if (registered) result++;
         }
+        registerStep.tag("count", String.valueOf(result)).end();
 
         LOGGER.info("Rule registration complete. Found [" + result + "] rule(s).");
         return result;
@@ -88,10 +110,15 @@ public class RuleRegistrar implements ImportBeanDefinitionRegistrar {
      * @param beanName the name of the bean to register
      * @param beanDefinition the BeanDefinition of the rule
      * @param registry the BeanDefinitionRegistry where the rule will be registered
+     * @param report constructor arguments of the startup report to record the timings in
      * @return true if the rule was successfully registered, false otherwise
      */
-    private boolean registerRule(String beanName, BeanDefinition beanDefinition, BeanDefinitionRegistry registry) {
+    private boolean registerRule(String beanName, BeanDefinition beanDefinition, BeanDefinitionRegistry registry,
+                                 ConstructorArgumentValues report) {
+        long start = System.nanoTime();
         Class<?> ruleClass = getClass(beanDefinition.getBeanClassName());
+        long loaded = System.nanoTime();
+        addNanos(report, REPORT_CLASS_LOADING_NANOS, loaded - start);
 
         if (ruleClass == null) {
             LOGGER.warn("Could not register [" + beanName + "]. Unable to load Rule Class [" + beanDefinition.getBeanClassName() + "]");
@@ -107,12 +134,55 @@ public class RuleRegistrar implements ImportBeanDefinitionRegistrar {
         BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(RuleBeanBuilder.class);
         builder.addConstructorArgValue(ruleClass);
         builder.addConstructorArgReference(BeanNames.OBJECT_FACTORY_NAME);
+        builder.addConstructorArgReference(BeanNames.RULE_REGISTRATION_REPORT);
         builder.setFactoryMethod("build");
-        registry.registerBeanDefinition(ClassBasedRuleBuilder.getRuleName(ruleClass), builder.getBeanDefinition());
+        AbstractBeanDefinition definition = builder.getBeanDefinition();
+        definition.setAttribute(RuleInterceptorPostProcessor.RULE_CLASS_ATTRIBUTE, ruleClass);
+        registry.registerBeanDefinition(ClassBasedRuleBuilder.getRuleName(ruleClass), definition);
+        addNanos(report, REPORT_BEAN_DEFINITION_NANOS, System.nanoTime() - loaded);
 
         return true;
     }
 
+    /**
+     * Retrieves the bean definition of the startup report, registering it on first use. Several registrations (e.g.
+     * more than one @RuleScan) share the same report; their timings are accumulated in its constructor arguments.
+     *
+     * @param registry the BeanDefinitionRegistry where the rules are registered
+     * @return the bean definition of the startup report
+     */
+    private BeanDefinition getReportDefinition(BeanDefinitionRegistry registry) {
+        if (!registry.containsBeanDefinition(BeanNames.RULE_REGISTRATION_REPORT)) {
+            registry.registerBeanDefinition(BeanNames.RULE_REGISTRATION_REPORT,
+                    BeanDefinitionBuilder.genericBeanDefinition(RuleRegistrationReport.class)
+                            .addConstructorArgValue(new String[0])
+                            .addConstructorArgValue(0L)
+                            .addConstructorArgValue(0L)
+                            .addConstructorArgValue(0L)
+                            .getBeanDefinition());
+        }
+
+        return registry.getBeanDefinition(BeanNames.RULE_REGISTRATION_REPORT);
+    }
+
+    private static void recordScan(ConstructorArgumentValues report, String[] rulePackages, long nanos) {
+        Set<String> packages = new LinkedHashSet<>(Arrays.asList((String[]) report.getIndexedArgumentValue(REPORT_PACKAGES, String[].class).getValue()));
+        packages.addAll(Arrays.asList(rulePackages));
+        report.addIndexedArgumentValue(REPORT_PACKAGES, packages.toArray(new String[0]));
+        addNanos(report, REPORT_SCAN_NANOS, nanos);
+    }
+
+    private static void addNanos(ConstructorArgumentValues report, int index, long nanos) {
+        long value = (Long) report.getIndexedArgumentValue(index, Long.class).getValue();
+        report.addIndexedArgumentValue(index, value + nanos);
+    }
+
+    private static ApplicationStartup getApplicationStartup(BeanDefinitionRegistry registry) {
+        if (registry instanceof ConfigurableBeanFactory factory) return factory.getApplicationStartup();
+        if (registry instanceof ConfigurableApplicationContext context) return context.getApplicationStartup();
+        return ApplicationStartup.DEFAULT;
+    }
+
     /**
      * Register the meta information for rules in the given packages into the provided BeanDefinitionRegistry.
      *
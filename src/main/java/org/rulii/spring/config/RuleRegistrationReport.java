@@ -0,0 +1,194 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationStartupAware;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Startup report of the Rule registration: time spent scanning for Rule classes, loading them, creating their bean
+ * definitions and building each Rule. The same phases are recorded as {@link org.springframework.core.metrics.StartupStep}s
+ * ("rulii.rules.scan", "rulii.rules.register" and "rulii.rule.build") with the ApplicationStartup of the context, so
+ * they show up in the startup actuator endpoint or a Java Flight Recorder recording as well.
+ * <p>
+ * The report is registered once per context under {@link BeanNames#RULE_REGISTRATION_REPORT}. The scan and
+ * registration times are accumulated in its bean definition by every @RuleScan; the Rule beans reference the report
+ * to record their build times.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RuleRegistrationReport implements SmartInitializingSingleton, ApplicationStartupAware {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RuleRegistrationReport.class);
+    private static final int LOGGED_SLOWEST_RULES = 5;
+
+    private volatile ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+    private final Queue<String> packages = new ConcurrentLinkedQueue<>();
+    private final Queue<RuleBuildTime> ruleBuildTimes = new ConcurrentLinkedQueue<>();
+    private final AtomicLong scanNanos = new AtomicLong();
+    private final AtomicLong classLoadingNanos = new AtomicLong();
+    private final AtomicLong beanDefinitionNanos = new AtomicLong();
+
+    RuleRegistrationReport(String[] scannedPackages, long scanNanos, long classLoadingNanos, long beanDefinitionNanos) {
+        super();
+        this.packages.addAll(List.of(scannedPackages));
+        this.scanNanos.set(scanNanos);
+        this.classLoadingNanos.set(classLoadingNanos);
+        this.beanDefinitionNanos.set(beanDefinitionNanos);
+    }
+
+    @Override
+    public void setApplicationStartup(ApplicationStartup applicationStartup) {
+        Assert.notNull(applicationStartup, "applicationStartup cannot be null.");
+        this.applicationStartup = applicationStartup;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        LOGGER.info("Rule startup: scan [" + getScanTime().toMillis() + "] ms, class loading [" + getClassLoadingTime().toMillis()
+                + "] ms, bean definitions [" + getBeanDefinitionTime().toMillis() + "] ms, building [" + getRuleCount()
+                + "] rule(s) [" + getRuleBuildTime().toMillis() + "] ms. Slowest " + getSlowestRules(LOGGED_SLOWEST_RULES));
+    }
+
+    void recordRuleBuild(String ruleName, Class<?> ruleClass, long nanos) {
+        ruleBuildTimes.add(new RuleBuildTime(ruleName, ruleClass, Duration.ofNanos(nanos)));
+    }
+
+    ApplicationStartup getApplicationStartup() {
+        return applicationStartup;
+    }
+
+    /**
+     * Retrieves the packages that were scanned for Rules.
+     *
+     * @return scanned packages
+     */
+    public List<String> getPackages() {
+        return List.copyOf(packages);
+    }
+
+    /**
+     * Time spent scanning the packages for Rule classes.
+     *
+     * @return scan time
+     */
+    public Duration getScanTime() {
+        return Duration.ofNanos(scanNanos.get());
+    }
+
+    /**
+     * Time spent loading the Rule classes found by the scan.
+     *
+     * @return class loading time
+     */
+    public Duration getClassLoadingTime() {
+        return Duration.ofNanos(classLoadingNanos.get());
+    }
+
+    /**
+     * Time spent creating and registering the Rule bean definitions.
+     *
+     * @return bean definition time
+     */
+    public Duration getBeanDefinitionTime() {
+        return Duration.ofNanos(beanDefinitionNanos.get());
+    }
+
+    /**
+     * Total time spent building the Rule beans.
+     *
+     * @return build time of all the Rules
+     */
+    public Duration getRuleBuildTime() {
+        Duration result = Duration.ZERO;
+        for (RuleBuildTime buildTime : ruleBuildTimes) result = result.plus(buildTime.buildTime());
+        return result;
+    }
+
+    /**
+     * Number of Rules that have been built so far.
+     *
+     * @return built Rule count
+     */
+    public int getRuleCount() {
+        return ruleBuildTimes.size();
+    }
+
+    /**
+     * Retrieves the build time of every Rule, in the order they were built.
+     *
+     * @return Rule build times
+     */
+    public List<RuleBuildTime> getRuleBuildTimes() {
+        return List.copyOf(ruleBuildTimes);
+    }
+
+    /**
+     * Retrieves the Rules that took the longest to build.
+     *
+     * @param count maximum number of Rules to return
+     * @return slowest Rules, slowest first
+     */
+    public List<RuleBuildTime> getSlowestRules(int count) {
+        Assert.isTrue(count >= 0, "count must be >= 0.");
+        List<RuleBuildTime> result = new ArrayList<>(ruleBuildTimes);
+        result.sort(Comparator.comparing(RuleBuildTime::buildTime).reversed());
+        return List.copyOf(result.subList(0, Math.min(count, result.size())));
+    }
+
+    @Override
+    public String toString() {
+        return "RuleRegistrationReport{" +
+                "packages=" + packages +
+                ", scanTime=" + getScanTime() +
+                ", classLoadingTime=" + getClassLoadingTime() +
+                ", beanDefinitionTime=" + getBeanDefinitionTime() +
+                ", ruleCount=" + getRuleCount() +
+                ", ruleBuildTime=" + getRuleBuildTime() +
+                '}';
+    }
+
+    /**
+     * Time it took to build a single Rule.
+     *
+     * @param ruleName name of the Rule
+     * @param ruleClass class the Rule was built from
+     * @param buildTime time spent building the Rule
+     */
+    public record RuleBuildTime(String ruleName, Class<?> ruleClass, Duration buildTime) {
+
+        @Override
+        public String toString() {
+            return ruleName + "=" + buildTime.toMillis() + "ms";
+        }
+    }
+}
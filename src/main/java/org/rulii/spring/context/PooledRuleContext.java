@@ -0,0 +1,98 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.context;
+
+import org.rulii.context.RuleContext;
+import org.rulii.context.RuleContextOptions;
+import org.rulii.model.Runnable;
+import org.rulii.spring.bind.BindingLayout;
+import org.rulii.spring.bind.BindingSlots;
+import org.rulii.spring.cache.ConditionMemo;
+
+/**
+ * RuleContext and {@link BindingSlots} borrowed from a {@link RuleContextPool}. Set the binding values through
+ * {@link #getSlots()}, run the Rules and close it to reset the slots and return it to the pool. Must not be used after
+ * it was closed.
+ *
+ * <pre>
+ * try (PooledRuleContext pooled = pool.acquire()) {
+ *     pooled.getSlots().set(0, order);
+ *     RuleResult result = pooled.run(pricingRule);
+ * }
+ * </pre>
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public final class PooledRuleContext implements AutoCloseable {
+
+    private final RuleContextPool pool;
+    private final BindingSlots slots;
+    private final RuleContext context;
+    private boolean borrowed = false;
+
+    PooledRuleContext(RuleContextPool pool, BindingLayout layout, RuleContextOptions options) {
+        super();
+        this.pool = pool;
+        this.slots = layout.newSlots();
+        this.context = RuleContext.builder().with(options).bindings(slots.getBindings()).build();
+    }
+
+    /**
+     * Runs the given Rule/RuleSet with this context.
+     *
+     * @param runnable Rule or RuleSet to run
+     * @param <T> result type
+     * @return result of the run
+     */
+    public <T> T run(Runnable<T> runnable) {
+        return ConditionMemo.evaluate(context, () -> runnable.run(context));
+    }
+
+    public RuleContext getContext() {
+        return context;
+    }
+
+    public BindingSlots getSlots() {
+        return slots;
+    }
+
+    void borrow() {
+        this.borrowed = true;
+    }
+
+    /**
+     * Resets the binding values and returns this context to its pool.
+     */
+    @Override
+    public void close() {
+        if (!borrowed) return;
+        this.borrowed = false;
+        slots.clear();
+        pool.release(this);
+    }
+
+    @Override
+    public String toString() {
+        return "PooledRuleContext{" +
+                "layout=" + slots.getLayout() +
+                ", borrowed=" + borrowed +
+                '}';
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.context;
+
+import org.rulii.context.RuleContextOptions;
+import org.rulii.spring.bind.BindingLayout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Hands out pooled RuleContexts built on the auto-configured RuleContextOptions, with one {@link RuleContextPool} per
+ * {@link BindingLayout}. Pools are keyed by layout identity: build a layout once per input type (e.g. as a static
+ * field) and reuse it. At most {@code maxLayouts} pools are kept; contexts of any further layout are created on demand
+ * and not reused, so a layout built per request does not grow the factory but gets no pooling either.
+ *
+ * <pre>
+ * try (PooledRuleContext pooled = contextFactory.acquire(ORDER_LAYOUT)) {
+ *     pooled.getSlots().set(0, order);
+ *     return pooled.run(pricingRuleSet);
+ * }
+ * </pre>
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class PooledRuleContextFactory {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PooledRuleContextFactory.class);
+
+    /**
+     * Default maximum number of layouts with a pool.
+     */
+    public static final int DEFAULT_MAX_LAYOUTS = 64;
+
+    private final RuleContextOptions options;
+    private final int capacity;
+    private final int maxLayouts;
+    private final Map<BindingLayout, RuleContextPool> pools = new ConcurrentHashMap<>();
+    private final AtomicBoolean overflowReported = new AtomicBoolean();
+
+    /**
+     * Creates a new PooledRuleContextFactory that keeps pools for up to {@link #DEFAULT_MAX_LAYOUTS} layouts.
+     *
+     * @param options options of the pooled RuleContexts
+     * @param capacity maximum number of idle contexts per layout
+     */
+    public PooledRuleContextFactory(RuleContextOptions options, int capacity) {
+        this(options, capacity, DEFAULT_MAX_LAYOUTS);
+    }
+
+    /**
+     * Creates a new PooledRuleContextFactory.
+     *
+     * @param options options of the pooled RuleContexts
+     * @param capacity maximum number of idle contexts per layout
+     * @param maxLayouts maximum number of layouts with a pool
+     */
+    public PooledRuleContextFactory(RuleContextOptions options, int capacity, int maxLayouts) {
+        super();
+        Assert.notNull(options, "options cannot be null.");
+        Assert.isTrue(capacity > 0, "capacity must be > 0.");
+        Assert.isTrue(maxLayouts > 0, "maxLayouts must be > 0.");
+        this.options = options;
+        this.capacity = capacity;
+        this.maxLayouts = maxLayouts;
+    }
+
+    /**
+     * Borrows a context for the given layout.
+     *
+     * @param layout binding layout
+     * @return a context with empty bindings; close it when done
+     */
+    public PooledRuleContext acquire(BindingLayout layout) {
+        return getPool(layout).acquire();
+    }
+
+    /**
+     * Retrieves the pool of the given layout, creating it on first use. Once the factory holds the maximum number of
+     * pools, a new pool that is not kept is returned for any other layout.
+     *
+     * @param layout binding layout
+     * @return the pool
+     */
+    public RuleContextPool getPool(BindingLayout layout) {
+        Assert.notNull(layout, "layout cannot be null.");
+        RuleContextPool result = pools.get(layout);
+        if (result != null) return result;
+
+        if (pools.size() >= maxLayouts) {
+            if (overflowReported.compareAndSet(false, true)) {
+                LOGGER.warn("PooledRuleContextFactory holds pools for " + maxLayouts + " binding layouts; contexts of "
+                        + "further layouts are not pooled. Build each BindingLayout once and reuse it.");
+            }
+
+            return new RuleContextPool(layout, options, capacity);
+        }
+
+        return pools.computeIfAbsent(layout, key -> new RuleContextPool(key, options, capacity));
+    }
+
+    public RuleContextOptions getOptions() {
+        return options;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getMaxLayouts() {
+        return maxLayouts;
+    }
+
+    /**
+     * Retrieves the number of layouts with a pool.
+     *
+     * @return number of pools
+     */
+    public int getPoolCount() {
+        return pools.size();
+    }
+
+    @Override
+    public String toString() {
+        return "PooledRuleContextFactory{" +
+                "capacity=" + capacity +
+                ", layouts=" + pools.size() +
+                '}';
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.context;
+
+import org.rulii.context.RuleContextOptions;
+import org.rulii.spring.bind.BindingLayout;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Striped pool of {@link PooledRuleContext}s for one {@link BindingLayout}. Each thread starts probing at its own
+ * stripe, so threads rarely contend for the same entry; acquiring and releasing is one atomic swap in the common
+ * case and nothing is allocated once the pool has warmed up. If the pool is empty a new context is created, and if
+ * it is full a released context is left to the garbage collector.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RuleContextPool {
+
+    private static final int MAX_PROBES = 8;
+
+    private final BindingLayout layout;
+    private final RuleContextOptions options;
+    private final AtomicReferenceArray<PooledRuleContext> entries;
+    private final int mask;
+
+    /**
+     * Creates a new RuleContextPool.
+     *
+     * @param layout layout of the pooled bindings
+     * @param options options of the pooled RuleContexts
+     * @param capacity maximum number of idle contexts (rounded up to a power of two)
+     */
+    public RuleContextPool(BindingLayout layout, RuleContextOptions options, int capacity) {
+        super();
+        Assert.notNull(layout, "layout cannot be null.");
+        Assert.notNull(options, "options cannot be null.");
+        Assert.isTrue(capacity > 0, "capacity must be > 0.");
+        this.layout = layout;
+        this.options = options;
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.entries = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Borrows a context from the pool, creating one if none is idle.
+     *
+     * @return a context with empty bindings
+     */
+    public PooledRuleContext acquire() {
+        int start = stripe();
+        PooledRuleContext result = null;
+
+        for (int i = 0; i < MAX_PROBES && result == null; i++) {
+            int index = (start + i) & mask;
+            if (entries.get(index) != null) result = entries.getAndSet(index, null);
+        }
+
+        if (result == null) result = new PooledRuleContext(this, layout, options);
+        result.borrow();
+        return result;
+    }
+
+    /**
+     * Returns a context to the pool.
+     *
+     * @param context context to return (already reset)
+     */
+    void release(PooledRuleContext context) {
+        int start = stripe();
+
+        for (int i = 0; i < MAX_PROBES; i++) {
+            int index = (start + i) & mask;
+            if (entries.get(index) == null && entries.compareAndSet(index, null, context)) return;
+        }
+    }
+
+    private int stripe() {
+        long id = Thread.currentThread().getId();
+        return (int) (id ^ (id >>> 32)) * 0x9E3779B9 & mask;
+    }
+
+    /**
+     * Retrieves the number of idle contexts.
+     *
+     * @return number of idle contexts
+     */
+    public int getIdleCount() {
+        int result = 0;
+        for (int i = 0; i < entries.length(); i++) if (entries.get(i) != null) result++;
+        return result;
+    }
+
+    public int getCapacity() {
+        return entries.length();
+    }
+
+    public BindingLayout getLayout() {
+        return layout;
+    }
+
+    @Override
+    public String toString() {
+        return "RuleContextPool{" +
+                "layout=" + layout +
+                ", capacity=" + entries.length() +
+                '}';
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.incremental;
+
+import org.rulii.context.RuleContextOptions;
+import org.rulii.rule.Rule;
+import org.rulii.ruleset.RuleSet;
+import org.rulii.spring.bind.BindingLayout;
+import org.rulii.spring.intercept.RuleCatalog;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable map of which Rules read and write which bindings of a {@link BindingLayout}, shared by all the
+ * {@link IncrementalRuleSession}s of a RuleSet. Rules whose inputs are unknown are re-run on every change. Rules that do
+ * not declare their {@link org.rulii.spring.annotation.Outputs} (or whose inputs are unknown) may write any binding, so
+ * every later Rule that reads a binding is re-run after them.
+ *
+ * <pre>
+ * IncrementalRulePlan plan = IncrementalRulePlan.build(ruleSet, layout, ruleCatalog);
+ * IncrementalRuleSession session = plan.newSession(ruleContextOptions);
+ * session.set("quantity", 10);
+ * session.evaluate();
+ * </pre>
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public final class IncrementalRulePlan {
+
+    private final List<Rule> rules;
+    private final BindingLayout layout;
+    // Rules reading each binding, in declaration order
+    private final int[][] readers;
+    // Bindings written by each Rule
+    private final int[][] writes;
+    // Rules that must run on every change
+    private final boolean[] alwaysRun;
+
+    private IncrementalRulePlan(List<Rule> rules, BindingLayout layout, int[][] readers, int[][] writes, boolean[] alwaysRun) {
+        super();
+        this.rules = rules;
+        this.layout = layout;
+        this.readers = readers;
+        this.writes = writes;
+        this.alwaysRun = alwaysRun;
+    }
+
+    /**
+     * Builds the plan of the given RuleSet.
+     *
+     * @param ruleSet RuleSet to evaluate incrementally
+     * @param layout layout of the session bindings
+     * @param ruleCatalog catalog describing the Rules of the RuleSet
+     * @return a new plan
+     */
+    public static IncrementalRulePlan build(RuleSet<?> ruleSet, BindingLayout layout, RuleCatalog ruleCatalog) {
+        Assert.notNull(ruleSet, "ruleSet cannot be null.");
+        Assert.notNull(ruleCatalog, "ruleCatalog cannot be null.");
+        List<Rule> rules = new ArrayList<>(ruleSet.size());
+        for (int i = 0; i < ruleSet.size(); i++) rules.add(ruleSet.getRule(i));
+        return build(rules, ruleCatalog.describe(rules), layout);
+    }
+
+    /**
+     * Builds the plan of the given Rules.
+     *
+     * @param rules Rules in declaration order
+     * @param descriptors descriptors of the Rules in the same order; null entries for unknown Rules
+     * @param layout layout of the session bindings
+     * @return a new plan
+     */
+    public static IncrementalRulePlan build(List<Rule> rules, List<RuleDescriptor> descriptors, BindingLayout layout) {
+        Assert.notNull(rules, "rules cannot be null.");
+        Assert.notNull(descriptors, "descriptors cannot be null.");
+        Assert.isTrue(rules.size() == descriptors.size(), "rules and descriptors must be the same size.");
+        Assert.notNull(layout, "layout cannot be null.");
+
+        List<List<Integer>> bindingReaders = new ArrayList<>(layout.size());
+        for (int i = 0; i < layout.size(); i++) bindingReaders.add(new ArrayList<>());
+
+        int[][] writes = new int[rules.size()][];
+        boolean[] alwaysRun = new boolean[rules.size()];
+        int[] all = IntStream.range(0, layout.size()).toArray();
+
+        for (int ruleId = 0; ruleId < rules.size(); ruleId++) {
+            RuleDescriptor descriptor = descriptors.get(ruleId);
+
+            if (descriptor == null || !descriptor.isInputsKnown()) {
+                alwaysRun[ruleId] = true;
+                writes[ruleId] = all;
+                continue;
+            }
+
+            for (String input : descriptor.inputs()) {
+                int index = layout.indexOf(input);
+                if (index >= 0) bindingReaders.get(index).add(ruleId);
+            }
+
+            // Undeclared writes may touch any binding
+            writes[ruleId] = !descriptor.isOutputsDeclared() ? all : descriptor.outputs().stream()
+                    .mapToInt(layout::indexOf)
+                    .filter(index -> index >= 0)
+                    .toArray();
+        }
+
+        int[][] readers = new int[layout.size()][];
+        for (int i = 0; i < readers.length; i++) readers[i] = bindingReaders.get(i).stream().mapToInt(Integer::intValue).toArray();
+
+        return new IncrementalRulePlan(List.copyOf(rules), layout, readers, writes, alwaysRun);
+    }
+
+    /**
+     * Creates a new session for this plan.
+     *
+     * @param options RuleContextOptions to evaluate with
+     * @return a new session
+     */
+    public IncrementalRuleSession newSession(RuleContextOptions options) {
+        return new IncrementalRuleSession(this, options);
+    }
+
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public BindingLayout getLayout() {
+        return layout;
+    }
+
+    int size() {
+        return rules.size();
+    }
+
+    Rule getRule(int ruleId) {
+        return rules.get(ruleId);
+    }
+
+    int[] getReaders(int bindingIndex) {
+        return readers[bindingIndex];
+    }
+
+    int[] getWrites(int ruleId) {
+        return writes[ruleId];
+    }
+
+    boolean isAlwaysRun(int ruleId) {
+        return alwaysRun[ruleId];
+    }
+
+    @Override
+    public String toString() {
+        return "IncrementalRulePlan{" +
+                "rules=" + rules.size() +
+                ", layout=" + layout +
+                '}';
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.incremental;
+
+import org.rulii.bind.Bindings;
+import org.rulii.context.RuleContext;
+import org.rulii.context.RuleContextOptions;
+import org.rulii.model.UnrulyException;
+import org.rulii.rule.RuleResult;
+import org.rulii.spring.bind.BindingSlots;
+import org.rulii.spring.cache.ConditionMemo;
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Long-lived evaluation session that re-runs only the Rules affected by the bindings that changed since the previous
+ * evaluation. Results of the Rules that were not affected are kept. A Rule is affected if it reads a changed binding,
+ * reads a binding written (see {@link org.rulii.spring.annotation.Outputs}) by an earlier Rule that was re-run, or if
+ * its inputs are unknown. Rules that do not declare their outputs are assumed to write every binding. The first evaluation runs every Rule.
+ * <p>
+ * Changes are detected with {@link Objects#equals(Object, Object)}; call {@link #touch(String)} after mutating a bound
+ * object in place. Sessions are not thread safe; apply the events of one session one at a time.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public final class IncrementalRuleSession {
+
+    private final IncrementalRulePlan plan;
+    private final BindingSlots slots;
+    private final RuleContext context;
+    private final RuleResult[] results;
+    private final BitSet dirty;
+    private final boolean[] affected;
+    private boolean evaluated = false;
+    private int lastRunCount = 0;
+
+    IncrementalRuleSession(IncrementalRulePlan plan, RuleContextOptions options) {
+        super();
+        Assert.notNull(options, "options cannot be null.");
+        this.plan = plan;
+        this.slots = plan.getLayout().newSlots();
+        this.context = RuleContext.builder().with(options).bindings(slots.getBindings()).build();
+        this.results = new RuleResult[plan.size()];
+        this.dirty = new BitSet(plan.getLayout().size());
+        this.affected = new boolean[plan.size()];
+    }
+
+    /**
+     * Sets the value of the given binding. The binding is marked as changed only if the value is different.
+     *
+     * @param name binding name
+     * @param value new value
+     */
+    public void set(String name, Object value) {
+        set(indexOf(name), value);
+    }
+
+    /**
+     * Sets the value of the binding at the given index. The binding is marked as changed only if the value is
+     * different.
+     *
+     * @param index binding index
+     * @param value new value
+     */
+    public void set(int index, Object value) {
+        if (Objects.equals(slots.get(index), value)) return;
+        slots.set(index, value);
+        dirty.set(index);
+    }
+
+    /**
+     * Marks the given binding as changed, e.g. after its value was mutated in place.
+     *
+     * @param name binding name
+     */
+    public void touch(String name) {
+        dirty.set(indexOf(name));
+    }
+
+    /**
+     * Marks every binding as changed so that the next evaluation runs every Rule.
+     */
+    public void invalidateAll() {
+        this.evaluated = false;
+    }
+
+    /**
+     * Re-runs the Rules affected by the changes since the previous evaluation.
+     *
+     * @return the current results of all the Rules, in declaration order
+     */
+    public List<RuleResult> evaluate() {
+        Arrays.fill(affected, !evaluated);
+
+        if (evaluated) {
+            for (int index = dirty.nextSetBit(0); index >= 0; index = dirty.nextSetBit(index + 1)) markReaders(index, -1);
+            for (int ruleId = 0; ruleId < affected.length; ruleId++) affected[ruleId] |= plan.isAlwaysRun(ruleId) && !dirty.isEmpty();
+        }
+
+        dirty.clear();
+        this.lastRunCount = ConditionMemo.evaluate(context, this::runAffected);
+        this.evaluated = true;
+        return getResults();
+    }
+
+    private int runAffected() {
+        int result = 0;
+
+        for (int ruleId = 0; ruleId < affected.length; ruleId++) {
+            if (!affected[ruleId]) continue;
+            results[ruleId] = plan.getRule(ruleId).run(context);
+            result++;
+            // Later readers of what this Rule writes must see the new values
+            for (int index : plan.getWrites(ruleId)) markReaders(index, ruleId);
+        }
+
+        return result;
+    }
+
+    private void markReaders(int bindingIndex, int after) {
+        for (int ruleId : plan.getReaders(bindingIndex)) {
+            if (ruleId > after) affected[ruleId] = true;
+        }
+    }
+
+    private int indexOf(String name) {
+        int result = plan.getLayout().indexOf(name);
+        if (result < 0) throw new UnrulyException("Binding [" + name + "] is not part of " + plan.getLayout());
+        return result;
+    }
+
+    /**
+     * Retrieves the current results of all the Rules.
+     *
+     * @return results in declaration order; null for Rules that have not run yet
+     */
+    public List<RuleResult> getResults() {
+        return Arrays.asList(results.clone());
+    }
+
+    /**
+     * Retrieves the number of Rules that ran during the last evaluation.
+     *
+     * @return number of Rules
+     */
+    public int getLastRunCount() {
+        return lastRunCount;
+    }
+
+    public Object get(String name) {
+        return slots.get(indexOf(name));
+    }
+
+    public Bindings getBindings() {
+        return slots.getBindings();
+    }
+
+    public IncrementalRulePlan getPlan() {
+        return plan;
+    }
+
+    @Override
+    public String toString() {
+        return "IncrementalRuleSession{" +
+                "plan=" + plan +
+                ", lastRunCount=" + lastRunCount +
+                '}';
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the Rules that require a binding to equal one of a set of constants.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+final class HashRuleIndex {
+
+    private static final int[] NONE = new int[0];
+
+    private final Map<Object, int[]> index;
+
+    private HashRuleIndex(Map<Object, int[]> index) {
+        super();
+        this.index = index;
+    }
+
+    /**
+     * Retrieves the Rules whose constants include the given value.
+     *
+     * @param value binding value
+     * @return Rule ids; empty if there are none
+     */
+    int[] find(Object value) {
+        int[] result = index.get(value);
+        return result != null ? result : NONE;
+    }
+
+    int size() {
+        return index.size();
+    }
+
+    static final class Builder {
+
+        private final Map<Object, List<Integer>> entries = new HashMap<>();
+
+        Builder() {
+            super();
+        }
+
+        void add(int ruleId, Object value) {
+            List<Integer> ruleIds = entries.computeIfAbsent(value, k -> new ArrayList<>());
+            if (!ruleIds.contains(ruleId)) ruleIds.add(ruleId);
+        }
+
+        boolean isEmpty() {
+            return entries.isEmpty();
+        }
+
+        HashRuleIndex build() {
+            Map<Object, int[]> result = new HashMap<>(entries.size() * 2);
+            entries.forEach((value, ruleIds) -> result.put(value, ruleIds.stream().mapToInt(Integer::intValue).toArray()));
+            return new HashRuleIndex(result);
+        }
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.index;
+
+import org.rulii.annotation.Given;
+import org.rulii.annotation.Otherwise;
+import org.rulii.bind.Bindings;
+import org.rulii.context.RuleContext;
+import org.rulii.model.UnrulyException;
+import org.rulii.rule.Rule;
+import org.rulii.rule.RuleResult;
+import org.rulii.ruleset.RuleSet;
+import org.rulii.spring.annotation.Indexed;
+import org.rulii.spring.cache.ConditionMemo;
+import org.rulii.spring.intercept.RuleCatalog;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * Runs only the Rules of a RuleSet that can match the current bindings. Rules declare the bindings their @Given
+ * condition tests with {@link Indexed}; equality constraints are served from a hash index and range constraints from
+ * an elementary interval index, so the cost of finding the candidate Rules does not grow with the number of Rules.
+ * Candidate Rules (and all the Rules without index metadata) are run in declaration order; the other Rules are
+ * skipped, including their @Otherwise actions.
+ * <p>
+ * Declare one bean per RuleSet that should be dispatched through the index.
+ *
+ * <pre>
+ * &#64;Bean
+ * public IndexedRuleDispatcher pricingDispatcher(RuleSet&lt;?&gt; pricingRuleSet, RuleCatalog ruleCatalog) {
+ *     return new IndexedRuleDispatcher(pricingRuleSet, ruleCatalog);
+ * }
+ * </pre>
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class IndexedRuleDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IndexedRuleDispatcher.class);
+    private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+
+    private final Rule[] rules;
+    private final int[] required;
+    // Rule of each @Indexed constraint; the indexes hold constraint ids so that constraints on the same binding count separately
+    private final int[] constraintRules;
+    private final BindingIndex[] indexes;
+    private final ConversionService conversionService;
+    private final int indexedRuleCount;
+
+    /**
+     * Creates a new IndexedRuleDispatcher for the given RuleSet.
+     *
+     * @param ruleSet RuleSet to dispatch
+     * @param ruleCatalog catalog describing the Rules of the RuleSet
+     */
+    public IndexedRuleDispatcher(RuleSet<?> ruleSet, RuleCatalog ruleCatalog) {
+        this(getRules(ruleSet), ruleCatalog, DefaultConversionService.getSharedInstance());
+    }
+
+    private IndexedRuleDispatcher(List<Rule> rules, RuleCatalog ruleCatalog, ConversionService conversionService) {
+        this(rules, ruleCatalog.describe(rules), conversionService);
+    }
+
+    /**
+     * Creates a new IndexedRuleDispatcher.
+     *
+     * @param rules Rules in declaration order
+     * @param descriptors descriptors of the Rules in the same order; null entries for unknown Rules
+     * @param conversionService ConversionService used to convert the index constants and binding values
+     */
+    public IndexedRuleDispatcher(List<Rule> rules, List<RuleDescriptor> descriptors, ConversionService conversionService) {
+        super();
+        Assert.notNull(rules, "rules cannot be null.");
+        Assert.notNull(descriptors, "descriptors cannot be null.");
+        Assert.isTrue(rules.size() == descriptors.size(), "rules and descriptors must be the same size.");
+        Assert.notNull(conversionService, "conversionService cannot be null.");
+        this.rules = rules.toArray(new Rule[0]);
+        this.required = new int[this.rules.length];
+        this.conversionService = conversionService;
+
+        Map<String, IndexBuilder> builders = new LinkedHashMap<>();
+        List<Integer> constraints = new ArrayList<>();
+        int count = 0;
+
+        for (int i = 0; i < this.rules.length; i++) {
+            RuleDescriptor descriptor = descriptors.get(i);
+            if (descriptor == null || descriptor.ruleClass() == null) continue;
+            required[i] = addRule(i, descriptor.ruleClass(), builders, constraints);
+            if (required[i] > 0) count++;
+        }
+
+        this.constraintRules = constraints.stream().mapToInt(Integer::intValue).toArray();
+        this.indexes = builders.values().stream().map(IndexBuilder::build).toArray(BindingIndex[]::new);
+        this.indexedRuleCount = count;
+    }
+
+    private static List<Rule> getRules(RuleSet<?> ruleSet) {
+        Assert.notNull(ruleSet, "ruleSet cannot be null.");
+        List<Rule> result = new ArrayList<>(ruleSet.size());
+        for (int i = 0; i < ruleSet.size(); i++) result.add(ruleSet.getRule(i));
+        return result;
+    }
+
+    /**
+     * Adds the index metadata of a rule class.
+     *
+     * @return the number of index constraints the Rule must satisfy
+     */
+    private int addRule(int ruleId, Class<?> ruleClass, Map<String, IndexBuilder> builders, List<Integer> constraints) {
+        int result = 0;
+
+        for (Method method : ruleClass.getMethods()) {
+            if (!method.isAnnotationPresent(Given.class)) continue;
+
+            for (Indexed indexed : method.getAnnotationsByType(Indexed.class)) {
+                Class<?> type = getParameterType(method, indexed.binding());
+                IndexBuilder builder = builders.computeIfAbsent(indexed.binding(), name -> new IndexBuilder(name, type));
+                builder.add(constraints.size(), indexed, conversionService);
+                constraints.add(ruleId);
+                result++;
+            }
+        }
+
+        if (result > 0 && Arrays.stream(ruleClass.getMethods()).anyMatch(m -> m.isAnnotationPresent(Otherwise.class))) {
+            LOGGER.warn("Rule class [" + ruleClass.getName() + "] is indexed and has an @Otherwise action. "
+                    + "The action will not run when the Rule is skipped by the index.");
+        }
+
+        return result;
+    }
+
+    private static Class<?> getParameterType(Method method, String binding) {
+        String[] names = PARAMETER_NAME_DISCOVERER.getParameterNames(method);
+
+        if (names != null) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(binding)) return ClassUtils.resolvePrimitiveIfNecessary(method.getParameterTypes()[i]);
+            }
+        }
+
+        throw new UnrulyException("@Indexed binding [" + binding + "] is not a parameter of [" + method.toGenericString()
+                + "]. Make sure the class is compiled with -parameters.");
+    }
+
+    /**
+     * Runs the candidate Rules for the bindings of the given RuleContext.
+     *
+     * @param context RuleContext to run with
+     * @return the results in declaration order; Rules that were skipped have a null result
+     */
+    public List<RuleResult> run(RuleContext context) {
+        Assert.notNull(context, "context cannot be null.");
+        boolean[] candidates = findCandidates(context.getBindings());
+
+        return ConditionMemo.evaluate(context, () -> {
+            RuleResult[] result = new RuleResult[rules.length];
+
+            for (int i = 0; i < rules.length; i++) {
+                if (candidates[i]) result[i] = rules[i].run(context);
+            }
+
+            return Arrays.asList(result);
+        });
+    }
+
+    /**
+     * Retrieves the Rules that can match the given bindings.
+     *
+     * @param bindings current bindings
+     * @return candidate Rules in declaration order
+     */
+    public List<Rule> getCandidates(Bindings bindings) {
+        Assert.notNull(bindings, "bindings cannot be null.");
+        boolean[] candidates = findCandidates(bindings);
+        List<Rule> result = new ArrayList<>();
+
+        for (int i = 0; i < rules.length; i++) {
+            if (candidates[i]) result.add(rules[i]);
+        }
+
+        return result;
+    }
+
+    private boolean[] findCandidates(Bindings bindings) {
+        int[] hits = new int[rules.length];
+
+        for (BindingIndex index : indexes) {
+            if (!bindings.contains(index.name())) continue;
+            Object value = convert(bindings.getValue(index.name()), index.type());
+            if (value == null) continue;
+
+            // Each constraint hits at most once
+            if (index.hash() != null) {
+                for (int constraintId : index.hash().find(value)) hits[constraintRules[constraintId]]++;
+            }
+
+            if (index.intervals() != null) {
+                for (int constraintId : index.intervals().find(value)) hits[constraintRules[constraintId]]++;
+            }
+        }
+
+        boolean[] result = new boolean[rules.length];
+        for (int i = 0; i < result.length; i++) result[i] = hits[i] == required[i];
+        return result;
+    }
+
+    private Object convert(Object value, Class<?> type) {
+        if (value == null || type.isInstance(value)) return value;
+
+        try {
+            return conversionService.canConvert(value.getClass(), type) ? conversionService.convert(value, type) : null;
+        } catch (ConversionException e) {
+            return null;
+        }
+    }
+
+    public int size() {
+        return rules.length;
+    }
+
+    /**
+     * Retrieves the number of Rules with index metadata.
+     *
+     * @return number of indexed Rules
+     */
+    public int getIndexedRuleCount() {
+        return indexedRuleCount;
+    }
+
+    @Override
+    public String toString() {
+        return "IndexedRuleDispatcher{" +
+                "rules=" + rules.length +
+                ", indexedRules=" + indexedRuleCount +
+                ", bindings=" + Arrays.stream(indexes).map(BindingIndex::name).toList() +
+                '}';
+    }
+
+    private record BindingIndex(String name, Class<?> type, HashRuleIndex hash, IntervalRuleIndex intervals) {}
+
+    /**
+     * Collects the constraints on one binding.
+     */
+    private static final class IndexBuilder {
+
+        private final String name;
+        private final Class<?> type;
+        private final HashRuleIndex.Builder hash = new HashRuleIndex.Builder();
+        private final IntervalRuleIndex.Builder intervals = new IntervalRuleIndex.Builder();
+
+        IndexBuilder(String name, Class<?> type) {
+            super();
+            this.name = name;
+            this.type = type;
+        }
+
+        void add(int constraintId, Indexed indexed, ConversionService conversionService) {
+            if (indexed.equalTo().length > 0) {
+                for (String value : indexed.equalTo()) hash.add(constraintId, convert(value, conversionService));
+                return;
+            }
+
+            if (indexed.from().isEmpty() && indexed.to().isEmpty()) {
+                throw new UnrulyException("@Indexed binding [" + name + "] must declare equalTo, from and/or to.");
+            }
+
+            if (!Comparable.class.isAssignableFrom(type)) {
+                throw new UnrulyException("@Indexed range on binding [" + name + "] requires a Comparable type. Found [" + type.getName() + "]");
+            }
+
+            intervals.add(constraintId, indexed.from().isEmpty() ? null : (Comparable<?>) convert(indexed.from(), conversionService),
+                    indexed.to().isEmpty() ? null : (Comparable<?>) convert(indexed.to(), conversionService));
+        }
+
+        private Object convert(String value, ConversionService conversionService) {
+            try {
+                return conversionService.convert(value, type);
+            } catch (ConversionException e) {
+                throw new UnrulyException("Unable to convert @Indexed value [" + value + "] of binding [" + name + "] to [" + type.getName() + "]", e);
+            }
+        }
+
+        BindingIndex build() {
+            return new BindingIndex(name, type, hash.isEmpty() ? null : hash.build(), intervals.isEmpty() ? null : intervals.build());
+        }
+    }
+}
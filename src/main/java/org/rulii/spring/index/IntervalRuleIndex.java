@@ -0,0 +1,119 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Elementary interval index of the Rules that require a binding to lie within a range [from, to). The distinct range
+ * bounds split the value space into elementary intervals; each elementary interval holds the Rules whose range covers
+ * it, so a lookup is a binary search over the bounds.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+final class IntervalRuleIndex {
+
+    private final Comparable<Object>[] bounds;
+    private final int[][] slots;
+
+    private IntervalRuleIndex(Comparable<Object>[] bounds, int[][] slots) {
+        super();
+        this.bounds = bounds;
+        this.slots = slots;
+    }
+
+    /**
+     * Retrieves the Rules whose range contains the given value.
+     *
+     * @param value binding value
+     * @return Rule ids; empty if there are none
+     */
+    int[] find(Object value) {
+        return slots[slotOf(value)];
+    }
+
+    /**
+     * Finds the elementary interval of the given value: the number of bounds that are less than or equal to it.
+     */
+    private int slotOf(Object value) {
+        int low = 0, high = bounds.length;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (bounds[mid].compareTo(value) <= 0) low = mid + 1; else high = mid;
+        }
+
+        return low;
+    }
+
+    static final class Builder {
+
+        private final List<Range> ranges = new ArrayList<>();
+
+        Builder() {
+            super();
+        }
+
+        /**
+         * Adds a range.
+         *
+         * @param ruleId Rule id
+         * @param from inclusive lower bound; null for none
+         * @param to exclusive upper bound; null for none
+         */
+        void add(int ruleId, Comparable<?> from, Comparable<?> to) {
+            ranges.add(new Range(ruleId, from, to));
+        }
+
+        boolean isEmpty() {
+            return ranges.isEmpty();
+        }
+
+        @SuppressWarnings("unchecked")
+        IntervalRuleIndex build() {
+            TreeSet<Comparable<Object>> distinct = new TreeSet<>();
+
+            for (Range range : ranges) {
+                if (range.from != null) distinct.add((Comparable<Object>) range.from);
+                if (range.to != null) distinct.add((Comparable<Object>) range.to);
+            }
+
+            Comparable<Object>[] bounds = distinct.toArray(new Comparable[0]);
+            List<List<Integer>> slots = new ArrayList<>(bounds.length + 1);
+            for (int i = 0; i <= bounds.length; i++) slots.add(new ArrayList<>());
+
+            for (Range range : ranges) {
+                // Slot s covers [bounds[s - 1], bounds[s])
+                int first = range.from == null ? 0 : Arrays.binarySearch(bounds, range.from) + 1;
+                int last = range.to == null ? bounds.length : Arrays.binarySearch(bounds, range.to);
+                for (int slot = first; slot <= last; slot++) slots.get(slot).add(range.ruleId);
+            }
+
+            int[][] result = new int[slots.size()][];
+            for (int i = 0; i < result.length; i++) result[i] = slots.get(i).stream().mapToInt(Integer::intValue).distinct().toArray();
+            return new IntervalRuleIndex(bounds, result);
+        }
+    }
+
+    private record Range(int ruleId, Comparable<?> from, Comparable<?> to) {}
+}
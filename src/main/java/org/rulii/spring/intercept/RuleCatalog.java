@@ -0,0 +1,198 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.intercept;
+
+import org.rulii.rule.Rule;
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the {@link RuleDescriptor}s of the Rule beans. Rules are looked up by instance first and then by name,
+ * so Rules that were built again from a registered rule class (e.g. inside a RuleSet definition) are found as well.
+ * <p>
+ * Every registered Rule name is assigned a dense int id (0, 1, 2, ...) that stays the same for the lifetime of the
+ * catalog, so that per-Rule state (statistics, caches, audit records) can be kept in arrays indexed by
+ * {@link RuleDescriptor#id()} instead of maps keyed by name.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RuleCatalog {
+
+    private final Map<Rule, RuleDescriptor> byRule = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final Map<String, RuleDescriptor> byName = new ConcurrentHashMap<>();
+    // Registered names only; byName also holds the Rule names as aliases, which must not hand out another Rule's id
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private volatile RuleDescriptor[] byId = new RuleDescriptor[64];
+    private int idCount = 0;
+
+    public RuleCatalog() {
+        super();
+    }
+
+    /**
+     * Registers the descriptor of a Rule, assigning it an id. A descriptor registered again under the same name (for
+     * example for the proxy of a Rule) keeps the id it was first given.
+     *
+     * @param rule the Rule (or its proxy)
+     * @param descriptor descriptor of the Rule
+     * @return the registered descriptor, with its id
+     */
+    public synchronized RuleDescriptor register(Rule rule, RuleDescriptor descriptor) {
+        Assert.notNull(rule, "rule cannot be null.");
+        Assert.notNull(descriptor, "descriptor cannot be null.");
+        RuleDescriptor result = descriptor.withId(idsByName.computeIfAbsent(descriptor.name(), name -> nextId()));
+        RuleDescriptor[] ids = byId;
+        if (result.id() >= ids.length) ids = Arrays.copyOf(ids, Math.max(ids.length * 2, result.id() + 1));
+        ids[result.id()] = result;
+        this.byId = ids;
+
+        byRule.put(rule, result);
+        byName.put(result.name(), result);
+        if (rule.getName() != null && !rule.getName().equals(result.name())) byName.putIfAbsent(rule.getName(), result);
+        return result;
+    }
+
+    /**
+     * Removes a Rule (or its proxy), for example one of a replaced generation of reloaded Rules, so that the catalog
+     * no longer holds on to it. The id stays reserved for the Rule's name. If another registered Rule still goes by
+     * that name (e.g. the Rule bean a reloaded Rule shadowed), its descriptor is served for the name and id again.
+     *
+     * @param rule the Rule (or its proxy)
+     */
+    public synchronized void unregister(Rule rule) {
+        Assert.notNull(rule, "rule cannot be null.");
+        RuleDescriptor removed = byRule.remove(rule);
+        if (removed == null || !removed.equals(byName.get(removed.name()))) return;
+
+        RuleDescriptor remaining = null;
+
+        synchronized (byRule) {
+            for (RuleDescriptor descriptor : byRule.values()) {
+                if (descriptor.name().equals(removed.name())) remaining = descriptor;
+            }
+        }
+
+        RuleDescriptor[] ids = byId;
+        ids[removed.id()] = remaining;
+        this.byId = ids;
+
+        if (remaining != null) byName.put(remaining.name(), remaining);
+        else byName.remove(removed.name());
+    }
+
+    private int nextId() {
+        return idCount++;
+    }
+
+    /**
+     * Retrieves the descriptor of the given Rule.
+     *
+     * @param rule the Rule
+     * @return its descriptor or null if the Rule is unknown
+     */
+    public RuleDescriptor get(Rule rule) {
+        Assert.notNull(rule, "rule cannot be null.");
+        RuleDescriptor result = byRule.get(rule);
+        if (result == null && rule.getName() != null) result = byName.get(rule.getName());
+        return result;
+    }
+
+    /**
+     * Retrieves the descriptor registered under the given name.
+     *
+     * @param name Rule name
+     * @return its descriptor or null if there is none
+     */
+    public RuleDescriptor get(String name) {
+        Assert.notNull(name, "name cannot be null.");
+        return byName.get(name);
+    }
+
+    /**
+     * Retrieves the descriptor with the given id.
+     *
+     * @param id Rule id
+     * @return its descriptor or null if there is none
+     */
+    public RuleDescriptor get(int id) {
+        RuleDescriptor[] ids = byId;
+        return id >= 0 && id < ids.length ? ids[id] : null;
+    }
+
+    /**
+     * Retrieves the id of the Rule registered under the given name.
+     *
+     * @param name Rule name
+     * @return its id or {@link RuleDescriptor#NO_ID} if there is no such Rule
+     */
+    public int getId(String name) {
+        RuleDescriptor result = get(name);
+        return result != null ? result.id() : RuleDescriptor.NO_ID;
+    }
+
+    /**
+     * Number of ids assigned so far; all ids are below this value.
+     *
+     * @return id count
+     */
+    public synchronized int getIdCount() {
+        return idCount;
+    }
+
+    /**
+     * Retrieves the descriptors of the given Rules.
+     *
+     * @param rules Rules to describe
+     * @return descriptors in the same order; null entries for unknown Rules
+     */
+    public List<RuleDescriptor> describe(List<Rule> rules) {
+        Assert.notNull(rules, "rules cannot be null.");
+        RuleDescriptor[] result = new RuleDescriptor[rules.size()];
+        for (int i = 0; i < result.length; i++) result[i] = get(rules.get(i));
+        return Arrays.asList(result);
+    }
+
+    /**
+     * Retrieves all the registered descriptors.
+     *
+     * @return distinct descriptors
+     */
+    public List<RuleDescriptor> getDescriptors() {
+        return List.copyOf(new LinkedHashSet<>(byName.values()));
+    }
+
+    public int size() {
+        return byName.size();
+    }
+
+    @Override
+    public String toString() {
+        return "RuleCatalog{" +
+                "rules=" + byName.keySet() +
+                '}';
+    }
+}
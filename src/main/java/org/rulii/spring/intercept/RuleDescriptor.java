@@ -0,0 +1,132 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.intercept;
+
+import org.springframework.util.Assert;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Describes a Rule bean to the {@link RuleInterceptor}s.
+ *
+ * @param name bean name of the Rule
+ * @param ruleClass the class the Rule was built from; null for Rules that were not built from an annotated class
+ * @param inputs names of the bindings the rule methods read; null if they are unknown
+ * @param outputs names of the bindings the rule writes, as declared with {@link org.rulii.spring.annotation.Outputs};
+ *                null if they are not declared (the rule may then write anything)
+ * @param id dense id assigned by the {@link RuleCatalog} when the Rule is registered; {@link #NO_ID} until then
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public record RuleDescriptor(String name, Class<?> ruleClass, List<String> inputs, List<String> outputs, int id) {
+
+    /**
+     * Id of a descriptor that is not registered with a RuleCatalog.
+     */
+    public static final int NO_ID = -1;
+
+    public RuleDescriptor {
+        Assert.notNull(name, "name cannot be null.");
+        Assert.isTrue(id >= NO_ID, "id must be >= -1.");
+        outputs = outputs != null ? List.copyOf(outputs) : null;
+    }
+
+    /**
+     * Creates a RuleDescriptor that has no id yet.
+     *
+     * @param name bean name of the Rule
+     * @param ruleClass the class the Rule was built from (may be null)
+     * @param inputs names of the bindings the rule methods read; null if they are unknown
+     * @param outputs names of the bindings the rule writes; null if they are not declared
+     */
+    public RuleDescriptor(String name, Class<?> ruleClass, List<String> inputs, List<String> outputs) {
+        this(name, ruleClass, inputs, outputs, NO_ID);
+    }
+
+    /**
+     * Creates a RuleDescriptor, deriving the inputs and outputs from the rule class.
+     *
+     * @param name bean name of the Rule
+     * @param ruleClass the class the Rule was built from (may be null)
+     */
+    public RuleDescriptor(String name, Class<?> ruleClass) {
+        this(name, ruleClass, RuleIntrospector.findInputs(ruleClass), RuleIntrospector.findOutputs(ruleClass));
+    }
+
+    /**
+     * Retrieves an annotation declared on the rule class.
+     *
+     * @param annotationType type of the annotation
+     * @param <A> annotation type
+     * @return the annotation or null if it is not present (or the rule class is unknown)
+     */
+    public <A extends Annotation> A getAnnotation(Class<A> annotationType) {
+        return ruleClass != null ? ruleClass.getAnnotation(annotationType) : null;
+    }
+
+    /**
+     * Retrieves the declared types of the bindings read by the rule methods.
+     *
+     * @return binding name to parameter type; empty if the inputs are unknown
+     */
+    public Map<String, Class<?>> getInputTypes() {
+        return RuleIntrospector.findInputTypes(ruleClass);
+    }
+
+    /**
+     * Creates a copy of this descriptor with the given id.
+     *
+     * @param id dense Rule id
+     * @return descriptor with the id
+     */
+    public RuleDescriptor withId(int id) {
+        return new RuleDescriptor(name, ruleClass, inputs, outputs, id);
+    }
+
+    /**
+     * Determines whether the descriptor has been assigned an id by a {@link RuleCatalog}.
+     *
+     * @return true if {@link #id()} is available
+     */
+    public boolean hasId() {
+        return id != NO_ID;
+    }
+
+    /**
+     * Determines whether the bindings read by the rule are known.
+     *
+     * @return true if {@link #inputs()} is available
+     */
+    public boolean isInputsKnown() {
+        return inputs != null;
+    }
+
+    /**
+     * Determines whether the bindings written by the rule are declared. Rules that do not declare them may bind or
+     * mutate any binding.
+     *
+     * @return true if {@link #outputs()} is available
+     */
+    public boolean isOutputsDeclared() {
+        return outputs != null;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.intercept;
+
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * Array backed table of per-Rule values indexed by the dense Rule ids of the {@link RuleCatalog}. Lookups are a
+ * bounds check and an array read; the array is copied (under a lock) only when a value is added beyond its end or to
+ * an empty slot. Safe for concurrent use.
+ *
+ * @param <V> value type
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public final class RuleIdTable<V> {
+
+    private volatile Object[] values;
+
+    public RuleIdTable() {
+        this(64);
+    }
+
+    /**
+     * Creates a new RuleIdTable.
+     *
+     * @param capacity initial capacity (number of ids)
+     */
+    public RuleIdTable(int capacity) {
+        super();
+        Assert.isTrue(capacity > 0, "capacity must be > 0.");
+        this.values = new Object[capacity];
+    }
+
+    /**
+     * Retrieves the value of the given Rule.
+     *
+     * @param ruleId Rule id
+     * @return the value or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int ruleId) {
+        Object[] current = values;
+        return ruleId >= 0 && ruleId < current.length ? (V) current[ruleId] : null;
+    }
+
+    /**
+     * Retrieves the value of the given Rule, creating it if there is none.
+     *
+     * @param ruleId Rule id
+     * @param factory creates the value
+     * @return the existing or the new value
+     */
+    public V computeIfAbsent(int ruleId, IntFunction<? extends V> factory) {
+        V result = get(ruleId);
+        return result != null ? result : create(ruleId, factory);
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized V create(int ruleId, IntFunction<? extends V> factory) {
+        Assert.isTrue(ruleId >= 0, "ruleId must be >= 0.");
+        Object[] current = values;
+        if (ruleId < current.length && current[ruleId] != null) return (V) current[ruleId];
+
+        V result = factory.apply(ruleId);
+        Assert.notNull(result, "factory cannot create null values.");
+        // Copy on write so that readers never see a partially initialized value through a plain array store
+        Object[] copy = Arrays.copyOf(current, Math.max(current.length, Integer.highestOneBit(ruleId) << 1));
+        copy[ruleId] = result;
+        this.values = copy;
+        return result;
+    }
+
+    /**
+     * Removes all the values.
+     */
+    public synchronized void clear() {
+        this.values = new Object[values.length];
+    }
+
+    @Override
+    public String toString() {
+        return "RuleIdTable{" +
+                "capacity=" + values.length +
+                '}';
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.intercept;
+
+import org.rulii.context.RuleContext;
+import org.rulii.rule.RuleResult;
+import org.springframework.core.Ordered;
+
+/**
+ * Cross-cutting behavior applied around the runs of Rule beans. Declare an implementation as a bean; Rule beans it
+ * {@link #supports(RuleDescriptor) supports} are proxied when they are created. Rules that no interceptor supports
+ * are left untouched.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public interface RuleInterceptor extends Ordered {
+
+    /**
+     * Determines whether this interceptor applies to the given Rule. Called once per Rule bean.
+     *
+     * @param descriptor the Rule
+     * @return true if the Rule's runs must be intercepted
+     */
+    boolean supports(RuleDescriptor descriptor);
+
+    /**
+     * Intercepts one run of the Rule.
+     *
+     * @param descriptor the Rule
+     * @param context RuleContext the Rule runs with
+     * @param invocation the rest of the run
+     * @return result of the Rule
+     */
+    RuleResult intercept(RuleDescriptor descriptor, RuleContext context, RuleInvocation invocation);
+
+    @Override
+    default int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.intercept;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.rulii.context.RuleContext;
+import org.rulii.rule.Rule;
+import org.rulii.rule.RuleResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.AopConfigException;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.util.Assert;
+
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+/**
+ * Applies {@link RuleInterceptor}s to Rules. Used for the Rule beans as they are created and for Rules created outside
+ * the bean factory, such as reloaded Rules, so that both run through the same interceptors.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public final class RuleInterceptors {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RuleInterceptors.class);
+
+    private RuleInterceptors() {
+        super();
+    }
+
+    /**
+     * Wraps the Rule in a proxy running the interceptors that support it, in order.
+     *
+     * @param rule the Rule
+     * @param descriptor descriptor of the Rule
+     * @param interceptors all the interceptors, ordered
+     * @return the proxy or the Rule itself if no interceptor supports it
+     */
+    public static Rule apply(Rule rule, RuleDescriptor descriptor, List<RuleInterceptor> interceptors) {
+        Assert.notNull(rule, "rule cannot be null.");
+        Assert.notNull(descriptor, "descriptor cannot be null.");
+        Assert.notNull(interceptors, "interceptors cannot be null.");
+
+        List<RuleInterceptor> applicable = interceptors.stream()
+                .filter(interceptor -> interceptor.supports(descriptor))
+                .toList();
+
+        if (applicable.isEmpty()) return rule;
+
+        if (LOGGER.isDebugEnabled()) LOGGER.debug("Intercepting Rule [" + descriptor.name() + "] with " + applicable);
+
+        return createProxy(rule, new RuleInterceptorChain(descriptor, applicable));
+    }
+
+    /**
+     * Proxies the Rule. The proxy extends the Rule's class (when it can be subclassed) and implements all its
+     * interfaces, so that a Rule bean can still be injected by its class or by any of its interfaces.
+     *
+     * @param rule the Rule
+     * @param chain interceptors to apply
+     * @return proxy
+     */
+    private static Rule createProxy(Rule rule, RuleInterceptorChain chain) {
+        ClassLoader classLoader = rule.getClass().getClassLoader();
+
+        if (!Modifier.isFinal(rule.getClass().getModifiers()) && !Proxy.isProxyClass(rule.getClass())) {
+            try {
+                ProxyFactory proxyFactory = new ProxyFactory(rule);
+                proxyFactory.setProxyTargetClass(true);
+                proxyFactory.addAdvice(chain);
+                return (Rule) proxyFactory.getProxy(classLoader);
+            } catch (AopConfigException e) {
+                LOGGER.debug("Unable to subclass Rule [" + rule.getClass() + "]. Proxying its interfaces only.", e);
+            }
+        }
+
+        // Takes all the interfaces of the Rule
+        ProxyFactory proxyFactory = new ProxyFactory(rule);
+        proxyFactory.addAdvice(chain);
+        return (Rule) proxyFactory.getProxy(classLoader);
+    }
+
+    /**
+     * Runs the interceptors in order around Rule.run(RuleContext). Other Rule methods are passed straight through.
+     */
+    private record RuleInterceptorChain(RuleDescriptor descriptor, List<RuleInterceptor> interceptors) implements MethodInterceptor {
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Object[] args = invocation.getArguments();
+
+            if (!"run".equals(invocation.getMethod().getName()) || args.length != 1 || !(args[0] instanceof RuleContext context)) {
+                return invocation.proceed();
+            }
+
+            Rule target = (Rule) invocation.getThis();
+            return proceed(0, target, context);
+        }
+
+        private Object proceed(int index, Rule target, RuleContext context) {
+            if (index == interceptors.size()) return target.run(context);
+            RuleInvocation next = ctx -> (RuleResult) proceed(index + 1, target, ctx);
+            return interceptors.get(index).intercept(descriptor, context, next);
+        }
+    }
+}
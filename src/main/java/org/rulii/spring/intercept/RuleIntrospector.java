@@ -0,0 +1,124 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.intercept;
+
+import org.rulii.annotation.Given;
+import org.rulii.annotation.Otherwise;
+import org.rulii.annotation.PreCondition;
+import org.rulii.annotation.Then;
+import org.rulii.bind.Bindings;
+import org.rulii.context.RuleContext;
+import org.rulii.spring.annotation.Outputs;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Derives binding metadata from annotated rule classes.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+final class RuleIntrospector {
+
+    private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+    private static final List<Class<? extends Annotation>> RULE_METHOD_ANNOTATIONS = List.of(PreCondition.class, Given.class, Then.class, Otherwise.class);
+
+    private RuleIntrospector() {
+        super();
+    }
+
+    /**
+     * Finds the names of the bindings read by the rule methods (@PreCondition, @Given, @Then, @Otherwise).
+     *
+     * @param ruleClass rule class
+     * @return binding names in declaration order; null if they cannot be determined (unknown rule class, parameter
+     * names not compiled in, or a method that takes the whole RuleContext/Bindings)
+     */
+    static List<String> findInputs(Class<?> ruleClass) {
+        if (ruleClass == null) return null;
+        Set<String> result = new LinkedHashSet<>();
+
+        for (Method method : ruleClass.getMethods()) {
+            if (!isRuleMethod(method)) continue;
+            String[] names = PARAMETER_NAME_DISCOVERER.getParameterNames(method);
+            if (names == null) return null;
+
+            for (int i = 0; i < names.length; i++) {
+                Class<?> type = method.getParameterTypes()[i];
+                if (RuleContext.class.isAssignableFrom(type) || Bindings.class.isAssignableFrom(type)) return null;
+                result.add(names[i]);
+            }
+        }
+
+        return List.copyOf(result);
+    }
+
+    /**
+     * Finds the declared types of the bindings read by the rule methods.
+     *
+     * @param ruleClass rule class
+     * @return binding name to parameter type (Object if the methods disagree); empty if the inputs cannot be determined
+     */
+    static Map<String, Class<?>> findInputTypes(Class<?> ruleClass) {
+        if (findInputs(ruleClass) == null) return Map.of();
+        Map<String, Class<?>> result = new LinkedHashMap<>();
+
+        for (Method method : ruleClass.getMethods()) {
+            if (!isRuleMethod(method)) continue;
+            String[] names = PARAMETER_NAME_DISCOVERER.getParameterNames(method);
+            Class<?>[] types = method.getParameterTypes();
+            for (int i = 0; i < names.length; i++) result.merge(names[i], types[i], (a, b) -> a == b ? a : Object.class);
+        }
+
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Finds the names of the bindings the rule declares it writes.
+     *
+     * @param ruleClass rule class
+     * @return binding names declared with {@link Outputs}; null if the rule class is not annotated
+     */
+    static List<String> findOutputs(Class<?> ruleClass) {
+        Outputs outputs = ruleClass != null ? ruleClass.getAnnotation(Outputs.class) : null;
+        return outputs != null ? List.of(outputs.value()) : null;
+    }
+
+    /**
+     * Determines whether the given method is a rule method.
+     *
+     * @param method method to check
+     * @return true if the method is annotated with one of the rule method annotations
+     */
+    static boolean isRuleMethod(Method method) {
+        for (Class<? extends Annotation> annotation : RULE_METHOD_ANNOTATIONS) {
+            if (method.isAnnotationPresent(annotation)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.intercept;
+
+import org.rulii.context.RuleContext;
+import org.rulii.rule.RuleResult;
+
+/**
+ * The remainder of an intercepted Rule run.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+@FunctionalInterface
+public interface RuleInvocation {
+
+    /**
+     * Continues the run with the next interceptor, or the Rule itself.
+     *
+     * @param context RuleContext to run with
+     * @return result of the Rule
+     */
+    RuleResult proceed(RuleContext context);
+}
@@ -0,0 +1,335 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.invoke;
+
+import org.rulii.annotation.Given;
+import org.rulii.annotation.Otherwise;
+import org.rulii.annotation.PreCondition;
+import org.rulii.annotation.Then;
+import org.rulii.bind.Bindings;
+import org.rulii.model.UnrulyException;
+import org.rulii.rule.ClassBasedRuleBuilder;
+import org.rulii.rule.RuleExecutionStatus;
+import org.rulii.spring.bind.BindingLayout;
+import org.rulii.spring.bind.BindingSlots;
+import org.rulii.spring.bind.PrimitiveBindings;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A class based Rule compiled against a {@link BindingLayout}. Every rule method (@PreCondition, @Given, @Then,
+ * @Otherwise) is called through a {@link MethodInvoker} and every parameter is bound to a slot index when the rule is
+ * compiled, so running the rule performs no reflection, no name lookups and no argument array allocation (for
+ * methods with up to four parameters).
+ * <p>
+ * Rules can also run against {@link PrimitiveBindings}. Each rule method is then called through a MethodHandle that
+ * reads its arguments straight from the typed arrays, so int, long, double and boolean parameters are passed without
+ * boxing and a run allocates nothing.
+ * <p>
+ * Only plain binding parameters (and Bindings) are supported; the slot values must already be of the parameter type
+ * as no conversion takes place. Rules needing the full Rulii feature set (RuleContext parameters, converters, default
+ * values, several actions) should be run as regular Rules.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public final class CompiledRule {
+
+    private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+    private static final int BINDINGS_INDEX = -1;
+    private static final MethodHandle IS_TRUE;
+
+    static {
+        try {
+            IS_TRUE = MethodHandles.lookup().findStatic(CompiledRule.class, "isTrue",
+                    MethodType.methodType(boolean.class, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final String name;
+    private final Object target;
+    private final BindingLayout layout;
+    private final BoundMethod preCondition;
+    private final BoundMethod given;
+    private final BoundMethod then;
+    private final BoundMethod otherwise;
+
+    private CompiledRule(String name, Object target, BindingLayout layout, BoundMethod preCondition,
+                         BoundMethod given, BoundMethod then, BoundMethod otherwise) {
+        super();
+        this.name = name;
+        this.target = target;
+        this.layout = layout;
+        this.preCondition = preCondition;
+        this.given = given;
+        this.then = then;
+        this.otherwise = otherwise;
+    }
+
+    /**
+     * Compiles the given rule class against a binding layout.
+     *
+     * @param ruleClass class annotated with @Rule
+     * @param target instance of the rule class
+     * @param layout layout of the slots the rule will run against
+     * @param invokers source of the method invokers
+     * @return compiled rule
+     * @throws UnrulyException if the rule cannot be compiled against the layout
+     */
+    public static CompiledRule compile(Class<?> ruleClass, Object target, BindingLayout layout, MethodInvokers invokers) {
+        Assert.notNull(ruleClass, "ruleClass cannot be null.");
+        Assert.notNull(target, "target cannot be null.");
+        Assert.notNull(layout, "layout cannot be null.");
+        Assert.notNull(invokers, "invokers cannot be null.");
+        Assert.isInstanceOf(ruleClass, target, "target must be an instance of the rule class.");
+
+        return new CompiledRule(ClassBasedRuleBuilder.getRuleName(ruleClass), target, layout,
+                bind(ruleClass, target, PreCondition.class, layout, invokers),
+                bind(ruleClass, target, Given.class, layout, invokers),
+                bind(ruleClass, target, Then.class, layout, invokers),
+                bind(ruleClass, target, Otherwise.class, layout, invokers));
+    }
+
+    /**
+     * Runs the rule against the given slots.
+     *
+     * @param slots current binding values; must be created from the layout this rule was compiled against
+     * @return PASS if the condition held, FAIL if it did not and SKIPPED if the pre-condition did not hold
+     */
+    public RuleExecutionStatus run(BindingSlots slots) {
+        Assert.notNull(slots, "slots cannot be null.");
+        if (slots.getLayout() != layout) throw new UnrulyException("Rule [" + name + "] was compiled against a different layout " + layout);
+
+        try {
+            if (preCondition != null && !isTrue(preCondition.invoke(target, slots))) return RuleExecutionStatus.SKIPPED;
+
+            if (given == null || isTrue(given.invoke(target, slots))) {
+                if (then != null) then.invoke(target, slots);
+                return RuleExecutionStatus.PASS;
+            }
+
+            if (otherwise != null) otherwise.invoke(target, slots);
+            return RuleExecutionStatus.FAIL;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // Checked exceptions thrown by the rule methods pass straight through the compiled invokers
+            throw new UnrulyException("Unexpected error running Rule [" + name + "]", e);
+        }
+    }
+
+    /**
+     * Runs the rule against the given primitive bindings without boxing primitive parameters.
+     *
+     * @param bindings current binding values; must be created from the layout this rule was compiled against
+     * @return PASS if the condition held, FAIL if it did not and SKIPPED if the pre-condition did not hold
+     */
+    public RuleExecutionStatus run(PrimitiveBindings bindings) {
+        Assert.notNull(bindings, "bindings cannot be null.");
+        if (bindings.getLayout() != layout) throw new UnrulyException("Rule [" + name + "] was compiled against a different layout " + layout);
+
+        try {
+            if (preCondition != null && !(boolean) preCondition.primitive.invokeExact(bindings)) return RuleExecutionStatus.SKIPPED;
+
+            if (given == null || (boolean) given.primitive.invokeExact(bindings)) {
+                if (then != null) then.primitive.invokeExact(bindings);
+                return RuleExecutionStatus.PASS;
+            }
+
+            if (otherwise != null) otherwise.primitive.invokeExact(bindings);
+            return RuleExecutionStatus.FAIL;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UnrulyException("Unexpected error running Rule [" + name + "]", e);
+        }
+    }
+
+    /**
+     * Finds the rule methods (@PreCondition, @Given, @Then, @Otherwise) of the given class.
+     *
+     * @param ruleClass rule class
+     * @return rule methods
+     */
+    static List<Method> findRuleMethods(Class<?> ruleClass) {
+        List<Method> result = new ArrayList<>();
+
+        for (Method method : ruleClass.getMethods()) {
+            if (method.isAnnotationPresent(PreCondition.class) || method.isAnnotationPresent(Given.class)
+                    || method.isAnnotationPresent(Then.class) || method.isAnnotationPresent(Otherwise.class)) {
+                result.add(method);
+            }
+        }
+
+        return result;
+    }
+
+    private static BoundMethod bind(Class<?> ruleClass, Object target, Class<? extends Annotation> annotation,
+                                    BindingLayout layout, MethodInvokers invokers) {
+        Method method = null;
+
+        for (Method candidate : ruleClass.getMethods()) {
+            if (!candidate.isAnnotationPresent(annotation)) continue;
+            if (method != null) throw new UnrulyException("Rule class [" + ruleClass.getName() + "] has more than one @"
+                    + annotation.getSimpleName() + " method. Compiled Rules support one of each.");
+            method = candidate;
+        }
+
+        if (method == null) return null;
+
+        boolean condition = annotation != Then.class && annotation != Otherwise.class;
+        if (condition && method.getReturnType() != boolean.class && method.getReturnType() != Boolean.class) {
+            throw new UnrulyException("Method [" + method + "] must return a boolean.");
+        }
+
+        String[] names = PARAMETER_NAME_DISCOVERER.getParameterNames(method);
+        if (names == null) throw new UnrulyException("Unable to determine the parameter names of [" + method
+                + "]. Compile with -parameters.");
+
+        int[] indexes = new int[names.length];
+        Class<?>[] parameterTypes = method.getParameterTypes();
+
+        for (int i = 0; i < names.length; i++) {
+            if (Bindings.class.isAssignableFrom(parameterTypes[i])) {
+                indexes[i] = BINDINGS_INDEX;
+                continue;
+            }
+
+            int index = layout.indexOf(names[i]);
+            if (index < 0) throw new UnrulyException("Parameter [" + names[i] + "] of [" + method + "] is not part of " + layout);
+
+            Class<?> valueType = ResolvableType.forType(layout.getType(index)).resolve(Object.class);
+            if (valueType != Object.class && !ClassUtils.isAssignable(parameterTypes[i], valueType)) {
+                throw new UnrulyException("Parameter [" + names[i] + "] of [" + method + "] cannot be assigned from binding type ["
+                        + valueType.getName() + "]");
+            }
+
+            indexes[i] = index;
+        }
+
+        return new BoundMethod(invokers.get(method), indexes, primitiveHandle(method, target, layout, indexes, condition));
+    }
+
+    /**
+     * Adapts the method to {@code (PrimitiveBindings)boolean} (conditions) or {@code (PrimitiveBindings)void}
+     * (actions), each parameter being read by a {@link PrimitiveBindings#getter(BindingLayout, int)}.
+     */
+    private static MethodHandle primitiveHandle(Method method, Object target, BindingLayout layout, int[] indexes,
+                                                boolean condition) {
+        MethodHandle result = MethodInvokers.unreflect(method);
+        if (!Modifier.isStatic(method.getModifiers())) result = result.bindTo(target);
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        MethodHandle[] getters = new MethodHandle[indexes.length];
+
+        for (int i = 0; i < getters.length; i++) {
+            MethodHandle getter = indexes[i] == BINDINGS_INDEX
+                    ? PrimitiveBindings.bindingsGetter()
+                    : PrimitiveBindings.getter(layout, indexes[i]);
+            // Widens/casts as needed; only boxed parameters of primitive bindings box
+            getters[i] = getter.asType(MethodType.methodType(parameterTypes[i], PrimitiveBindings.class));
+        }
+
+        result = MethodHandles.filterArguments(result, 0, getters);
+        // Every parameter reads from the same PrimitiveBindings argument
+        result = MethodHandles.permuteArguments(result,
+                MethodType.methodType(result.type().returnType(), PrimitiveBindings.class), new int[indexes.length]);
+        Class<?> returnType = result.type().returnType();
+
+        // A Boolean (or any other non boolean) condition is true only if it returns TRUE, as in the slot path; a plain
+        // asType would unbox a null Boolean into a NullPointerException
+        if (condition && returnType != boolean.class && returnType != void.class) {
+            result = MethodHandles.filterReturnValue(result, IS_TRUE.asType(MethodType.methodType(boolean.class, returnType)));
+        }
+
+        return result.asType(MethodType.methodType(condition ? boolean.class : void.class, PrimitiveBindings.class));
+    }
+
+    private static boolean isTrue(Object value) {
+        return Boolean.TRUE.equals(value);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BindingLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Determines whether all the rule methods were compiled into direct calls.
+     *
+     * @return true if no rule method falls back to a MethodHandle
+     */
+    public boolean isFullyCompiled() {
+        for (BoundMethod method : new BoundMethod[] {preCondition, given, then, otherwise}) {
+            if (method != null && !method.invoker.isCompiled()) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledRule{" +
+                "name='" + name + '\'' +
+                ", layout=" + layout +
+                '}';
+    }
+
+    /**
+     * MethodInvoker with its parameters bound to slot indexes, along with the equivalent MethodHandle reading from
+     * PrimitiveBindings.
+     */
+    private record BoundMethod(MethodInvoker invoker, int[] indexes, MethodHandle primitive) {
+
+        Object invoke(Object target, BindingSlots slots) {
+            return switch (indexes.length) {
+                case 0 -> invoker.invoke(target);
+                case 1 -> invoker.invoke(target, arg(slots, 0));
+                case 2 -> invoker.invoke(target, arg(slots, 0), arg(slots, 1));
+                case 3 -> invoker.invoke(target, arg(slots, 0), arg(slots, 1), arg(slots, 2));
+                case 4 -> invoker.invoke(target, arg(slots, 0), arg(slots, 1), arg(slots, 2), arg(slots, 3));
+                default -> {
+                    Object[] args = new Object[indexes.length];
+                    for (int i = 0; i < args.length; i++) args[i] = arg(slots, i);
+                    yield invoker.invoke(target, args);
+                }
+            };
+        }
+
+        private Object arg(BindingSlots slots, int position) {
+            int index = indexes[position];
+            return index == BINDINGS_INDEX ? slots.getBindings() : slots.get(index);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.invoke;
+
+import org.rulii.model.UnrulyException;
+import org.rulii.spring.bind.BindingLayout;
+import org.rulii.spring.intercept.RuleCatalog;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.rulii.spring.intercept.RuleInterceptor;
+import org.rulii.util.reflect.ObjectFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.util.Assert;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiles the class based Rule beans into {@link CompiledRule}s. The method invokers are shared across layouts and,
+ * if precompilation is enabled, generated for every compilable rule class once the application context has started,
+ * so that no invoker classes are spun on the request path.
+ * <p>
+ * A CompiledRule calls the rule methods directly, not through the Rule bean, so it cannot run the {@link
+ * RuleInterceptor}s of the bean (timeouts, memoization, statistics, latency, decision log...). Only Rule beans that
+ * no interceptor supports can therefore be compiled; the others are rejected rather than silently run without their
+ * interceptors. The rule methods run on a separate instance of the rule class, created once per class by the
+ * ObjectFactory, so state held by the instance behind the Rule bean is not shared. Bean post processors, such as the
+ * {@link org.rulii.spring.config.CachedConditionPostProcessor}, do apply to that instance when the ObjectFactory is a
+ * {@link org.rulii.spring.factory.SpringObjectFactory}.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class CompiledRuleFactory implements SmartInitializingSingleton {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompiledRuleFactory.class);
+
+    private final RuleCatalog ruleCatalog;
+    private final ObjectFactory objectFactory;
+    private final ObjectProvider<RuleInterceptor> interceptorProvider;
+    private final boolean precompile;
+    private final MethodInvokers invokers = new MethodInvokers();
+    private final Map<Class<?>, Object> targets = new ConcurrentHashMap<>();
+    private volatile List<RuleInterceptor> interceptors;
+
+    /**
+     * Creates a new CompiledRuleFactory.
+     *
+     * @param ruleCatalog catalog used to find the rule class of a Rule bean
+     * @param objectFactory ObjectFactory used to create the rule instances
+     * @param interceptorProvider the RuleInterceptors applied to the Rule beans
+     * @param precompile whether to generate the invokers of all compilable rule classes at startup
+     */
+    public CompiledRuleFactory(RuleCatalog ruleCatalog, ObjectFactory objectFactory,
+                               ObjectProvider<RuleInterceptor> interceptorProvider, boolean precompile) {
+        super();
+        Assert.notNull(ruleCatalog, "ruleCatalog cannot be null.");
+        Assert.notNull(objectFactory, "objectFactory cannot be null.");
+        Assert.notNull(interceptorProvider, "interceptorProvider cannot be null.");
+        this.ruleCatalog = ruleCatalog;
+        this.objectFactory = objectFactory;
+        this.interceptorProvider = interceptorProvider;
+        this.precompile = precompile;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!precompile) return;
+        long start = System.nanoTime();
+        int count = precompile();
+        LOGGER.info("Compiled [" + count + "] rule method(s) in [" + (System.nanoTime() - start) / 1_000_000 + "] ms");
+    }
+
+    /**
+     * Generates the invokers of the rule methods of every compilable rule class.
+     *
+     * @return number of rule methods compiled
+     */
+    public int precompile() {
+        int result = 0;
+
+        for (RuleDescriptor descriptor : ruleCatalog.getDescriptors()) {
+            if (!isCompilable(descriptor)) continue;
+
+            for (Method method : CompiledRule.findRuleMethods(descriptor.ruleClass())) {
+                invokers.get(method);
+                result++;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Compiles the named Rule bean against the given layout.
+     *
+     * @param ruleName name of the Rule
+     * @param layout layout of the slots the rule will run against
+     * @return compiled rule
+     * @throws UnrulyException if the Rule is unknown, was not built from a class, is intercepted or cannot be compiled
+     */
+    public CompiledRule compile(String ruleName, BindingLayout layout) {
+        Assert.notNull(ruleName, "ruleName cannot be null.");
+        RuleDescriptor descriptor = ruleCatalog.get(ruleName);
+        if (descriptor == null || descriptor.ruleClass() == null) {
+            throw new UnrulyException("Rule [" + ruleName + "] is unknown or was not built from a rule class.");
+        }
+
+        List<RuleInterceptor> applicable = getInterceptors(descriptor);
+        if (!applicable.isEmpty()) {
+            throw new UnrulyException("Rule [" + ruleName + "] is intercepted by " + applicable
+                    + " which compiled runs would bypass. Run the Rule bean instead.");
+        }
+
+        Object target = targets.computeIfAbsent(descriptor.ruleClass(), type -> objectFactory.create(type, true));
+        return CompiledRule.compile(descriptor.ruleClass(), target, layout, invokers);
+    }
+
+    /**
+     * Determines whether the named Rule bean can be compiled, i.e. it was built from a rule class and no RuleInterceptor
+     * applies to it.
+     *
+     * @param ruleName name of the Rule
+     * @return true if the Rule can be compiled
+     */
+    public boolean isCompilable(String ruleName) {
+        Assert.notNull(ruleName, "ruleName cannot be null.");
+        RuleDescriptor descriptor = ruleCatalog.get(ruleName);
+        return descriptor != null && isCompilable(descriptor);
+    }
+
+    private boolean isCompilable(RuleDescriptor descriptor) {
+        return descriptor.ruleClass() != null && getInterceptors(descriptor).isEmpty();
+    }
+
+    private List<RuleInterceptor> getInterceptors(RuleDescriptor descriptor) {
+        List<RuleInterceptor> result = interceptors;
+
+        if (result == null) {
+            result = interceptorProvider.orderedStream().toList();
+            this.interceptors = result;
+        }
+
+        return result.stream().filter(interceptor -> interceptor.supports(descriptor)).toList();
+    }
+
+    public MethodInvokers getInvokers() {
+        return invokers;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledRuleFactory{" +
+                "precompile=" + precompile +
+                ", invokers=" + invokers +
+                '}';
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.invoke;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * MethodInvoker backed by a class spun by {@link LambdaMetafactory}. The generated class calls the rule method
+ * directly (invokevirtual/invokeinterface), so the JIT can inline trivial rule bodies into the caller. Supports
+ * instance methods with up to four parameters.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+final class LambdaMethodInvoker extends MethodInvoker {
+
+    static final int MAX_ARITY = 4;
+
+    private static final Class<?>[] CALL_TYPES = {Call0.class, Call1.class, Call2.class, Call3.class, Call4.class};
+    private static final Class<?>[] RUN_TYPES = {Run0.class, Run1.class, Run2.class, Run3.class, Run4.class};
+
+    private final Object function;
+    private final boolean returnsValue;
+
+    private LambdaMethodInvoker(Method method, Object function) {
+        super(method);
+        this.function = function;
+        this.returnsValue = method.getReturnType() != void.class;
+    }
+
+    /**
+     * Spins a direct-call invoker for the given method.
+     *
+     * @param lookup lookup with full privilege access to the declaring class of the method
+     * @param method instance method with at most {@link #MAX_ARITY} parameters
+     * @param handle direct handle to the method
+     * @return new invoker
+     * @throws Throwable if the invoker class cannot be spun (e.g. the lookup lacks access)
+     */
+    static LambdaMethodInvoker create(MethodHandles.Lookup lookup, Method method, MethodHandle handle) throws Throwable {
+        int arity = method.getParameterCount();
+        boolean returnsValue = method.getReturnType() != void.class;
+        Class<?> functionType = returnsValue ? CALL_TYPES[arity] : RUN_TYPES[arity];
+        Class<?>[] erased = new Class<?>[arity + 1];
+        Arrays.fill(erased, Object.class);
+
+        MethodType samType = MethodType.methodType(returnsValue ? Object.class : void.class, erased);
+        // The instantiated type boxes primitives so that the generated class unboxes/casts the Object arguments
+        MethodType instantiatedType = handle.type().wrap();
+        if (!returnsValue) instantiatedType = instantiatedType.changeReturnType(void.class);
+
+        CallSite site = LambdaMetafactory.metafactory(lookup, returnsValue ? "call" : "run",
+                MethodType.methodType(functionType), samType, handle, instantiatedType);
+        return new LambdaMethodInvoker(method, site.getTarget().invoke());
+    }
+
+    @Override
+    public Object invoke(Object target, Object[] args) {
+        return switch (args.length) {
+            case 0 -> invoke(target);
+            case 1 -> invoke(target, args[0]);
+            case 2 -> invoke(target, args[0], args[1]);
+            case 3 -> invoke(target, args[0], args[1], args[2]);
+            case 4 -> invoke(target, args[0], args[1], args[2], args[3]);
+            default -> throw new IllegalArgumentException("Expected [" + getArity() + "] arguments; got [" + args.length + "]");
+        };
+    }
+
+    @Override
+    public Object invoke(Object target) {
+        if (returnsValue) return ((Call0) function).call(target);
+        ((Run0) function).run(target);
+        return null;
+    }
+
+    @Override
+    public Object invoke(Object target, Object arg1) {
+        if (returnsValue) return ((Call1) function).call(target, arg1);
+        ((Run1) function).run(target, arg1);
+        return null;
+    }
+
+    @Override
+    public Object invoke(Object target, Object arg1, Object arg2) {
+        if (returnsValue) return ((Call2) function).call(target, arg1, arg2);
+        ((Run2) function).run(target, arg1, arg2);
+        return null;
+    }
+
+    @Override
+    public Object invoke(Object target, Object arg1, Object arg2, Object arg3) {
+        if (returnsValue) return ((Call3) function).call(target, arg1, arg2, arg3);
+        ((Run3) function).run(target, arg1, arg2, arg3);
+        return null;
+    }
+
+    @Override
+    public Object invoke(Object target, Object arg1, Object arg2, Object arg3, Object arg4) {
+        if (returnsValue) return ((Call4) function).call(target, arg1, arg2, arg3, arg4);
+        ((Run4) function).run(target, arg1, arg2, arg3, arg4);
+        return null;
+    }
+
+    @Override
+    public boolean isCompiled() {
+        return true;
+    }
+
+    // Shapes implemented by the spun classes. They must be public as the classes are defined next to the rule class.
+
+    @FunctionalInterface
+    public interface Call0 { Object call(Object target); }
+
+    @FunctionalInterface
+    public interface Call1 { Object call(Object target, Object arg1); }
+
+    @FunctionalInterface
+    public interface Call2 { Object call(Object target, Object arg1, Object arg2); }
+
+    @FunctionalInterface
+    public interface Call3 { Object call(Object target, Object arg1, Object arg2, Object arg3); }
+
+    @FunctionalInterface
+    public interface Call4 { Object call(Object target, Object arg1, Object arg2, Object arg3, Object arg4); }
+
+    @FunctionalInterface
+    public interface Run0 { void run(Object target); }
+
+    @FunctionalInterface
+    public interface Run1 { void run(Object target, Object arg1); }
+
+    @FunctionalInterface
+    public interface Run2 { void run(Object target, Object arg1, Object arg2); }
+
+    @FunctionalInterface
+    public interface Run3 { void run(Object target, Object arg1, Object arg2, Object arg3); }
+
+    @FunctionalInterface
+    public interface Run4 { void run(Object target, Object arg1, Object arg2, Object arg3, Object arg4); }
+}
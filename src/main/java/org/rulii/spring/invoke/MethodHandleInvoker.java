@@ -0,0 +1,66 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.invoke;
+
+import org.rulii.model.UnrulyException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Fallback MethodInvoker for methods that cannot be compiled into a direct call (static methods, more than four
+ * parameters or classes the lambda factory has no access to). The handle is adapted once to a generic
+ * (Object, Object[])Object shape so that every call is an invokeExact.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+final class MethodHandleInvoker extends MethodInvoker {
+
+    private static final MethodType GENERIC_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final MethodHandle handle;
+
+    MethodHandleInvoker(Method method, MethodHandle handle) {
+        super(method);
+        MethodHandle adapted = handle.asSpreader(Object[].class, method.getParameterCount());
+        // Static methods have no receiver; drop the target argument
+        if (Modifier.isStatic(method.getModifiers())) adapted = MethodHandles.dropArguments(adapted, 0, Object.class);
+        this.handle = adapted.asType(GENERIC_TYPE);
+    }
+
+    @Override
+    public Object invoke(Object target, Object[] args) {
+        try {
+            return (Object) handle.invokeExact(target, args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UnrulyException("Unexpected error calling [" + getMethod() + "]", e);
+        }
+    }
+
+    @Override
+    public boolean isCompiled() {
+        return false;
+    }
+}
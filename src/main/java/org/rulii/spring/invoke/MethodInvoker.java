@@ -0,0 +1,99 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.invoke;
+
+import java.lang.reflect.Method;
+
+/**
+ * Calls a single rule method without going through reflection. The arity specific overloads let callers pass the
+ * arguments without allocating an argument array; they must match the number of parameters of the method.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public abstract class MethodInvoker {
+
+    private final Method method;
+
+    MethodInvoker(Method method) {
+        super();
+        this.method = method;
+    }
+
+    /**
+     * Calls the method with the given arguments.
+     *
+     * @param target object to call the method on (ignored for static methods)
+     * @param args arguments
+     * @return the value returned by the method; null for void methods
+     */
+    public abstract Object invoke(Object target, Object[] args);
+
+    public Object invoke(Object target) {
+        return invoke(target, new Object[0]);
+    }
+
+    public Object invoke(Object target, Object arg1) {
+        return invoke(target, new Object[] {arg1});
+    }
+
+    public Object invoke(Object target, Object arg1, Object arg2) {
+        return invoke(target, new Object[] {arg1, arg2});
+    }
+
+    public Object invoke(Object target, Object arg1, Object arg2, Object arg3) {
+        return invoke(target, new Object[] {arg1, arg2, arg3});
+    }
+
+    public Object invoke(Object target, Object arg1, Object arg2, Object arg3, Object arg4) {
+        return invoke(target, new Object[] {arg1, arg2, arg3, arg4});
+    }
+
+    /**
+     * Determines whether the method was compiled into a direct call (as opposed to a MethodHandle call).
+     *
+     * @return true if the invoker makes direct calls
+     */
+    public abstract boolean isCompiled();
+
+    /**
+     * Retrieves the method being called.
+     *
+     * @return target method
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Number of parameters the method takes.
+     *
+     * @return arity
+     */
+    public int getArity() {
+        return method.getParameterCount();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" +
+                "method=" + method +
+                '}';
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.invoke;
+
+import org.rulii.model.UnrulyException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates and caches {@link MethodInvoker}s. Instance methods with up to four parameters are compiled into direct
+ * calls with {@link java.lang.invoke.LambdaMetafactory}; everything else falls back to a MethodHandle. Invokers are
+ * created once per method and shared.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class MethodInvokers {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodInvokers.class);
+
+    private final Map<Method, MethodInvoker> invokers = new ConcurrentHashMap<>();
+
+    public MethodInvokers() {
+        super();
+    }
+
+    /**
+     * Retrieves the invoker for the given method, creating it if needed.
+     *
+     * @param method method to call
+     * @return shared invoker
+     */
+    public MethodInvoker get(Method method) {
+        Assert.notNull(method, "method cannot be null.");
+        return invokers.computeIfAbsent(method, MethodInvokers::create);
+    }
+
+    /**
+     * Number of invokers created so far.
+     *
+     * @return invoker count
+     */
+    public int size() {
+        return invokers.size();
+    }
+
+    /**
+     * Creates a new (uncached) invoker for the given method.
+     *
+     * @param method method to call
+     * @return new invoker
+     */
+    public static MethodInvoker create(Method method) {
+        Assert.notNull(method, "method cannot be null.");
+        MethodHandles.Lookup lookup = lookup(method);
+        MethodHandle handle = unreflect(lookup, method);
+
+        if (!Modifier.isStatic(method.getModifiers()) && method.getParameterCount() <= LambdaMethodInvoker.MAX_ARITY) {
+            try {
+                return LambdaMethodInvoker.create(lookup, method, handle);
+            } catch (Throwable e) {
+                // e.g. rule classes loaded by a different ClassLoader (module) than ours
+                if (LOGGER.isDebugEnabled()) LOGGER.debug("Unable to compile [" + method + "]. Falling back to a MethodHandle.", e);
+            }
+        }
+
+        return new MethodHandleInvoker(method, handle);
+    }
+
+    /**
+     * Creates a MethodHandle for the given method.
+     *
+     * @param method method to call
+     * @return direct method handle
+     */
+    static MethodHandle unreflect(Method method) {
+        return unreflect(lookup(method), method);
+    }
+
+    /**
+     * Finds a lookup with private access to the declaring class of the method, if the package is opened to us.
+     */
+    private static MethodHandles.Lookup lookup(Method method) {
+        try {
+            MethodHandles.Lookup result = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            result.unreflect(method);
+            return result;
+        } catch (IllegalAccessException e) {
+            // Package not opened to us; public methods can still be called
+            return MethodHandles.lookup();
+        }
+    }
+
+    private static MethodHandle unreflect(MethodHandles.Lookup lookup, Method method) {
+        try {
+            return lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new UnrulyException("Unable to access rule method [" + method + "]", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MethodInvokers{" +
+                "size=" + invokers.size() +
+                '}';
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.latency;
+
+import org.rulii.context.RuleContext;
+import org.rulii.rule.RuleResult;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.rulii.spring.intercept.RuleInterceptor;
+import org.rulii.spring.intercept.RuleInvocation;
+import org.springframework.core.Ordered;
+import org.springframework.util.Assert;
+
+/**
+ * Records the latency of every run of the Rule beans (including failed runs) in a {@link RuleLatencyRecorder}.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class LatencyRuleInterceptor implements RuleInterceptor {
+
+    private final RuleLatencyRecorder recorder;
+
+    /**
+     * Creates a new LatencyRuleInterceptor.
+     *
+     * @param recorder where the latencies are recorded
+     */
+    public LatencyRuleInterceptor(RuleLatencyRecorder recorder) {
+        super();
+        Assert.notNull(recorder, "recorder cannot be null.");
+        this.recorder = recorder;
+    }
+
+    @Override
+    public boolean supports(RuleDescriptor descriptor) {
+        return true;
+    }
+
+    @Override
+    public RuleResult intercept(RuleDescriptor descriptor, RuleContext context, RuleInvocation invocation) {
+        long start = System.nanoTime();
+
+        try {
+            return invocation.proceed(context);
+        } finally {
+            recorder.record(descriptor.id(), descriptor.name(), System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 2;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyRuleInterceptor{" +
+                "recorder=" + recorder +
+                '}';
+    }
+}
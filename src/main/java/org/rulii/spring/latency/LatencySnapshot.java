@@ -0,0 +1,78 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.latency;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+
+/**
+ * Latency distribution of a single Rule over one reporting interval.
+ *
+ * @param ruleName name of the Rule
+ * @param count number of runs in the interval
+ * @param p50 median latency
+ * @param p90 90th percentile
+ * @param p99 99th percentile
+ * @param p999 99.9th percentile
+ * @param max highest latency recorded
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public record LatencySnapshot(String ruleName, long count, Duration p50, Duration p90, Duration p99, Duration p999,
+                              Duration max) {
+
+    static LatencySnapshot of(String ruleName, Histogram histogram) {
+        return new LatencySnapshot(ruleName, histogram.getTotalCount(),
+                Duration.ofNanos(histogram.getValueAtPercentile(50.0d)),
+                Duration.ofNanos(histogram.getValueAtPercentile(90.0d)),
+                Duration.ofNanos(histogram.getValueAtPercentile(99.0d)),
+                Duration.ofNanos(histogram.getValueAtPercentile(99.9d)),
+                Duration.ofNanos(histogram.getMaxValue()));
+    }
+
+    /**
+     * Retrieves the latency at one of the reported percentiles.
+     *
+     * @param percentile 50, 90, 99 or 99.9
+     * @return latency at the percentile
+     */
+    public Duration getPercentile(double percentile) {
+        if (percentile == 50.0d) return p50;
+        if (percentile == 90.0d) return p90;
+        if (percentile == 99.0d) return p99;
+        if (percentile == 99.9d) return p999;
+        throw new IllegalArgumentException("Percentile [" + percentile + "] is not reported. Use 50, 90, 99 or 99.9.");
+    }
+
+    @Override
+    public String toString() {
+        return "Rule [" + ruleName + "] count=" + count +
+                " p50=" + toMicros(p50) + "us" +
+                " p90=" + toMicros(p90) + "us" +
+                " p99=" + toMicros(p99) + "us" +
+                " p999=" + toMicros(p999) + "us" +
+                " max=" + toMicros(max) + "us";
+    }
+
+    private static long toMicros(Duration duration) {
+        return duration.toNanos() / 1_000;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.latency;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.util.Assert;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Exports the latest {@link LatencySnapshot} of every Rule to Micrometer as gauges:
+ * rulii.rule.latency (tagged with the rule and the quantile 0.5, 0.9, 0.99, 0.999 or max) and rulii.rule.runs
+ * (runs in the last interval). Gauges for a Rule are registered when it is first reported.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RuleLatencyMeterBinder implements MeterBinder {
+
+    private static final double[] PERCENTILES = {50.0d, 90.0d, 99.0d, 99.9d};
+    private static final String[] QUANTILES = {"0.5", "0.9", "0.99", "0.999"};
+
+    private final RuleLatencyRecorder recorder;
+    private final List<MeterRegistry> registries = new CopyOnWriteArrayList<>();
+    private final Set<String> registered = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a new RuleLatencyMeterBinder.
+     *
+     * @param recorder recorder whose snapshots are exported
+     */
+    public RuleLatencyMeterBinder(RuleLatencyRecorder recorder) {
+        super();
+        Assert.notNull(recorder, "recorder cannot be null.");
+        this.recorder = recorder;
+        recorder.addListener(this::onInterval);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        registries.add(registry);
+        registered.addAll(recorder.getLastSnapshots().keySet());
+        // Registering an existing gauge again is a no-op
+        for (String ruleName : registered) register(registry, ruleName);
+    }
+
+    private void onInterval(Map<String, LatencySnapshot> snapshots) {
+        for (String ruleName : snapshots.keySet()) {
+            if (!registered.add(ruleName)) continue;
+            for (MeterRegistry registry : registries) register(registry, ruleName);
+        }
+    }
+
+    private void register(MeterRegistry registry, String ruleName) {
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            double percentile = PERCENTILES[i];
+            Gauge.builder("rulii.rule.latency", recorder, source -> toSeconds(source.getLastSnapshot(ruleName), percentile))
+                    .tag("rule", ruleName)
+                    .tag("quantile", QUANTILES[i])
+                    .baseUnit("seconds")
+                    .register(registry);
+        }
+
+        Gauge.builder("rulii.rule.latency", recorder, source -> {
+                    LatencySnapshot snapshot = source.getLastSnapshot(ruleName);
+                    return snapshot != null ? snapshot.max().toNanos() / 1e9d : 0.0d;
+                })
+                .tag("rule", ruleName)
+                .tag("quantile", "max")
+                .baseUnit("seconds")
+                .register(registry);
+
+        Gauge.builder("rulii.rule.runs", recorder, source -> {
+                    LatencySnapshot snapshot = source.getLastSnapshot(ruleName);
+                    return snapshot != null ? snapshot.count() : 0.0d;
+                })
+                .tag("rule", ruleName)
+                .register(registry);
+    }
+
+    private static double toSeconds(LatencySnapshot snapshot, double percentile) {
+        return snapshot != null ? snapshot.getPercentile(percentile).toNanos() / 1e9d : 0.0d;
+    }
+
+    @Override
+    public String toString() {
+        return "RuleLatencyMeterBinder{" +
+                "rules=" + registered +
+                '}';
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.latency;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.rulii.spring.intercept.RuleIdTable;
+import org.springframework.util.Assert;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Records the latency of every Rule run in a per-Rule HdrHistogram {@link Recorder}. Recording is wait-free; the
+ * recorded values are collected one interval at a time with {@link #rollInterval()}, which swaps each Recorder's
+ * active histogram without stopping the recording threads. The histograms auto-resize and keep three significant
+ * digits, so rare spikes show up in the p99.9 and max instead of being averaged away. Recorders of Rules with a
+ * catalog id are found with an array lookup; the name map is only used when a Rule runs for the first time.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RuleLatencyRecorder {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+    private final RuleIdTable<Recorder> recordersById = new RuleIdTable<>();
+    private final Map<String, Histogram> recycled = new ConcurrentHashMap<>();
+    private final List<Consumer<Map<String, LatencySnapshot>>> listeners = new CopyOnWriteArrayList<>();
+    private volatile Map<String, LatencySnapshot> lastSnapshots = Map.of();
+
+    public RuleLatencyRecorder() {
+        super();
+    }
+
+    /**
+     * Records the latency of one Rule run.
+     *
+     * @param ruleName name of the Rule
+     * @param nanos time the run took
+     */
+    public void record(String ruleName, long nanos) {
+        getOrCreate(ruleName).recordValue(Math.max(nanos, 0));
+    }
+
+    /**
+     * Records the latency of one Rule run.
+     *
+     * @param ruleId catalog id of the Rule ({@link RuleDescriptor#NO_ID} if it has none)
+     * @param ruleName name of the Rule
+     * @param nanos time the run took
+     */
+    public void record(int ruleId, String ruleName, long nanos) {
+        getOrCreate(ruleId, ruleName).recordValue(Math.max(nanos, 0));
+    }
+
+    /**
+     * Ends the current interval: collects the values recorded since the previous call, publishes them to the
+     * listeners and starts a new interval.
+     *
+     * @return snapshots of the interval that just ended, by Rule name
+     */
+    public synchronized Map<String, LatencySnapshot> rollInterval() {
+        Map<String, LatencySnapshot> result = new TreeMap<>();
+
+        for (Map.Entry<String, Recorder> entry : recorders.entrySet()) {
+            Histogram histogram = entry.getValue().getIntervalHistogram(recycled.get(entry.getKey()));
+            recycled.put(entry.getKey(), histogram);
+            result.put(entry.getKey(), LatencySnapshot.of(entry.getKey(), histogram));
+        }
+
+        this.lastSnapshots = Map.copyOf(result);
+        for (Consumer<Map<String, LatencySnapshot>> listener : listeners) listener.accept(lastSnapshots);
+        return result;
+    }
+
+    /**
+     * Retrieves the snapshot of the last completed interval of the given Rule.
+     *
+     * @param ruleName name of the Rule
+     * @return snapshot or null if the Rule has not been reported yet
+     */
+    public LatencySnapshot getLastSnapshot(String ruleName) {
+        return lastSnapshots.get(ruleName);
+    }
+
+    /**
+     * Retrieves the snapshots of the last completed interval.
+     *
+     * @return snapshots by Rule name
+     */
+    public Map<String, LatencySnapshot> getLastSnapshots() {
+        return lastSnapshots;
+    }
+
+    /**
+     * Adds a listener that is called with the snapshots at the end of every interval.
+     *
+     * @param listener interval listener
+     */
+    public void addListener(Consumer<Map<String, LatencySnapshot>> listener) {
+        Assert.notNull(listener, "listener cannot be null.");
+        listeners.add(listener);
+    }
+
+    private Recorder getOrCreate(int ruleId, String ruleName) {
+        if (ruleId == RuleDescriptor.NO_ID) return getOrCreate(ruleName);
+        Recorder result = recordersById.get(ruleId);
+        return result != null ? result : recordersById.computeIfAbsent(ruleId, id -> getOrCreate(ruleName));
+    }
+
+    private Recorder getOrCreate(String ruleName) {
+        Assert.notNull(ruleName, "ruleName cannot be null.");
+        Recorder result = recorders.get(ruleName);
+        return result != null ? result : recorders.computeIfAbsent(ruleName, name -> new Recorder(SIGNIFICANT_DIGITS));
+    }
+
+    @Override
+    public String toString() {
+        return "RuleLatencyRecorder{" +
+                "rules=" + recorders.keySet() +
+                '}';
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.latency;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ends a {@link RuleLatencyRecorder} interval at a fixed rate and, optionally, logs one line per Rule that ran in
+ * the interval. Listeners of the recorder (such as the Micrometer binder) are updated at the same rate.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RuleLatencyReporter implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RuleLatencyReporter.class);
+
+    private final RuleLatencyRecorder recorder;
+    private final Duration interval;
+    private final boolean log;
+    private volatile ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a new RuleLatencyReporter.
+     *
+     * @param recorder recorder to roll
+     * @param interval length of a reporting interval
+     * @param log whether to log the snapshots of every interval
+     */
+    public RuleLatencyReporter(RuleLatencyRecorder recorder, Duration interval, boolean log) {
+        super();
+        Assert.notNull(recorder, "recorder cannot be null.");
+        Assert.notNull(interval, "interval cannot be null.");
+        Assert.isTrue(!interval.isNegative() && !interval.isZero(), "interval must be > 0.");
+        this.recorder = recorder;
+        this.interval = interval;
+        this.log = log;
+    }
+
+    @Override
+    public void start() {
+        if (scheduler != null) return;
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rulii-latency-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::report, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        this.scheduler = executor;
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = scheduler;
+        this.scheduler = null;
+        if (executor != null) executor.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * Ends the current interval and logs it.
+     */
+    void report() {
+        try {
+            Map<String, LatencySnapshot> snapshots = recorder.rollInterval();
+            if (!log || !LOGGER.isInfoEnabled()) return;
+
+            for (LatencySnapshot snapshot : snapshots.values()) {
+                if (snapshot.count() > 0) LOGGER.info(snapshot.toString());
+            }
+        } catch (RuntimeException e) {
+            // Never let an exception cancel the schedule
+            LOGGER.warn("Unable to report Rule latencies", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RuleLatencyReporter{" +
+                "interval=" + interval +
+                ", log=" + log +
+                '}';
+    }
+}
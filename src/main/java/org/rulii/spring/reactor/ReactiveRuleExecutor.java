@@ -0,0 +1,197 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.reactor;
+
+import org.reactivestreams.Publisher;
+import org.rulii.bind.Bindings;
+import org.rulii.context.RuleContext;
+import org.rulii.context.RuleContextOptions;
+import org.rulii.model.Runnable;
+import org.rulii.spring.cache.ConditionMemo;
+import org.rulii.spring.concurrent.Deadline;
+import org.rulii.spring.concurrent.RuleTimeoutException;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.context.ContextView;
+
+import java.util.function.Function;
+
+/**
+ * Non-blocking adapter for running Rules and RuleSets from Project Reactor pipelines. Evaluations are deferred until
+ * subscription and executed on the configured Scheduler, so callers on an event loop never block.
+ * <p>
+ * The RuleContextOptions can be overridden per subscription by putting them in the Reactor Context under
+ * {@link #OPTIONS_KEY}:
+ *
+ * <pre>
+ * executor.run(ruleSet, bindings)
+ *         .contextWrite(ctx -&gt; ctx.put(ReactiveRuleExecutor.OPTIONS_KEY, tenantOptions));
+ * </pre>
+ * <p>
+ * The {@link Deadline} and {@link ConditionMemo} of the subscribing thread are captured at subscription and bound to
+ * the Scheduler thread for the evaluation, so a run subscribed during an evaluation honours its Deadline and shares its
+ * cached conditions. A Deadline can also be given in the Reactor Context under
+ * {@link #DEADLINE_KEY}; the earlier of the two applies.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class ReactiveRuleExecutor {
+
+    /**
+     * Reactor Context key for RuleContextOptions that override the defaults for one subscription.
+     */
+    public static final Class<RuleContextOptions> OPTIONS_KEY = RuleContextOptions.class;
+    /**
+     * Reactor Context key for a Deadline the evaluations of one subscription must complete by.
+     */
+    public static final Class<Deadline> DEADLINE_KEY = Deadline.class;
+
+    private final RuleContextOptions ruleContextOptions;
+    private final Scheduler scheduler;
+
+    /**
+     * Creates a new ReactiveRuleExecutor.
+     *
+     * @param ruleContextOptions default options used to create the RuleContexts
+     * @param scheduler Scheduler the evaluations run on
+     */
+    public ReactiveRuleExecutor(RuleContextOptions ruleContextOptions, Scheduler scheduler) {
+        super();
+        Assert.notNull(ruleContextOptions, "ruleContextOptions cannot be null.");
+        Assert.notNull(scheduler, "scheduler cannot be null.");
+        this.ruleContextOptions = ruleContextOptions;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Creates a copy of this executor that runs on a different Scheduler.
+     *
+     * @param scheduler Scheduler the evaluations run on
+     * @return a new ReactiveRuleExecutor
+     */
+    public ReactiveRuleExecutor withScheduler(Scheduler scheduler) {
+        return new ReactiveRuleExecutor(ruleContextOptions, scheduler);
+    }
+
+    /**
+     * Runs the given Rule/RuleSet with the given Bindings.
+     *
+     * @param runnable Rule or RuleSet to run
+     * @param bindings Bindings to run with
+     * @param <T> result type
+     * @return Mono emitting the result
+     */
+    public <T> Mono<T> run(Runnable<T> runnable, Bindings bindings) {
+        Assert.notNull(runnable, "runnable cannot be null.");
+        Assert.notNull(bindings, "bindings cannot be null.");
+        // Deferred on the subscribing thread so that its Deadline and ConditionMemo can be captured
+        return Mono.deferContextual(ctx -> run(runnable, bindings, ctx, currentDeadline(ctx), ConditionMemo.current()));
+    }
+
+    /**
+     * Runs the given Rule/RuleSet once per input, emitting the results in input order. At most {@code concurrency}
+     * evaluations are in flight and inputs are requested from upstream only as evaluations complete.
+     *
+     * @param runnable Rule or RuleSet to run
+     * @param inputs inputs to evaluate
+     * @param mapper creates the Bindings for an input
+     * @param concurrency maximum number of concurrent evaluations
+     * @param <I> input type
+     * @param <T> result type
+     * @return Flux emitting the results in input order
+     */
+    public <I, T> Flux<T> run(Runnable<T> runnable, Publisher<I> inputs, Function<? super I, Bindings> mapper, int concurrency) {
+        Assert.notNull(inputs, "inputs cannot be null.");
+        Assert.notNull(mapper, "mapper cannot be null.");
+        return Flux.deferContextual(ctx -> {
+            Deadline deadline = currentDeadline(ctx);
+            ConditionMemo memo = ConditionMemo.current();
+            return Flux.from(inputs).flatMapSequential(input -> run(runnable, mapper.apply(input), ctx, deadline, memo), concurrency);
+        });
+    }
+
+    /**
+     * Runs the given Rule/RuleSet once per input, emitting the results as soon as they are available.
+     *
+     * @param runnable Rule or RuleSet to run
+     * @param inputs inputs to evaluate
+     * @param mapper creates the Bindings for an input
+     * @param concurrency maximum number of concurrent evaluations
+     * @param <I> input type
+     * @param <T> result type
+     * @return Flux emitting the results in completion order
+     */
+    public <I, T> Flux<T> runUnordered(Runnable<T> runnable, Publisher<I> inputs, Function<? super I, Bindings> mapper, int concurrency) {
+        Assert.notNull(inputs, "inputs cannot be null.");
+        Assert.notNull(mapper, "mapper cannot be null.");
+        return Flux.deferContextual(ctx -> {
+            Deadline deadline = currentDeadline(ctx);
+            ConditionMemo memo = ConditionMemo.current();
+            return Flux.from(inputs).flatMap(input -> run(runnable, mapper.apply(input), ctx, deadline, memo), concurrency);
+        });
+    }
+
+    /**
+     * Runs the given Rule/RuleSet on the Scheduler with the given Deadline and ConditionMemo bound to its thread.
+     *
+     * @param runnable Rule or RuleSet to run
+     * @param bindings Bindings to run with
+     * @param ctx Reactor Context of the subscription
+     * @param deadline Deadline captured at subscription (may be null)
+     * @param memo ConditionMemo captured at subscription (may be null)
+     * @param <T> result type
+     * @return Mono emitting the result
+     */
+    private <T> Mono<T> run(Runnable<T> runnable, Bindings bindings, ContextView ctx, Deadline deadline, ConditionMemo memo) {
+        Assert.notNull(runnable, "runnable cannot be null.");
+        Assert.notNull(bindings, "bindings cannot be null.");
+        return Mono.fromCallable(() -> {
+                    if (deadline != null && deadline.isExpired()) throw new RuleTimeoutException("Rule evaluation exceeded its deadline before it started.", deadline.getTimeout());
+                    RuleContext context = createContext(ctx, bindings);
+                    // Joins the memo of the subscribing evaluation; otherwise the run is an evaluation of its own
+                    return ConditionMemo.callWithin(memo, () -> Deadline.callWithin(deadline, () -> memo != null
+                            ? runnable.run(context)
+                            : ConditionMemo.evaluate(context, () -> runnable.run(context))));
+                })
+                .subscribeOn(scheduler);
+    }
+
+    private static Deadline currentDeadline(ContextView ctx) {
+        return Deadline.earliest(Deadline.current(), ctx.getOrDefault(DEADLINE_KEY, null));
+    }
+
+    private RuleContext createContext(ContextView ctx, Bindings bindings) {
+        RuleContextOptions options = ctx.getOrDefault(OPTIONS_KEY, ruleContextOptions);
+        return RuleContext.builder().with(options).bindings(bindings).build();
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    @Override
+    public String toString() {
+        return "ReactiveRuleExecutor{" +
+                "scheduler=" + scheduler +
+                '}';
+    }
+}
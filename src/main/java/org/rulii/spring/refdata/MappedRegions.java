@@ -0,0 +1,123 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.refdata;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A file mapped into memory as consecutive regions of {@link #REGION_SIZE} bytes, so that files larger than a single
+ * {@link MappedByteBuffer} can be addressed with long positions. Multi-byte values and records are laid out so that
+ * they never straddle a region boundary.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+final class MappedRegions {
+
+    static final int REGION_BITS = 30;
+    static final long REGION_SIZE = 1L << REGION_BITS;
+
+    private static final long REGION_MASK = REGION_SIZE - 1;
+
+    private final MappedByteBuffer[] regions;
+    private final long size;
+
+    private MappedRegions(MappedByteBuffer[] regions, long size) {
+        super();
+        this.regions = regions;
+        this.size = size;
+    }
+
+    /**
+     * Maps the first size bytes of the given channel. The mapping stays valid after the channel is closed.
+     *
+     * @param channel file to map
+     * @param mode map mode
+     * @param size number of bytes to map
+     * @return mapped regions
+     * @throws IOException if the file cannot be mapped
+     */
+    static MappedRegions map(FileChannel channel, FileChannel.MapMode mode, long size) throws IOException {
+        MappedByteBuffer[] regions = new MappedByteBuffer[(int) ((size + REGION_MASK) >>> REGION_BITS)];
+
+        for (int i = 0; i < regions.length; i++) {
+            long start = (long) i << REGION_BITS;
+            regions[i] = channel.map(mode, start, Math.min(REGION_SIZE, size - start));
+        }
+
+        return new MappedRegions(regions, size);
+    }
+
+    /**
+     * Determines whether a record of the given length starting at the given position fits in a single region.
+     *
+     * @param position start of the record
+     * @param length length of the record
+     * @return true if the record does not cross a region boundary
+     */
+    static boolean fits(long position, long length) {
+        return (position & REGION_MASK) + length <= REGION_SIZE;
+    }
+
+    byte get(long position) {
+        return regions[(int) (position >>> REGION_BITS)].get((int) (position & REGION_MASK));
+    }
+
+    void get(long position, byte[] target, int offset, int length) {
+        regions[(int) (position >>> REGION_BITS)].get((int) (position & REGION_MASK), target, offset, length);
+    }
+
+    int getInt(long position) {
+        return regions[(int) (position >>> REGION_BITS)].getInt((int) (position & REGION_MASK));
+    }
+
+    long getLong(long position) {
+        return regions[(int) (position >>> REGION_BITS)].getLong((int) (position & REGION_MASK));
+    }
+
+    void putInt(long position, int value) {
+        regions[(int) (position >>> REGION_BITS)].putInt((int) (position & REGION_MASK), value);
+    }
+
+    void putLong(long position, long value) {
+        regions[(int) (position >>> REGION_BITS)].putLong((int) (position & REGION_MASK), value);
+    }
+
+    /**
+     * Creates a read-only view of a range within a single region; the bytes are not copied.
+     *
+     * @param position start of the range
+     * @param length length of the range
+     * @return read-only view
+     */
+    ByteBuffer slice(long position, int length) {
+        return regions[(int) (position >>> REGION_BITS)].slice((int) (position & REGION_MASK), length).asReadOnlyBuffer();
+    }
+
+    void force() {
+        for (MappedByteBuffer region : regions) region.force();
+    }
+
+    long size() {
+        return size;
+    }
+}
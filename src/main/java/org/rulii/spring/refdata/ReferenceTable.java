@@ -0,0 +1,367 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.refdata;
+
+import org.rulii.model.UnrulyException;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Read-only reference data (country codes, tariffs, product catalogs...) kept off-heap in a memory-mapped file written
+ * by {@link ReferenceTableWriter}. The table holds no Java objects per entry: lookups probe an open addressing index
+ * in the mapped file and only the returned value is materialized, so even very large tables put no pressure on the
+ * garbage collector. The pages belong to the operating system's page cache, so every JVM on a host that opens the same
+ * file shares a single copy of the data.
+ * <p>
+ * Expose a table as a bean (see {@link ReferenceTableFactoryBean}) and Rules receive it like any other binding:
+ * <pre>
+ * &#64;Given
+ * public boolean isValid(ReferenceTable countryCodes, String country) {
+ *     return countryCodes.containsKey(country);
+ * }
+ * </pre>
+ * File layout (big endian):
+ * <pre>
+ * header: int magic, int reserved, long entryCount, long indexOffset, long slotCount
+ * data:   (int keyLength, int valueLength, byte[] key, byte[] value)*   UTF-8, never crossing a 1GB region
+ * index:  (long recordPosition, int keyHash, int keyLength)[slotCount]  recordPosition 0 marks an empty slot
+ * </pre>
+ * ReferenceTable is immutable and thread safe. The mapping is released once the table is no longer reachable.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public final class ReferenceTable {
+
+    static final int MAGIC = 0x52544231; // RTB1
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_HEADER_SIZE = 8;
+    static final int SLOT_SIZE = 16;
+
+    private final Path file;
+    private final MappedRegions regions;
+    private final long size;
+    private final long indexOffset;
+    private final long slotMask;
+
+    private ReferenceTable(Path file, MappedRegions regions, long size, long indexOffset, long slotCount) {
+        super();
+        this.file = file;
+        this.regions = regions;
+        this.size = size;
+        this.indexOffset = indexOffset;
+        this.slotMask = slotCount - 1;
+    }
+
+    /**
+     * Opens (maps) a reference table file.
+     *
+     * @param file file written by {@link ReferenceTableWriter}
+     * @return the table
+     */
+    public static ReferenceTable open(Path file) {
+        Assert.notNull(file, "file cannot be null.");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < HEADER_SIZE) throw new UnrulyException("[" + file + "] is not a reference table.");
+            MappedRegions regions = MappedRegions.map(channel, FileChannel.MapMode.READ_ONLY, length);
+
+            long size = regions.getLong(8);
+            long indexOffset = regions.getLong(16);
+            long slotCount = regions.getLong(24);
+
+            if (regions.getInt(0) != MAGIC || Long.bitCount(slotCount) != 1 || size < 0 || size >= slotCount
+                    || indexOffset < HEADER_SIZE || indexOffset % SLOT_SIZE != 0
+                    || indexOffset + slotCount * SLOT_SIZE != length) {
+                throw new UnrulyException("[" + file + "] is not a reference table.");
+            }
+
+            return new ReferenceTable(file, regions, size, indexOffset, slotCount);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open reference table [" + file + "]", e);
+        }
+    }
+
+    /**
+     * Retrieves the value of the given key.
+     *
+     * @param key key to look up
+     * @return value or null if the table does not contain the key
+     */
+    public String get(String key) {
+        long record = find(key);
+        return record < 0 ? null : readValue(record);
+    }
+
+    /**
+     * Retrieves the value of the given key, or the default if the table does not contain the key.
+     *
+     * @param key key to look up
+     * @param defaultValue value returned for unknown keys
+     * @return value or the default value
+     */
+    public String getOrDefault(String key, String defaultValue) {
+        String result = get(key);
+        return result != null ? result : defaultValue;
+    }
+
+    /**
+     * Retrieves the (UTF-8) value of the given key without copying it out of the mapped file.
+     *
+     * @param key key to look up
+     * @return read-only view of the value or null if the table does not contain the key
+     */
+    public ByteBuffer getBuffer(String key) {
+        long record = find(key);
+        if (record < 0) return null;
+        return regions.slice(record + RECORD_HEADER_SIZE + regions.getInt(record), regions.getInt(record + 4));
+    }
+
+    /**
+     * Determines whether the table contains the given key. Does not allocate for ASCII keys.
+     *
+     * @param key key to look up
+     * @return true if the table contains the key
+     */
+    public boolean containsKey(String key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Passes every entry of the table (in no particular order) to the given consumer.
+     *
+     * @param consumer entry consumer
+     */
+    public void forEach(BiConsumer<String, String> consumer) {
+        Assert.notNull(consumer, "consumer cannot be null.");
+        for (long slot = 0; slot <= slotMask; slot++) {
+            long record = regions.getLong(indexOffset + slot * SLOT_SIZE);
+            if (record != 0) consumer.accept(readKey(record), readValue(record));
+        }
+    }
+
+    /**
+     * Read-only {@link Map} view of the table, for Rules written against a Map of reference data. Lookups go straight
+     * to the mapped file; nothing is copied onto the heap.
+     *
+     * @return Map view
+     */
+    public Map<String, String> asMap() {
+        return new MapView();
+    }
+
+    /**
+     * Number of entries.
+     *
+     * @return number of entries
+     */
+    public long size() {
+        return size;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Size of the mapped file.
+     *
+     * @return size in bytes
+     */
+    public long getFileSize() {
+        return regions.size();
+    }
+
+    private long find(String key) {
+        Assert.notNull(key, "key cannot be null.");
+        int hash = hash(key);
+        int keyLength = utf8Length(key);
+        long slot = hash & slotMask;
+
+        while (true) {
+            long entry = indexOffset + slot * SLOT_SIZE;
+            long record = regions.getLong(entry);
+            if (record == 0) return -1;
+            if (regions.getInt(entry + 8) == hash && regions.getInt(entry + 12) == keyLength
+                    && keyEquals(record + RECORD_HEADER_SIZE, keyLength, key)) return record;
+            slot = (slot + 1) & slotMask;
+        }
+    }
+
+    private boolean keyEquals(long position, int length, String key) {
+        if (length == key.length()) {
+            // Likely ASCII (one byte per char); compare in place
+            for (int i = 0; i < length; i++) {
+                char c = key.charAt(i);
+                if (c >= 0x80) return bytesEqual(position, key.getBytes(StandardCharsets.UTF_8));
+                if (regions.get(position + i) != (byte) c) return false;
+            }
+            return true;
+        }
+
+        return bytesEqual(position, key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private boolean bytesEqual(long position, byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (regions.get(position + i) != bytes[i]) return false;
+        }
+        return true;
+    }
+
+    private String readKey(long record) {
+        byte[] key = new byte[regions.getInt(record)];
+        regions.get(record + RECORD_HEADER_SIZE, key, 0, key.length);
+        return new String(key, StandardCharsets.UTF_8);
+    }
+
+    private String readValue(long record) {
+        int keyLength = regions.getInt(record);
+        byte[] value = new byte[regions.getInt(record + 4)];
+        regions.get(record + RECORD_HEADER_SIZE + keyLength, value, 0, value.length);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Hash of a key; String.hashCode is specified (and cached), so the hash is the same in every JVM.
+     *
+     * @param key key
+     * @return hash
+     */
+    static int hash(String key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * Length of the UTF-8 encoding of the key (as produced by String.getBytes), computed without encoding it.
+     *
+     * @param key key
+     * @return encoded length
+     */
+    static int utf8Length(String key) {
+        int length = key.length();
+        int result = length;
+
+        for (int i = 0; i < length; i++) {
+            char c = key.charAt(i);
+            if (c < 0x80) continue;
+            if (c < 0x800) {
+                result += 1;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(key.charAt(i + 1))) {
+                // Two chars, four bytes
+                result += 2;
+                i++;
+            } else if (!Character.isSurrogate(c)) {
+                result += 2;
+            }
+            // Unpaired surrogates are encoded as '?'
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ReferenceTable{" +
+                "file=" + file +
+                ", size=" + size +
+                '}';
+    }
+
+    private final class MapView extends AbstractMap<String, String> {
+
+        @Override
+        public String get(Object key) {
+            return key instanceof String k ? ReferenceTable.this.get(k) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String k && ReferenceTable.this.containsKey(k);
+        }
+
+        @Override
+        public int size() {
+            return (int) Math.min(size, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return MapView.this.size();
+                }
+            };
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, String>> {
+
+        private long slot = -1;
+        private long record = advance();
+
+        @Override
+        public boolean hasNext() {
+            return record != 0;
+        }
+
+        @Override
+        public Map.Entry<String, String> next() {
+            if (record == 0) throw new NoSuchElementException();
+            Map.Entry<String, String> result = Map.entry(readKey(record), readValue(record));
+            record = advance();
+            return result;
+        }
+
+        private long advance() {
+            while (++slot <= slotMask) {
+                long result = regions.getLong(indexOffset + slot * SLOT_SIZE);
+                if (result != 0) return result;
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.refdata;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Exposes a {@link ReferenceTable} loaded from a Spring {@link Resource} as a bean, so that Rules can take it as a
+ * parameter (by bean name). File resources are mapped in place and share their pages with every other JVM mapping the
+ * same file; any other resource (classpath entry inside a jar, URL...) is first copied to a temporary file, which is
+ * deleted when the bean is destroyed.
+ * <pre>
+ * &#64;Bean
+ * public ReferenceTableFactoryBean countryCodes() {
+ *     return new ReferenceTableFactoryBean(new FileSystemResource("/data/country-codes.rtab"));
+ * }
+ * </pre>
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class ReferenceTableFactoryBean implements FactoryBean<ReferenceTable>, InitializingBean, DisposableBean {
+
+    private final Resource resource;
+    private ReferenceTable table;
+    private Path tempFile;
+
+    /**
+     * Creates a new ReferenceTableFactoryBean.
+     *
+     * @param resource reference table file written by {@link ReferenceTableWriter}
+     */
+    public ReferenceTableFactoryBean(Resource resource) {
+        super();
+        Assert.notNull(resource, "resource cannot be null.");
+        this.resource = resource;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        if (resource.isFile()) {
+            this.table = ReferenceTable.open(resource.getFile().toPath());
+            return;
+        }
+
+        this.tempFile = Files.createTempFile("rulii-refdata-", ".rtab");
+
+        try (InputStream input = resource.getInputStream()) {
+            Files.copy(input, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            this.table = ReferenceTable.open(tempFile);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    @Override
+    public ReferenceTable getObject() {
+        Assert.state(table != null, "ReferenceTableFactoryBean has not been initialized.");
+        return table;
+    }
+
+    @Override
+    public Class<?> getObjectType() {
+        return ReferenceTable.class;
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        // The mapping stays valid until the table is collected; only the directory entry is removed
+        if (tempFile != null) Files.deleteIfExists(tempFile);
+    }
+
+    public Resource getResource() {
+        return resource;
+    }
+
+    @Override
+    public String toString() {
+        return "ReferenceTableFactoryBean{" +
+                "resource=" + resource +
+                '}';
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.refdata;
+
+import org.rulii.model.UnrulyException;
+import org.springframework.util.Assert;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Writes a {@link ReferenceTable} file. Entries are streamed to disk as they are added; only the position and hash of
+ * each entry are kept on the heap, and the index is built directly in the mapped file when the writer is closed.
+ * The table is written to a temporary sibling file and moved into place on close, so readers (in this or any other
+ * JVM) never see a partially written table.
+ * <pre>
+ * try (ReferenceTableWriter writer = ReferenceTableWriter.create(path)) {
+ *     writer.put("CA", "Canada");
+ *     writer.put("FR", "France");
+ * }
+ * </pre>
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public final class ReferenceTableWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final Path tempFile;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private long bufferStart = ReferenceTable.HEADER_SIZE;
+    private long[] records = new long[1024];
+    private int[] hashes = new int[1024];
+    private int count;
+    private boolean closed;
+
+    private ReferenceTableWriter(Path file, Path tempFile, FileChannel channel) {
+        super();
+        this.file = file;
+        this.tempFile = tempFile;
+        this.channel = channel;
+    }
+
+    /**
+     * Creates a new writer. Any existing table at the given path is replaced once the writer is closed.
+     *
+     * @param file table file
+     * @return new writer
+     */
+    public static ReferenceTableWriter create(Path file) {
+        Assert.notNull(file, "file cannot be null.");
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try {
+            return new ReferenceTableWriter(file, tempFile, FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to create reference table [" + file + "]", e);
+        }
+    }
+
+    /**
+     * Writes the given entries as a reference table.
+     *
+     * @param file table file
+     * @param entries table entries
+     */
+    public static void write(Path file, Map<String, String> entries) {
+        Assert.notNull(entries, "entries cannot be null.");
+        try (ReferenceTableWriter writer = create(file)) {
+            entries.forEach(writer::put);
+        }
+    }
+
+    /**
+     * Adds an entry. Keys must be unique.
+     *
+     * @param key entry key
+     * @param value entry value
+     * @return this for fluency
+     */
+    public ReferenceTableWriter put(String key, String value) {
+        Assert.notNull(key, "key cannot be null.");
+        Assert.notNull(value, "value cannot be null.");
+        Assert.state(!closed, "ReferenceTableWriter is closed.");
+
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
+        long length = (long) ReferenceTable.RECORD_HEADER_SIZE + keyBytes.length + valueBytes.length;
+        Assert.isTrue(length <= MappedRegions.REGION_SIZE, "Entry [" + key + "] is too large.");
+
+        try {
+            long position = bufferStart + buffer.position();
+
+            if (!MappedRegions.fits(position, length)) {
+                // Records never cross a region; skip to the next one (the gap is left as a hole)
+                flush();
+                position = (position + MappedRegions.REGION_SIZE - 1) & -MappedRegions.REGION_SIZE;
+                bufferStart = position;
+            }
+
+            if (count == records.length) {
+                records = Arrays.copyOf(records, count * 2);
+                hashes = Arrays.copyOf(hashes, count * 2);
+            }
+
+            records[count] = position;
+            hashes[count] = ReferenceTable.hash(key);
+            count++;
+
+            if (buffer.remaining() < ReferenceTable.RECORD_HEADER_SIZE) flush();
+            buffer.putInt(keyBytes.length).putInt(valueBytes.length);
+            write(keyBytes);
+            write(valueBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write reference table [" + file + "]", e);
+        }
+
+        return this;
+    }
+
+    /**
+     * Builds the index and moves the table into place.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+
+        try {
+            try (channel) {
+                flush();
+                long indexOffset = (bufferStart + ReferenceTable.SLOT_SIZE - 1) & -ReferenceTable.SLOT_SIZE;
+                long slotCount = 2;
+                while (slotCount < count * 2L) slotCount <<= 1;
+
+                MappedRegions regions = MappedRegions.map(channel, FileChannel.MapMode.READ_WRITE,
+                        indexOffset + slotCount * ReferenceTable.SLOT_SIZE);
+                regions.putInt(0, ReferenceTable.MAGIC);
+                regions.putInt(4, 0);
+                regions.putLong(8, count);
+                regions.putLong(16, indexOffset);
+                regions.putLong(24, slotCount);
+
+                for (int i = 0; i < count; i++) index(regions, indexOffset, slotCount - 1, records[i], hashes[i]);
+                regions.force();
+            }
+
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            deleteTempFile();
+            throw new UncheckedIOException("Unable to write reference table [" + file + "]", e);
+        } catch (RuntimeException e) {
+            deleteTempFile();
+            throw e;
+        }
+    }
+
+    private void index(MappedRegions regions, long indexOffset, long slotMask, long record, int hash) {
+        int keyLength = regions.getInt(record);
+        long slot = hash & slotMask;
+
+        while (true) {
+            long entry = indexOffset + slot * ReferenceTable.SLOT_SIZE;
+            long existing = regions.getLong(entry);
+
+            if (existing == 0) {
+                regions.putLong(entry, record);
+                regions.putInt(entry + 8, hash);
+                regions.putInt(entry + 12, keyLength);
+                return;
+            }
+
+            if (regions.getInt(entry + 8) == hash && regions.getInt(entry + 12) == keyLength
+                    && sameKey(regions, existing, record, keyLength)) {
+                byte[] key = new byte[keyLength];
+                regions.get(record + ReferenceTable.RECORD_HEADER_SIZE, key, 0, keyLength);
+                throw new UnrulyException("Duplicate key [" + new String(key, StandardCharsets.UTF_8)
+                        + "] in reference table [" + file + "]");
+            }
+
+            slot = (slot + 1) & slotMask;
+        }
+    }
+
+    private static boolean sameKey(MappedRegions regions, long record1, long record2, int keyLength) {
+        for (int i = 0; i < keyLength; i++) {
+            if (regions.get(record1 + ReferenceTable.RECORD_HEADER_SIZE + i)
+                    != regions.get(record2 + ReferenceTable.RECORD_HEADER_SIZE + i)) return false;
+        }
+        return true;
+    }
+
+    private void write(byte[] bytes) throws IOException {
+        if (bytes.length > buffer.remaining()) {
+            flush();
+
+            if (bytes.length > buffer.capacity()) {
+                ByteBuffer source = ByteBuffer.wrap(bytes);
+                while (source.hasRemaining()) bufferStart += channel.write(source, bufferStart);
+                return;
+            }
+        }
+
+        buffer.put(bytes);
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) bufferStart += channel.write(buffer, bufferStart);
+        buffer.clear();
+    }
+
+    private void deleteTempFile() {
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException ignored) {
+            // Best effort; the next writer truncates it
+        }
+    }
+
+    /**
+     * Number of entries written so far.
+     *
+     * @return entry count
+     */
+    public int getCount() {
+        return count;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public String toString() {
+        return "ReferenceTableWriter{" +
+                "file=" + file +
+                ", count=" + count +
+                '}';
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.reload;
+
+import org.rulii.model.Runnable;
+import org.rulii.registry.RuleRegistry;
+import org.rulii.rule.Rule;
+import org.rulii.ruleset.RuleSet;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RuleRegistry that layers a swappable index of reloaded Rules over a delegate registry. Reloaded Rules shadow
+ * delegate entries with the same name. The index is an immutable Map that is replaced with a single volatile write,
+ * so lookups never lock and in-flight evaluations keep running against the Rules they already obtained.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class ReloadableRuleRegistry implements RuleRegistry {
+
+    private final RuleRegistry delegate;
+    private volatile Map<String, Runnable<?>> index = Map.of();
+
+    /**
+     * Creates a new ReloadableRuleRegistry on top of the given registry.
+     *
+     * @param delegate the registry holding the Rules discovered at startup
+     */
+    public ReloadableRuleRegistry(RuleRegistry delegate) {
+        super();
+        Assert.notNull(delegate, "delegate cannot be null.");
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean isNameInUse(String name) {
+        Assert.notNull(name, "name cannot be null.");
+        return index.containsKey(name) || delegate.isNameInUse(name);
+    }
+
+    @Override
+    public int getCount() {
+        Map<String, Runnable<?>> current = index;
+        int result = delegate.getCount();
+
+        for (String name : current.keySet()) {
+            if (!delegate.isNameInUse(name)) result++;
+        }
+
+        return result;
+    }
+
+    @Override
+    public List<Rule> getRules() {
+        Map<String, Runnable<?>> current = index;
+        List<Rule> result = new ArrayList<>();
+
+        for (Rule rule : delegate.getRules()) {
+            if (!current.containsKey(rule.getName())) result.add(rule);
+        }
+
+        for (Runnable<?> runnable : current.values()) {
+            if (runnable instanceof Rule rule) result.add(rule);
+        }
+
+        return List.copyOf(result);
+    }
+
+    @SuppressWarnings("rawtypes")
+    @Override
+    public List<RuleSet> getRuleSets() {
+        Map<String, Runnable<?>> current = index;
+        List<RuleSet> result = new ArrayList<>();
+
+        for (RuleSet ruleSet : delegate.getRuleSets()) {
+            if (!current.containsKey(ruleSet.getName())) result.add(ruleSet);
+        }
+
+        for (Runnable<?> runnable : current.values()) {
+            if (runnable instanceof RuleSet ruleSet) result.add(ruleSet);
+        }
+
+        return List.copyOf(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <R, T extends Runnable<R>> T get(String name) {
+        Assert.notNull(name, "name cannot be null.");
+        Runnable<?> result = index.get(name);
+        return result != null ? (T) result : delegate.get(name);
+    }
+
+    @Override
+    public <R, T extends Runnable<R>> T get(String name, Class<T> type) {
+        Assert.notNull(name, "name cannot be null.");
+        Assert.notNull(type, "type cannot be null.");
+        Runnable<?> result = index.get(name);
+        return result != null ? type.cast(result) : delegate.get(name, type);
+    }
+
+    /**
+     * Atomically replaces the reloaded index. Readers see either the old or the new index, never a mix.
+     *
+     * @param runnables the reloaded Rules/RuleSets keyed by name
+     * @return the index that was replaced
+     */
+    public Map<String, Runnable<?>> swap(Map<String, ? extends Runnable<?>> runnables) {
+        Assert.notNull(runnables, "runnables cannot be null.");
+        Map<String, Runnable<?>> previous = index;
+        this.index = Map.copyOf(runnables);
+        return previous;
+    }
+
+    /**
+     * Retrieves the names of the Rules that are currently served from the reloaded index.
+     *
+     * @return reloaded names
+     */
+    public List<String> getReloadedNames() {
+        return List.copyOf(index.keySet());
+    }
+
+    /**
+     * Retrieves the registry that this registry layers over.
+     *
+     * @return delegate registry
+     */
+    public RuleRegistry getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String toString() {
+        return "ReloadableRuleRegistry{" +
+                "delegate=" + delegate +
+                ", reloaded=" + index.keySet() +
+                '}';
+    }
+}
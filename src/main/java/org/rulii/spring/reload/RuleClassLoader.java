@@ -0,0 +1,102 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.reload;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Set;
+
+/**
+ * Child-first ClassLoader used to load one generation of reloaded Rule classes. Classes found in the watched
+ * locations win over the parent so that a changed Rule replaces the one on the application classpath. The JDK,
+ * Spring, SLF4J and everything under org.rulii are loaded from the parent so that reloaded Rules share the same
+ * framework types, except for the packages that have classes in the watched locations: user Rules may live under
+ * org.rulii too.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+class RuleClassLoader extends URLClassLoader {
+
+    private static final String[] PARENT_FIRST_PREFIXES = {"java.", "javax.", "jakarta.", "org.springframework.",
+            "org.slf4j.", "org.rulii."};
+
+    static {
+        registerAsParallelCapable();
+    }
+
+    private final int generation;
+    private final Set<String> watchedPackages;
+
+    /**
+     * Creates a new RuleClassLoader.
+     *
+     * @param generation reload generation
+     * @param urls jars and class directories of the watched locations
+     * @param watchedPackages packages of the classes found in the watched locations; always loaded child-first
+     * @param parent parent ClassLoader
+     */
+    RuleClassLoader(int generation, URL[] urls, Set<String> watchedPackages, ClassLoader parent) {
+        super("rulii-rules-" + generation, urls, parent);
+        this.generation = generation;
+        this.watchedPackages = Set.copyOf(watchedPackages);
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (isParentFirst(name)) return super.loadClass(name, resolve);
+
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> result = findLoadedClass(name);
+
+            if (result == null) {
+                try {
+                    result = findClass(name);
+                } catch (ClassNotFoundException e) {
+                    // Not part of the reloaded locations
+                    result = getParent().loadClass(name);
+                }
+            }
+
+            if (resolve) resolveClass(result);
+            return result;
+        }
+    }
+
+    /**
+     * Determines whether the given class must always come from the parent ClassLoader.
+     *
+     * @param className fully qualified class name
+     * @return true if the class is loaded parent-first
+     */
+    private boolean isParentFirst(String className) {
+        int index = className.lastIndexOf('.');
+        if (index > 0 && watchedPackages.contains(className.substring(0, index))) return false;
+
+        for (String prefix : PARENT_FIRST_PREFIXES) {
+            if (className.startsWith(prefix)) return true;
+        }
+
+        return false;
+    }
+
+    int getGeneration() {
+        return generation;
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.reload;
+
+import org.rulii.annotation.Rule;
+import org.rulii.model.UnrulyException;
+import org.rulii.rule.ClassBasedRuleBuilder;
+import org.rulii.spring.intercept.RuleCatalog;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.rulii.spring.intercept.RuleInterceptor;
+import org.rulii.spring.intercept.RuleInterceptors;
+import org.rulii.util.reflect.ObjectFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Watches directories containing Rule jars and/or class trees and reloads the Rules found in them without restarting
+ * the application context. Every reload loads the Rule classes in a fresh, isolated {@link RuleClassLoader}, builds
+ * the Rules and swaps them into the {@link ReloadableRuleRegistry} in one step. Replaced generations are never closed
+ * explicitly: an evaluation that is still running holds on to its Rules (and so to their ClassLoader), and the
+ * generation is reclaimed by the garbage collector once the last such evaluation completes. Only the top
+ * level of each location is watched; replace a jar (or touch the location) to pick up changes deeper in a class tree.
+ * <p>
+ * When given a {@link RuleCatalog}, reloaded Rules are registered with it (keeping the id of a Rule with the same
+ * name) and run through the {@link RuleInterceptor}s that support them, like the Rule beans; the replaced generation
+ * is removed from the catalog. Reloaded Rules are only served through the {@link ReloadableRuleRegistry}: RuleSet
+ * beans and beans that were injected a Rule keep the instances they were created with.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RuleReloader implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RuleReloader.class);
+    private static final String CLASS_SUFFIX = ".class";
+    private static final String JAR_SUFFIX = ".jar";
+
+    private final ReloadableRuleRegistry ruleRegistry;
+    private final ObjectFactory objectFactory;
+    private final RuleCatalog ruleCatalog;
+    private final ObjectProvider<RuleInterceptor> interceptorProvider;
+    private final List<Path> locations;
+    private final Duration quietPeriod;
+
+    private final Object lock = new Object();
+    private volatile int generation = 0;
+    // Rules (and proxies) of the current generation registered with the catalog; guarded by lock
+    private List<org.rulii.rule.Rule> registered = List.of();
+    private volatile Thread watcher;
+    private volatile boolean running = false;
+
+    /**
+     * Creates a new RuleReloader.
+     *
+     * @param ruleRegistry registry to swap reloaded Rules into
+     * @param objectFactory ObjectFactory used to instantiate the reloaded Rule classes
+     * @param locations directories to watch; each may contain jars and/or a class tree
+     * @param quietPeriod time to wait after the last file change before reloading
+     */
+    public RuleReloader(ReloadableRuleRegistry ruleRegistry, ObjectFactory objectFactory, List<Path> locations, Duration quietPeriod) {
+        this(ruleRegistry, objectFactory, null, null, locations, quietPeriod);
+    }
+
+    /**
+     * Creates a new RuleReloader that registers the reloaded Rules with the catalog and applies the interceptors.
+     *
+     * @param ruleRegistry registry to swap reloaded Rules into
+     * @param objectFactory ObjectFactory used to instantiate the reloaded Rule classes
+     * @param ruleCatalog catalog to register the reloaded Rules with; null to leave them out
+     * @param interceptorProvider the RuleInterceptors to apply to the reloaded Rules; null for none
+     * @param locations directories to watch; each may contain jars and/or a class tree
+     * @param quietPeriod time to wait after the last file change before reloading
+     */
+    public RuleReloader(ReloadableRuleRegistry ruleRegistry, ObjectFactory objectFactory, RuleCatalog ruleCatalog,
+                        ObjectProvider<RuleInterceptor> interceptorProvider, List<Path> locations, Duration quietPeriod) {
+        super();
+        Assert.notNull(ruleRegistry, "ruleRegistry cannot be null.");
+        Assert.notNull(objectFactory, "objectFactory cannot be null.");
+        Assert.notEmpty(locations, "locations cannot be empty.");
+        Assert.notNull(quietPeriod, "quietPeriod cannot be null.");
+        this.ruleRegistry = ruleRegistry;
+        this.objectFactory = objectFactory;
+        this.ruleCatalog = ruleCatalog;
+        this.interceptorProvider = interceptorProvider;
+        this.locations = List.copyOf(locations);
+        this.quietPeriod = quietPeriod;
+    }
+
+    @Override
+    public void start() {
+        if (running) return;
+        reload();
+        this.running = true;
+        Thread thread = new Thread(this::watch, "rulii-rule-reloader");
+        thread.setDaemon(true);
+        thread.start();
+        this.watcher = thread;
+    }
+
+    @Override
+    public void stop() {
+        this.running = false;
+        Thread thread = this.watcher;
+        if (thread != null) thread.interrupt();
+        this.watcher = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Loads all the Rules found in the watched locations and swaps them into the registry. If anything fails the
+     * current Rules stay in place.
+     *
+     * @return the number of Rules that were reloaded
+     */
+    public int reload() {
+        synchronized (lock) {
+            RuleClassLoader loader = null;
+            List<org.rulii.rule.Rule> registering = new ArrayList<>();
+
+            try {
+                List<Path> artifacts = findArtifacts();
+                Map<String, Resource> classes = findClassResources(artifacts);
+                loader = new RuleClassLoader(++generation, toUrls(artifacts), getPackages(classes.keySet()),
+                        getClass().getClassLoader());
+                List<RuleInterceptor> interceptors = interceptorProvider != null
+                        ? interceptorProvider.orderedStream().toList()
+                        : List.of();
+                Map<String, org.rulii.rule.Rule> rules = new LinkedHashMap<>();
+
+                for (Class<?> ruleClass : loadRuleClasses(classes.values(), loader)) {
+                    String name = ClassBasedRuleBuilder.getRuleName(ruleClass);
+                    org.rulii.rule.Rule rule = org.rulii.rule.Rule.builder().build(ruleClass, objectFactory);
+                    rules.put(name, register(name, ruleClass, rule, interceptors, registering));
+                }
+
+                // The previous generation stays reachable through the Rules of in-flight evaluations
+                ruleRegistry.swap(rules);
+                List<org.rulii.rule.Rule> replaced = registered;
+                this.registered = List.copyOf(registering);
+                unregister(replaced);
+
+                LOGGER.info("Rule reload [" + loader.getGeneration() + "] complete. Found [" + rules.size() + "] rule(s) in " + locations);
+                return rules.size();
+            } catch (Exception e) {
+                // Nothing has seen this generation yet
+                unregister(registering);
+                close(loader);
+                LOGGER.error("Rule reload failed. Keeping the current Rules.", e);
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Registers a reloaded Rule with the catalog and applies the interceptors that support it.
+     *
+     * @return the Rule to serve: its proxy if it is intercepted
+     */
+    private org.rulii.rule.Rule register(String name, Class<?> ruleClass, org.rulii.rule.Rule rule,
+                                        List<RuleInterceptor> interceptors, List<org.rulii.rule.Rule> registering) {
+        RuleDescriptor created = new RuleDescriptor(name, ruleClass);
+        RuleDescriptor descriptor = created;
+
+        if (ruleCatalog != null) {
+            // Keeps the id of the Rule registered under the same name, so its statistics carry on
+            descriptor = ruleCatalog.register(rule, created);
+            registering.add(rule);
+        }
+
+        org.rulii.rule.Rule result = RuleInterceptors.apply(rule, descriptor, interceptors);
+
+        if (result != rule && ruleCatalog != null) {
+            ruleCatalog.register(result, descriptor);
+            registering.add(result);
+        }
+
+        return result;
+    }
+
+    private void unregister(List<org.rulii.rule.Rule> rules) {
+        if (ruleCatalog == null) return;
+        for (org.rulii.rule.Rule rule : rules) ruleCatalog.unregister(rule);
+    }
+
+    /**
+     * Watch loop. Changes are debounced by the quiet period so that copying a jar triggers a single reload.
+     */
+    private void watch() {
+        try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            for (Path location : locations) {
+                location.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            }
+
+            while (running) {
+                WatchKey key = watchService.take();
+                boolean changed = drain(key);
+
+                // Wait for the writes to settle
+                WatchKey next;
+                while ((next = watchService.poll(quietPeriod.toMillis(), TimeUnit.MILLISECONDS)) != null) {
+                    changed |= drain(next);
+                }
+
+                if (changed) reload();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | ClosedWatchServiceException e) {
+            LOGGER.error("Rule reloader stopped watching " + locations, e);
+        }
+    }
+
+    private boolean drain(WatchKey key) {
+        boolean result = false;
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.context() instanceof Path path) {
+                String fileName = path.getFileName().toString();
+                result |= fileName.endsWith(JAR_SUFFIX) || fileName.endsWith(CLASS_SUFFIX) || !fileName.contains(".");
+            }
+        }
+
+        key.reset();
+        return result;
+    }
+
+    /**
+     * Generation of the Rules that are currently loaded.
+     *
+     * @return generation; 0 if nothing was loaded yet
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Finds the jars inside the watched locations. Each location is also treated as the root of a class tree.
+     *
+     * @return jars and class directories
+     * @throws IOException if a location cannot be read
+     */
+    private List<Path> findArtifacts() throws IOException {
+        List<Path> result = new ArrayList<>();
+
+        for (Path location : locations) {
+            if (!Files.isDirectory(location)) throw new UnrulyException("Rule reload location [" + location + "] is not a directory.");
+            result.add(location);
+
+            try (Stream<Path> files = Files.list(location)) {
+                files.filter(file -> file.getFileName().toString().endsWith(JAR_SUFFIX))
+                        .sorted()
+                        .forEach(result::add);
+            }
+        }
+
+        return result;
+    }
+
+    private URL[] toUrls(List<Path> artifacts) throws IOException {
+        URL[] result = new URL[artifacts.size()];
+        for (int i = 0; i < result.length; i++) result[i] = artifacts.get(i).toUri().toURL();
+        return result;
+    }
+
+    /**
+     * Loads every class annotated with @Rule. Annotations are checked on the class bytes first so that non-rule
+     * classes are never loaded.
+     *
+     * @param resources class files of the watched locations
+     * @param loader ClassLoader for this generation
+     * @return the Rule classes
+     * @throws IOException if a class file cannot be read
+     * @throws ClassNotFoundException if a Rule class cannot be loaded
+     */
+    private List<Class<?>> loadRuleClasses(Collection<Resource> resources, RuleClassLoader loader) throws IOException, ClassNotFoundException {
+        SimpleMetadataReaderFactory metadataReaderFactory = new SimpleMetadataReaderFactory(loader);
+        List<Class<?>> result = new ArrayList<>();
+
+        for (Resource resource : resources) {
+            MetadataReader reader = metadataReaderFactory.getMetadataReader(resource);
+            if (!reader.getAnnotationMetadata().hasAnnotation(Rule.class.getName())) continue;
+            result.add(loader.loadClass(reader.getClassMetadata().getClassName()));
+        }
+
+        return result;
+    }
+
+    /**
+     * Finds the class files of the watched locations.
+     *
+     * @param artifacts jars and class directories
+     * @return class files by class name; the first artifact containing a class wins, as in the ClassLoader
+     * @throws IOException if an artifact cannot be read
+     */
+    private Map<String, Resource> findClassResources(List<Path> artifacts) throws IOException {
+        Map<String, Resource> result = new LinkedHashMap<>();
+
+        for (Path artifact : artifacts) {
+            if (Files.isDirectory(artifact)) {
+                try (Stream<Path> files = Files.walk(artifact)) {
+                    files.filter(file -> file.getFileName().toString().endsWith(CLASS_SUFFIX))
+                            .forEach(file -> result.putIfAbsent(toClassName(artifact.relativize(file).toString()),
+                                    new FileSystemResource(file)));
+                }
+                continue;
+            }
+
+            try (JarFile jar = new JarFile(artifact.toFile())) {
+                for (JarEntry entry : Collections.list(jar.entries())) {
+                    if (entry.isDirectory() || !entry.getName().endsWith(CLASS_SUFFIX)) continue;
+                    result.putIfAbsent(toClassName(entry.getName()),
+                            new UrlResource("jar:" + artifact.toUri() + "!/" + entry.getName()));
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private static String toClassName(String path) {
+        String result = path.substring(0, path.length() - CLASS_SUFFIX.length());
+        return result.replace('\\', '.').replace('/', '.');
+    }
+
+    /**
+     * Packages of the given classes. These are loaded child-first even under the parent-first prefixes.
+     */
+    private static Set<String> getPackages(Collection<String> classNames) {
+        Set<String> result = new HashSet<>();
+
+        for (String className : classNames) {
+            int index = className.lastIndexOf('.');
+            if (index > 0) result.add(className.substring(0, index));
+        }
+
+        return result;
+    }
+
+    private void close(RuleClassLoader loader) {
+        if (loader == null) return;
+
+        try {
+            loader.close();
+        } catch (IOException e) {
+            LOGGER.warn("Unable to close Rule ClassLoader [" + loader.getName() + "]", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RuleReloader{" +
+                "locations=" + locations +
+                ", quietPeriod=" + quietPeriod +
+                ", generation=" + generation +
+                '}';
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.ruleset;
+
+import org.rulii.context.RuleContext;
+import org.rulii.rule.Rule;
+import org.rulii.rule.RuleExecutionStatus;
+import org.rulii.rule.RuleResult;
+import org.rulii.ruleset.RuleSet;
+import org.rulii.spring.cache.ConditionMemo;
+import org.rulii.spring.concurrent.RuleGraph;
+import org.rulii.spring.intercept.RuleCatalog;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Runs the Rules of a short-circuiting (fail-fast) RuleSet in an order that adapts to the observed cost and
+ * selectivity of each Rule. Every Rule keeps track of its average run time and how often it stops the evaluation;
+ * every {@code period} evaluations the Rules are re-ordered so that cheap Rules that are likely to stop the
+ * evaluation run first (ascending cost / stop probability). The order only changes at those points, so it stays
+ * stable in between.
+ * <p>
+ * Data dependencies are preserved: a Rule is never moved ahead of a Rule it depends on according to the
+ * {@link RuleGraph} of the RuleSet (e.g. a Rule whose condition reads a binding an earlier Rule writes). Rules that are
+ * not in the {@link RuleCatalog} or do not declare their {@link org.rulii.spring.annotation.Outputs} may write
+ * anything and therefore keep their place relative to every other Rule; declare {@code @Outputs({})} on Rules that
+ * write nothing so that they can be re-ordered. RuleSet level behaviour (pre-conditions, stop conditions, result
+ * extractors) is not applied. Declare one bean per RuleSet that should be ordered adaptively.
+ *
+ * <pre>
+ * &#64;Bean
+ * public AdaptiveRuleSequence validationSequence(RuleSet&lt;?&gt; validationRuleSet, RuleCatalog ruleCatalog) {
+ *     return new AdaptiveRuleSequence(validationRuleSet, ruleCatalog);
+ * }
+ * </pre>
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class AdaptiveRuleSequence {
+
+    /**
+     * Default number of evaluations between re-orderings.
+     */
+    public static final int DEFAULT_PERIOD = 1000;
+
+    private final RuleSet<?> ruleSet;
+    private final Rule[] rules;
+    private final RuleStatistics[] statistics;
+    // Rules that must run after each Rule (directly or transitively)
+    private final int[][] dependents;
+    private final int[] dependencyCounts;
+    private final Predicate<RuleResult> stopWhen;
+    private final int period;
+    private final AtomicLong evaluations = new AtomicLong();
+    private volatile int[] order;
+
+    /**
+     * Creates a new AdaptiveRuleSequence that stops at the first failing Rule and re-orders every
+     * {@link #DEFAULT_PERIOD} evaluations.
+     *
+     * @param ruleSet RuleSet to run
+     * @param ruleCatalog catalog describing the Rules (used to find their data dependencies)
+     */
+    public AdaptiveRuleSequence(RuleSet<?> ruleSet, RuleCatalog ruleCatalog) {
+        this(ruleSet, ruleCatalog, DEFAULT_PERIOD, result -> result != null && result.getStatus() == RuleExecutionStatus.FAIL);
+    }
+
+    /**
+     * Creates a new AdaptiveRuleSequence.
+     *
+     * @param ruleSet RuleSet to run
+     * @param ruleCatalog catalog describing the Rules (used to find their data dependencies)
+     * @param period number of evaluations between re-orderings
+     * @param stopWhen condition on a RuleResult that stops the evaluation
+     */
+    public AdaptiveRuleSequence(RuleSet<?> ruleSet, RuleCatalog ruleCatalog, int period, Predicate<RuleResult> stopWhen) {
+        super();
+        Assert.notNull(ruleSet, "ruleSet cannot be null.");
+        Assert.notNull(ruleCatalog, "ruleCatalog cannot be null.");
+        Assert.isTrue(period > 0, "period must be > 0.");
+        Assert.notNull(stopWhen, "stopWhen cannot be null.");
+        this.ruleSet = ruleSet;
+        this.period = period;
+        this.stopWhen = stopWhen;
+        this.rules = new Rule[ruleSet.size()];
+        this.statistics = new RuleStatistics[rules.length];
+        int[] initial = new int[rules.length];
+
+        for (int i = 0; i < rules.length; i++) {
+            rules[i] = ruleSet.getRule(i);
+            statistics[i] = new RuleStatistics();
+            initial[i] = i;
+        }
+
+        this.order = initial;
+        List<Rule> ruleList = Arrays.asList(rules);
+        RuleGraph graph = RuleGraph.build(ruleList, ruleCatalog.describe(ruleList));
+        this.dependents = new int[rules.length][];
+        this.dependencyCounts = new int[rules.length];
+
+        for (int i = 0; i < rules.length; i++) {
+            List<Integer> later = new ArrayList<>();
+
+            for (int j = i + 1; j < rules.length; j++) {
+                if (!graph.isOrdered(i, j)) continue;
+                later.add(j);
+                dependencyCounts[j]++;
+            }
+
+            dependents[i] = later.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * Runs the Rules in the current order until one of them matches the stop condition.
+     *
+     * @param context RuleContext to run with
+     * @return the result that stopped the evaluation; null if all the Rules ran
+     */
+    public RuleResult run(RuleContext context) {
+        Assert.notNull(context, "context cannot be null.");
+        RuleResult result = ConditionMemo.evaluate(context, () -> runRules(context));
+        if (evaluations.incrementAndGet() % period == 0) reorder();
+        return result;
+    }
+
+    private RuleResult runRules(RuleContext context) {
+        for (int index : order) {
+            long start = System.nanoTime();
+            RuleResult result = rules[index].run(context);
+            boolean stop = stopWhen.test(result);
+            statistics[index].record(System.nanoTime() - start, stop);
+            if (stop) return result;
+        }
+
+        return null;
+    }
+
+    /**
+     * Re-orders the Rules by their expected cost per stop, without moving a Rule ahead of a Rule it depends on: each
+     * position gets the best scoring Rule whose dependencies have all been placed. Rules that have never stopped an
+     * evaluation go last; ties keep the declaration order.
+     */
+    public void reorder() {
+        double[] scores = new double[rules.length];
+        for (int i = 0; i < scores.length; i++) scores[i] = statistics[i].getScore();
+
+        int[] waiting = dependencyCounts.clone();
+        boolean[] placed = new boolean[rules.length];
+        int[] result = new int[rules.length];
+
+        for (int position = 0; position < result.length; position++) {
+            int best = -1;
+
+            for (int i = 0; i < rules.length; i++) {
+                if (placed[i] || waiting[i] > 0) continue;
+                if (best < 0 || scores[i] < scores[best]) best = i;
+            }
+
+            placed[best] = true;
+            result[position] = best;
+            for (int next : dependents[best]) waiting[next]--;
+        }
+
+        this.order = result;
+    }
+
+    /**
+     * Retrieves the names of the Rules in the order they currently run in.
+     *
+     * @return Rule names
+     */
+    public List<String> getOrder() {
+        List<String> result = new ArrayList<>(rules.length);
+        for (int index : order) result.add(rules[index].getName());
+        return result;
+    }
+
+    public RuleSet<?> getRuleSet() {
+        return ruleSet;
+    }
+
+    public int getPeriod() {
+        return period;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveRuleSequence{" +
+                "ruleSet=" + ruleSet.getName() +
+                ", period=" + period +
+                ", order=" + getOrder() +
+                '}';
+    }
+
+    /**
+     * Run time and stop counts of one Rule.
+     */
+    private static final class RuleStatistics {
+
+        private final LongAdder runs = new LongAdder();
+        private final LongAdder stops = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        void record(long elapsedNanos, boolean stopped) {
+            runs.increment();
+            nanos.add(elapsedNanos);
+            if (stopped) stops.increment();
+        }
+
+        /**
+         * Expected cost per stop (average run time / stop probability). Rules that have not run yet score 0 so that
+         * they are measured; the stop probability is smoothed so that a few samples do not dominate.
+         */
+        double getScore() {
+            long runCount = runs.sum();
+            if (runCount == 0) return 0.0;
+            long stopCount = stops.sum();
+            if (stopCount == 0) return Double.MAX_VALUE;
+            double probability = (stopCount + 1.0) / (runCount + 2.0);
+            return ((double) nanos.sum() / runCount) / probability;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.ruleset;
+
+import org.rulii.context.RuleContext;
+import org.rulii.ruleset.RuleSet;
+import org.rulii.spring.cache.ConditionMemo;
+import org.springframework.util.Assert;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Holds the current version of a RuleSet and allows it to be replaced while the application is under load.
+ * Readers obtain the current {@link RuleSetSnapshot} with a single volatile read and never lock; writers publish a
+ * new RuleSet with a compare-and-set so that a reader sees either the old or the new RuleSet, never a mix.
+ * <p>
+ * Declare one bean per RuleSet that needs to be updated at runtime and inject the holder instead of the RuleSet.
+ *
+ * <pre>
+ * &#64;Bean
+ * public RuleSetHolder&lt;?&gt; pricingRules(RuleSet&lt;?&gt; pricingRuleSet) {
+ *     return new RuleSetHolder&lt;&gt;(pricingRuleSet);
+ * }
+ * </pre>
+ *
+ * @param <T> RuleSet result type
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RuleSetHolder<T> {
+
+    private final AtomicReference<RuleSetSnapshot<T>> current;
+    private final Clock clock;
+
+    /**
+     * Creates a new RuleSetHolder with the given initial RuleSet.
+     *
+     * @param ruleSet initial RuleSet (version 1)
+     */
+    public RuleSetHolder(RuleSet<T> ruleSet) {
+        this(ruleSet, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a new RuleSetHolder with the given initial RuleSet.
+     *
+     * @param ruleSet initial RuleSet (version 1)
+     * @param clock Clock used to timestamp the versions
+     */
+    public RuleSetHolder(RuleSet<T> ruleSet, Clock clock) {
+        super();
+        Assert.notNull(clock, "clock cannot be null.");
+        this.clock = clock;
+        this.current = new AtomicReference<>(new RuleSetSnapshot<>(1, ruleSet, clock.instant()));
+    }
+
+    /**
+     * Retrieves the current snapshot. Callers that run the RuleSet several times during one evaluation should hold
+     * on to the snapshot rather than calling this method repeatedly.
+     *
+     * @return current snapshot
+     */
+    public RuleSetSnapshot<T> getSnapshot() {
+        return current.get();
+    }
+
+    /**
+     * Retrieves the current RuleSet.
+     *
+     * @return current RuleSet
+     */
+    public RuleSet<T> get() {
+        return current.get().ruleSet();
+    }
+
+    /**
+     * Retrieves the current version.
+     *
+     * @return current version
+     */
+    public long getVersion() {
+        return current.get().version();
+    }
+
+    /**
+     * Runs the current RuleSet.
+     *
+     * @param context the RuleContext to run with
+     * @return result of the RuleSet
+     */
+    public T run(RuleContext context) {
+        return ConditionMemo.evaluate(context, () -> get().run(context));
+    }
+
+    /**
+     * Unconditionally publishes a new RuleSet.
+     *
+     * @param ruleSet new RuleSet
+     * @return the published snapshot
+     */
+    public RuleSetSnapshot<T> replace(RuleSet<T> ruleSet) {
+        return update(previous -> ruleSet);
+    }
+
+    /**
+     * Publishes a new RuleSet only if the current version is still the expected one.
+     *
+     * @param expectedVersion version the new RuleSet was derived from
+     * @param ruleSet new RuleSet
+     * @return true if the RuleSet was published; false if another update won
+     */
+    public boolean replace(long expectedVersion, RuleSet<T> ruleSet) {
+        RuleSetSnapshot<T> previous = current.get();
+        if (previous.version() != expectedVersion) return false;
+        return current.compareAndSet(previous, new RuleSetSnapshot<>(expectedVersion + 1, ruleSet, clock.instant()));
+    }
+
+    /**
+     * Copy-on-write update. The function receives the current RuleSet and returns its replacement; it may be called
+     * more than once if there are concurrent updates and must therefore be side effect free.
+     *
+     * @param updateFunction function building the new RuleSet from the current one
+     * @return the published snapshot
+     */
+    public RuleSetSnapshot<T> update(UnaryOperator<RuleSet<T>> updateFunction) {
+        Assert.notNull(updateFunction, "updateFunction cannot be null.");
+
+        while (true) {
+            RuleSetSnapshot<T> previous = current.get();
+            RuleSet<T> ruleSet = updateFunction.apply(previous.ruleSet());
+            RuleSetSnapshot<T> next = new RuleSetSnapshot<>(previous.version() + 1, ruleSet, clock.instant());
+            if (current.compareAndSet(previous, next)) return next;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RuleSetHolder{" +
+                "current=" + current.get() +
+                '}';
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.ruleset;
+
+import org.rulii.ruleset.RuleSet;
+import org.springframework.util.Assert;
+
+import java.time.Instant;
+
+/**
+ * Immutable, versioned view of a RuleSet held by a {@link RuleSetHolder}.
+ *
+ * @param version monotonically increasing version, starting at 1
+ * @param ruleSet the RuleSet of this version
+ * @param createdAt when this version was published
+ * @param <T> RuleSet result type
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public record RuleSetSnapshot<T>(long version, RuleSet<T> ruleSet, Instant createdAt) {
+
+    public RuleSetSnapshot {
+        Assert.isTrue(version > 0, "version must be > 0.");
+        Assert.notNull(ruleSet, "ruleSet cannot be null.");
+        Assert.notNull(createdAt, "createdAt cannot be null.");
+    }
+}
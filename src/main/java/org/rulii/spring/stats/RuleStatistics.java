@@ -0,0 +1,142 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.stats;
+
+import org.rulii.rule.RuleExecutionStatus;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.rulii.spring.intercept.RuleIdTable;
+import org.springframework.util.Assert;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runtime statistics of the Rule beans, recorded by the {@link StatisticsRuleInterceptor}. Statistics of Rules with a
+ * catalog id are found with an array lookup; the name map is only used when a Rule runs for the first time and for
+ * lookups by name.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RuleStatistics {
+
+    private final Map<String, RuleStats> stats = new ConcurrentHashMap<>();
+    private final RuleIdTable<RuleStats> statsById = new RuleIdTable<>();
+
+    public RuleStatistics() {
+        super();
+    }
+
+    /**
+     * Records a completed run of a Rule.
+     *
+     * @param ruleName name of the Rule
+     * @param status outcome of the run
+     */
+    public void record(String ruleName, RuleExecutionStatus status) {
+        getOrCreate(ruleName).record(status);
+    }
+
+    /**
+     * Records a run of a Rule that threw an exception.
+     *
+     * @param ruleName name of the Rule
+     */
+    public void recordError(String ruleName) {
+        getOrCreate(ruleName).recordError();
+    }
+
+    /**
+     * Records a completed run of a Rule.
+     *
+     * @param ruleId catalog id of the Rule ({@link RuleDescriptor#NO_ID} if it has none)
+     * @param ruleName name of the Rule
+     * @param status outcome of the run
+     */
+    public void record(int ruleId, String ruleName, RuleExecutionStatus status) {
+        getOrCreate(ruleId, ruleName).record(status);
+    }
+
+    /**
+     * Records a run of a Rule that threw an exception.
+     *
+     * @param ruleId catalog id of the Rule ({@link RuleDescriptor#NO_ID} if it has none)
+     * @param ruleName name of the Rule
+     */
+    public void recordError(int ruleId, String ruleName) {
+        getOrCreate(ruleId, ruleName).recordError();
+    }
+
+    /**
+     * Retrieves the statistics of the Rule with the given catalog id.
+     *
+     * @param ruleId catalog id of the Rule
+     * @return statistics or null if the Rule has not run yet
+     */
+    public RuleStats get(int ruleId) {
+        return statsById.get(ruleId);
+    }
+
+    /**
+     * Retrieves the statistics of the given Rule.
+     *
+     * @param ruleName name of the Rule
+     * @return statistics or null if the Rule has not run yet
+     */
+    public RuleStats get(String ruleName) {
+        Assert.notNull(ruleName, "ruleName cannot be null.");
+        return stats.get(ruleName);
+    }
+
+    /**
+     * Retrieves the statistics of all the Rules that have run.
+     *
+     * @return statistics
+     */
+    public List<RuleStats> getAll() {
+        return List.copyOf(stats.values());
+    }
+
+    /**
+     * Resets all the statistics.
+     */
+    public void reset() {
+        stats.values().forEach(RuleStats::reset);
+    }
+
+    private RuleStats getOrCreate(int ruleId, String ruleName) {
+        if (ruleId == RuleDescriptor.NO_ID) return getOrCreate(ruleName);
+        RuleStats result = statsById.get(ruleId);
+        return result != null ? result : statsById.computeIfAbsent(ruleId, id -> getOrCreate(ruleName));
+    }
+
+    private RuleStats getOrCreate(String ruleName) {
+        Assert.notNull(ruleName, "ruleName cannot be null.");
+        RuleStats result = stats.get(ruleName);
+        return result != null ? result : stats.computeIfAbsent(ruleName, RuleStats::new);
+    }
+
+    @Override
+    public String toString() {
+        return "RuleStatistics{" +
+                "rules=" + stats.keySet() +
+                '}';
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.stats;
+
+import org.rulii.rule.RuleExecutionStatus;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runtime statistics of a single Rule. All counters are striped ({@link LongAdder}), so recording from many threads
+ * does not contend and reading the statistics never blocks a run. Latencies are recorded separately, by the {@link
+ * org.rulii.spring.latency.RuleLatencyRecorder}.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public final class RuleStats {
+
+    private final String ruleName;
+    private final LongAdder passCount = new LongAdder();
+    private final LongAdder failCount = new LongAdder();
+    private final LongAdder skipCount = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+
+    RuleStats(String ruleName) {
+        super();
+        this.ruleName = ruleName;
+    }
+
+    /**
+     * Records a completed run.
+     *
+     * @param status outcome of the run
+     */
+    void record(RuleExecutionStatus status) {
+        if (status == RuleExecutionStatus.PASS) passCount.increment();
+        else if (status == RuleExecutionStatus.FAIL) failCount.increment();
+        else skipCount.increment();
+    }
+
+    /**
+     * Records a run that threw an exception.
+     */
+    void recordError() {
+        errorCount.increment();
+    }
+
+    void reset() {
+        passCount.reset();
+        failCount.reset();
+        skipCount.reset();
+        errorCount.reset();
+    }
+
+    public String getRuleName() {
+        return ruleName;
+    }
+
+    public long getInvocationCount() {
+        return passCount.sum() + failCount.sum() + skipCount.sum() + errorCount.sum();
+    }
+
+    public long getPassCount() {
+        return passCount.sum();
+    }
+
+    public long getFailCount() {
+        return failCount.sum();
+    }
+
+    public long getSkipCount() {
+        return skipCount.sum();
+    }
+
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    /**
+     * Fraction of the runs that threw an exception.
+     *
+     * @return error rate between 0 and 1
+     */
+    public double getErrorRate() {
+        long invocations = getInvocationCount();
+        return invocations == 0 ? 0.0d : (double) errorCount.sum() / invocations;
+    }
+
+    @Override
+    public String toString() {
+        return "RuleStats{" +
+                "ruleName='" + ruleName + '\'' +
+                ", invocations=" + getInvocationCount() +
+                ", errors=" + getErrorCount() +
+                '}';
+    }
+}
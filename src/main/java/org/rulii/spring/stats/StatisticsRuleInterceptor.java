@@ -0,0 +1,89 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.stats;
+
+import org.rulii.context.RuleContext;
+import org.rulii.rule.RuleExecutionStatus;
+import org.rulii.rule.RuleResult;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.rulii.spring.intercept.RuleInterceptor;
+import org.rulii.spring.intercept.RuleInvocation;
+import org.springframework.core.Ordered;
+import org.springframework.util.Assert;
+
+/**
+ * Records the outcome of every run of the Rule beans in {@link RuleStatistics}. Latencies are timed by the {@link
+ * org.rulii.spring.latency.LatencyRuleInterceptor} only.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class StatisticsRuleInterceptor implements RuleInterceptor {
+
+    private final RuleStatistics statistics;
+
+    /**
+     * Creates a new StatisticsRuleInterceptor.
+     *
+     * @param statistics where the runs are recorded
+     */
+    public StatisticsRuleInterceptor(RuleStatistics statistics) {
+        super();
+        Assert.notNull(statistics, "statistics cannot be null.");
+        this.statistics = statistics;
+    }
+
+    @Override
+    public boolean supports(RuleDescriptor descriptor) {
+        return true;
+    }
+
+    @Override
+    public RuleResult intercept(RuleDescriptor descriptor, RuleContext context, RuleInvocation invocation) {
+        RuleResult result;
+
+        try {
+            result = invocation.proceed(context);
+        } catch (RuntimeException | Error e) {
+            statistics.recordError(descriptor.id(), descriptor.name());
+            throw e;
+        }
+
+        RuleExecutionStatus status = result != null ? result.getStatus() : RuleExecutionStatus.SKIPPED;
+        statistics.record(descriptor.id(), descriptor.name(), status);
+        return result;
+    }
+
+    @Override
+    public int getOrder() {
+        // Outermost, so that runs that time out are counted as errors and cached results are counted as runs
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    public RuleStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public String toString() {
+        return "StatisticsRuleInterceptor{" +
+                "statistics=" + statistics +
+                '}';
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.web;
+
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Map;
+
+/**
+ * Reads values from a WebFlux ServerWebExchange.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+final class ExchangeRequestValues {
+
+    // HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE (spring-webflux)
+    private static final String URI_TEMPLATE_VARIABLES_ATTRIBUTE = "org.springframework.web.reactive.HandlerMapping.uriTemplateVariables";
+
+    private ExchangeRequestValues() {
+        super();
+    }
+
+    static String getPathVariable(ServerWebExchange exchange, String name) {
+        return exchange.getAttribute(URI_TEMPLATE_VARIABLES_ATTRIBUTE) instanceof Map<?, ?> variables
+                ? (String) variables.get(name)
+                : null;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.web;
+
+import org.rulii.bind.Binding;
+import org.rulii.bind.Bindings;
+import org.rulii.bind.ScopedBindings;
+import org.rulii.spring.bind.load.SpringContextBindingLoader;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.util.Assert;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Exposes HTTP request data (request attributes, headers and path variables) as read-only Bindings. The Bindings are
+ * backed by the request itself: values are read when a Rule asks for them and nothing is copied.
+ * <p>
+ * For Spring MVC the Bindings read the request bound to the current thread, so they can be created once and shared
+ * by all requests. For WebFlux they are bound to one ServerWebExchange.
+ *
+ * <pre>
+ * RequestBindings requestBindings = RequestBindings.builder()
+ *         .attribute("user", User.class)
+ *         .header("tenant", "X-Tenant-Id")
+ *         .pathVariable("orderId")
+ *         .build();
+ *
+ * // Spring MVC: created once, layered over the application context beans
+ * Bindings bindings = requestBindings.createServletBindings(applicationContext);
+ *
+ * // WebFlux: per exchange
+ * requestBindings.bindExchange(bindings, exchange);
+ * </pre>
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public final class RequestBindings {
+
+    /**
+     * Where a binding value comes from.
+     */
+    public enum Source { ATTRIBUTE, HEADER, PATH_VARIABLE }
+
+    /**
+     * Declaration of one request binding.
+     *
+     * @param name binding name
+     * @param source where the value comes from
+     * @param key attribute, header or path variable name
+     * @param type binding type
+     */
+    public record Declaration(String name, Source source, String key, Type type) {}
+
+    private final List<Declaration> declarations;
+
+    private RequestBindings(List<Declaration> declarations) {
+        super();
+        this.declarations = List.copyOf(declarations);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Binds the declared request values of the request bound to the current thread (Spring MVC) into the given
+     * Bindings. The values are resolved on every access, so the Bindings can be shared by all requests.
+     *
+     * @param bindings target Bindings
+     */
+    public void bindServlet(Bindings bindings) {
+        Assert.notNull(bindings, "bindings cannot be null.");
+
+        for (Declaration declaration : declarations) {
+            String key = declaration.key();
+            Supplier<Object> getter = switch (declaration.source()) {
+                case ATTRIBUTE -> () -> ServletRequestValues.getAttribute(key);
+                case HEADER -> () -> ServletRequestValues.getHeader(key);
+                case PATH_VARIABLE -> () -> ServletRequestValues.getPathVariable(key);
+            };
+            bind(bindings, declaration, getter);
+        }
+    }
+
+    /**
+     * Binds the declared request values of the given exchange (WebFlux) into the given Bindings.
+     *
+     * @param bindings target Bindings
+     * @param exchange current exchange
+     */
+    public void bindExchange(Bindings bindings, ServerWebExchange exchange) {
+        Assert.notNull(bindings, "bindings cannot be null.");
+        Assert.notNull(exchange, "exchange cannot be null.");
+
+        for (Declaration declaration : declarations) {
+            String key = declaration.key();
+            Supplier<Object> getter = switch (declaration.source()) {
+                case ATTRIBUTE -> () -> exchange.getAttribute(key);
+                case HEADER -> () -> exchange.getRequest().getHeaders().getFirst(key);
+                case PATH_VARIABLE -> () -> ExchangeRequestValues.getPathVariable(exchange, key);
+            };
+            bind(bindings, declaration, getter);
+        }
+    }
+
+    /**
+     * Creates Bindings exposing the request values of the current thread (Spring MVC) layered over the beans of the
+     * given factory. The beans are loaded into the global scope by the {@link SpringContextBindingLoader} and the
+     * request values are bound in a scope on top of them, so request bindings shadow beans with the same name. Values
+     * are read on every access, so the result can be created once and shared.
+     *
+     * @param beanFactory factory holding the context level beans
+     * @return new Bindings
+     */
+    public ScopedBindings createServletBindings(ListableBeanFactory beanFactory) {
+        Assert.notNull(beanFactory, "beanFactory cannot be null.");
+        ScopedBindings result = Bindings.builder().scoped();
+        new SpringContextBindingLoader().load(result, beanFactory);
+        bindServlet(result.addScope());
+        return result;
+    }
+
+    private static void bind(Bindings bindings, Declaration declaration, Supplier<Object> getter) {
+        bindings.bind(Binding.builder().with(declaration.name())
+                .type(declaration.type())
+                .delegate(getter, null)
+                .editable(false)
+                .build());
+    }
+
+    public List<Declaration> getDeclarations() {
+        return declarations;
+    }
+
+    @Override
+    public String toString() {
+        return "RequestBindings{" +
+                "declarations=" + declarations +
+                '}';
+    }
+
+    /**
+     * Builder for RequestBindings.
+     */
+    public static final class Builder {
+
+        private final List<Declaration> declarations = new ArrayList<>();
+
+        private Builder() {
+            super();
+        }
+
+        /**
+         * Exposes a request attribute under its own name.
+         *
+         * @param name attribute name (and binding name)
+         * @param type attribute type
+         * @return this builder
+         */
+        public Builder attribute(String name, Type type) {
+            return attribute(name, name, type);
+        }
+
+        /**
+         * Exposes a request attribute.
+         *
+         * @param name binding name
+         * @param attributeName attribute name
+         * @param type attribute type
+         * @return this builder
+         */
+        public Builder attribute(String name, String attributeName, Type type) {
+            return add(new Declaration(name, Source.ATTRIBUTE, attributeName, type));
+        }
+
+        /**
+         * Exposes the first value of a request header.
+         *
+         * @param name binding name
+         * @param headerName header name
+         * @return this builder
+         */
+        public Builder header(String name, String headerName) {
+            return add(new Declaration(name, Source.HEADER, headerName, String.class));
+        }
+
+        /**
+         * Exposes a path variable under its own name.
+         *
+         * @param name path variable name (and binding name)
+         * @return this builder
+         */
+        public Builder pathVariable(String name) {
+            return pathVariable(name, name);
+        }
+
+        /**
+         * Exposes a path variable.
+         *
+         * @param name binding name
+         * @param variableName path variable name
+         * @return this builder
+         */
+        public Builder pathVariable(String name, String variableName) {
+            return add(new Declaration(name, Source.PATH_VARIABLE, variableName, String.class));
+        }
+
+        private Builder add(Declaration declaration) {
+            Assert.hasText(declaration.name(), "name cannot be empty.");
+            Assert.hasText(declaration.key(), "key cannot be empty.");
+            Assert.notNull(declaration.type(), "type cannot be null.");
+            Assert.isTrue(declarations.stream().noneMatch(d -> d.name().equals(declaration.name())),
+                    "Binding [" + declaration.name() + "] is already declared.");
+            declarations.add(declaration);
+            return this;
+        }
+
+        public RequestBindings build() {
+            return new RequestBindings(declarations);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.test;
+
+import org.junit.jupiter.api.Test;
+import org.rulii.bind.Bindings;
+import org.rulii.context.RuleContext;
+import org.rulii.model.action.Actions;
+import org.rulii.model.condition.Condition;
+import org.rulii.model.condition.Conditions;
+import org.rulii.rule.Rule;
+import org.rulii.rule.RuleExecutionStatus;
+import org.rulii.rule.RuleResult;
+import org.rulii.ruleset.RuleSet;
+import org.rulii.spring.intercept.RuleCatalog;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.rulii.spring.ruleset.AdaptiveRuleSequence;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for adaptive ordering of fail-fast rule sets.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class AdaptiveRuleSequenceTest {
+
+    public AdaptiveRuleSequenceTest() {
+        super();
+    }
+
+    private static Rule rule(String name, Condition condition) {
+        return Rule.builder()
+                .name(name)
+                .given(condition)
+                .then(Actions.EMPTY_ACTION())
+                .build();
+    }
+
+    @Test
+    public void test1() {
+        RuleSet<?> ruleSet = RuleSet.builder()
+                .with("adaptiveRuleSet")
+                .rule(rule("passingRule1", Conditions.TRUE()))
+                .rule(rule("passingRule2", Conditions.TRUE()))
+                .rule(rule("failingRule", Conditions.FALSE()))
+                .build();
+        // Rules that read and write nothing can be re-ordered freely
+        RuleCatalog catalog = new RuleCatalog();
+        for (int i = 0; i < ruleSet.size(); i++) {
+            Rule rule = ruleSet.getRule(i);
+            catalog.register(rule, new RuleDescriptor(rule.getName(), null, List.of(), List.of()));
+        }
+
+        AdaptiveRuleSequence sequence = new AdaptiveRuleSequence(ruleSet, catalog, 10, result -> result.getStatus() == RuleExecutionStatus.FAIL);
+        assertEquals(List.of("passingRule1", "passingRule2", "failingRule"), sequence.getOrder());
+
+        RuleContext context = RuleContext.builder().bindings(Bindings.builder().standard()).build();
+
+        for (int i = 0; i < 10; i++) {
+            RuleResult result = sequence.run(context);
+            assertNotNull(result);
+        }
+
+        // The selective rule now runs first
+        assertEquals("failingRule", sequence.getOrder().get(0));
+    }
+
+    @Test
+    public void test2() {
+        RuleCatalog catalog = new RuleCatalog();
+        // The reader's condition reads the binding the writer's action writes
+        Rule writer = mockRule(catalog, "writer", List.of(), List.of("total"), RuleExecutionStatus.PASS);
+        Rule check = mockRule(catalog, "check", List.of("amount"), List.of(), RuleExecutionStatus.PASS);
+        Rule reader = mockRule(catalog, "reader", List.of("total"), List.of(), RuleExecutionStatus.FAIL);
+        RuleSet<?> ruleSet = mock(RuleSet.class);
+        when(ruleSet.size()).thenReturn(3);
+        when(ruleSet.getRule(0)).thenReturn(writer);
+        when(ruleSet.getRule(1)).thenReturn(check);
+        when(ruleSet.getRule(2)).thenReturn(reader);
+
+        AdaptiveRuleSequence sequence = new AdaptiveRuleSequence(ruleSet, catalog, 10, result -> result.getStatus() == RuleExecutionStatus.FAIL);
+        RuleContext context = mock(RuleContext.class);
+        for (int i = 0; i < 10; i++) assertEquals(RuleExecutionStatus.FAIL, sequence.run(context).getStatus());
+
+        // The selective reader moves ahead of the independent check but not of the writer it depends on
+        assertEquals(List.of("writer", "reader", "check"), sequence.getOrder());
+    }
+
+    private static Rule mockRule(RuleCatalog catalog, String name, List<String> inputs, List<String> outputs,
+                                 RuleExecutionStatus status) {
+        RuleResult result = mock(RuleResult.class);
+        when(result.getStatus()).thenReturn(status);
+        Rule rule = mock(Rule.class);
+        when(rule.getName()).thenReturn(name);
+        when(rule.run(any(RuleContext.class))).thenReturn(result);
+        catalog.register(rule, new RuleDescriptor(name, null, inputs, outputs));
+        return rule;
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.test;
+
+import org.junit.jupiter.api.Test;
+import org.rulii.annotation.Given;
+import org.rulii.annotation.Otherwise;
+import org.rulii.annotation.PreCondition;
+import org.rulii.annotation.Rule;
+import org.rulii.annotation.Then;
+import org.rulii.model.UnrulyException;
+import org.rulii.rule.RuleExecutionStatus;
+import org.rulii.spring.bind.BindingLayout;
+import org.rulii.spring.bind.BindingSlots;
+import org.rulii.spring.bind.PrimitiveBindings;
+import org.rulii.spring.intercept.RuleCatalog;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.rulii.spring.intercept.RuleInterceptor;
+import org.rulii.spring.invoke.CompiledRule;
+import org.rulii.spring.invoke.CompiledRuleFactory;
+import org.rulii.spring.invoke.MethodInvokers;
+import org.rulii.util.reflect.ObjectFactory;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for rules compiled against a binding layout.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class CompiledRuleTest {
+
+    // Declared in a different order than the rule method parameters
+    private static final BindingLayout LAYOUT = BindingLayout.builder()
+            .add("log", List.class)
+            .add("limit", Integer.class)
+            .add("amount", Integer.class)
+            .build();
+
+    private static final BindingLayout PRIMITIVE_LAYOUT = BindingLayout.builder()
+            .add("count", int.class)
+            .add("total", long.class)
+            .add("ratio", double.class)
+            .add("active", boolean.class)
+            .add("enabled", Boolean.class)
+            .add("log", List.class)
+            .build();
+
+    public CompiledRuleTest() {
+        super();
+    }
+
+    @Test
+    public void test1() {
+        CompiledRule rule = CompiledRule.compile(LimitRule.class, new LimitRule(), LAYOUT, new MethodInvokers());
+        assertTrue(rule.isFullyCompiled());
+        BindingSlots slots = LAYOUT.newSlots();
+        List<String> log = new ArrayList<>();
+        slots.set("log", log);
+        slots.set("limit", 5);
+
+        // Each parameter reads the slot of the same name
+        slots.set("amount", 10);
+        assertEquals(RuleExecutionStatus.PASS, rule.run(slots));
+        assertEquals(List.of("10 > 5"), log);
+
+        slots.set("amount", 1);
+        assertEquals(RuleExecutionStatus.FAIL, rule.run(slots));
+        assertEquals(List.of("10 > 5", "1 <= 5"), log);
+
+        // The pre-condition does not hold: neither action runs
+        slots.set("amount", null);
+        assertEquals(RuleExecutionStatus.SKIPPED, rule.run(slots));
+        assertEquals(2, log.size());
+    }
+
+    @Test
+    public void test2() {
+        CompiledRule rule = CompiledRule.compile(LimitRule.class, new LimitRule(), LAYOUT, new MethodInvokers());
+        BindingLayout other = BindingLayout.builder()
+                .add("log", List.class)
+                .add("limit", Integer.class)
+                .add("amount", Integer.class)
+                .build();
+
+        // Slots of another layout, even with the same bindings, are rejected
+        assertThrows(UnrulyException.class, () -> rule.run(other.newSlots()));
+
+        BindingLayout missing = BindingLayout.builder().add("amount", Integer.class).build();
+        assertThrows(UnrulyException.class, () -> CompiledRule.compile(LimitRule.class, new LimitRule(), missing, new MethodInvokers()));
+
+        BindingLayout wrongType = BindingLayout.builder()
+                .add("log", List.class)
+                .add("limit", String.class)
+                .add("amount", Integer.class)
+                .build();
+        assertThrows(UnrulyException.class, () -> CompiledRule.compile(LimitRule.class, new LimitRule(), wrongType, new MethodInvokers()));
+    }
+
+    @Test
+    public void test3() {
+        CompiledRule rule = CompiledRule.compile(ScoreRule.class, new ScoreRule(), PRIMITIVE_LAYOUT, new MethodInvokers());
+        PrimitiveBindings bindings = PRIMITIVE_LAYOUT.newPrimitiveBindings();
+        List<String> log = new ArrayList<>();
+        bindings.set("log", log);
+        bindings.setInt(0, 4);
+        bindings.setLong(1, 10L);
+        bindings.setDouble(2, 3.0);
+        bindings.setBoolean(3, true);
+
+        // The Boolean pre-condition returns null: skipped, as with slots, rather than failing to unbox
+        assertEquals(RuleExecutionStatus.SKIPPED, rule.run(bindings));
+        assertTrue(log.isEmpty());
+
+        bindings.set("enabled", Boolean.FALSE);
+        assertEquals(RuleExecutionStatus.SKIPPED, rule.run(bindings));
+
+        bindings.set("enabled", Boolean.TRUE);
+        assertEquals(RuleExecutionStatus.PASS, rule.run(bindings));
+        assertEquals(List.of("4 x 3.0 > 10"), log);
+
+        bindings.setDouble(2, 2.0);
+        assertEquals(RuleExecutionStatus.FAIL, rule.run(bindings));
+        bindings.setDouble(2, 3.0);
+        bindings.setBoolean(3, false);
+        assertEquals(RuleExecutionStatus.FAIL, rule.run(bindings));
+        assertEquals(List.of("4 x 3.0 > 10", "4 x 2.0 <= 10", "4 x 3.0 <= 10"), log);
+        assertTrue(bindings.isPrimitive(0));
+        assertFalse(bindings.isPrimitive(4));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void test4() {
+        RuleCatalog ruleCatalog = new RuleCatalog();
+        ruleCatalog.register(mock(org.rulii.rule.Rule.class), new RuleDescriptor("limitRule", LimitRule.class));
+        ruleCatalog.register(mock(org.rulii.rule.Rule.class), new RuleDescriptor("scoreRule", ScoreRule.class));
+        ObjectFactory objectFactory = mock(ObjectFactory.class);
+        when(objectFactory.create(LimitRule.class, true)).thenReturn(new LimitRule());
+        // Intercepts the score rule only
+        RuleInterceptor interceptor = mock(RuleInterceptor.class);
+        when(interceptor.supports(any())).thenAnswer(invocation -> "scoreRule".equals(((RuleDescriptor) invocation.getArgument(0)).name()));
+        ObjectProvider<RuleInterceptor> interceptors = mock(ObjectProvider.class);
+        when(interceptors.orderedStream()).thenAnswer(invocation -> Stream.of(interceptor));
+        CompiledRuleFactory factory = new CompiledRuleFactory(ruleCatalog, objectFactory, interceptors, false);
+
+        assertTrue(factory.isCompilable("limitRule"));
+        assertTrue(factory.compile("limitRule", LAYOUT).isFullyCompiled());
+
+        // A compiled run would bypass the interceptor: rejected
+        assertFalse(factory.isCompilable("scoreRule"));
+        assertThrows(UnrulyException.class, () -> factory.compile("scoreRule", PRIMITIVE_LAYOUT));
+        assertThrows(UnrulyException.class, () -> factory.compile("unknownRule", LAYOUT));
+        // The four methods of the limit rule only
+        assertEquals(4, factory.precompile());
+    }
+
+    // An inner class so that the rule scan of the Spring Boot tests does not pick it up
+    @Rule
+    public class LimitRule {
+
+        public LimitRule() {
+            super();
+        }
+
+        @PreCondition
+        public boolean check(Integer amount) {
+            return amount != null;
+        }
+
+        @Given
+        public boolean isOverLimit(Integer amount, Integer limit) {
+            return amount > limit;
+        }
+
+        @Then
+        public void then(List<String> log, Integer amount, Integer limit) {
+            log.add(amount + " > " + limit);
+        }
+
+        @Otherwise
+        public void otherwise(Integer limit, List<String> log, Integer amount) {
+            log.add(amount + " <= " + limit);
+        }
+    }
+
+    @Rule
+    public class ScoreRule {
+
+        public ScoreRule() {
+            super();
+        }
+
+        @PreCondition
+        public Boolean isEnabled(Boolean enabled) {
+            return enabled;
+        }
+
+        @Given
+        public boolean isOverTotal(int count, long total, double ratio, boolean active) {
+            return active && count * ratio > total;
+        }
+
+        @Then
+        public void then(List<String> log, int count, double ratio, long total) {
+            log.add(count + " x " + ratio + " > " + total);
+        }
+
+        @Otherwise
+        public void otherwise(List<String> log, int count, double ratio, long total) {
+            log.add(count + " x " + ratio + " <= " + total);
+        }
+    }
+}
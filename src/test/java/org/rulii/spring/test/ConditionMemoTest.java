@@ -0,0 +1,211 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.test;
+
+import org.junit.jupiter.api.Test;
+import org.rulii.annotation.Given;
+import org.rulii.annotation.Then;
+import org.rulii.bind.Bindings;
+import org.rulii.context.RuleContext;
+import org.rulii.rule.Rule;
+import org.rulii.spring.annotation.CachedCondition;
+import org.rulii.spring.cache.CachedConditionInterceptor;
+import org.rulii.spring.cache.ConditionMemo;
+import org.rulii.spring.config.RuleConfig;
+import org.rulii.util.reflect.DefaultObjectFactory;
+import org.rulii.util.reflect.ObjectFactory;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for per-evaluation condition caching.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class ConditionMemoTest {
+
+    public ConditionMemoTest() {
+        super();
+    }
+
+    @Test
+    public void test1() {
+        CountingRule rule = proxy(new CountingRule());
+
+        assertEquals(Boolean.TRUE, ConditionMemo.evaluate(() -> {
+            assertTrue(rule.given(5));
+            assertTrue(rule.given(5));
+            assertFalse(rule.given(-1));
+            return rule.given(-1) == Boolean.FALSE;
+        }));
+        assertEquals(2, rule.getCount());
+        assertNull(ConditionMemo.current());
+    }
+
+    @Test
+    public void test2() {
+        CountingRule rule = proxy(new CountingRule());
+        rule.given(5);
+        rule.given(5);
+        assertEquals(2, rule.getCount());
+        ConditionMemo.evaluate(() -> rule.given(5));
+        ConditionMemo.evaluate(() -> rule.given(5));
+        assertEquals(4, rule.getCount());
+    }
+
+    @Test
+    public void test3() {
+        CountingRule rule = proxy(new CountingRule());
+        RuleContext first = mock(RuleContext.class);
+        RuleContext second = mock(RuleContext.class);
+
+        // No memo exists outside of an evaluation
+        assertNull(ConditionMemo.active(first));
+
+        ConditionMemo.evaluate(first, () -> {
+            ConditionMemo memo = ConditionMemo.current();
+            assertSame(memo, ConditionMemo.active(first));
+            assertNull(ConditionMemo.active(second));
+            rule.given(5);
+            rule.given(5);
+            assertEquals(1, rule.getCount());
+
+            // A nested evaluation of another context does not share the results
+            ConditionMemo.evaluate(second, () -> {
+                assertNotSame(memo, ConditionMemo.current());
+                return rule.given(5);
+            });
+            assertEquals(2, rule.getCount());
+
+            // A nested evaluation of the same context does
+            ConditionMemo.evaluate(first, () -> rule.given(5));
+            assertEquals(2, rule.getCount());
+            assertSame(memo, ConditionMemo.current());
+            return null;
+        });
+
+        // The memo is dropped with its evaluation: the next one starts empty
+        assertNull(ConditionMemo.active(first));
+        ConditionMemo.evaluate(first, () -> rule.given(5));
+        assertEquals(3, rule.getCount());
+        assertNull(ConditionMemo.current());
+    }
+
+    @Test
+    public void test4() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(RuleConfig.class))
+                .withBean("cachedConditionRule", CachedRule.class, CachedRule::new)
+                .run(ctx -> {
+                    // The rule object is wrapped by the CachedConditionPostProcessor
+                    CachedRule ruleObject = ctx.getBean(CachedRule.class);
+                    assertTrue(AopUtils.isAopProxy(ruleObject));
+
+                    ObjectFactory objectFactory = new DefaultObjectFactory(false) {
+                        @Override
+                        public <T> T create(Class<T> type, boolean isUseCache) {
+                            return ctx.getBean(type);
+                        }
+                    };
+                    RootBeanDefinition definition = new RootBeanDefinition(Rule.class,
+                            () -> Rule.builder().build(CachedRule.class, objectFactory));
+                    definition.setAttribute("rulii.ruleClass", CachedRule.class);
+                    ((BeanDefinitionRegistry) ctx.getBeanFactory()).registerBeanDefinition("cachedRule", definition);
+                    Rule rule = ctx.getBean("cachedRule", Rule.class);
+
+                    RuleContext first = RuleContext.builder().bindings(Bindings.builder().standard()).build();
+                    first.getBindings().bind("value", 5);
+                    RuleContext second = RuleContext.builder().bindings(Bindings.builder().standard()).build();
+                    second.getBindings().bind("value", 5);
+
+                    // Runs within one evaluation of the context share the condition results
+                    ConditionMemo.evaluate(first, () -> {
+                        rule.run(first);
+                        return rule.run(first);
+                    });
+                    assertEquals(1, CachedRule.COUNT.get());
+
+                    // A plain run is an evaluation of its own and keeps nothing once it is done
+                    rule.run(second);
+                    rule.run(second);
+                    assertEquals(3, CachedRule.COUNT.get());
+                    assertNull(ConditionMemo.active(second));
+                });
+    }
+
+    private static CountingRule proxy(CountingRule rule) {
+        ProxyFactory proxyFactory = new ProxyFactory(rule);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new CachedConditionInterceptor(CachedConditionInterceptor.findCachedConditions(CountingRule.class)));
+        return (CountingRule) proxyFactory.getProxy();
+    }
+
+    // An inner class so that the rule scan of the Spring Boot tests does not pick it up
+    @org.rulii.annotation.Rule
+    public class CachedRule {
+
+        static final AtomicInteger COUNT = new AtomicInteger();
+
+        public CachedRule() {
+            super();
+        }
+
+        @Given
+        @CachedCondition
+        public boolean given(int value) {
+            COUNT.incrementAndGet();
+            return value > 0;
+        }
+
+        @Then
+        public void then() {
+        }
+    }
+
+    // Not annotated with @Rule so that the rule scan of the Spring Boot tests does not pick it up
+    public static class CountingRule {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        public CountingRule() {
+            super();
+        }
+
+        @Given
+        @CachedCondition
+        public boolean given(int value) {
+            count.incrementAndGet();
+            return value > 0;
+        }
+
+        public int getCount() {
+            return count.get();
+        }
+    }
+}
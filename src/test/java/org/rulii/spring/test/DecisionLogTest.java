@@ -0,0 +1,95 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.test;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rulii.spring.audit.Decision;
+import org.rulii.spring.audit.DecisionLog;
+import org.rulii.spring.audit.DecisionLogReader;
+import org.rulii.spring.audit.DecisionOutcome;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the binary decision log.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class DecisionLogTest {
+
+    public DecisionLogTest() {
+        super();
+    }
+
+    @Test
+    public void test1(@TempDir Path dir) throws InterruptedException {
+        Instant start = Instant.parse("2025-01-01T00:00:00.000001Z");
+        // Room for 100 records per segment
+        DecisionLog log = new DecisionLog(dir, 16 + 100 * 24);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        for (int t = 0; t < 4; t++) {
+            final int thread = t;
+            executor.execute(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    log.append("rule" + (i % 3), start.plusMillis(i), DecisionOutcome.values()[thread], thread * 1000L + i);
+                }
+            });
+        }
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        Path firstSegment = log.getCurrentSegment();
+        log.close();
+
+        List<Decision> decisions = new ArrayList<>();
+        assertEquals(4000, DecisionLogReader.read(dir, decisions::add));
+        assertEquals(4000, decisions.stream().mapToLong(Decision::fingerprint).distinct().count());
+        assertTrue(decisions.stream().allMatch(decision -> decision.ruleName().equals("rule" + decision.ruleId())));
+
+        Decision decision = decisions.stream().filter(d -> d.fingerprint() == 2005).findFirst().orElseThrow();
+        assertEquals(DecisionOutcome.SKIPPED, decision.outcome());
+        assertEquals(start.plusMillis(5), decision.timestamp());
+        assertEquals(400, DecisionLogReader.read(dir, start, start.plusMillis(100), d -> {}));
+
+        // Reopening keeps the Rule ids and starts a new segment
+        DecisionLog reopened = new DecisionLog(dir, 1024 * 1024);
+        assertNotEquals(firstSegment, reopened.getCurrentSegment());
+        assertEquals(1, reopened.intern("rule1"));
+        reopened.append("rule3", start, DecisionOutcome.PASS, 42);
+        reopened.flush();
+
+        // The open segment is readable
+        ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+        assertEquals(4001, DecisionLogReader.read(dir, d -> ids.put(d.ruleName(), d.ruleId())));
+        assertEquals(3, ids.get("rule3"));
+        reopened.close();
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.test;
+
+import org.junit.jupiter.api.Test;
+import org.rulii.annotation.Given;
+import org.rulii.annotation.Then;
+import org.rulii.bind.Bindings;
+import org.rulii.context.RuleContext;
+import org.rulii.model.action.Actions;
+import org.rulii.model.condition.Conditions;
+import org.rulii.rule.Rule;
+import org.rulii.rule.RuleResult;
+import org.rulii.spring.annotation.Outputs;
+import org.rulii.spring.concurrent.DependencyRuleScheduler;
+import org.rulii.spring.concurrent.RuleGraph;
+import org.rulii.spring.intercept.RuleCatalog;
+import org.rulii.spring.intercept.RuleDescriptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for dependency based scheduling of rules.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class DependencyRuleSchedulerTest {
+
+    public DependencyRuleSchedulerTest() {
+        super();
+    }
+
+    private static Rule rule(String name) {
+        return Rule.builder()
+                .name(name)
+                .given(Conditions.TRUE())
+                .then(Actions.EMPTY_ACTION())
+                .build();
+    }
+
+    @Test
+    public void test1() {
+        List<Rule> rules = List.of(rule("a"), rule("b"), rule("c"), rule("d"), rule("e"));
+        List<RuleDescriptor> descriptors = Arrays.asList(
+                new RuleDescriptor("a", null, List.of("x"), List.of("y")),
+                new RuleDescriptor("b", null, List.of("z"), List.of()),
+                new RuleDescriptor("c", null, List.of("y"), List.of("w")),
+                null,
+                new RuleDescriptor("e", null, List.of("z"), List.of()));
+        RuleGraph graph = RuleGraph.build(rules, descriptors);
+
+        // c reads what a writes
+        assertTrue(graph.isOrdered(0, 2));
+        assertFalse(graph.isOrdered(0, 1));
+        assertFalse(graph.isOrdered(1, 2));
+        // d is unknown and acts as a barrier
+        assertTrue(graph.isOrdered(1, 3));
+        assertTrue(graph.isOrdered(3, 4));
+        assertTrue(graph.isOrdered(1, 4));
+    }
+
+    @Test
+    public void test2() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            RuleCatalog catalog = new RuleCatalog();
+            List<Rule> rules = new ArrayList<>();
+
+            for (int i = 0; i < 10; i++) {
+                Rule rule = rule("rule" + i);
+                catalog.register(rule, new RuleDescriptor("rule" + i, null, List.of("in" + i), List.of("out" + i)));
+                rules.add(rule);
+            }
+
+            DependencyRuleScheduler scheduler = new DependencyRuleScheduler(executor, catalog);
+            RuleGraph graph = RuleGraph.build(rules, catalog.describe(rules));
+            assertEquals(0, graph.getEdgeCount());
+
+            List<RuleResult> results = scheduler.run(graph, RuleContext.builder().bindings(Bindings.builder().standard()).build(), null);
+            assertEquals(10, results.size());
+            for (RuleResult result : results) assertNotNull(result);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test3() {
+        List<Rule> rules = List.of(mock(Rule.class), mock(Rule.class), mock(Rule.class), mock(Rule.class));
+        List<RuleDescriptor> descriptors = List.of(
+                new RuleDescriptor("firstAppend", AppendRule.class),
+                new RuleDescriptor("secondAppend", AppendRule.class),
+                new RuleDescriptor("firstPrint", PrintRule.class),
+                new RuleDescriptor("secondPrint", PrintRule.class));
+        RuleGraph graph = RuleGraph.build(rules, descriptors);
+
+        // Rules without @Outputs may mutate what they read
+        assertTrue(graph.isOrdered(0, 1));
+        assertTrue(graph.isOrdered(1, 2));
+        // Rules that declare they write nothing are independent
+        assertFalse(graph.isOrdered(2, 3));
+    }
+
+    @Test
+    public void test4() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<String> log = Collections.synchronizedList(new ArrayList<>());
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            List<Rule> rules = new ArrayList<>();
+
+            for (int i = 0; i < 3; i++) {
+                String entry = "entry" + i;
+                Rule rule = mock(Rule.class);
+                when(rule.run(any(RuleContext.class))).thenAnswer(invocation -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.sleep(20);
+                    log.add(entry);
+                    running.decrementAndGet();
+                    return null;
+                });
+                rules.add(rule);
+            }
+
+            List<RuleDescriptor> descriptors = List.of(new RuleDescriptor("append0", AppendRule.class),
+                    new RuleDescriptor("append1", AppendRule.class), new RuleDescriptor("append2", AppendRule.class));
+            RuleGraph graph = RuleGraph.build(rules, descriptors);
+            new DependencyRuleScheduler(executor, new RuleCatalog()).run(graph, mock(RuleContext.class), null);
+
+            // The rules share the mutated input so they must run one at a time, in order
+            assertEquals(1, maxRunning.get());
+            assertEquals(List.of("entry0", "entry1", "entry2"), log);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Not annotated with @Rule so that the rule scan of the Spring Boot tests does not pick them up
+    public static class AppendRule {
+
+        public AppendRule() {
+            super();
+        }
+
+        @Given
+        public boolean given(List<String> log) {
+            return true;
+        }
+
+        @Then
+        public void then(List<String> log) {
+            log.add("entry");
+        }
+    }
+
+    @Outputs({})
+    public static class PrintRule {
+
+        public PrintRule() {
+            super();
+        }
+
+        @Given
+        public boolean given(List<String> log) {
+            return !log.isEmpty();
+        }
+    }
+}
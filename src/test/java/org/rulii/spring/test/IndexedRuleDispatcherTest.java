@@ -0,0 +1,155 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.test;
+
+import org.junit.jupiter.api.Test;
+import org.rulii.annotation.Given;
+import org.rulii.bind.Bindings;
+import org.rulii.model.action.Actions;
+import org.rulii.model.condition.Conditions;
+import org.rulii.rule.Rule;
+import org.rulii.spring.annotation.Indexed;
+import org.rulii.spring.index.IndexedRuleDispatcher;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for indexed rule dispatch.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class IndexedRuleDispatcherTest {
+
+    public IndexedRuleDispatcherTest() {
+        super();
+    }
+
+    private static Rule rule(String name) {
+        return Rule.builder()
+                .name(name)
+                .given(Conditions.TRUE())
+                .then(Actions.EMPTY_ACTION())
+                .build();
+    }
+
+    private static Bindings bindings(String tier, int quantity) {
+        Bindings result = Bindings.builder().standard();
+        result.bind("tier", tier);
+        result.bind("quantity", quantity);
+        return result;
+    }
+
+    private static List<String> names(List<Rule> rules) {
+        return rules.stream().map(Rule::getName).toList();
+    }
+
+    @Test
+    public void test1() {
+        List<Rule> rules = List.of(rule("goldRule"), rule("silverRule"), rule("smallOrderRule"), rule("bulkGoldRule"), rule("alwaysRule"));
+        List<RuleDescriptor> descriptors = List.of(
+                new RuleDescriptor("goldRule", GoldCondition.class, null, null),
+                new RuleDescriptor("silverRule", SilverCondition.class, null, null),
+                new RuleDescriptor("smallOrderRule", SmallOrderCondition.class, null, null),
+                new RuleDescriptor("bulkGoldRule", BulkGoldCondition.class, null, null),
+                new RuleDescriptor("alwaysRule", Object.class, null, null));
+        IndexedRuleDispatcher dispatcher = new IndexedRuleDispatcher(rules, descriptors, DefaultConversionService.getSharedInstance());
+        assertEquals(4, dispatcher.getIndexedRuleCount());
+
+        assertEquals(List.of("goldRule", "smallOrderRule", "alwaysRule"), names(dispatcher.getCandidates(bindings("GOLD", 5))));
+        assertEquals(List.of("goldRule", "bulkGoldRule", "alwaysRule"), names(dispatcher.getCandidates(bindings("GOLD", 150))));
+        assertEquals(List.of("alwaysRule"), names(dispatcher.getCandidates(bindings("BRONZE", 10))));
+    }
+
+    @Test
+    public void test2() {
+        List<Rule> rules = List.of(rule("midRangeRule"), rule("goldOnlyRule"));
+        List<RuleDescriptor> descriptors = List.of(
+                new RuleDescriptor("midRangeRule", MidRangeCondition.class, null, null),
+                new RuleDescriptor("goldOnlyRule", GoldOnlyCondition.class, null, null));
+        IndexedRuleDispatcher dispatcher = new IndexedRuleDispatcher(rules, descriptors, DefaultConversionService.getSharedInstance());
+
+        // Both constraints on the same binding must hold
+        assertEquals(List.of("midRangeRule", "goldOnlyRule"), names(dispatcher.getCandidates(bindings("GOLD", 50))));
+        assertEquals(List.of("goldOnlyRule"), names(dispatcher.getCandidates(bindings("GOLD", 5))));
+        assertEquals(List.of("goldOnlyRule"), names(dispatcher.getCandidates(bindings("GOLD", 500))));
+        assertEquals(List.of("midRangeRule"), names(dispatcher.getCandidates(bindings("SILVER", 50))));
+    }
+
+    public static class MidRangeCondition {
+
+        @Given
+        @Indexed(binding = "quantity", from = "10")
+        @Indexed(binding = "quantity", to = "100")
+        public boolean isMidRange(int quantity) {
+            return true;
+        }
+    }
+
+    public static class GoldOnlyCondition {
+
+        @Given
+        @Indexed(binding = "tier", equalTo = {"GOLD", "SILVER"})
+        @Indexed(binding = "tier", equalTo = "GOLD")
+        public boolean isGold(String tier) {
+            return true;
+        }
+    }
+
+    public static class GoldCondition {
+
+        @Given
+        @Indexed(binding = "tier", equalTo = {"GOLD", "PLATINUM"})
+        public boolean isGold(String tier) {
+            return true;
+        }
+    }
+
+    public static class SilverCondition {
+
+        @Given
+        @Indexed(binding = "tier", equalTo = "SILVER")
+        public boolean isSilver(String tier) {
+            return true;
+        }
+    }
+
+    public static class SmallOrderCondition {
+
+        @Given
+        @Indexed(binding = "quantity", to = "10")
+        public boolean isSmall(int quantity) {
+            return true;
+        }
+    }
+
+    public static class BulkGoldCondition {
+
+        @Given
+        @Indexed(binding = "tier", equalTo = "GOLD")
+        @Indexed(binding = "quantity", from = "100")
+        public boolean isBulkGold(String tier, Integer quantity) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.test;
+
+import org.junit.jupiter.api.Test;
+import org.rulii.spring.invoke.MethodInvoker;
+import org.rulii.spring.invoke.MethodInvokers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the generated rule method invokers.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class MethodInvokersTest {
+
+    public MethodInvokersTest() {
+        super();
+    }
+
+    @Test
+    public void test1() throws Exception {
+        MethodInvokers invokers = new MethodInvokers();
+        MethodInvoker given = invokers.get(SampleRule.class.getMethod("given", int.class, String.class));
+        MethodInvoker then = invokers.get(SampleRule.class.getMethod("then", String.class));
+        SampleRule rule = new SampleRule();
+
+        assertTrue(given.isCompiled());
+        assertTrue(then.isCompiled());
+        assertEquals(Boolean.TRUE, given.invoke(rule, 5, "x"));
+        assertEquals(Boolean.FALSE, given.invoke(rule, new Object[] {-1, "x"}));
+        assertNull(then.invoke(rule, "done"));
+        assertEquals(List.of("done"), rule.messages);
+        assertSame(given, invokers.get(SampleRule.class.getMethod("given", int.class, String.class)));
+        assertEquals(2, invokers.size());
+    }
+
+    @Test
+    public void test2() throws Exception {
+        MethodInvoker invoker = MethodInvokers.create(SampleRule.class.getMethod("sum", int.class, int.class, int.class, int.class, int.class));
+
+        assertFalse(invoker.isCompiled());
+        assertEquals(15, invoker.invoke(null, new Object[] {1, 2, 3, 4, 5}));
+        assertThrows(IllegalStateException.class, () -> MethodInvokers.create(SampleRule.class.getMethod("fail")).invoke(new SampleRule()));
+    }
+
+    /**
+     * Rule shaped class; deliberately not annotated so that it stays out of the rule scan.
+     */
+    public static class SampleRule {
+
+        private final List<String> messages = new ArrayList<>();
+
+        public boolean given(int value, String name) {
+            return value > 0 && name != null;
+        }
+
+        public void then(String message) {
+            messages.add(message);
+        }
+
+        public void fail() {
+            throw new IllegalStateException("fail");
+        }
+
+        public static int sum(int a, int b, int c, int d, int e) {
+            return a + b + c + d + e;
+        }
+    }
+}
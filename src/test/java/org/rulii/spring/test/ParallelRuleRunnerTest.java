@@ -0,0 +1,128 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.test;
+
+import org.junit.jupiter.api.Test;
+import org.rulii.bind.Bindings;
+import org.rulii.context.RuleContext;
+import org.rulii.model.action.Actions;
+import org.rulii.model.condition.Condition;
+import org.rulii.model.condition.Conditions;
+import org.rulii.rule.Rule;
+import org.rulii.rule.RuleExecutionStatus;
+import org.rulii.rule.RuleResult;
+import org.rulii.spring.concurrent.Deadline;
+import org.rulii.spring.concurrent.ParallelRuleRunner;
+import org.rulii.spring.concurrent.RuleTimeoutException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for running independent rules concurrently.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class ParallelRuleRunnerTest {
+
+    public ParallelRuleRunnerTest() {
+        super();
+    }
+
+    private static Rule rule(String name, Condition condition) {
+        return Rule.builder()
+                .name(name)
+                .given(condition)
+                .then(Actions.EMPTY_ACTION())
+                .build();
+    }
+
+    private static RuleContext context() {
+        return RuleContext.builder().bindings(Bindings.builder().standard()).build();
+    }
+
+    @Test
+    public void test1() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            ParallelRuleRunner runner = new ParallelRuleRunner(executor);
+            List<RuleResult> results = runner.run(List.of(rule("a", Conditions.TRUE()), rule("b", Conditions.FALSE()),
+                    rule("c", Conditions.TRUE())), context(), Duration.ofSeconds(5), null);
+
+            // Results come back in rule order
+            assertEquals(RuleExecutionStatus.PASS, results.get(0).getStatus());
+            assertEquals(RuleExecutionStatus.FAIL, results.get(1).getStatus());
+            assertEquals(RuleExecutionStatus.PASS, results.get(2).getStatus());
+
+            // Fail-fast: stops at the first failure; whatever did not complete has no result
+            results = runner.run(List.of(rule("d", Conditions.FALSE()), rule("e", Conditions.TRUE())), context(),
+                    Duration.ofSeconds(5), result -> result.getStatus() == RuleExecutionStatus.FAIL);
+            assertEquals(2, results.size());
+            assertTrue(results.stream().filter(Objects::nonNull).anyMatch(result -> result.getStatus() == RuleExecutionStatus.FAIL));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test2() throws Exception {
+        // A single thread that is kept busy, so the forked rules never start
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        try {
+            ParallelRuleRunner runner = new ParallelRuleRunner(executor);
+            Duration timeout = Duration.ofMillis(50);
+            List<Rule> rules = List.of(rule("a", Conditions.TRUE()), rule("b", Conditions.TRUE()));
+
+            RuleTimeoutException e = assertThrows(RuleTimeoutException.class, () -> runner.run(rules, context(), timeout, null));
+            assertEquals(timeout, e.getTimeout());
+
+            // The Deadline of the calling thread applies when it is the earlier one
+            Deadline deadline = Deadline.after(Duration.ofMillis(20));
+            e = assertThrows(RuleTimeoutException.class, () -> Deadline.callWithin(deadline,
+                    () -> runner.run(rules, context(), Duration.ofSeconds(5), null)));
+            assertEquals(deadline.getTimeout(), e.getTimeout());
+
+            // The timed out rules were cancelled, so the executor drains as soon as it is released
+            release.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.test;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.rulii.bind.Bindings;
+import org.rulii.context.RuleContext;
+import org.rulii.model.Runnable;
+import org.rulii.rule.Rule;
+import org.rulii.rule.RuleExecutionStatus;
+import org.rulii.spring.cache.ConditionMemo;
+import org.rulii.spring.concurrent.Deadline;
+import org.rulii.spring.concurrent.RuleTimeoutException;
+import org.rulii.spring.reactor.ReactiveRuleExecutor;
+import org.rulii.validation.RuleViolations;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the Project Reactor adapter.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = TestApplication.class)
+public class ReactiveRuleExecutorTest {
+
+    @Autowired
+    private ReactiveRuleExecutor reactiveRuleExecutor;
+    @Autowired
+    private Rule consistentDateRule;
+
+    public ReactiveRuleExecutorTest() {
+        super();
+    }
+
+    @Test
+    public void test1() {
+        StepVerifier.create(reactiveRuleExecutor.run(consistentDateRule, bindings(1, true)))
+                .assertNext(result -> assertEquals(RuleExecutionStatus.PASS, result.getStatus()))
+                .verifyComplete();
+
+        // Results come back in input order
+        StepVerifier.create(reactiveRuleExecutor.run(consistentDateRule, Flux.range(0, 10),
+                        i -> bindings(i % 2 == 0 ? 1 : -1, true), 4))
+                .expectNextMatches(result -> result.getStatus() == RuleExecutionStatus.PASS)
+                .expectNextMatches(result -> result.getStatus() == RuleExecutionStatus.FAIL)
+                .expectNextCount(8)
+                .verifyComplete();
+    }
+
+    @Test
+    public void test2() {
+        // The otherwise action needs the (missing) violations binding
+        StepVerifier.create(reactiveRuleExecutor.run(consistentDateRule, bindings(-1, false)))
+                .verifyError();
+
+        StepVerifier.create(reactiveRuleExecutor.run(consistentDateRule, Flux.range(0, 10), i -> {
+                    if (i == 5) throw new IllegalStateException("Bad input [" + i + "]");
+                    return bindings(1, true);
+                }, 2))
+                .thenConsumeWhile(result -> result.getStatus() == RuleExecutionStatus.PASS)
+                .expectErrorMessage("Bad input [5]")
+                .verify();
+    }
+
+    @Test
+    public void test3() {
+        AtomicInteger mapped = new AtomicInteger();
+
+        StepVerifier.create(reactiveRuleExecutor.run(consistentDateRule, Flux.range(0, 1_000), i -> {
+                    mapped.incrementAndGet();
+                    return bindings(1, true);
+                }, 2), 3)
+                .expectNextCount(3)
+                .thenCancel()
+                .verify();
+
+        // Inputs are only pulled as results are requested: the 3 delivered plus at most 2 in flight
+        assertTrue(mapped.get() <= 5, "mapped " + mapped.get());
+
+        StepVerifier.create(reactiveRuleExecutor.run(consistentDateRule, bindings(1, true)), 0)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    public void test4() throws Exception {
+        AtomicReference<Deadline> deadlineSeen = new AtomicReference<>();
+        AtomicReference<ConditionMemo> memoSeen = new AtomicReference<>();
+        @SuppressWarnings("unchecked")
+        Runnable<String> runnable = mock(Runnable.class);
+        when(runnable.run(any(RuleContext.class))).thenAnswer(invocation -> {
+            deadlineSeen.set(Deadline.current());
+            memoSeen.set(ConditionMemo.current());
+            return "done";
+        });
+
+        Deadline deadline = Deadline.after(Duration.ofMinutes(1));
+        ConditionMemo memo = new ConditionMemo();
+        // Subscribed from a thread that is evaluating under a Deadline and a ConditionMemo
+        ConditionMemo.callWithin(memo, () -> Deadline.callWithin(deadline, () ->
+                StepVerifier.create(reactiveRuleExecutor.run(runnable, bindings(1, true)))
+                        .expectNext("done")
+                        .verifyComplete()));
+
+        assertSame(deadline, deadlineSeen.get());
+        assertSame(memo, memoSeen.get());
+
+        // Deadline given in the Reactor Context
+        Deadline contextDeadline = Deadline.after(Duration.ofMinutes(1));
+        StepVerifier.create(reactiveRuleExecutor.run(runnable, bindings(1, true))
+                        .contextWrite(ctx -> ctx.put(ReactiveRuleExecutor.DEADLINE_KEY, contextDeadline)))
+                .expectNext("done")
+                .verifyComplete();
+        assertSame(contextDeadline, deadlineSeen.get());
+        // Not subscribed during an evaluation: the run is an evaluation of its own
+        assertNotNull(memoSeen.get());
+        assertNotSame(memo, memoSeen.get());
+    }
+
+    @Test
+    public void test5() {
+        Deadline expired = Deadline.after(Duration.ZERO);
+        StepVerifier.create(reactiveRuleExecutor.run(consistentDateRule, bindings(1, true))
+                        .contextWrite(ctx -> ctx.put(ReactiveRuleExecutor.DEADLINE_KEY, expired)))
+                .expectError(RuleTimeoutException.class)
+                .verify();
+    }
+
+    private static Bindings bindings(int days, boolean withViolations) {
+        LocalDate fromDate = LocalDate.of(2020, 1, 1);
+        Bindings result = Bindings.builder().standard();
+        result.bind("fromDate", fromDate);
+        result.bind("toDate", fromDate.plusDays(days));
+        if (withViolations) result.bind("violations", new RuleViolations());
+        return result;
+    }
+}
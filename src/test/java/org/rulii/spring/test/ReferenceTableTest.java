@@ -0,0 +1,191 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.test;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rulii.annotation.Given;
+import org.rulii.annotation.Then;
+import org.rulii.bind.Bindings;
+import org.rulii.context.RuleContext;
+import org.rulii.model.UnrulyException;
+import org.rulii.rule.Rule;
+import org.rulii.rule.RuleExecutionStatus;
+import org.rulii.rule.RuleResult;
+import org.rulii.spring.config.RuleConfig;
+import org.rulii.spring.refdata.ReferenceTable;
+import org.rulii.spring.refdata.ReferenceTableFactoryBean;
+import org.rulii.spring.refdata.ReferenceTableWriter;
+import org.rulii.util.reflect.DefaultObjectFactory;
+import org.rulii.util.reflect.ObjectFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the memory-mapped reference tables.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class ReferenceTableTest {
+
+    public ReferenceTableTest() {
+        super();
+    }
+
+    @Test
+    public void test1(@TempDir Path dir) {
+        Path file = dir.resolve("tariffs.rtab");
+        Map<String, String> entries = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) entries.put("HS" + i, Integer.toString(i * 7));
+        entries.put("", "empty");
+        entries.put("M\u00fcnchen", "\u20ac");
+        entries.put("\ud83d\ude00", "smile");
+
+        ReferenceTableWriter.write(file, entries);
+        assertFalse(Files.exists(dir.resolve("tariffs.rtab.tmp")));
+
+        ReferenceTable table = ReferenceTable.open(file);
+        assertEquals(entries.size(), table.size());
+        assertEquals("0", table.get("HS0"));
+        assertEquals("69993", table.get("HS9999"));
+        assertEquals("empty", table.get(""));
+        assertEquals("\u20ac", table.get("M\u00fcnchen"));
+        assertEquals("smile", table.get("\ud83d\ude00"));
+        assertNull(table.get("HS10000"));
+        assertFalse(table.containsKey("Munchen"));
+        assertEquals("n/a", table.getOrDefault("XX", "n/a"));
+        assertEquals("7", StandardCharsets.UTF_8.decode(table.getBuffer("HS1")).toString());
+
+        // Map view and iteration see every entry
+        assertEquals(entries, new HashMap<>(table.asMap()));
+        Map<String, String> copy = new HashMap<>();
+        table.forEach(copy::put);
+        assertEquals(entries, copy);
+    }
+
+    @Test
+    public void test2(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("countries.rtab");
+
+        UnrulyException e = assertThrows(UnrulyException.class, () -> {
+            try (ReferenceTableWriter writer = ReferenceTableWriter.create(file)) {
+                writer.put("CA", "Canada").put("CA", "Canada");
+            }
+        });
+        assertTrue(e.getMessage().contains("Duplicate key [CA]"));
+
+        assertFalse(Files.exists(file));
+        assertFalse(Files.exists(dir.resolve("countries.rtab.tmp")));
+
+        Files.write(file, new byte[64]);
+        assertThrows(UnrulyException.class, () -> ReferenceTable.open(file));
+    }
+
+    @Test
+    public void test3(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("countries.rtab");
+        ReferenceTableWriter.write(file, Map.of("CA", "Canada", "FR", "France"));
+
+        // Non file resources are copied to a temporary file
+        ReferenceTableFactoryBean factory = new ReferenceTableFactoryBean(new ByteArrayResource(Files.readAllBytes(file)));
+        factory.afterPropertiesSet();
+        ReferenceTable table = factory.getObject();
+        assertNotEquals(file, table.getFile());
+        assertEquals("France", table.get("FR"));
+        assertEquals(2, table.size());
+
+        factory.destroy();
+        assertFalse(Files.exists(table.getFile()));
+        // Still mapped
+        assertEquals("Canada", table.get("CA"));
+    }
+
+    @Test
+    public void test4(@TempDir Path dir) {
+        Path file = dir.resolve("countries.rtab");
+        ReferenceTableWriter.write(file, Map.of("CA", "Canada", "FR", "France"));
+
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(RuleConfig.class))
+                .withPropertyValues("rulii.refdata.tables.countries=" + file.toUri())
+                .withBean("countryRule", CountryRule.class, CountryRule::new)
+                .run(ctx -> {
+                    // Registered by the ReferenceTableRegistrar from rulii.refdata.tables
+                    ReferenceTable countries = ctx.getBean("countries", ReferenceTable.class);
+                    assertEquals(file, countries.getFile());
+
+                    ObjectFactory objectFactory = new DefaultObjectFactory(false) {
+                        @Override
+                        public <T> T create(Class<T> type, boolean isUseCache) {
+                            return ctx.getBean(type);
+                        }
+                    };
+                    Rule rule = Rule.builder().build(CountryRule.class, objectFactory);
+
+                    List<String> found = new ArrayList<>();
+                    RuleResult result = rule.run(context(countries, "FR", found));
+                    assertEquals(RuleExecutionStatus.PASS, result.getStatus());
+                    assertEquals(List.of("France"), found);
+
+                    assertEquals(RuleExecutionStatus.FAIL, rule.run(context(countries, "XX", found)).getStatus());
+                    assertEquals(1, found.size());
+                });
+    }
+
+    private static RuleContext context(ReferenceTable countries, String code, List<String> found) {
+        // The table bean is bound like any other value and passed to the rule as a parameter
+        RuleContext result = RuleContext.builder().bindings(Bindings.builder().standard()).build();
+        result.getBindings().bind("countries", countries);
+        result.getBindings().bind("code", code);
+        result.getBindings().bind("found", found);
+        return result;
+    }
+
+    // An inner class so that the rule scan of the Spring Boot tests does not pick it up
+    @org.rulii.annotation.Rule
+    public class CountryRule {
+
+        public CountryRule() {
+            super();
+        }
+
+        @Given
+        public boolean isKnown(ReferenceTable countries, String code) {
+            return countries.containsKey(code);
+        }
+
+        @Then
+        public void then(ReferenceTable countries, String code, List<String> found) {
+            found.add(countries.get(code));
+        }
+    }
+}
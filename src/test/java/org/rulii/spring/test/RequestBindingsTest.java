@@ -0,0 +1,123 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.test;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.rulii.bind.Bindings;
+import org.rulii.spring.web.RequestBindings;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the request bindings bridge.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RequestBindingsTest {
+
+    private final RequestBindings requestBindings = RequestBindings.builder()
+            .attribute("user", String.class)
+            .header("tenant", "X-Tenant-Id")
+            .pathVariable("orderId")
+            .build();
+
+    public RequestBindingsTest() {
+        super();
+    }
+
+    @AfterEach
+    public void reset() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private static void bindRequest(String user, String tenant, String orderId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("user", user);
+        request.addHeader("X-Tenant-Id", tenant);
+        request.setAttribute("org.springframework.web.servlet.HandlerMapping.uriTemplateVariables", Map.of("orderId", orderId));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @Test
+    public void test1() {
+        Bindings bindings = Bindings.builder().standard();
+        requestBindings.bindServlet(bindings);
+
+        bindRequest("jordan", "acme", "42");
+        assertEquals("jordan", bindings.getValue("user"));
+        assertEquals("acme", bindings.getValue("tenant"));
+        assertEquals("42", bindings.getValue("orderId"));
+
+        // Same Bindings, next request
+        bindRequest("pippen", "globex", "43");
+        assertEquals("pippen", bindings.getValue("user"));
+        assertEquals("globex", bindings.getValue("tenant"));
+        assertEquals("43", bindings.getValue("orderId"));
+
+        RequestContextHolder.resetRequestAttributes();
+        assertNull(bindings.getValue("user"));
+    }
+
+    @Test
+    public void test2() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/orders/42")
+                .header("X-Tenant-Id", "acme"));
+        exchange.getAttributes().put("user", "jordan");
+        exchange.getAttributes().put("org.springframework.web.reactive.HandlerMapping.uriTemplateVariables",
+                Map.of("orderId", "42"));
+        Bindings bindings = Bindings.builder().standard();
+        requestBindings.bindExchange(bindings, exchange);
+
+        assertEquals("jordan", bindings.getValue("user"));
+        assertEquals("acme", bindings.getValue("tenant"));
+        assertEquals("42", bindings.getValue("orderId"));
+
+        // Values are read from the exchange on every access
+        exchange.getAttributes().put("user", "pippen");
+        assertEquals("pippen", bindings.getValue("user"));
+    }
+
+    @Test
+    public void test3() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("user", "bean");
+        beanFactory.addBean("threshold", 10);
+        Bindings bindings = requestBindings.createServletBindings(beanFactory);
+
+        bindRequest("jordan", "acme", "42");
+        // Request bindings shadow the bean with the same name; the other beans stay visible
+        assertEquals("jordan", bindings.getValue("user"));
+        assertEquals("acme", bindings.getValue("tenant"));
+        assertEquals(10, (Integer) bindings.getValue("threshold"));
+
+        bindRequest("pippen", "globex", "43");
+        assertEquals("pippen", bindings.getValue("user"));
+        assertEquals("43", bindings.getValue("orderId"));
+    }
+}
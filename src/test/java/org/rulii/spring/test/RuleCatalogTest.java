@@ -0,0 +1,101 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.test;
+
+import org.junit.jupiter.api.Test;
+import org.rulii.rule.Rule;
+import org.rulii.spring.intercept.RuleCatalog;
+import org.rulii.spring.intercept.RuleDescriptor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the Rule ids assigned by the RuleCatalog.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RuleCatalogTest {
+
+    public RuleCatalogTest() {
+        super();
+    }
+
+    @Test
+    public void test1() {
+        RuleCatalog catalog = new RuleCatalog();
+        // Bean "a" is a Rule named "b"; the alias must not give bean "b" the id of bean "a"
+        RuleDescriptor a = catalog.register(rule("b"), new RuleDescriptor("a", null));
+        RuleDescriptor b = catalog.register(rule("b"), new RuleDescriptor("b", null));
+
+        assertEquals(0, a.id());
+        assertEquals(1, b.id());
+        assertSame(b, catalog.get("b"));
+        assertSame(a, catalog.get(0));
+        assertSame(b, catalog.get(1));
+        assertEquals(2, catalog.getIdCount());
+    }
+
+    @Test
+    public void test2() {
+        RuleCatalog catalog = new RuleCatalog();
+        RuleDescriptor rule = catalog.register(rule("rule"), new RuleDescriptor("rule", null));
+        // The proxy of a Rule is registered again under the same bean name
+        RuleDescriptor proxy = catalog.register(rule("rule"), new RuleDescriptor("rule", null));
+
+        assertEquals(rule.id(), proxy.id());
+        assertEquals(1, catalog.getIdCount());
+        assertEquals(RuleDescriptor.NO_ID, catalog.getId("unknown"));
+    }
+
+    @Test
+    public void test3() {
+        RuleCatalog catalog = new RuleCatalog();
+        Rule bean = rule("x");
+        catalog.register(bean, new RuleDescriptor("x", String.class));
+
+        // A reloaded generation shadows the Rule bean and keeps its id
+        Rule reloaded = rule("x");
+        assertEquals(0, catalog.register(reloaded, new RuleDescriptor("x", Integer.class)).id());
+        assertEquals(Integer.class, catalog.get("x").ruleClass());
+
+        // Once the generation is replaced, the Rule bean is served again
+        catalog.unregister(reloaded);
+        assertEquals(String.class, catalog.get("x").ruleClass());
+        assertEquals(String.class, catalog.get(0).ruleClass());
+        assertEquals(String.class, catalog.get(bean).ruleClass());
+
+        // A reloaded Rule that was removed is forgotten but its id stays reserved
+        Rule added = rule("y");
+        assertEquals(1, catalog.register(added, new RuleDescriptor("y", Long.class)).id());
+        catalog.unregister(added);
+        assertNull(catalog.get("y"));
+        assertNull(catalog.get(1));
+        assertEquals(2, catalog.getIdCount());
+        assertEquals(1, catalog.register(rule("y"), new RuleDescriptor("y", Long.class)).id());
+    }
+
+    private static Rule rule(String name) {
+        Rule result = mock(Rule.class);
+        when(result.getName()).thenReturn(name);
+        return result;
+    }
+}
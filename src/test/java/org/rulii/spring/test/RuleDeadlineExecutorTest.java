@@ -0,0 +1,154 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.test;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.rulii.context.RuleContext;
+import org.rulii.spring.annotation.RuleTimeout;
+import org.rulii.spring.concurrent.Deadline;
+import org.rulii.spring.concurrent.RuleDeadlineExecutor;
+import org.rulii.spring.concurrent.RuleTimeoutException;
+import org.rulii.spring.concurrent.TimeoutRuleInterceptor;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.rulii.spring.stats.RuleStatistics;
+import org.rulii.spring.stats.StatisticsRuleInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for deadline enforcement.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RuleDeadlineExecutorTest {
+
+    private final RuleDeadlineExecutor executor = new RuleDeadlineExecutor(Executors.newCachedThreadPool(), null);
+
+    public RuleDeadlineExecutorTest() {
+        super();
+    }
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void test1() {
+        assertEquals("done", executor.call(() -> "done", Deadline.after(Duration.ofSeconds(5))));
+        assertEquals("inline", executor.call(() -> "inline", null));
+    }
+
+    @Test
+    public void test2() {
+        long start = System.nanoTime();
+        assertThrows(RuleTimeoutException.class, () -> executor.call(() -> {
+            Thread.sleep(10_000);
+            return "late";
+        }, Deadline.after(Duration.ofMillis(50))));
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(5)) < 0);
+    }
+
+    @Test
+    public void test3() throws Exception {
+        Deadline deadline = Deadline.after(Duration.ofMillis(1));
+        Thread.sleep(5);
+        assertThrows(RuleTimeoutException.class, () -> Deadline.callWithin(deadline, () -> {
+            Deadline.checkpoint();
+            return null;
+        }));
+        assertNull(Deadline.current());
+    }
+
+    @Test
+    public void test4() {
+        Deadline shorter = Deadline.after(Duration.ofMillis(10));
+        Deadline longer = Deadline.after(Duration.ofSeconds(10));
+        assertSame(shorter, Deadline.earliest(shorter, longer));
+        assertSame(shorter, Deadline.earliest(longer, shorter));
+        assertSame(longer, Deadline.earliest(null, longer));
+    }
+
+    @Test
+    public void test5() {
+        AtomicInteger created = new AtomicInteger();
+        RuleDeadlineExecutor lazy = new RuleDeadlineExecutor(() -> {
+            created.incrementAndGet();
+            return Executors.newSingleThreadExecutor();
+        }, null);
+
+        // Evaluations without a deadline run inline and never create the executor
+        assertEquals("inline", lazy.call(() -> "inline", null));
+        lazy.shutdown();
+        assertEquals(0, created.get());
+
+        lazy = new RuleDeadlineExecutor(() -> {
+            created.incrementAndGet();
+            return Executors.newSingleThreadExecutor();
+        }, null);
+
+        try {
+            assertEquals("a", lazy.call(() -> "a", Deadline.after(Duration.ofSeconds(5))));
+            assertEquals("b", lazy.call(() -> "b", Deadline.after(Duration.ofSeconds(5))));
+            assertEquals(1, created.get());
+        } finally {
+            lazy.shutdown();
+        }
+    }
+
+    @Test
+    public void test6() {
+        RuleDeadlineExecutor withDefault = new RuleDeadlineExecutor(Executors.newCachedThreadPool(), Duration.ofMillis(50));
+
+        try {
+            TimeoutRuleInterceptor interceptor = new TimeoutRuleInterceptor(withDefault);
+            // The global default bounds evaluations, not every Rule run
+            assertFalse(interceptor.supports(new RuleDescriptor("plain", Object.class)));
+            assertTrue(interceptor.supports(new RuleDescriptor("timed", TimedRule.class)));
+        } finally {
+            withDefault.shutdown();
+        }
+    }
+
+    @Test
+    public void test7() {
+        RuleStatistics statistics = new RuleStatistics();
+        StatisticsRuleInterceptor statisticsInterceptor = new StatisticsRuleInterceptor(statistics);
+        // Statistics wrap the timeout so that timed out runs are counted
+        assertTrue(statisticsInterceptor.getOrder() < new TimeoutRuleInterceptor(executor).getOrder());
+
+        RuleDescriptor descriptor = new RuleDescriptor("timed", TimedRule.class);
+        assertThrows(RuleTimeoutException.class, () -> statisticsInterceptor.intercept(descriptor, mock(RuleContext.class),
+                context -> {
+                    throw new RuleTimeoutException("Rule evaluation exceeded its deadline.", Duration.ofMillis(10));
+                }));
+        assertEquals(1, statistics.get("timed").getErrorCount());
+    }
+
+    @RuleTimeout(10)
+    private static final class TimedRule {
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.test;
+
+import org.junit.jupiter.api.Test;
+import org.rulii.bind.Bindings;
+import org.rulii.context.RuleContext;
+import org.rulii.model.action.Actions;
+import org.rulii.model.condition.Conditions;
+import org.rulii.rule.Rule;
+import org.rulii.rule.RuleResult;
+import org.rulii.spring.config.RuleConfig;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.rulii.spring.intercept.RuleInterceptor;
+import org.rulii.spring.intercept.RuleInvocation;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the proxies that apply the RuleInterceptors to Rule beans.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RuleInterceptorProxyTest {
+
+    public RuleInterceptorProxyTest() {
+        super();
+    }
+
+    @Test
+    public void test1() {
+        Rule rule = Rule.builder()
+                .name("interceptedRule")
+                .given(Conditions.TRUE())
+                .then(Actions.EMPTY_ACTION())
+                .build();
+        CountingInterceptor interceptor = new CountingInterceptor();
+
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(RuleConfig.class))
+                .withBean("interceptedRule", Rule.class, () -> rule)
+                .withBean(CountingInterceptor.class, () -> interceptor)
+                .run(ctx -> {
+                    Rule bean = ctx.getBean("interceptedRule", Rule.class);
+                    assertNotSame(rule, bean);
+
+                    // The proxy can still be injected by the Rule's class (unless it is final) and by any of its interfaces
+                    if (!Modifier.isFinal(rule.getClass().getModifiers())) {
+                        assertTrue(rule.getClass().isInstance(bean));
+                        assertSame(bean, ctx.getBean(rule.getClass()));
+                    }
+                    for (Class<?> type : ClassUtils.getAllInterfaces(rule)) assertTrue(type.isInstance(bean), type.getName());
+
+                    assertNotNull(bean.run(RuleContext.builder().bindings(Bindings.builder().standard()).build()));
+                    assertEquals(1, interceptor.count.get());
+                });
+    }
+
+    private static class CountingInterceptor implements RuleInterceptor {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public boolean supports(RuleDescriptor descriptor) {
+            return "interceptedRule".equals(descriptor.name());
+        }
+
+        @Override
+        public RuleResult intercept(RuleDescriptor descriptor, RuleContext context, RuleInvocation invocation) {
+            count.incrementAndGet();
+            return invocation.proceed(context);
+        }
+    }
+}
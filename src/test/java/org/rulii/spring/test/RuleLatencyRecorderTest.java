@@ -0,0 +1,79 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.test;
+
+import org.junit.jupiter.api.Test;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.rulii.spring.latency.LatencySnapshot;
+import org.rulii.spring.latency.RuleLatencyRecorder;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the per-Rule latency histograms.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RuleLatencyRecorderTest {
+
+    public RuleLatencyRecorderTest() {
+        super();
+    }
+
+    @Test
+    public void test1() {
+        RuleLatencyRecorder recorder = new RuleLatencyRecorder();
+        AtomicInteger intervals = new AtomicInteger();
+        recorder.addListener(snapshots -> intervals.incrementAndGet());
+
+        for (int i = 0; i < 9_990; i++) recorder.record("rule1", 100_000L);
+        // Rare 200ms spikes
+        for (int i = 0; i < 10; i++) recorder.record("rule1", 200_000_000L);
+
+        Map<String, LatencySnapshot> snapshots = recorder.rollInterval();
+        LatencySnapshot snapshot = snapshots.get("rule1");
+        assertEquals(10_000, snapshot.count());
+        assertEquals(100, snapshot.p99().toNanos() / 1_000);
+        assertEquals(200, snapshot.max().toMillis());
+        assertSame(snapshot, recorder.getLastSnapshot("rule1"));
+        assertEquals(1, intervals.get());
+
+        // A new interval starts empty
+        assertEquals(0, recorder.rollInterval().get("rule1").count());
+        assertEquals(2, intervals.get());
+    }
+
+    @Test
+    public void test2() {
+        RuleLatencyRecorder recorder = new RuleLatencyRecorder();
+        recorder.record(200, "rule200", 1_000L);
+        recorder.record(200, "rule200", 3_000L);
+        // Same Rule, recorded by name
+        recorder.record("rule200", 2_000L);
+        recorder.record(RuleDescriptor.NO_ID, "rule1", 1_000L);
+
+        Map<String, LatencySnapshot> snapshots = recorder.rollInterval();
+        assertEquals(3, snapshots.get("rule200").count());
+        assertEquals(1, snapshots.get("rule1").count());
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.test;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rulii.bind.Bindings;
+import org.rulii.context.RuleContext;
+import org.rulii.registry.RuleRegistry;
+import org.rulii.rule.Rule;
+import org.rulii.rule.RuleExecutionStatus;
+import org.rulii.spring.intercept.RuleCatalog;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.rulii.spring.intercept.RuleInterceptor;
+import org.rulii.spring.intercept.RuleInvocation;
+import org.rulii.spring.reload.ReloadableRuleRegistry;
+import org.rulii.spring.reload.RuleReloader;
+import org.rulii.util.reflect.ObjectFactory;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for hot-reloading Rules from a watched directory.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RuleReloaderTest {
+
+    public RuleReloaderTest() {
+        super();
+    }
+
+    @Test
+    public void test1(@TempDir Path work, @TempDir Path rules) throws IOException {
+        ReloadableRuleRegistry registry = new ReloadableRuleRegistry(RuleRegistry.builder().build());
+        RuleReloader reloader = new RuleReloader(registry, ObjectFactory.builder().build(), List.of(rules),
+                Duration.ofMillis(50));
+
+        // The Rule lives under org.rulii, outside the framework packages, and must still be reloaded
+        build(work, rules, 10);
+        assertEquals(1, reloader.reload());
+        Rule first = registry.get("reloadedRule");
+
+        build(work, rules, 30);
+        assertEquals(1, reloader.reload());
+        build(work, rules, 40);
+        assertEquals(1, reloader.reload());
+        assertEquals(3, reloader.getGeneration());
+
+        Rule latest = registry.get("reloadedRule");
+        assertNotSame(first, latest);
+        assertEquals(RuleExecutionStatus.FAIL, latest.run(context(20)).getStatus());
+
+        // An evaluation still holding the first generation can load its (lazily resolved) classes after two reloads
+        assertEquals(RuleExecutionStatus.PASS, first.run(context(20)).getStatus());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void test2(@TempDir Path work, @TempDir Path rules) throws IOException {
+        RuleCatalog catalog = new RuleCatalog();
+        RuleInterceptor interceptor = mock(RuleInterceptor.class);
+        when(interceptor.supports(any())).thenReturn(true);
+        when(interceptor.intercept(any(), any(), any())).thenAnswer(invocation ->
+                invocation.<RuleInvocation>getArgument(2).proceed(invocation.getArgument(1)));
+        ObjectProvider<RuleInterceptor> interceptors = mock(ObjectProvider.class);
+        when(interceptors.orderedStream()).thenAnswer(invocation -> Stream.of(interceptor));
+        ReloadableRuleRegistry registry = new ReloadableRuleRegistry(RuleRegistry.builder().build());
+        RuleReloader reloader = new RuleReloader(registry, ObjectFactory.builder().build(), catalog, interceptors,
+                List.of(rules), Duration.ofMillis(50));
+
+        build(work, rules, 10);
+        assertEquals(1, reloader.reload());
+        Rule first = registry.get("reloadedRule");
+        RuleDescriptor descriptor = catalog.get("reloadedRule");
+        assertEquals(descriptor, catalog.get(first));
+
+        // Reloaded Rules run through the interceptors, like the Rule beans
+        assertEquals(RuleExecutionStatus.PASS, first.run(context(20)).getStatus());
+        verify(interceptor).intercept(eq(descriptor), any(), any());
+
+        // The next generation replaces the first in the catalog and keeps its id
+        build(work, rules, 30);
+        assertEquals(1, reloader.reload());
+        RuleDescriptor next = catalog.get("reloadedRule");
+        assertEquals(descriptor.id(), next.id());
+        assertNotSame(descriptor.ruleClass(), next.ruleClass());
+        assertEquals(1, catalog.getIdCount());
+    }
+
+    private static RuleContext context(int value) {
+        Bindings bindings = Bindings.builder().standard();
+        bindings.bind("value", value);
+        return RuleContext.builder().bindings(bindings).build();
+    }
+
+    /**
+     * Compiles a new version of the Rule and swaps its jar into the watched directory. The jar is moved into place
+     * rather than overwritten, as a deployment would, so earlier generations keep reading the jar they opened.
+     */
+    private static void build(Path work, Path rules, int limit) throws IOException {
+        Path dir = Files.createDirectories(work.resolve("src/org/rulii/spring/test/reloaded"));
+        Path classes = Files.createDirectories(work.resolve("classes-" + limit));
+        Path rule = Files.writeString(dir.resolve("ReloadedRule.java"), """
+                package org.rulii.spring.test.reloaded;
+
+                import org.rulii.annotation.Given;
+                import org.rulii.annotation.Rule;
+                import org.rulii.annotation.Then;
+
+                @Rule(name = "reloadedRule")
+                public class ReloadedRule {
+
+                    @Given
+                    public boolean isValid(Integer value) {
+                        return value > Limits.limit();
+                    }
+
+                    @Then
+                    public void then() {}
+                }
+                """);
+        Path limits = Files.writeString(dir.resolve("Limits.java"), """
+                package org.rulii.spring.test.reloaded;
+
+                class Limits {
+                    static int limit() {
+                        return %d;
+                    }
+                }
+                """.formatted(limit));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int status = compiler.run(null, null, null, "-parameters", "-classpath", System.getProperty("java.class.path"),
+                "-d", classes.toString(), rule.toString(), limits.toString());
+        assertEquals(0, status);
+
+        Path jar = work.resolve("rules-" + limit + ".jar");
+        try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar));
+             Stream<Path> files = Files.walk(classes)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                output.putNextEntry(new JarEntry(classes.relativize(file).toString().replace('\\', '/')));
+                output.write(Files.readAllBytes(file));
+                output.closeEntry();
+            }
+        }
+
+        Files.move(jar, rules.resolve("rules.jar"), StandardCopyOption.REPLACE_EXISTING);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.test;
+
+import org.junit.jupiter.api.Test;
+import org.rulii.annotation.Given;
+import org.rulii.annotation.Then;
+import org.rulii.rule.RuleResult;
+import org.rulii.spring.annotation.Memoized;
+import org.rulii.spring.cache.MemoKey;
+import org.rulii.spring.cache.MemoizingRuleInterceptor;
+import org.rulii.spring.cache.RuleResultCache;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.rulii.validation.RuleViolations;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for the memoized Rule result cache.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RuleResultCacheTest {
+
+    public RuleResultCacheTest() {
+        super();
+    }
+
+    @Test
+    public void test1() throws InterruptedException {
+        RuleResultCache cache = new RuleResultCache(10, Duration.ofHours(1));
+        RuleResult result = mock(RuleResult.class);
+        cache.put(key(1), result, Duration.ofMillis(20));
+        cache.put(key(2), result, null);
+
+        assertSame(result, cache.get(key(1)));
+        Thread.sleep(50);
+        assertNull(cache.get(key(1)));
+        assertSame(result, cache.get(key(2)));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void test2() {
+        RuleResultCache cache = new RuleResultCache(3, Duration.ofHours(1));
+        RuleResult result = mock(RuleResult.class);
+        for (int i = 0; i < 5; i++) cache.put(key(i), result, null);
+
+        assertEquals(3, cache.size());
+        assertEquals(2, cache.getEvictionCount());
+        assertNull(cache.get(key(0)));
+        assertNull(cache.get(key(1)));
+        for (int i = 2; i < 5; i++) assertSame(result, cache.get(key(i)));
+    }
+
+    @Test
+    public void test3() {
+        RuleResultCache cache = new RuleResultCache(2, Duration.ofHours(1));
+        RuleResult first = mock(RuleResult.class);
+        RuleResult second = mock(RuleResult.class);
+
+        // Replacing key 0 leaves a stale queue entry that must not evict the live one
+        cache.put(key(0), first, null);
+        cache.put(key(1), first, null);
+        cache.put(key(0), second, null);
+        cache.put(key(2), first, null);
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get(key(1)));
+        assertSame(second, cache.get(key(0)));
+        assertSame(first, cache.get(key(2)));
+
+        // Repeated replacements and expiries do not grow the cache past its size
+        for (int i = 0; i < 1000; i++) {
+            cache.put(key(i % 3), first, i % 2 == 0 ? Duration.ZERO : null);
+            cache.get(key(i % 3));
+        }
+
+        assertTrue(cache.size() <= 2);
+    }
+
+    @Test
+    public void test4() {
+        RuleResultCache cache = new RuleResultCache(10, Duration.ofHours(1));
+        RuleResult result = mock(RuleResult.class);
+
+        assertNull(cache.get(key(1)));
+        cache.put(key(1), result, null);
+        assertSame(result, cache.get(key(1)));
+        assertSame(result, cache.get(new MemoKey("rule", new Object[] {1})));
+        assertNull(cache.get(key(2)));
+
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRatio());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get(key(1)));
+    }
+
+    @Test
+    public void test5() {
+        MemoizingRuleInterceptor interceptor = new MemoizingRuleInterceptor(new RuleResultCache(10, Duration.ofHours(1)));
+
+        assertTrue(interceptor.supports(new RuleDescriptor("valueRule", ValueRule.class)));
+        assertFalse(interceptor.supports(new RuleDescriptor("violationsRule", ViolationsRule.class)));
+        assertFalse(interceptor.supports(new RuleDescriptor("plainRule", ConditionMemoTest.CountingRule.class)));
+    }
+
+    private static MemoKey key(int value) {
+        return new MemoKey("rule", new Object[] {value});
+    }
+
+    // Not annotated with @Rule so that the rule scan of the Spring Boot tests does not pick them up
+    @Memoized
+    public static class ValueRule {
+
+        public ValueRule() {
+            super();
+        }
+
+        @Given
+        public boolean given(String name, int age) {
+            return age > 18;
+        }
+    }
+
+    @Memoized
+    public static class ViolationsRule {
+
+        public ViolationsRule() {
+            super();
+        }
+
+        @Given
+        public boolean given(String name) {
+            return name == null;
+        }
+
+        @Then
+        public void then(String name, RuleViolations errors) {
+        }
+    }
+}
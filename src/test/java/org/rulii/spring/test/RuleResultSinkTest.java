@@ -0,0 +1,142 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.test;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rulii.rule.Rule;
+import org.rulii.rule.RuleExecutionStatus;
+import org.rulii.rule.RuleResult;
+import org.rulii.spring.batch.sink.ResultFormat;
+import org.rulii.spring.batch.sink.RuleResultReader;
+import org.rulii.spring.batch.sink.RuleResultSink;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the streaming rule result sinks.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RuleResultSinkTest {
+
+    public RuleResultSinkTest() {
+        super();
+    }
+
+    @Test
+    public void test1(@TempDir Path dir) {
+        Path file = dir.resolve("results.bin");
+        // Small buffer so that records straddle several writes
+        try (RuleResultSink<String> sink = RuleResultSink.<String>builder(file)
+                .format(ResultFormat.BINARY)
+                .bufferSize(16)
+                .key(input -> "id-" + input)
+                .build()) {
+            for (int i = 0; i < 1000; i++) {
+                sink.accept(i, String.valueOf(i), i % 2 == 0 ? RuleExecutionStatus.PASS : RuleExecutionStatus.FAIL);
+            }
+
+            sink.accept(1000, "x", List.of(-5, 2.5d, "\u00fcn\u00efcode \uD83D\uDE00", true));
+            assertEquals(1001, sink.getCount());
+        }
+
+        List<Object> keys = new ArrayList<>();
+        List<Object> results = new ArrayList<>();
+        long count = RuleResultReader.read(file, (index, key, result) -> {
+            assertEquals(keys.size(), index);
+            keys.add(key);
+            results.add(result);
+        });
+
+        assertEquals(1001, count);
+        assertEquals("id-999", keys.get(999));
+        assertEquals(RuleExecutionStatus.PASS, results.get(0));
+        assertEquals(RuleExecutionStatus.FAIL, results.get(999));
+        assertEquals(List.of(-5L, 2.5d, "\u00fcn\u00efcode \uD83D\uDE00", true), results.get(1000));
+    }
+
+    @Test
+    public void test2(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("results.jsonl.gz");
+        RuleResultSink<Object> sink = RuleResultSink.builder(file).compressed(true).build();
+        sink.accept(0, null, RuleExecutionStatus.PASS);
+        sink.accept(1, null, "say \"hi\"\n");
+        sink.accept(2, null, null);
+        sink.close();
+
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            assertEquals("{\"index\":0,\"result\":\"PASS\"}\n"
+                            + "{\"index\":1,\"result\":\"say \\\"hi\\\"\\n\"}\n"
+                            + "{\"index\":2,\"result\":null}\n",
+                    new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        assertThrows(IllegalStateException.class, () -> sink.accept(3, null, null));
+    }
+
+    @Test
+    public void test3(@TempDir Path dir) throws IOException {
+        RuleResult passed = result("creditRule", RuleExecutionStatus.PASS);
+        RuleResult failed = result("fraudRule", RuleExecutionStatus.FAIL);
+
+        Path binary = dir.resolve("results.bin");
+        try (RuleResultSink<Object> sink = RuleResultSink.builder(binary).format(ResultFormat.BINARY).build()) {
+            sink.accept(0, null, passed);
+            sink.accept(1, null, List.of(passed, failed));
+        }
+
+        List<Object> results = new ArrayList<>();
+        RuleResultReader.read(binary, (index, key, result) -> results.add(result));
+        // Each result keeps the Rule it came from
+        assertEquals(new RuleResultReader.RecordedRuleResult("creditRule", RuleExecutionStatus.PASS), results.get(0));
+        assertEquals(List.of(new RuleResultReader.RecordedRuleResult("creditRule", RuleExecutionStatus.PASS),
+                new RuleResultReader.RecordedRuleResult("fraudRule", RuleExecutionStatus.FAIL)), results.get(1));
+
+        Path json = dir.resolve("results.jsonl");
+        try (RuleResultSink<Object> sink = RuleResultSink.builder(json).build()) {
+            sink.accept(0, null, List.of(passed, failed));
+        }
+
+        assertEquals("{\"index\":0,\"result\":[{\"rule\":\"creditRule\",\"status\":\"PASS\"},"
+                        + "{\"rule\":\"fraudRule\",\"status\":\"FAIL\"}]}\n",
+                Files.readString(json));
+    }
+
+    private static RuleResult result(String ruleName, RuleExecutionStatus status) {
+        Rule rule = mock(Rule.class);
+        when(rule.getName()).thenReturn(ruleName);
+        RuleResult result = mock(RuleResult.class);
+        when(result.getRule()).thenReturn(rule);
+        when(result.getStatus()).thenReturn(status);
+        return result;
+    }
+}
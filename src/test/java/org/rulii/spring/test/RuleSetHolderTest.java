@@ -0,0 +1,83 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.test;
+
+import org.junit.jupiter.api.Test;
+import org.rulii.model.action.Actions;
+import org.rulii.model.condition.Conditions;
+import org.rulii.rule.Rule;
+import org.rulii.ruleset.RuleSet;
+import org.rulii.spring.ruleset.RuleSetHolder;
+import org.rulii.spring.ruleset.RuleSetSnapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the versioned RuleSetHolder.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RuleSetHolderTest {
+
+    public RuleSetHolderTest() {
+        super();
+    }
+
+    private static RuleSet<Object> ruleSet(String name) {
+        return RuleSet.builder()
+                .with(name)
+                .rule(Rule.builder()
+                        .name(name + "Rule")
+                        .given(Conditions.TRUE())
+                        .then(Actions.EMPTY_ACTION())
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void test1() {
+        RuleSet<Object> v1 = ruleSet("ruleSetV1");
+        RuleSetHolder<Object> holder = new RuleSetHolder<>(v1);
+        assertEquals(1, holder.getVersion());
+        assertSame(v1, holder.get());
+    }
+
+    @Test
+    public void test2() {
+        RuleSetHolder<Object> holder = new RuleSetHolder<>(ruleSet("ruleSetV1"));
+        RuleSetSnapshot<Object> before = holder.getSnapshot();
+        RuleSet<Object> v2 = ruleSet("ruleSetV2");
+        RuleSetSnapshot<Object> after = holder.replace(v2);
+        assertEquals(2, after.version());
+        assertSame(v2, holder.get());
+        // Readers holding the old snapshot are not affected
+        assertEquals(1, before.version());
+        assertNotSame(v2, before.ruleSet());
+    }
+
+    @Test
+    public void test3() {
+        RuleSetHolder<Object> holder = new RuleSetHolder<>(ruleSet("ruleSetV1"));
+        holder.replace(ruleSet("ruleSetV2"));
+        assertFalse(holder.replace(1, ruleSet("stale")));
+        assertTrue(holder.replace(2, ruleSet("ruleSetV3")));
+        assertEquals(3, holder.getVersion());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.test;
+
+import org.junit.jupiter.api.Test;
+import org.rulii.rule.RuleExecutionStatus;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.rulii.spring.intercept.RuleIdTable;
+import org.rulii.spring.stats.RuleStatistics;
+import org.rulii.spring.stats.RuleStats;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Rule runtime statistics.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RuleStatisticsTest {
+
+    public RuleStatisticsTest() {
+        super();
+    }
+
+    @Test
+    public void test1() {
+        RuleStatistics statistics = new RuleStatistics();
+        assertNull(statistics.get("rule1"));
+
+        for (int i = 1; i <= 100; i++) statistics.record("rule1", i % 2 == 0 ? RuleExecutionStatus.PASS : RuleExecutionStatus.FAIL);
+        statistics.recordError("rule1");
+
+        RuleStats stats = statistics.get("rule1");
+        assertEquals(101, stats.getInvocationCount());
+        assertEquals(50, stats.getPassCount());
+        assertEquals(50, stats.getFailCount());
+        assertEquals(1, stats.getErrorCount());
+        assertEquals(1.0d / 101, stats.getErrorRate(), 1e-9);
+
+        statistics.reset();
+        assertEquals(0, stats.getInvocationCount());
+        assertEquals(0.0d, stats.getErrorRate());
+    }
+
+    @Test
+    public void test2() {
+        RuleStatistics statistics = new RuleStatistics();
+        statistics.record(200, "rule200", RuleExecutionStatus.PASS);
+        statistics.record("rule200", RuleExecutionStatus.FAIL);
+        statistics.recordError(200, "rule200");
+
+        // Recorded by id and by name into the same statistics
+        RuleStats stats = statistics.get(200);
+        assertSame(stats, statistics.get("rule200"));
+        assertEquals(3, stats.getInvocationCount());
+        assertNull(statistics.get(199));
+        assertNull(statistics.get(RuleDescriptor.NO_ID));
+
+        RuleIdTable<String> table = new RuleIdTable<>(1);
+        assertEquals("a", table.computeIfAbsent(0, id -> "a"));
+        assertEquals("b", table.computeIfAbsent(100, id -> "b"));
+        assertEquals("a", table.computeIfAbsent(0, id -> "c"));
+        assertNull(table.get(50));
+    }
+}
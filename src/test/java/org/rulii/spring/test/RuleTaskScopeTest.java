@@ -0,0 +1,199 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.test;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.rulii.model.UnrulyException;
+import org.rulii.spring.concurrent.Deadline;
+import org.rulii.spring.concurrent.RuleExecutors;
+import org.rulii.spring.concurrent.RuleTaskScope;
+import org.rulii.spring.concurrent.RuleTimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for structured rule task scopes and the rule executors.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RuleTaskScopeTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    public RuleTaskScopeTest() {
+        super();
+    }
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void test1() throws Exception {
+        try (RuleTaskScope<Integer> scope = new RuleTaskScope<>(executor)) {
+            Future<Integer> a = scope.fork(() -> 1);
+            Future<Integer> b = scope.fork(() -> 2);
+            scope.join(Duration.ofSeconds(5));
+            assertEquals(3, a.get() + b.get());
+            assertNull(scope.getFailure());
+        }
+    }
+
+    @Test
+    public void test2() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        IllegalStateException error = new IllegalStateException("rule failed");
+
+        try (RuleTaskScope<Integer> scope = new RuleTaskScope<>(executor)) {
+            Future<Integer> sibling = scope.fork(() -> block(interrupted));
+            scope.fork(() -> {
+                throw error;
+            });
+
+            // The first failure is reported and cancels the sibling
+            UnrulyException e = assertThrows(UnrulyException.class, () -> scope.join(Duration.ofSeconds(5)));
+            assertSame(error, e.getCause());
+            assertSame(error, scope.getFailure());
+            assertTrue(scope.isShutdown());
+            assertTrue(sibling.isCancelled());
+            assertThrows(IllegalStateException.class, () -> scope.fork(() -> 3));
+        }
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void test3() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(2);
+        Duration timeout = Duration.ofMillis(50);
+
+        try (RuleTaskScope<Integer> scope = new RuleTaskScope<>(executor)) {
+            scope.fork(() -> block(interrupted));
+            scope.fork(() -> block(interrupted));
+
+            // The timeout of the Deadline is reported
+            RuleTimeoutException e = assertThrows(RuleTimeoutException.class, () -> scope.join(Deadline.after(timeout), null));
+            assertEquals(timeout, e.getTimeout());
+            assertTrue(scope.isShutdown());
+        }
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+
+        try (RuleTaskScope<Integer> scope = new RuleTaskScope<>(executor)) {
+            scope.fork(() -> block(new CountDownLatch(1)));
+            RuleTimeoutException e = assertThrows(RuleTimeoutException.class, () -> scope.joinNext(Deadline.after(timeout)));
+            assertEquals(timeout, e.getTimeout());
+        }
+    }
+
+    @Test
+    public void test4() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(2);
+
+        // Closing the scope cancels whatever is still running
+        try (RuleTaskScope<Integer> scope = new RuleTaskScope<>(executor)) {
+            scope.fork(() -> block(interrupted));
+            scope.fork(() -> block(interrupted));
+        }
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+
+        // Fail-fast stops at the first matching result
+        try (RuleTaskScope<Integer> scope = new RuleTaskScope<>(executor)) {
+            Future<Integer> slow = scope.fork(() -> block(new CountDownLatch(1)));
+            scope.fork(() -> -1);
+            assertTrue(scope.join(Long.MAX_VALUE, value -> value < 0));
+            assertTrue(slow.isCancelled());
+        }
+    }
+
+    @Test
+    public void test5() throws Exception {
+        assertEquals(Runtime.version().feature() >= 21, RuleExecutors.isVirtualThreadsSupported());
+        ExecutorService virtual = RuleExecutors.newVirtualThreadPerTaskExecutor();
+        ExecutorService fixed = RuleExecutors.newFixedThreadPool();
+
+        try {
+            assertEquals("virtual", virtual.submit(() -> "virtual").get(5, TimeUnit.SECONDS));
+            assertEquals("fixed", fixed.submit(() -> "fixed").get(5, TimeUnit.SECONDS));
+        } finally {
+            virtual.shutdownNow();
+            fixed.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test6() {
+        AtomicBoolean finished = new AtomicBoolean();
+        CountDownLatch started = new CountDownLatch(1);
+
+        try (RuleTaskScope<Integer> scope = new RuleTaskScope<>(executor)) {
+            // A sibling that ignores the interrupt and keeps running for a while
+            scope.fork(() -> {
+                started.countDown();
+                long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+
+                while (System.nanoTime() < end) {
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException e) {
+                        // ignored
+                    }
+                }
+
+                finished.set(true);
+                return 0;
+            });
+            scope.fork(() -> {
+                started.await();
+                throw new IllegalStateException("rule failed");
+            });
+
+            assertThrows(UnrulyException.class, () -> scope.join(Duration.ofSeconds(5)));
+            assertFalse(finished.get());
+        }
+
+        // Closing the scope waited for the sibling
+        assertTrue(finished.get());
+    }
+
+    /**
+     * Blocks until interrupted.
+     */
+    private static Integer block(CountDownLatch interrupted) {
+        try {
+            Thread.sleep(60_000);
+            return 0;
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+            throw new IllegalStateException("interrupted", e);
+        }
+    }
+}
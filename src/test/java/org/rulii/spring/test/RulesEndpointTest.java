@@ -0,0 +1,105 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.test;
+
+import org.junit.jupiter.api.Test;
+import org.rulii.registry.RuleRegistry;
+import org.rulii.rule.Rule;
+import org.rulii.rule.RuleExecutionStatus;
+import org.rulii.rule.RuleResult;
+import org.rulii.spring.actuate.RulesEndpoint;
+import org.rulii.spring.cache.MemoKey;
+import org.rulii.spring.cache.RuleResultCache;
+import org.rulii.spring.intercept.RuleCatalog;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.rulii.spring.latency.RuleLatencyRecorder;
+import org.rulii.spring.stats.RuleStatistics;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the rules actuator endpoint.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class RulesEndpointTest {
+
+    public RulesEndpointTest() {
+        super();
+    }
+
+    @Test
+    public void test1() {
+        RuleCatalog ruleCatalog = new RuleCatalog();
+        // The Rule name differs from the name the bean is registered under
+        Rule rule1 = mock(Rule.class);
+        when(rule1.getName()).thenReturn("aliasOfRule1");
+        RuleDescriptor descriptor1 = ruleCatalog.register(rule1, new RuleDescriptor("rule1", null));
+        RuleDescriptor descriptor2 = ruleCatalog.register(mock(Rule.class), new RuleDescriptor("rule2", null));
+
+        RuleStatistics statistics = new RuleStatistics();
+        statistics.record(descriptor1.id(), descriptor1.name(), RuleExecutionStatus.PASS);
+        statistics.record(descriptor1.id(), descriptor1.name(), RuleExecutionStatus.FAIL);
+
+        RuleLatencyRecorder latency = new RuleLatencyRecorder();
+        latency.record(descriptor1.id(), descriptor1.name(), 1_000_000L);
+        latency.record(descriptor1.id(), descriptor1.name(), 2_000_000L);
+
+        RuleResultCache cache = new RuleResultCache(10, Duration.ofHours(1));
+        MemoKey key = new MemoKey(descriptor2.id(), descriptor2.name(), new Object[] {1});
+        assertNull(cache.get(key));
+        cache.put(key, mock(RuleResult.class), null);
+        for (int i = 0; i < 3; i++) assertNotNull(cache.get(key));
+
+        RuleRegistry ruleRegistry = mock(RuleRegistry.class);
+        when(ruleRegistry.getRuleSets()).thenReturn(List.of());
+        RulesEndpoint endpoint = new RulesEndpoint(ruleRegistry, ruleCatalog, statistics, latency, cache);
+
+        // Latencies are reported once an interval has completed
+        assertNull(endpoint.rule("rule1").latency());
+        latency.rollInterval();
+
+        RulesEndpoint.RulesReport report = endpoint.rules();
+        assertEquals(List.of("rule1", "rule2"), report.rules().stream().map(RulesEndpoint.RuleEntry::name).toList());
+
+        // Statistics are found by id, not by the Rule name
+        RulesEndpoint.RuleEntry entry1 = report.rules().get(0);
+        assertEquals(2, entry1.stats().invocations());
+        assertNull(entry1.cache());
+        assertEquals(2, entry1.latency().count());
+        assertEquals(2.0d, entry1.latency().maxMillis(), 0.01d);
+
+        RulesEndpoint.RuleEntry entry2 = endpoint.rule("rule2");
+        assertNull(entry2.stats());
+        assertNull(entry2.latency());
+        assertEquals(3, entry2.cache().hits());
+        assertEquals(1, entry2.cache().misses());
+        assertEquals(0.75d, entry2.cache().hitRatio());
+        assertEquals(0.75d, report.cache().hitRatio());
+
+        assertEquals("rule1", endpoint.rule("aliasOfRule1").name());
+        assertNull(endpoint.rule("unknown"));
+    }
+}
@@ -19,6 +19,7 @@ package org.rulii.spring.test;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.rulii.bind.Bindings;
 import org.rulii.bind.match.BindingMatchingStrategy;
 import org.rulii.bind.match.ParameterResolver;
@@ -28,10 +29,30 @@ import org.rulii.convert.Converter;
 import org.rulii.convert.ConverterRegistry;
 import org.rulii.convert.text.TextToCurrencyConverter;
 import org.rulii.model.UnrulyException;
+import org.rulii.model.action.Actions;
+import org.rulii.model.condition.Conditions;
 import org.rulii.registry.RuleRegistry;
 import org.rulii.rule.Rule;
+import org.rulii.rule.RuleExecutionStatus;
 import org.rulii.rule.RuleResult;
 import org.rulii.ruleset.RuleSet;
+import org.rulii.spring.batch.BatchRuleEvaluator;
+import org.rulii.spring.batch.file.FileRuleEvaluator;
+import org.rulii.spring.batch.file.RecordFormat;
+import org.rulii.spring.bind.BindingLayout;
+import org.rulii.spring.bind.BindingSlots;
+import org.rulii.spring.bind.match.ParameterPlanCache;
+import org.rulii.spring.bind.PrimitiveBindings;
+import org.rulii.spring.config.RuleRegistrationReport;
+import org.rulii.spring.context.PooledRuleContext;
+import org.rulii.spring.context.PooledRuleContextFactory;
+import org.rulii.spring.context.SpringEnabledRuleContextOptions;
+import org.rulii.spring.incremental.IncrementalRulePlan;
+import org.rulii.spring.incremental.IncrementalRuleSession;
+import org.rulii.spring.intercept.RuleCatalog;
+import org.rulii.spring.intercept.RuleDescriptor;
+import org.rulii.spring.invoke.CompiledRule;
+import org.rulii.spring.invoke.CompiledRuleFactory;
 import org.rulii.spring.convert.SpringConverterAdapter;
 import org.rulii.spring.factory.SpringObjectFactory;
 import org.rulii.spring.registry.SpringRuleRegistry;
@@ -48,13 +69,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.Month;
+import java.util.ArrayList;
 import java.util.Currency;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * This class represents a Spring Boot test class for Rulii framework. It performs various tests related to
@@ -68,6 +97,13 @@ import static org.junit.jupiter.api.Assertions.*;
 @SpringBootTest(classes = TestApplication.class)
 public class SpringBootRuliiTest {
 
+    // Built once so that its context pool is reused
+    private static final BindingLayout DATE_LAYOUT = BindingLayout.builder()
+            .add("fromDate", LocalDate.class)
+            .add("toDate", LocalDate.class)
+            .add("violations", RuleViolations.class)
+            .build();
+
     @Autowired
     private BindingMatchingStrategy bindingMatchingStrategy;
     @Autowired
@@ -100,6 +136,18 @@ public class SpringBootRuliiTest {
     private List<Rule> rules;
     @Autowired
     private List<RuleSet<?>> ruleSets;
+    @Autowired
+    private BatchRuleEvaluator batchRuleEvaluator;
+    @Autowired
+    private PooledRuleContextFactory pooledRuleContextFactory;
+    @Autowired
+    private RuleRegistrationReport ruleRegistrationReport;
+    @Autowired
+    private FileRuleEvaluator fileRuleEvaluator;
+    @Autowired
+    private RuleCatalog ruleCatalog;
+    @Autowired
+    private CompiledRuleFactory compiledRuleFactory;
 
     public SpringBootRuliiTest() {
         super();
@@ -274,4 +322,280 @@ public class SpringBootRuliiTest {
         // Run the Rule
         RuleResult result = consistentDateRule.run(context);
     }
+
+    @Test
+    public void test23() {
+        BindingLayout layout = BindingLayout.builder()
+                .add("fromDate", LocalDate.class)
+                .add("toDate", LocalDate.class)
+                .add("violations", RuleViolations.class)
+                .build();
+
+        List<Integer> inputs = new ArrayList<>();
+        List<RuleViolations> violations = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            inputs.add(i);
+            violations.add(new RuleViolations());
+        }
+
+        List<RuleResult> results = batchRuleEvaluator.evaluate(consistentDateRule, layout, inputs, (input, slots) -> {
+            slots.set(0, LocalDate.of(2000, Month.JANUARY, 1).plusDays(input));
+            slots.set(1, LocalDate.of(2001, Month.JANUARY, 1));
+            slots.set(2, violations.get(input));
+        });
+
+        assertEquals(inputs.size(), results.size());
+        assertFalse(violations.get(0).hasErrors());
+        assertTrue(violations.get(999).hasErrors());
+    }
+
+    @Test
+    public void test24() {
+        BindingLayout layout = BindingLayout.builder()
+                .add("a", Integer.class)
+                .add("b", Integer.class)
+                .add("c", Integer.class)
+                .build();
+        IncrementalRulePlan plan = IncrementalRulePlan.build(
+                List.of(simpleRule("readsA"), simpleRule("readsBWritesC"), simpleRule("readsC")),
+                List.of(new RuleDescriptor("readsA", null, List.of("a"), List.of()),
+                        new RuleDescriptor("readsBWritesC", null, List.of("b"), List.of("c")),
+                        new RuleDescriptor("readsC", null, List.of("c"), List.of())),
+                layout);
+        IncrementalRuleSession session = plan.newSession(ruleContextOptions);
+
+        session.set("a", 1);
+        session.set("b", 2);
+        session.evaluate();
+        assertEquals(3, session.getLastRunCount());
+
+        // Only the reader of a
+        session.set("a", 10);
+        session.evaluate();
+        assertEquals(1, session.getLastRunCount());
+
+        // The reader of b and, through c, the reader of c
+        session.set("b", 20);
+        session.evaluate();
+        assertEquals(2, session.getLastRunCount());
+
+        // Same value, nothing to re-run
+        session.set("a", 10);
+        session.evaluate();
+        assertEquals(0, session.getLastRunCount());
+        assertEquals(3, session.getResults().size());
+    }
+
+    @Test
+    public void test25() {
+        BindingLayout layout = DATE_LAYOUT;
+        RuleViolations violations = new RuleViolations();
+        PooledRuleContext first;
+
+        try (PooledRuleContext pooled = pooledRuleContextFactory.acquire(layout)) {
+            pooled.getSlots().set(0, LocalDate.of(2001, Month.JANUARY, 1));
+            pooled.getSlots().set(1, LocalDate.of(2000, Month.JANUARY, 1));
+            pooled.getSlots().set(2, violations);
+            pooled.run(consistentDateRule);
+            first = pooled;
+        }
+
+        assertTrue(violations.hasErrors());
+
+        // The context is reset and reused
+        try (PooledRuleContext pooled = pooledRuleContextFactory.acquire(layout)) {
+            assertSame(first, pooled);
+            assertNull(pooled.getSlots().get(2));
+        }
+    }
+
+    @Test
+    public void test26() {
+        assertFalse(ruleRegistrationReport.getPackages().isEmpty());
+        assertTrue(ruleRegistrationReport.getRuleCount() >= 3);
+        assertEquals(ruleRegistrationReport.getRuleCount(), ruleRegistrationReport.getRuleBuildTimes().size());
+
+        List<RuleRegistrationReport.RuleBuildTime> slowest = ruleRegistrationReport.getSlowestRules(3);
+        assertEquals(3, slowest.size());
+        assertTrue(slowest.get(0).buildTime().compareTo(slowest.get(2).buildTime()) >= 0);
+        assertTrue(ruleRegistrationReport.getRuleBuildTime().compareTo(slowest.get(0).buildTime()) >= 0);
+    }
+
+    @Test
+    public void test27(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("dates.csv");
+        Files.writeString(file, "id,toDate,fromDate\r\n"
+                + "1,2001-01-01,2000-01-01\r\n"
+                + "\r\n"
+                + "2,\"2000-01-01\",2001-01-01\r\n"
+                + "3,,2001-01-01\n");
+        BindingLayout layout = BindingLayout.builder()
+                .add("fromDate", LocalDate.class)
+                .add("toDate", LocalDate.class)
+                .build();
+        List<RuleResult> results = new ArrayList<>();
+        List<Long> offsets = new ArrayList<>();
+
+        long count = fileRuleEvaluator.evaluate("consistentDateRule", file, RecordFormat.csv(), layout,
+                (index, offset, result) -> {
+                    assertEquals(results.size(), index);
+                    offsets.add(offset);
+                    results.add((RuleResult) result);
+                });
+
+        assertEquals(3, count);
+        assertEquals(List.of(20L, 47L, 74L), offsets);
+        assertEquals(RuleExecutionStatus.PASS, results.get(0).getStatus());
+        assertEquals(RuleExecutionStatus.FAIL, results.get(1).getStatus());
+        assertEquals(RuleExecutionStatus.SKIPPED, results.get(2).getStatus());
+    }
+
+    @Test
+    public void test28() {
+        RuleDescriptor descriptor = ruleCatalog.get(testRule1);
+        assertNotNull(descriptor);
+        assertTrue(descriptor.hasId());
+        assertSame(descriptor, ruleCatalog.get(descriptor.id()));
+        assertEquals(descriptor.id(), ruleCatalog.getId(descriptor.name()));
+
+        // Ids are dense
+        for (int id = 0; id < ruleCatalog.getIdCount(); id++) assertEquals(id, ruleCatalog.get(id).id());
+    }
+
+    @Test
+    public void test29() {
+        BindingLayout layout = BindingLayout.builder()
+                .add("fromDate", LocalDate.class)
+                .add("toDate", LocalDate.class)
+                .add("violations", RuleViolations.class)
+                .add("attempts", int.class)
+                .build();
+        CompiledRule rule = compiledRuleFactory.compile("consistentDateRule", layout);
+        PrimitiveBindings bindings = layout.newPrimitiveBindings();
+        RuleViolations violations = new RuleViolations();
+
+        bindings.set("fromDate", LocalDate.of(2000, Month.JANUARY, 1));
+        bindings.set("toDate", LocalDate.of(2001, Month.JANUARY, 1));
+        bindings.set("violations", violations);
+        bindings.setInt(3, 3);
+
+        assertEquals(RuleExecutionStatus.PASS, rule.run(bindings));
+        bindings.set("toDate", LocalDate.of(1999, Month.JANUARY, 1));
+        assertEquals(RuleExecutionStatus.FAIL, rule.run(bindings));
+        assertTrue(violations.hasErrors());
+
+        // Primitive slots are boxed only when read through the generic accessors
+        assertTrue(bindings.isPrimitive(3));
+        assertFalse(bindings.isPrimitive(0));
+        assertEquals(3, bindings.getInt(3));
+        assertEquals(3, bindings.get(3));
+        assertEquals(Integer.valueOf(3), bindings.getBindings().getValue("attempts"));
+        assertThrows(UnrulyException.class, () -> bindings.set("attempts", null));
+        assertThrows(UnrulyException.class, () -> bindings.setLong(3, 3L));
+    }
+
+    @Test
+    public void test30() {
+        BindingLayout layout = BindingLayout.builder()
+                .add("a", Integer.class)
+                .add("b", List.class)
+                .build();
+        AtomicInteger seen = new AtomicInteger();
+
+        // Appends a to the list bound to b, in place, without declaring it
+        Rule appendsAToB = mock(Rule.class);
+        when(appendsAToB.run(any(RuleContext.class))).thenAnswer(invocation -> {
+            Bindings bindings = invocation.getArgument(0, RuleContext.class).getBindings();
+            List<Integer> b = bindings.getValue("b");
+            b.add(bindings.getValue("a"));
+            return null;
+        });
+        Rule readsB = mock(Rule.class);
+        when(readsB.run(any(RuleContext.class))).thenAnswer(invocation -> {
+            List<Integer> b = invocation.getArgument(0, RuleContext.class).getBindings().getValue("b");
+            seen.set(b.size());
+            return null;
+        });
+
+        IncrementalRulePlan plan = IncrementalRulePlan.build(List.of(appendsAToB, readsB),
+                List.of(new RuleDescriptor("appendsAToB", null, List.of("a"), null),
+                        new RuleDescriptor("readsB", null, List.of("b"), List.of())),
+                layout);
+        IncrementalRuleSession session = plan.newSession(ruleContextOptions);
+
+        session.set("a", 1);
+        session.set("b", new ArrayList<Integer>());
+        session.evaluate();
+        assertEquals(1, seen.get());
+
+        // Only a changed, but the reader of b must see what the first Rule wrote
+        session.set("a", 2);
+        session.evaluate();
+        assertEquals(2, session.getLastRunCount());
+        assertEquals(2, seen.get());
+    }
+
+    @Test
+    public void test31() {
+        PooledRuleContextFactory factory = new PooledRuleContextFactory(ruleContextOptions, 4, 2);
+        BindingLayout first = BindingLayout.builder().add("a", Integer.class).build();
+        BindingLayout second = BindingLayout.builder().add("a", Integer.class).build();
+
+        assertSame(factory.getPool(first), factory.getPool(first));
+        assertSame(factory.getPool(second), factory.getPool(second));
+        assertEquals(2, factory.getPoolCount());
+
+        // Layouts built per request do not grow the factory past its bound
+        for (int i = 0; i < 100; i++) {
+            BindingLayout layout = BindingLayout.builder().add("a", Integer.class).build();
+            try (PooledRuleContext pooled = factory.acquire(layout)) {
+                assertNotNull(pooled.getContext());
+            }
+        }
+
+        assertEquals(2, factory.getPoolCount());
+        assertSame(factory.getPool(first), factory.getPool(first));
+    }
+
+    @Test
+    public void test32() {
+        ParameterResolver resolver = ParameterPlanCache.wrap(ParameterResolver.builder().build());
+        ParameterPlanCache planCache = ParameterPlanCache.getPlanCache(resolver);
+        assertNotNull(planCache);
+        RuleContextOptions options = new SpringEnabledRuleContextOptions(ruleContextOptions.getMatchingStrategy(), resolver,
+                ruleContextOptions.getMessageFormatter(), ruleContextOptions.getConverterRegistry(),
+                ruleContextOptions.getObjectFactory(), ruleContextOptions.getMessageResolver(),
+                ruleContextOptions.getExecutorService(), ruleContextOptions.getClock(), ruleContextOptions.getLocale());
+        BindingSlots slots = BindingLayout.builder()
+                .add("fromDate", LocalDate.class)
+                .add("toDate", LocalDate.class)
+                .build()
+                .newSlots();
+        RuleContext context = RuleContext.builder().with(options).bindings(slots.getBindings()).build();
+
+        slots.set("fromDate", LocalDate.of(2000, Month.JANUARY, 1));
+        slots.set("toDate", LocalDate.of(2001, Month.JANUARY, 1));
+        assertEquals(RuleExecutionStatus.PASS, consistentDateRule.run(context).getStatus());
+        slots.set("toDate", LocalDate.of(2002, Month.JANUARY, 1));
+        assertEquals(RuleExecutionStatus.PASS, consistentDateRule.run(context).getStatus());
+        assertTrue(planCache.getHitCount() > 0);
+
+        // A binding added to the stable Bindings invalidates their plans; the values are still read on every run
+        RuleViolations violations = new RuleViolations();
+        slots.getBindings().bind("violations", violations);
+        long misses = planCache.getMissCount();
+        slots.set("toDate", LocalDate.of(1999, Month.JANUARY, 1));
+        assertEquals(RuleExecutionStatus.FAIL, consistentDateRule.run(context).getStatus());
+        assertTrue(planCache.getMissCount() > misses);
+        assertTrue(violations.hasErrors());
+    }
+
+    private static Rule simpleRule(String name) {
+        return Rule.builder()
+                .name(name)
+                .given(Conditions.TRUE())
+                .then(Actions.EMPTY_ACTION())
+                .build();
+    }
 }
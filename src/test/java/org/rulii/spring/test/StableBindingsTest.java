@@ -0,0 +1,90 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.spring.test;
+
+import org.junit.jupiter.api.Test;
+import org.rulii.bind.Bindings;
+import org.rulii.spring.bind.StableBindings;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the structure tracking of StableBindings.
+ *
+ * @author Max Arulananthan
+ * @since 1.1
+ *
+ */
+public class StableBindingsTest {
+
+    public StableBindingsTest() {
+        super();
+    }
+
+    @Test
+    public void test1() {
+        Bindings target = mock(Bindings.class);
+        when(target.contains("a")).thenReturn(true);
+        when(target.size()).thenReturn(1);
+        Bindings bindings = StableBindings.register(target);
+
+        assertTrue(StableBindings.isStable(bindings));
+        assertFalse(StableBindings.isStable(target));
+        assertNull(StableBindings.getAttachments(target));
+        assertEquals(-1, StableBindings.getVersion(target));
+
+        // Reads are forwarded and leave the structure alone
+        StableBindings.getAttachments(bindings).put("plan", "a");
+        long version = StableBindings.getVersion(bindings);
+        assertTrue(bindings.contains("a"));
+        assertEquals(1, bindings.size());
+        verify(target).contains("a");
+        assertEquals(version, StableBindings.getVersion(bindings));
+        assertEquals("a", StableBindings.getAttachments(bindings).get("plan"));
+    }
+
+    @Test
+    public void test2() {
+        Bindings target = mock(Bindings.class);
+        Bindings bindings = StableBindings.register(target);
+
+        StableBindings.getAttachments(bindings).put("plan", "a");
+        long version = StableBindings.getVersion(bindings);
+        bindings.bind("b", 1);
+        verify(target).bind("b", 1);
+
+        // Adding a binding moves the Bindings to a new structure and drops what was derived from the old one
+        assertNotEquals(version, StableBindings.getVersion(bindings));
+        assertTrue(StableBindings.getAttachments(bindings).isEmpty());
+        assertTrue(StableBindings.isStable(bindings));
+    }
+
+    @Test
+    public void test3() {
+        Bindings target = mock(Bindings.class);
+        Bindings bindings = StableBindings.register(target);
+
+        assertEquals(bindings, bindings);
+        assertNotEquals(bindings, target);
+        assertEquals(System.identityHashCode(bindings), bindings.hashCode());
+        assertNotSame(bindings, StableBindings.register(target));
+    }
+}